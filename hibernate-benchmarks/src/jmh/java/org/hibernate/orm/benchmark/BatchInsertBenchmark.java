@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures inserting {@link #entityCount} entities in a single transaction,
+ * with and without JDBC batching.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchInsertBenchmark {
+
+	@Param({ "1000" })
+	public int entityCount;
+
+	/**
+	 * The JDBC batch size, {@code 1} disables batching
+	 */
+	@Param({ "1", "50" })
+	public int batchSize;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, batchSize );
+		sessionFactory = SessionFactoryHelper.buildSessionFactory( settings );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteBooks() {
+		sessionFactory.inTransaction(
+				session -> session.createMutationQuery( "delete from Book" ).executeUpdate()
+		);
+	}
+
+	@Benchmark
+	public void persist() {
+		final LocalDate published = LocalDate.of( 2000, 1, 1 );
+		sessionFactory.inTransaction( session -> {
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.persist( new Book( "Title " + i, "isbn-" + i, 10.0, 100, published, null ) );
+			}
+		} );
+	}
+
+	@Benchmark
+	public void statelessInsert() {
+		final LocalDate published = LocalDate.of( 2000, 1, 1 );
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.insert( new Book( "Title " + i, "isbn-" + i, 10.0, 100, published, null ) );
+			}
+		} );
+	}
+}
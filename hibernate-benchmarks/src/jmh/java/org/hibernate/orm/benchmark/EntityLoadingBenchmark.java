@@ -0,0 +1,93 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reading entities and scalar projections from a JDBC result, which
+ * is dominated by {@code StandardRowReader.readRow}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityLoadingBenchmark {
+
+	@Param({ "100", "1000" })
+	public int bookCount;
+
+	private SessionFactoryImplementor sessionFactory;
+	private long firstId;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = SessionFactoryHelper.buildSessionFactory();
+		SessionFactoryHelper.populateBooks( sessionFactory, bookCount );
+		firstId = sessionFactory.fromStatelessSession(
+				session -> session.createSelectionQuery( "select min(b.id) from Book b", Long.class )
+						.getSingleResult()
+		);
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void findById(Blackhole blackhole) {
+		sessionFactory.inSession( session -> {
+			for ( int i = 0; i < 100; i++ ) {
+				blackhole.consume( session.find( Book.class, firstId + i % bookCount ) );
+			}
+		} );
+	}
+
+	@Benchmark
+	public List<Book> loadEntities() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "from Book", Book.class ).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Book> loadEntitiesWithJoinFetch() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( "from Book b join fetch b.publisher", Book.class )
+						.getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Object[]> loadScalarProjection() {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery(
+						"select b.id, b.title, b.price, b.pages, b.published from Book b",
+						Object[].class
+				).getResultList()
+		);
+	}
+
+	@Benchmark
+	public List<Book> loadEntitiesStateless() {
+		return sessionFactory.fromStatelessSession(
+				session -> session.createSelectionQuery( "from Book", Book.class ).getResultList()
+		);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the flush of a session holding {@link #entityCount} managed entities,
+ * a fraction of which has been modified.  This is dominated by the dirty checking
+ * done in {@code DefaultFlushEntityEventListener}.
+ * <p>
+ * The session is loaded before each invocation, and the transaction is rolled
+ * back after it, so that every invocation flushes the same state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FlushBenchmark {
+
+	@Param({ "1000", "10000" })
+	public int entityCount;
+
+	/**
+	 * Percentage of the managed entities modified before the flush
+	 */
+	@Param({ "0", "10" })
+	public int dirtyPercentage;
+
+	private SessionFactoryImplementor sessionFactory;
+	private Session session;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		sessionFactory = SessionFactoryHelper.buildSessionFactory();
+		SessionFactoryHelper.populateBooks( sessionFactory, entityCount );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		sessionFactory.close();
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		session = sessionFactory.openSession();
+		session.getTransaction().begin();
+		final List<Book> books = session.createSelectionQuery( "from Book", Book.class ).getResultList();
+		final int dirtyCount = books.size() * dirtyPercentage / 100;
+		for ( int i = 0; i < dirtyCount; i++ ) {
+			final Book book = books.get( i );
+			book.setPrice( book.getPrice() + 1 );
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void tearDownInvocation() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		session.flush();
+	}
+}
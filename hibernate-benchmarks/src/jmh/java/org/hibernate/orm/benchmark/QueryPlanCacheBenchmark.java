@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Measures HQL query execution when the query plan is found in the
+ * {@code QueryInterpretationCache} and when it is not.  A cache miss
+ * includes the interpretation of the HQL, and the translation and rendering
+ * of the SQL by {@code AbstractSqlAstTranslator}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryPlanCacheBenchmark {
+
+	private static final String HQL = "from Book b where b.title = :title and b.pages > :pages";
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@State(Scope.Thread)
+	public static class MissCounter {
+		private long count;
+
+		String nextHql() {
+			// a distinct literal makes every query string unique, so it is never found in the cache
+			return HQL + " and b.id <> " + count++;
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, 2048 );
+		sessionFactory = SessionFactoryHelper.buildSessionFactory( settings );
+		SessionFactoryHelper.populateBooks( sessionFactory, 10 );
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public List<Book> planCacheHit() {
+		return execute( HQL );
+	}
+
+	@Benchmark
+	@Threads(4)
+	public List<Book> planCacheHitConcurrent() {
+		return execute( HQL );
+	}
+
+	@Benchmark
+	public List<Book> planCacheMiss(MissCounter counter) {
+		return execute( counter.nextHql() );
+	}
+
+	private List<Book> execute(String hql) {
+		return sessionFactory.fromSession(
+				session -> session.createSelectionQuery( hql, Book.class )
+						.setParameter( "title", "Title 1" )
+						.setParameter( "pages", 10 )
+						.getResultList()
+		);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.orm.benchmark.model.Country;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures second-level cache reads and writes for a {@code READ_WRITE} entity
+ * region, both directly against the {@link EntityDataAccess} and through
+ * {@code Session.find()}.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecondLevelCacheBenchmark {
+
+	private static final int COUNTRY_COUNT = 100;
+
+	private SessionFactoryImplementor sessionFactory;
+	private SessionImplementor session;
+	private EntityDataAccess cacheAccess;
+	private Object[] cacheKeys;
+	private Object[] cacheEntries;
+
+	@Setup
+	public void setUp() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, true );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME );
+		settings.put( ConfigSettings.MISSING_CACHE_STRATEGY, "create" );
+		sessionFactory = SessionFactoryHelper.buildSessionFactory( settings );
+		SessionFactoryHelper.populateCountries( sessionFactory, COUNTRY_COUNT );
+
+		// warm the cache
+		sessionFactory.inSession( s -> {
+			for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+				s.find( Country.class, i );
+			}
+		} );
+
+		final EntityPersister persister = sessionFactory.getMappingMetamodel()
+				.getEntityDescriptor( Country.class );
+		cacheAccess = persister.getCacheAccessStrategy();
+		session = (SessionImplementor) sessionFactory.openSession();
+		cacheKeys = new Object[COUNTRY_COUNT];
+		cacheEntries = new Object[COUNTRY_COUNT];
+		for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+			cacheKeys[i] = cacheAccess.generateCacheKey( i, persister, sessionFactory, null );
+			cacheEntries[i] = cacheAccess.get( session, cacheKeys[i] );
+			if ( cacheEntries[i] == null ) {
+				throw new IllegalStateException( "Country " + i + " was not cached" );
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		session.close();
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void sessionFindCacheHit(Blackhole blackhole) {
+		sessionFactory.inSession( s -> {
+			for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+				blackhole.consume( s.find( Country.class, i ) );
+			}
+		} );
+	}
+
+	@Benchmark
+	public void regionGet(Blackhole blackhole) {
+		for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+			blackhole.consume( cacheAccess.get( session, cacheKeys[i] ) );
+		}
+	}
+
+	@Benchmark
+	public void regionPut(Blackhole blackhole) {
+		for ( int i = 0; i < COUNTRY_COUNT; i++ ) {
+			// a READ_WRITE region does not overwrite a readable entry from a load
+			cacheAccess.evict( cacheKeys[i] );
+			blackhole.consume( cacheAccess.putFromLoad( session, cacheKeys[i], cacheEntries[i], null ) );
+		}
+	}
+}
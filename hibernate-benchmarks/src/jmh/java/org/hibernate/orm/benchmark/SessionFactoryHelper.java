@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.Book;
+import org.hibernate.orm.benchmark.model.Country;
+import org.hibernate.orm.benchmark.model.Publisher;
+import org.hibernate.orm.benchmark.model.RandomUuidEvent;
+import org.hibernate.orm.benchmark.model.TimeOrderedUuidEvent;
+
+/**
+ * Builds the {@link SessionFactory} shared by the benchmarks: the benchmark domain model
+ * mapped against an in-memory H2 database.
+ */
+public final class SessionFactoryHelper {
+	public static final String JDBC_URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;LOCK_MODE=0";
+
+	private SessionFactoryHelper() {
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory() {
+		return buildSessionFactory( new HashMap<>() );
+	}
+
+	public static SessionFactoryImplementor buildSessionFactory(Map<String, Object> settings) {
+		final StandardServiceRegistryBuilder registryBuilder = new StandardServiceRegistryBuilder()
+				.applySetting( AvailableSettings.URL, JDBC_URL )
+				.applySetting( AvailableSettings.USER, "sa" )
+				.applySetting( AvailableSettings.POOL_SIZE, 4 )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( AvailableSettings.SHOW_SQL, false )
+				.applySettings( settings );
+		final StandardServiceRegistry registry = registryBuilder.build();
+		try {
+			return (SessionFactoryImplementor) new MetadataSources( registry )
+					.addAnnotatedClass( Publisher.class )
+					.addAnnotatedClass( Book.class )
+					.addAnnotatedClass( Country.class )
+					.addAnnotatedClass( RandomUuidEvent.class )
+					.addAnnotatedClass( TimeOrderedUuidEvent.class )
+					.buildMetadata()
+					.buildSessionFactory();
+		}
+		catch (RuntimeException e) {
+			StandardServiceRegistryBuilder.destroy( registry );
+			throw e;
+		}
+	}
+
+	/**
+	 * Inserts {@code bookCount} books, spread over 10 publishers.
+	 */
+	public static void populateBooks(SessionFactory sessionFactory, int bookCount) {
+		sessionFactory.inStatelessTransaction( session -> {
+			final Publisher[] publishers = new Publisher[10];
+			for ( int i = 0; i < publishers.length; i++ ) {
+				publishers[i] = new Publisher( (long) i, "Publisher " + i );
+				session.insert( publishers[i] );
+			}
+			final LocalDate epoch = LocalDate.of( 2000, 1, 1 );
+			for ( int i = 0; i < bookCount; i++ ) {
+				session.insert( new Book(
+						"Title " + i,
+						"isbn-" + i,
+						10.0 + i % 50,
+						100 + i % 400,
+						epoch.plusDays( i % 3650 ),
+						publishers[i % publishers.length]
+				) );
+			}
+		} );
+	}
+
+	public static void populateCountries(SessionFactory sessionFactory, int countryCount) {
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( int i = 0; i < countryCount; i++ ) {
+				session.insert( new Country( i, "C" + i, "Country " + i ) );
+			}
+		} );
+	}
+}
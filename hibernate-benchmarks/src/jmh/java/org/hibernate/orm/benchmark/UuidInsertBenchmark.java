@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.orm.benchmark.model.RandomUuidEvent;
+import org.hibernate.orm.benchmark.model.TimeOrderedUuidEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Compares inserting {@link #entityCount} entities identified by random (version 4)
+ * and time-ordered (version 7) UUIDs into a table which keeps on growing, so that the
+ * cost of inserting keys at random positions of the primary key index shows.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UuidInsertBenchmark {
+
+	@Param({ "1000" })
+	public int entityCount;
+
+	private SessionFactoryImplementor sessionFactory;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, 50 );
+		sessionFactory = SessionFactoryHelper.buildSessionFactory( settings );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public void randomUuid() {
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.insert( new RandomUuidEvent( "Event " + i ) );
+			}
+		} );
+	}
+
+	@Benchmark
+	public void timeOrderedUuid() {
+		sessionFactory.inStatelessTransaction( session -> {
+			for ( int i = 0; i < entityCount; i++ ) {
+				session.insert( new TimeOrderedUuidEvent( "Event " + i ) );
+			}
+		} );
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+
+@Entity
+public class Book {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+	@SequenceGenerator(name = "book_seq", allocationSize = 50)
+	private Long id;
+	private String title;
+	private String isbn;
+	private double price;
+	private int pages;
+	private LocalDate published;
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Publisher publisher;
+
+	protected Book() {
+	}
+
+	public Book(String title, String isbn, double price, int pages, LocalDate published, Publisher publisher) {
+		this.title = title;
+		this.isbn = isbn;
+		this.price = price;
+		this.pages = pages;
+		this.published = published;
+		this.publisher = publisher;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getIsbn() {
+		return isbn;
+	}
+
+	public double getPrice() {
+		return price;
+	}
+
+	public void setPrice(double price) {
+		this.price = price;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public LocalDate getPublished() {
+		return published;
+	}
+
+	public Publisher getPublisher() {
+		return publisher;
+	}
+}
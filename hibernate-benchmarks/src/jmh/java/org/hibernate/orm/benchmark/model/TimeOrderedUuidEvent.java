@@ -0,0 +1,40 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.benchmark.model;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.UuidGenerator;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+/**
+ * An entity identified by a generated time-ordered, version 7 UUID.
+ */
+@Entity
+public class TimeOrderedUuidEvent {
+	@Id
+	@UuidGenerator(style = UuidGenerator.Style.VERSION_7)
+	private UUID id;
+	private String payload;
+
+	protected TimeOrderedUuidEvent() {
+	}
+
+	public TimeOrderedUuidEvent(String payload) {
+		this.payload = payload;
+	}
+
+	public UUID getId() {
+		return id;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+}
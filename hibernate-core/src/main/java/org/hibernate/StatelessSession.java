@@ -6,6 +6,8 @@
  */
 package org.hibernate;
 
+import java.util.List;
+
 import jakarta.persistence.EntityGraph;
 import org.hibernate.graph.GraphSemantic;
 
@@ -124,6 +126,39 @@ public interface StatelessSession extends SharedSessionContract {
 	@Incubating
 	void upsert(String entityName, Object entity);
 
+	/**
+	 * Insert multiple records, using JDBC batching. If no JDBC batch size is
+	 * configured, the records are sent in batches of 50.
+	 *
+	 * @param entities a list of transient instances to be inserted
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void insertMultiple(List<?> entities);
+
+	/**
+	 * Update multiple records, using JDBC batching. If no JDBC batch size is
+	 * configured, the records are sent in batches of 50.
+	 *
+	 * @param entities a list of detached instances to be updated
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void updateMultiple(List<?> entities);
+
+	/**
+	 * Delete multiple records, using JDBC batching. If no JDBC batch size is
+	 * configured, the records are sent in batches of 50.
+	 *
+	 * @param entities a list of detached instances to be deleted
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void deleteMultiple(List<?> entities);
+
 	/**
 	 * Retrieve a row.
 	 *
@@ -166,6 +201,23 @@ public interface StatelessSession extends SharedSessionContract {
 	 */
 	<T> T get(Class<T> entityClass, Object id, LockMode lockMode);
 
+	/**
+	 * Retrieve multiple rows, returning entity instances in a
+	 * list where the position of an instance in the list matches
+	 * the position of its identifier in the given array, and the
+	 * list contains a null value if there is no persistent
+	 * instance matching a given identifier.
+	 *
+	 * @param entityClass The class of the entity to retrieve
+	 * @param ids The ids of the entities to retrieve
+	 * @return an ordered list of detached entity instances, with
+	 *         null elements representing missing entities
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	<T> List<T> getMultiple(Class<T> entityClass, List<?> ids);
+
 	/**
 	 * Retrieve a row, fetching associations specified by the
 	 * given {@link EntityGraph}.
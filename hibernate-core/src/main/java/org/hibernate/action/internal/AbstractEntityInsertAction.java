@@ -82,6 +82,11 @@ public abstract class AbstractEntityInsertAction extends EntityAction {
 		return state;
 	}
 
+	@Override
+	protected Object[] getQueryCacheTags(int position) {
+		return new Object[] { state == null ? null : state[position] };
+	}
+
 	/**
 	 * Does this insert action need to be executed as soon as possible
 	 * (e.g., to generate an ID)?
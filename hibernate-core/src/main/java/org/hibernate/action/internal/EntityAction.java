@@ -6,17 +6,24 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.ComparableExecutable;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.FastSessionServices;
 import org.hibernate.internal.util.StringHelper;
+import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import static java.util.Collections.addAll;
+
 /**
  * Base class for actions relating to insert/update/delete of an entity
  * instance.
@@ -138,6 +145,41 @@ public abstract class EntityAction
 		return persister.getPropertySpaces();
 	}
 
+	/**
+	 * The query spaces to invalidate in the query cache, qualified by the
+	 * {@linkplain org.hibernate.annotations.QueryCacheTag query cache tags}
+	 * of the affected rows.
+	 *
+	 * @see org.hibernate.cache.spi.TimestampsCache#resolveInvalidationSpaces
+	 */
+	public String[] getQueryCacheSpaces() {
+		final TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+		final AttributeMapping tagMapping = persister.getQueryCacheTagMapping();
+		if ( tagMapping == null ) {
+			return timestampsCache.resolveInvalidationSpaces( getPropertySpaces(), null, session );
+		}
+		final Object[] tags = getQueryCacheTags( tagMapping.getStateArrayPosition() );
+		if ( tags.length == 1 ) {
+			return timestampsCache.resolveInvalidationSpaces( getPropertySpaces(), tags[0], session );
+		}
+		final Set<String> spaces = new LinkedHashSet<>();
+		for ( Object tag : tags ) {
+			addAll( spaces, timestampsCache.resolveInvalidationSpaces( getPropertySpaces(), tag, session ) );
+		}
+		return spaces.toArray( new String[0] );
+	}
+
+	/**
+	 * The values of the query cache tag attribute of the entity in the rows
+	 * affected by this action, with a {@code null} element when a value is
+	 * not known.
+	 *
+	 * @param position The position of the attribute in the entity state
+	 */
+	protected Object[] getQueryCacheTags(int position) {
+		return new Object[] { null };
+	}
+
 	@Override
 	public void beforeExecutions() {
 		throw new AssertionFailure( "beforeExecutions() called for non-collection action" );
@@ -183,7 +225,7 @@ public abstract class EntityAction
 		if ( session != null ) {
 			this.session = session;
 			this.persister = session.getFactory().getMappingMetamodel().getEntityDescriptor( entityName );
-			this.instance = session.getPersistenceContext().getEntity( session.generateEntityKey( id, persister ) );
+			this.instance = session.getPersistenceContext().getEntity( id, persister );
 		}
 	}
 
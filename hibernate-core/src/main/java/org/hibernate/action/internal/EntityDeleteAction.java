@@ -98,6 +98,11 @@ public class EntityDeleteAction extends EntityAction {
 		return state;
 	}
 
+	@Override
+	protected Object[] getQueryCacheTags(int position) {
+		return new Object[] { state == null ? null : state[position] };
+	}
+
 	protected Object getNaturalIdValues() {
 		return naturalIdValues;
 	}
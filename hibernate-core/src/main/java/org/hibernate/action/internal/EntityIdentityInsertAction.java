@@ -6,6 +6,9 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.EntityKey;
@@ -70,40 +73,13 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 
 	@Override
 	public void execute() throws HibernateException {
-		nullifyTransientReferencesIfNotAlready();
-
-		final EntityPersister persister = getPersister();
-		final SharedSessionContractImplementor session = getSession();
-		final Object instance = getInstance();
-
-		setVeto( preInsert() );
-
-		// Don't need to lock the cache here, since if someone
-		// else inserted the same pk first, the insert would fail
-
-		if ( !isVeto() ) {
-			final GeneratedValues generatedValues = persister.getInsertCoordinator().insert(
-					instance,
+		if ( beforeInsert() ) {
+			final GeneratedValues generatedValues = getPersister().getInsertCoordinator().insert(
+					getInstance(),
 					getState(),
-					session
+					getSession()
 			);
-			generatedId = castNonNull( generatedValues ).getGeneratedValue( persister.getIdentifierMapping() );
-			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			if ( persister.getRowIdMapping() != null ) {
-				rowId = generatedValues.getGeneratedValue( persister.getRowIdMapping() );
-				if ( rowId != null && isDelayed ) {
-					persistenceContext.replaceEntityEntryRowId( getInstance(), rowId );
-				}
-			}
-			if ( persister.hasInsertGeneratedProperties() ) {
-				persister.processInsertGeneratedProperties( generatedId, instance, getState(), generatedValues, session );
-			}
-			//need to do that here rather than in the save event listener to let
-			//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
-			persister.setIdentifier( instance, generatedId, session );
-			persistenceContext.registerInsertedKey( getPersister(), generatedId );
-			entityKey = session.generateEntityKey( generatedId, persister );
-			persistenceContext.checkUniqueness( entityKey, getInstance() );
+			afterInsert( castNonNull( generatedValues ) );
 		}
 
 		//TODO: this bit actually has to be called after all cascades!
@@ -114,9 +90,85 @@ public class EntityIdentityInsertAction extends AbstractEntityInsertAction  {
 			persister.getCache().insert(generatedId, cacheEntry);
 		}*/
 
+		completeInsert();
+	}
+
+	/**
+	 * Execute the given {@linkplain #isEarlyInsert() delayed} insert actions, for
+	 * instances of the same entity, inserting all the instances which were not vetoed
+	 * by a {@link PreInsertEventListener} at once.
+	 *
+	 * @see org.hibernate.persister.entity.mutation.InsertCoordinator#insertAll
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	public static void executeAll(List<EntityIdentityInsertAction> actions) throws HibernateException {
+		final List<EntityIdentityInsertAction> insertedActions = new ArrayList<>( actions.size() );
+		final List<Object> instances = new ArrayList<>( actions.size() );
+		final List<Object[]> states = new ArrayList<>( actions.size() );
+		for ( EntityIdentityInsertAction action : actions ) {
+			assert action.isDelayed;
+			if ( action.beforeInsert() ) {
+				insertedActions.add( action );
+				instances.add( action.getInstance() );
+				states.add( action.getState() );
+			}
+		}
+
+		if ( !insertedActions.isEmpty() ) {
+			final EntityIdentityInsertAction first = insertedActions.get( 0 );
+			final List<GeneratedValues> generatedValues = first.getPersister().getInsertCoordinator().insertAll(
+					instances,
+					states,
+					first.getSession()
+			);
+			for ( int i = 0; i < insertedActions.size(); i++ ) {
+				insertedActions.get( i ).afterInsert( castNonNull( generatedValues.get( i ) ) );
+			}
+		}
+
+		for ( EntityIdentityInsertAction action : actions ) {
+			action.completeInsert();
+		}
+	}
+
+	/**
+	 * @return {@code true} if the insert was not vetoed
+	 */
+	private boolean beforeInsert() {
+		nullifyTransientReferencesIfNotAlready();
+		setVeto( preInsert() );
+		// Don't need to lock the cache here, since if someone
+		// else inserted the same pk first, the insert would fail
+		return !isVeto();
+	}
+
+	private void afterInsert(GeneratedValues generatedValues) {
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
+		generatedId = generatedValues.getGeneratedValue( persister.getIdentifierMapping() );
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( persister.getRowIdMapping() != null ) {
+			rowId = generatedValues.getGeneratedValue( persister.getRowIdMapping() );
+			if ( rowId != null && isDelayed ) {
+				persistenceContext.replaceEntityEntryRowId( getInstance(), rowId );
+			}
+		}
+		if ( persister.hasInsertGeneratedProperties() ) {
+			persister.processInsertGeneratedProperties( generatedId, instance, getState(), generatedValues, session );
+		}
+		//need to do that here rather than in the save event listener to let
+		//the post insert events to have a id-filled entity when IDENTITY is used (EJB3)
+		persister.setIdentifier( instance, generatedId, session );
+		persistenceContext.registerInsertedKey( getPersister(), generatedId );
+		entityKey = session.generateEntityKey( generatedId, persister );
+		persistenceContext.checkUniqueness( entityKey, getInstance() );
+	}
+
+	private void completeInsert() {
 		postInsert();
 
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		final StatisticsImplementor statistics = getSession().getFactory().getStatistics();
 		if ( statistics.isStatisticsEnabled() && !isVeto() ) {
 			statistics.insertEntity( getPersister().getEntityName() );
 		}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.action.internal;
 
+import java.util.Objects;
+
 import org.hibernate.AssertionFailure;
 import org.hibernate.CacheMode;
 import org.hibernate.HibernateException;
@@ -126,6 +128,17 @@ public class EntityUpdateAction extends EntityAction {
 		return previousState;
 	}
 
+	@Override
+	protected Object[] getQueryCacheTags(int position) {
+		final Object tag = state[position];
+		if ( previousState == null ) {
+			// the rows previously had an unknown tag
+			return new Object[] { tag, null };
+		}
+		final Object previousTag = previousState[position];
+		return Objects.equals( tag, previousTag ) ? new Object[] { tag } : new Object[] { tag, previousTag };
+	}
+
 	protected Object getNextVersion() {
 		return nextVersion;
 	}
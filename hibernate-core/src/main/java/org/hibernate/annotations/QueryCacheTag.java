@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.Incubating;
+import org.hibernate.binder.internal.QueryCacheTagBinder;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Identifies a basic attribute of an entity whose value partitions the rows
+ * of the entity for the purpose of query cache invalidation, for example, a
+ * tenant id, or a region.
+ * <p>
+ * By default, a write to a table invalidates every cached query result which
+ * reads the table. But a write affecting rows of an entity with a query cache
+ * tag only invalidates the cached results of queries which declare the same
+ * tag, or which do not declare any tag.
+ * <p>
+ * A query declares that it only reads rows with a certain tag by specifying
+ * {@link org.hibernate.query.SelectionQuery#setCacheTag}.
+ * <pre>
+ * &#64;Entity
+ * class Order {
+ *     &#64;Id Long id;
+ *     &#64;QueryCacheTag String region;
+ *     ...
+ * }
+ *
+ * List&lt;Order&gt; orders =
+ *         session.createSelectionQuery("from Order where region = :region", Order.class)
+ *                 .setParameter("region", region)
+ *                 .setCacheable(true)
+ *                 .setCacheTag(region)
+ *                 .getResultList();
+ * </pre>
+ * <p>
+ * It is the responsibility of the program to ensure that a query declaring
+ * a tag really does only read rows with that tag. Bulk mutation queries, and
+ * writes which do not know the tag of the affected rows, invalidate all cached
+ * results reading the affected tables.
+ *
+ * @since 6.5
+ */
+@Incubating
+@AttributeBinderType(binder = QueryCacheTagBinder.class)
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+public @interface QueryCacheTag {
+}
@@ -51,7 +51,17 @@ public @interface UuidGenerator {
 		 * @implNote Can be a bottleneck, since synchronization is used when
 		 *           incrementing an internal counter as part of the algorithm.
 		 */
-		TIME
+		TIME,
+		/**
+		 * Use a time-ordered generation strategy consistent with RFC 9562
+		 * version 7, producing values which increase over time, and which
+		 * are therefore inserted at the end of an index.
+		 *
+		 * @see org.hibernate.id.uuid.UuidVersion7Strategy
+		 *
+		 * @since 6.5
+		 */
+		VERSION_7
 	}
 
 	/**
@@ -0,0 +1,38 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.binder.internal;
+
+import org.hibernate.MappingException;
+import org.hibernate.annotations.QueryCacheTag;
+import org.hibernate.binder.AttributeBinder;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.mapping.BasicValue;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+
+/**
+ * Records the {@link QueryCacheTag} attribute of an entity
+ */
+public class QueryCacheTagBinder implements AttributeBinder<QueryCacheTag> {
+	@Override
+	public void bind(
+			QueryCacheTag queryCacheTag,
+			MetadataBuildingContext buildingContext,
+			PersistentClass persistentClass,
+			Property property) {
+		if ( !( property.getValue() instanceof BasicValue ) ) {
+			throw new MappingException( "@QueryCacheTag attribute must be a basic attribute: "
+					+ persistentClass.getEntityName() + "." + property.getName() );
+		}
+		final Property existing = persistentClass.getQueryCacheTagProperty();
+		if ( existing != null && existing != property ) {
+			throw new MappingException( "Entity may not have more than one @QueryCacheTag attribute: "
+					+ persistentClass.getEntityName() );
+		}
+		persistentClass.setQueryCacheTagProperty( property );
+	}
+}
@@ -81,8 +81,11 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_IDENTITY_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
+import static org.hibernate.cfg.AvailableSettings.CACHE_SINGLE_FLIGHT;
+import static org.hibernate.cfg.AvailableSettings.CACHE_SINGLE_FLIGHT_TIMEOUT;
 import static org.hibernate.cfg.AvailableSettings.CALLABLE_NAMED_PARAMS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
@@ -97,19 +100,28 @@ import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
+import static org.hibernate.cfg.AvailableSettings.IDENTIFIER_INDEXED_PERSISTENCE_CONTEXT;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_ARRAY_PARAMETER;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
 import static org.hibernate.cfg.AvailableSettings.JTA_TRACK_BY_THREAD;
 import static org.hibernate.cfg.AvailableSettings.LOG_SESSION_METRICS;
 import static org.hibernate.cfg.AvailableSettings.MAX_FETCH_DEPTH;
+import static org.hibernate.cfg.AvailableSettings.MULTI_ROW_INSERT_SIZE;
 import static org.hibernate.cfg.AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER;
+import static org.hibernate.cfg.AvailableSettings.NEAR_CACHE_MAX_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.NEAR_CACHE_TTL;
+import static org.hibernate.cfg.AvailableSettings.REFRESH_AHEAD_INTERVAL;
+import static org.hibernate.cfg.AvailableSettings.REFRESH_AHEAD_MIN_HITS;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
+import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS_BY_ENTITY_DEPENDENCIES;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_REUSE_ROW_BUFFER;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
@@ -118,6 +130,7 @@ import static org.hibernate.cfg.AvailableSettings.SESSION_SCOPED_INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -138,6 +151,7 @@ import static org.hibernate.internal.util.config.ConfigurationHelper.extractProp
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getInteger;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
 
 /**
@@ -194,6 +208,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean identifierRollbackEnabled;
 	private boolean checkNullability;
 	private boolean initializeLazyStateOutsideTransactions;
+	private boolean identifierIndexedPersistenceContextEnabled;
+	private boolean rowBufferReuseEnabled;
+	private int multiRowInsertSize;
+	private boolean identityInsertBatchingEnabled;
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
@@ -203,6 +221,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean orderInsertsByEntityDependenciesEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled = true;
 
 	// JPA callbacks
@@ -236,7 +255,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
+	private int nearCacheMaxEntries;
+	private long nearCacheTimeToLive;
+	private long refreshAheadInterval;
+	private int refreshAheadMinHits;
+	private boolean cacheSingleFlightEnabled;
+	private long cacheSingleFlightTimeout;
 	private boolean autoEvictCollectionCache;
 
 	// Schema tooling
@@ -269,6 +295,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private final boolean failOnPaginationOverCollectionFetchEnabled;
 	private final boolean inClauseParameterPaddingEnabled;
+	private final boolean inClauseArrayParameterEnabled;
 
 	private final int queryStatisticsMaxSize;
 
@@ -365,6 +392,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.identifierRollbackEnabled = configurationService.getSetting( USE_IDENTIFIER_ROLLBACK, BOOLEAN, false );
 		this.checkNullability = configurationService.getSetting( CHECK_NULLABILITY, BOOLEAN, true );
 		this.initializeLazyStateOutsideTransactions = configurationService.getSetting( ENABLE_LAZY_LOAD_NO_TRANS, BOOLEAN, false );
+		this.identifierIndexedPersistenceContextEnabled = configurationService.getSetting(
+				IDENTIFIER_INDEXED_PERSISTENCE_CONTEXT,
+				BOOLEAN,
+				false
+		);
+		this.rowBufferReuseEnabled = configurationService.getSetting( QUERY_REUSE_ROW_BUFFER, BOOLEAN, false );
+		this.multiRowInsertSize = getInt( MULTI_ROW_INSERT_SIZE, configurationSettings, 0 );
+		this.identityInsertBatchingEnabled = getBoolean( BATCH_IDENTITY_INSERTS, configurationSettings, false );
 
 		this.multiTenancyEnabled = JdbcEnvironmentImpl.isMultiTenancyEnabled( serviceRegistry );
 		this.currentTenantIdentifierResolver = strategySelector.resolveStrategy(
@@ -383,6 +418,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = getBoolean( ORDER_INSERTS, configurationSettings );
+		this.orderInsertsByEntityDependenciesEnabled = getBoolean(
+				ORDER_INSERTS_BY_ENTITY_DEPENDENCIES,
+				configurationSettings,
+				false
+		);
 
 		this.callbacksEnabled = getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -466,11 +506,18 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = configurationService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = configurationService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = configurationService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
 					false
 			);
+			this.nearCacheMaxEntries = getInt( NEAR_CACHE_MAX_ENTRIES, configurationSettings, 0 );
+			this.nearCacheTimeToLive = getLong( NEAR_CACHE_TTL, configurationSettings, 0 );
+			this.refreshAheadInterval = getLong( REFRESH_AHEAD_INTERVAL, configurationSettings, 0 );
+			this.refreshAheadMinHits = getInt( REFRESH_AHEAD_MIN_HITS, configurationSettings, 2 );
+			this.cacheSingleFlightEnabled = getBoolean( CACHE_SINGLE_FLIGHT, configurationSettings, false );
+			this.cacheSingleFlightTimeout = getLong( CACHE_SINGLE_FLIGHT_TIMEOUT, configurationSettings, 1000 );
 			this.autoEvictCollectionCache = configurationService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
 		}
 		else {
@@ -481,7 +528,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
+			this.nearCacheMaxEntries = 0;
+			this.nearCacheTimeToLive = 0;
+			this.cacheSingleFlightEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
 
@@ -596,6 +647,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				configurationSettings
 		);
 
+		this.inClauseArrayParameterEnabled = getBoolean(
+				IN_CLAUSE_ARRAY_PARAMETER,
+				configurationSettings
+		);
+
 		this.queryStatisticsMaxSize = getInt(
 				QUERY_STATISTICS_MAX_SIZE,
 				configurationSettings,
@@ -973,6 +1029,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return identifierRollbackEnabled;
 	}
 
+	@Override
+	public boolean isIdentifierIndexedPersistenceContextEnabled() {
+		return identifierIndexedPersistenceContextEnabled;
+	}
+
+	@Override
+	public int getMultiRowInsertSize() {
+		return multiRowInsertSize;
+	}
+
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return identityInsertBatchingEnabled;
+	}
+
+	@Override
+	public boolean isRowBufferReuseEnabled() {
+		return rowBufferReuseEnabled;
+	}
+
 	@Override
 	public boolean isCheckNullability() {
 		return checkNullability;
@@ -1028,6 +1104,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isOrderInsertsByEntityDependenciesEnabled() {
+		return orderInsertsByEntityDependenciesEnabled;
+	}
+
 	@Override
 	public boolean isMultiTenancyEnabled() {
 		return multiTenancyEnabled;
@@ -1083,11 +1164,46 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
 	}
 
+	@Override
+	public int getNearCacheMaxEntries() {
+		return nearCacheMaxEntries;
+	}
+
+	@Override
+	public long getNearCacheTimeToLive() {
+		return nearCacheTimeToLive;
+	}
+
+	@Override
+	public long getRefreshAheadInterval() {
+		return refreshAheadInterval;
+	}
+
+	@Override
+	public int getRefreshAheadMinHits() {
+		return refreshAheadMinHits;
+	}
+
+	@Override
+	public boolean isCacheSingleFlightEnabled() {
+		return cacheSingleFlightEnabled;
+	}
+
+	@Override
+	public long getCacheSingleFlightTimeout() {
+		return cacheSingleFlightTimeout;
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return autoEvictCollectionCache;
@@ -1213,6 +1329,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return this.inClauseArrayParameterEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -25,6 +25,7 @@ import org.hibernate.boot.registry.selector.spi.DialectSelector;
 import org.hibernate.boot.registry.selector.spi.StrategySelectionException;
 import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.internal.PrimitiveCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.dialect.Dialect;
@@ -300,6 +301,11 @@ public class StrategySelectorBuilder {
 			SimpleCacheKeysFactory.SHORT_NAME,
 			SimpleCacheKeysFactory.class
 		);
+		strategySelector.registerStrategyImplementor(
+			CacheKeysFactory.class,
+			PrimitiveCacheKeysFactory.SHORT_NAME,
+			PrimitiveCacheKeysFactory.class
+		);
 	}
 
 	private static void addJsonFormatMappers(StrategySelectorImpl strategySelector) {
@@ -154,6 +154,31 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isIdentifierRollbackEnabled();
 	}
 
+	@Override
+	public boolean isIdentifierIndexedPersistenceContextEnabled() {
+		return delegate.isIdentifierIndexedPersistenceContextEnabled();
+	}
+
+	@Override
+	public int getMultiRowInsertSize() {
+		return delegate.getMultiRowInsertSize();
+	}
+
+	@Override
+	public boolean isIdentityInsertBatchingEnabled() {
+		return delegate.isIdentityInsertBatchingEnabled();
+	}
+
+	@Override
+	public boolean isOrderInsertsByEntityDependenciesEnabled() {
+		return delegate.isOrderInsertsByEntityDependenciesEnabled();
+	}
+
+	@Override
+	public boolean isRowBufferReuseEnabled() {
+		return delegate.isRowBufferReuseEnabled();
+	}
+
 	@Override
 	public boolean isCheckNullability() {
 		return delegate.isCheckNullability();
@@ -279,11 +304,46 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
 	}
 
+	@Override
+	public int getNearCacheMaxEntries() {
+		return delegate.getNearCacheMaxEntries();
+	}
+
+	@Override
+	public long getNearCacheTimeToLive() {
+		return delegate.getNearCacheTimeToLive();
+	}
+
+	@Override
+	public long getRefreshAheadInterval() {
+		return delegate.getRefreshAheadInterval();
+	}
+
+	@Override
+	public int getRefreshAheadMinHits() {
+		return delegate.getRefreshAheadMinHits();
+	}
+
+	@Override
+	public boolean isCacheSingleFlightEnabled() {
+		return delegate.isCacheSingleFlightEnabled();
+	}
+
+	@Override
+	public long getCacheSingleFlightTimeout() {
+		return delegate.getCacheSingleFlightTimeout();
+	}
+
 	@Override
 	public boolean isAutoEvictCollectionCache() {
 		return delegate.isAutoEvictCollectionCache();
@@ -428,6 +488,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseArrayParameterEnabled() {
+		return delegate.inClauseArrayParameterEnabled();
+	}
+
 	@Override
 	public int getQueryStatisticsMaxSize() {
 		return delegate.getQueryStatisticsMaxSize();
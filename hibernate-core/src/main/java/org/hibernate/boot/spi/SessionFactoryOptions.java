@@ -178,8 +178,78 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE_ENTRIES
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default int getNearCacheMaxEntries() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_TTL
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default long getNearCacheTimeToLive() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#REFRESH_AHEAD_INTERVAL
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default long getRefreshAheadInterval() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#REFRESH_AHEAD_MIN_HITS
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default int getRefreshAheadMinHits() {
+		return 2;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isCacheSingleFlightEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT_TIMEOUT
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default long getCacheSingleFlightTimeout() {
+		return 1000;
+	}
+
 	boolean isAutoEvictCollectionCache();
 
 	SchemaAutoTooling getSchemaAutoTooling();
@@ -276,6 +346,16 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 		return false;
 	}
 
+	/**
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean inClauseArrayParameterEnabled() {
+		return false;
+	}
+
 	default int getQueryStatisticsMaxSize() {
 		return Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE;
 	}
@@ -359,4 +439,70 @@ public interface SessionFactoryOptions extends QueryEngineOptions {
 	default JavaType<Object> getDefaultTenantIdentifierJavaType() {
 		return ObjectJavaType.INSTANCE;
 	}
+
+	/**
+	 * Should the persistence context index entity instances by identifier,
+	 * in per-hierarchy open-addressing tables?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IDENTIFIER_INDEXED_PERSISTENCE_CONTEXT
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isIdentifierIndexedPersistenceContextEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should the array of values assembled for each row of a query result be reused
+	 * between rows, when the row transformer does not retain it?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_REUSE_ROW_BUFFER
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isRowBufferReuseEnabled() {
+		return false;
+	}
+
+	/**
+	 * The maximum number of rows inserted by a single multi-row insert statement
+	 * when batching inserts, or {@code 0} if multi-row inserts are disabled.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT_SIZE
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default int getMultiRowInsertSize() {
+		return 0;
+	}
+
+	/**
+	 * Whether the inserts of entities whose identifier is generated by the database
+	 * are delayed until flush, and batched using multi-row inserts.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isIdentityInsertBatchingEnabled() {
+		return false;
+	}
+
+	/**
+	 * Whether inserts are ordered using a dependency graph of the entities being
+	 * inserted, when {@linkplain #isOrderInsertsEnabled() ordering of inserts} is
+	 * enabled.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ORDER_INSERTS_BY_ENTITY_DEPENDENCIES
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean isOrderInsertsByEntityDependenciesEnabled() {
+		return false;
+	}
 }
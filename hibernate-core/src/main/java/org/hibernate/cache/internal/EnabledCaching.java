@@ -17,6 +17,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import jakarta.persistence.PersistenceException;
 
 import org.hibernate.HibernateException;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -24,6 +26,7 @@ import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.CacheMissCoalescer;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
@@ -44,6 +47,8 @@ import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 
+import static org.hibernate.cfg.CacheSettings.CACHE_KEYS_FACTORY;
+
 /**
  * A {@link CacheImplementor} service used when the second-level cache is enabled.
  *
@@ -68,6 +73,8 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	private final Map<NavigableRole,CollectionDataAccess> collectionAccessMap = new ConcurrentHashMap<>();
 
 	private final TimestampsCache timestampsCache;
+	private final CacheMissCoalescer cacheMissCoalescer;
+	private final CacheKeysFactory cacheKeysFactory;
 
 	private final QueryResultsCache defaultQueryResultsCache;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
@@ -106,6 +113,16 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			timestampsCache = new TimestampsCacheDisabledImpl();
 			defaultQueryResultsCache = null;
 		}
+
+		final SessionFactoryOptions options = sessionFactory.getSessionFactoryOptions();
+		cacheMissCoalescer = options.isCacheSingleFlightEnabled()
+				? new CacheMissCoalescer( options.getCacheSingleFlightTimeout() )
+				: null;
+		final Object keysFactory = sessionFactory.getProperties().get( CACHE_KEYS_FACTORY );
+		cacheKeysFactory = keysFactory == null
+				? null
+				: sessionFactory.getServiceRegistry().requireService( StrategySelector.class )
+						.resolveStrategy( CacheKeysFactory.class, keysFactory );
 	}
 
 	@Override
@@ -188,8 +205,7 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 
 	@Override
 	public CacheKeysFactory getEnforcedCacheKeysFactory() {
-		// todo (6.0) : allow configuration of this
-		return null;
+		return cacheKeysFactory;
 	}
 
 	@Override
@@ -207,6 +223,11 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		return timestampsCache;
 	}
 
+	@Override
+	public CacheMissCoalescer getCacheMissCoalescer() {
+		return cacheMissCoalescer;
+	}
+
 
 	@Override
 	public Region getRegion(String regionName) {
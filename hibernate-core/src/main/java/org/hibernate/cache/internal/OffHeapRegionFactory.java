@@ -0,0 +1,152 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_BLOCK_SIZE;
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_MAX_SIZE;
+import static org.hibernate.cfg.CacheSettings.OFF_HEAP_REGION_SIZE;
+import static org.hibernate.cfg.CacheSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getLong;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} for a cache local to the JVM, storing
+ * the serialized entries of the entity, collection, natural id and query results regions
+ * outside the Java heap, so that large amounts of reference data can be cached without
+ * adding to the work of the garbage collector.
+ * <p>
+ * The keys of the entries are kept on the heap. The update timestamps, which are small
+ * and frequently written, are also kept on the heap. Since the entries are serialized,
+ * {@linkplain org.hibernate.cfg.CacheSettings#USE_DIRECT_REFERENCE_CACHE_ENTRIES direct
+ * reference entries} are not supported, and values which are not {@code Serializable}
+ * are not cached.
+ * <p>
+ * Enabled by setting {@value org.hibernate.cfg.CacheSettings#CACHE_REGION_FACTORY} to
+ * the name of this class.
+ *
+ * @see org.hibernate.cfg.CacheSettings#OFF_HEAP_REGION_SIZE
+ * @see org.hibernate.cfg.CacheSettings#OFF_HEAP_MAX_SIZE
+ * @see org.hibernate.cfg.CacheSettings#OFF_HEAP_BLOCK_SIZE
+ *
+ * @since 6.5
+ */
+public class OffHeapRegionFactory extends RegionFactoryTemplate {
+	public static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+	public static final int DEFAULT_BLOCK_SIZE = 128;
+	public static final long DEFAULT_MAX_SIZE = 256L * 1024 * 1024;
+
+	private long regionSize;
+	private int blockSize;
+	// the memory shared by the stores of all the regions
+	private OffHeapStore.MemoryBudget memoryBudget;
+	private ClassLoader classLoader;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+		regionSize = getLong( OFF_HEAP_REGION_SIZE, configValues, DEFAULT_REGION_SIZE );
+		blockSize = getInt( OFF_HEAP_BLOCK_SIZE, configValues, DEFAULT_BLOCK_SIZE );
+		if ( blockSize < 2 * Integer.BYTES ) {
+			throw new CacheException( "Invalid value for setting '" + OFF_HEAP_BLOCK_SIZE + "': " + blockSize );
+		}
+		if ( regionSize < blockSize ) {
+			throw new CacheException( "Invalid value for setting '" + OFF_HEAP_REGION_SIZE + "': " + regionSize );
+		}
+		final long maxSize = getLong( OFF_HEAP_MAX_SIZE, configValues, DEFAULT_MAX_SIZE );
+		if ( maxSize < blockSize ) {
+			throw new CacheException( "Invalid value for setting '" + OFF_HEAP_MAX_SIZE + "': " + maxSize );
+		}
+		memoryBudget = new OffHeapStore.MemoryBudget( maxSize );
+		if ( settings.isDirectReferenceCacheEntriesEnabled() ) {
+			// entries are serialized, and so can never be references to entity instances
+			throw new CacheException( "Setting '" + USE_DIRECT_REFERENCE_CACHE_ENTRIES
+					+ "' is not supported by " + getClass().getSimpleName() );
+		}
+		classLoader = settings.getServiceRegistry()
+				.requireService( ClassLoaderService.class )
+				.workWithClassLoader( classLoader -> classLoader );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		classLoader = null;
+		memoryBudget = null;
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new OffHeapStorageAccess( new OffHeapStore( regionSize, blockSize, memoryBudget ), classLoader );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new OffHeapStorageAccess( new OffHeapStore( regionSize, blockSize, memoryBudget ), classLoader );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TimestampsStorageAccess();
+	}
+
+	private static class TimestampsStorageAccess implements StorageAccess {
+		private final Map<Object, Object> timestamps = new ConcurrentHashMap<>();
+
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			return timestamps.get( key );
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			if ( value == null ) {
+				timestamps.remove( key );
+			}
+			else {
+				timestamps.put( key, value );
+			}
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return timestamps.containsKey( key );
+		}
+
+		@Override
+		public void evictData() {
+			timestamps.clear();
+		}
+
+		@Override
+		public void evictData(Object key) {
+			timestamps.remove( key );
+		}
+
+		@Override
+		public void release() {
+			timestamps.clear();
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.type.SerializationException;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link DomainDataStorageAccess} storing serialized values in an {@link OffHeapStore}.
+ * <p>
+ * A value which is already a {@code byte[]}, for example a
+ * {@linkplain org.hibernate.cache.spi.entry.CompactCacheEntry compact cache entry},
+ * is stored as is. A value which is not {@code Serializable} is not cached.
+ *
+ * @see OffHeapRegionFactory
+ */
+class OffHeapStorageAccess implements DomainDataStorageAccess {
+	private static final Logger log = Logger.getLogger( OffHeapStorageAccess.class );
+
+	private static final byte SERIALIZED = 0;
+	private static final byte BYTES = 1;
+
+	private final OffHeapStore store;
+	private final ClassLoader classLoader;
+
+	OffHeapStorageAccess(OffHeapStore store, ClassLoader classLoader) {
+		this.store = store;
+		this.classLoader = classLoader;
+	}
+
+	OffHeapStore getStore() {
+		return store;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final byte[] data = store.get( key );
+		return data == null ? null : decode( data );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final byte[] data = value == null ? null : encode( value );
+		if ( data == null ) {
+			store.remove( key );
+		}
+		else {
+			store.put( key, data );
+		}
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return store.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		store.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		store.remove( key );
+	}
+
+	@Override
+	public void release() {
+		store.clear();
+	}
+
+	private static byte @Nullable [] encode(Object value) {
+		if ( value instanceof byte[] ) {
+			final byte[] bytes = (byte[]) value;
+			final byte[] data = new byte[bytes.length + 1];
+			data[0] = BYTES;
+			System.arraycopy( bytes, 0, data, 1, bytes.length );
+			return data;
+		}
+		else if ( value instanceof Serializable ) {
+			final ByteArrayOutputStream out = new ByteArrayOutputStream( 256 );
+			out.write( SERIALIZED );
+			try {
+				SerializationHelper.serialize( (Serializable) value, out );
+			}
+			catch (SerializationException e) {
+				// for example, a value of a custom type nested in a cache entry
+				log.debugf( e, "Not caching value of type %s, which could not be serialized", value.getClass().getName() );
+				return null;
+			}
+			return out.toByteArray();
+		}
+		else {
+			log.debugf( "Not caching value of type %s, which is not serializable", value.getClass().getName() );
+			return null;
+		}
+	}
+
+	private Object decode(byte[] data) {
+		if ( data[0] == BYTES ) {
+			return Arrays.copyOfRange( data, 1, data.length );
+		}
+		else {
+			return SerializationHelper.deserialize(
+					new ByteArrayInputStream( data, 1, data.length - 1 ),
+					classLoader
+			);
+		}
+	}
+}
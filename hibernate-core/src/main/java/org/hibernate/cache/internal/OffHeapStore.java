@@ -0,0 +1,362 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded map from keys to {@code byte[]} values, which are stored outside the Java heap,
+ * in direct {@link ByteBuffer}s.
+ * <p>
+ * The keys, together with the location of their value, are kept in an index on the heap.
+ * The store is divided into segments, each guarded by its own lock and evicting its least
+ * recently used entries when its memory is exhausted. The memory of a segment is allocated
+ * lazily, in slabs of about one megabyte, which are divided into blocks of a fixed size.
+ * A value occupies a chain of blocks, each block starting with the index of the next block
+ * of the chain. The free blocks are chained in the same way, so the allocator itself uses
+ * no memory on the heap.
+ * <p>
+ * The slabs are taken from a {@link MemoryBudget} shared by the stores of all the regions,
+ * and given back when the store is cleared. A segment which can't get another slab evicts
+ * its own entries, and a value for which no memory can be found is not stored.
+ *
+ * @see OffHeapRegionFactory
+ */
+final class OffHeapStore {
+	private static final int MAX_SEGMENTS = 16;
+	private static final int SLAB_SIZE = 1024 * 1024;
+	private static final int END = -1;
+
+	private final Segment[] segments;
+	private final int segmentMask;
+
+	/**
+	 * @param maxSize The maximum amount of memory, in bytes, used by the values
+	 * @param blockSize The size, in bytes, of the blocks in which the values are stored
+	 * @param budget The memory shared with the other stores
+	 */
+	OffHeapStore(long maxSize, int blockSize, MemoryBudget budget) {
+		final long blocks = Math.max( 1, maxSize / blockSize );
+		int segmentCount = MAX_SEGMENTS;
+		while ( segmentCount > 1 && blocks / segmentCount < SLAB_SIZE / blockSize ) {
+			segmentCount >>= 1;
+		}
+		final int blocksPerSegment = (int) Math.min( Integer.MAX_VALUE, blocks / segmentCount );
+		this.segments = new Segment[segmentCount];
+		for ( int i = 0; i < segmentCount; i++ ) {
+			segments[i] = new Segment( blockSize, blocksPerSegment, budget );
+		}
+		this.segmentMask = segmentCount - 1;
+	}
+
+	/**
+	 * Returns a copy of the value associated with the given key, or {@code null}.
+	 */
+	byte[] get(Object key) {
+		return segment( key ).get( key );
+	}
+
+	/**
+	 * Associates a copy of the given value with the given key. A value larger than
+	 * a segment of the store, or for which no memory is available, is not stored.
+	 */
+	void put(Object key, byte[] value) {
+		segment( key ).put( key, value );
+	}
+
+	boolean contains(Object key) {
+		return segment( key ).contains( key );
+	}
+
+	void remove(Object key) {
+		segment( key ).remove( key );
+	}
+
+	/**
+	 * Removes all entries, and releases the memory of the store.
+	 */
+	void clear() {
+		for ( Segment segment : segments ) {
+			segment.clear();
+		}
+	}
+
+	int size() {
+		int size = 0;
+		for ( Segment segment : segments ) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	private Segment segment(Object key) {
+		final int hash = key.hashCode() * 0x9E3779B9;
+		return segments[( hash >>> 16 ) & segmentMask];
+	}
+
+	/**
+	 * The amount of memory which the stores may still allocate.
+	 */
+	static final class MemoryBudget {
+		private final AtomicLong available;
+
+		MemoryBudget(long size) {
+			this.available = new AtomicLong( size );
+		}
+
+		private boolean reserve(long bytes) {
+			long current;
+			do {
+				current = available.get();
+				if ( current < bytes ) {
+					return false;
+				}
+			}
+			while ( !available.compareAndSet( current, current - bytes ) );
+			return true;
+		}
+
+		private void release(long bytes) {
+			available.addAndGet( bytes );
+		}
+	}
+
+	private static final class Entry {
+		private final int head;
+		private final int length;
+
+		private Entry(int head, int length) {
+			this.head = head;
+			this.length = length;
+		}
+	}
+
+	private static final class Segment {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>( 16, 0.75f, true );
+
+		private final int blockSize;
+		private final int payloadSize;
+		private final int blocksPerSlab;
+		private final int maxBlocks;
+		private final MemoryBudget budget;
+
+		// the following are guarded by the lock
+		private ByteBuffer[] slabs;
+		private int slabCount;
+		private int freeHead = END;
+		private int freeCount;
+
+		private Segment(int blockSize, int maxBlocks, MemoryBudget budget) {
+			this.budget = budget;
+			this.blockSize = blockSize;
+			this.payloadSize = blockSize - Integer.BYTES;
+			this.blocksPerSlab = Math.max( 1, Math.min( maxBlocks, SLAB_SIZE / blockSize ) );
+			this.maxBlocks = maxBlocks / blocksPerSlab * blocksPerSlab;
+			this.slabs = new ByteBuffer[this.maxBlocks / blocksPerSlab];
+		}
+
+		private byte[] get(Object key) {
+			lock.lock();
+			try {
+				final Entry entry = entries.get( key );
+				return entry == null ? null : read( entry );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void put(Object key, byte[] value) {
+			final int needed = blocks( value.length );
+			lock.lock();
+			try {
+				final Entry existing = entries.remove( key );
+				if ( existing != null ) {
+					free( existing );
+				}
+				if ( needed > maxBlocks ) {
+					return;
+				}
+				boolean canAllocate = true;
+				while ( freeCount < needed ) {
+					if ( canAllocate && slabCount < slabs.length && allocateSlab() ) {
+						continue;
+					}
+					// don't retry an allocation which failed
+					canAllocate = false;
+					if ( entries.isEmpty() ) {
+						// no memory is available for the value
+						return;
+					}
+					evictEldest();
+				}
+				entries.put( key, new Entry( write( value, needed ), value.length ) );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private boolean contains(Object key) {
+			lock.lock();
+			try {
+				return entries.containsKey( key );
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void remove(Object key) {
+			lock.lock();
+			try {
+				final Entry entry = entries.remove( key );
+				if ( entry != null ) {
+					free( entry );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private void clear() {
+			lock.lock();
+			try {
+				entries.clear();
+				// the direct buffers are released by the garbage collector
+				budget.release( (long) slabCount * blocksPerSlab * blockSize );
+				slabs = new ByteBuffer[slabs.length];
+				slabCount = 0;
+				freeHead = END;
+				freeCount = 0;
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private int size() {
+			lock.lock();
+			try {
+				return entries.size();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private int blocks(int length) {
+			return Math.max( 1, ( length + payloadSize - 1 ) / payloadSize );
+		}
+
+		private ByteBuffer slab(int block) {
+			return slabs[block / blocksPerSlab];
+		}
+
+		private int offset(int block) {
+			return ( block % blocksPerSlab ) * blockSize;
+		}
+
+		/**
+		 * @return {@code false} if the memory is exhausted
+		 */
+		private boolean allocateSlab() {
+			final int slabSize = blocksPerSlab * blockSize;
+			if ( !budget.reserve( slabSize ) ) {
+				return false;
+			}
+			final ByteBuffer slab;
+			try {
+				slab = ByteBuffer.allocateDirect( slabSize );
+			}
+			catch (OutOfMemoryError e) {
+				// the direct memory of the JVM is exhausted, which is not fatal
+				// here, since all that is lost is the value being cached
+				budget.release( slabSize );
+				return false;
+			}
+			final int first = slabCount * blocksPerSlab;
+			for ( int i = 0; i < blocksPerSlab; i++ ) {
+				slab.putInt( i * blockSize, i == blocksPerSlab - 1 ? freeHead : first + i + 1 );
+			}
+			slabs[slabCount++] = slab;
+			freeHead = first;
+			freeCount += blocksPerSlab;
+			return true;
+		}
+
+		private void evictEldest() {
+			final Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+			final Entry eldest = iterator.next().getValue();
+			iterator.remove();
+			free( eldest );
+		}
+
+		private int write(byte[] value, int blocks) {
+			final int head = freeHead;
+			int block = head;
+			int written = 0;
+			for ( int i = 0; i < blocks; i++ ) {
+				final ByteBuffer slab = slab( block );
+				final int offset = offset( block );
+				final int nextFree = slab.getInt( offset );
+				final int length = Math.min( payloadSize, value.length - written );
+				slab.position( offset + Integer.BYTES );
+				slab.put( value, written, length );
+				written += length;
+				if ( i == blocks - 1 ) {
+					slab.putInt( offset, END );
+					freeHead = nextFree;
+				}
+				else {
+					// the next free block becomes the next block of the chain
+					slab.putInt( offset, nextFree );
+					block = nextFree;
+				}
+			}
+			freeCount -= blocks;
+			return head;
+		}
+
+		private byte[] read(Entry entry) {
+			final byte[] value = new byte[entry.length];
+			int block = entry.head;
+			int read = 0;
+			do {
+				final ByteBuffer slab = slab( block );
+				final int offset = offset( block );
+				final int length = Math.min( payloadSize, value.length - read );
+				slab.position( offset + Integer.BYTES );
+				slab.get( value, read, length );
+				read += length;
+				block = slab.getInt( offset );
+			}
+			while ( block != END );
+			return value;
+		}
+
+		private void free(Entry entry) {
+			int last = entry.head;
+			int blocks = 1;
+			int next;
+			while ( ( next = slab( last ).getInt( offset( last ) ) ) != END ) {
+				last = next;
+				blocks++;
+			}
+			slab( last ).putInt( offset( last ), freeHead );
+			freeHead = entry.head;
+			freeCount += blocks;
+		}
+	}
+}
@@ -0,0 +1,247 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.UUID;
+
+import org.hibernate.Internal;
+
+/**
+ * Keys produced by {@link PrimitiveCacheKeysFactory} for identifiers of type {@code long},
+ * {@code int}, or {@link UUID}, when the tenant id is not being defined.
+ * <p>
+ * The identifier is held unboxed, and the hash code is computed once, when the key is
+ * created. The serialized form consists of just the entity name or collection role and
+ * the bits of the identifier, and the name is interned when the key is deserialized, so
+ * that the keys received from a distributed cache share a single copy of each name.
+ * When making changes to these classes, please be aware of their memory footprint.
+ *
+ * @since 6.5
+ */
+@Internal
+public abstract class PrimitiveCacheKey implements Externalizable {
+	// not final, since the keys are Externalizable
+	String entityOrRoleName;
+	int hashCode;
+
+	PrimitiveCacheKey() {
+	}
+
+	PrimitiveCacheKey(String entityOrRoleName, int idHashCode) {
+		assert entityOrRoleName != null;
+		this.entityOrRoleName = entityOrRoleName;
+		this.hashCode = 31 * entityOrRoleName.hashCode() + idHashCode;
+	}
+
+	/**
+	 * The identifier, boxed.
+	 */
+	public abstract Object getId();
+
+	@Internal
+	public String getEntityOrRoleName() {
+		return entityOrRoleName;
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return entityOrRoleName + '#' + getId();
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeUTF( entityOrRoleName );
+		writeId( out );
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		entityOrRoleName = in.readUTF().intern();
+		hashCode = 31 * entityOrRoleName.hashCode() + readId( in );
+	}
+
+	abstract void writeId(ObjectOutput out) throws IOException;
+
+	/**
+	 * Read the identifier, and return its hash code.
+	 */
+	abstract int readId(ObjectInput in) throws IOException;
+
+	boolean sameName(PrimitiveCacheKey other) {
+		// the names are usually the same instance
+		return entityOrRoleName == other.entityOrRoleName
+				|| entityOrRoleName.equals( other.entityOrRoleName );
+	}
+
+	/**
+	 * A key for an identifier of type {@code long}.
+	 */
+	public static final class LongKey extends PrimitiveCacheKey {
+		private static final long serialVersionUID = 1L;
+
+		private long id;
+
+		/**
+		 * For deserialization only.
+		 */
+		public LongKey() {
+		}
+
+		LongKey(long id, String entityOrRoleName) {
+			super( entityOrRoleName, Long.hashCode( id ) );
+			this.id = id;
+		}
+
+		@Override
+		public Object getId() {
+			return id;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			else if ( other == null || other.getClass() != LongKey.class ) {
+				return false;
+			}
+			else {
+				final LongKey that = (LongKey) other;
+				return id == that.id && sameName( that );
+			}
+		}
+
+		@Override
+		void writeId(ObjectOutput out) throws IOException {
+			out.writeLong( id );
+		}
+
+		@Override
+		int readId(ObjectInput in) throws IOException {
+			id = in.readLong();
+			return Long.hashCode( id );
+		}
+	}
+
+	/**
+	 * A key for an identifier of type {@code int}.
+	 */
+	public static final class IntKey extends PrimitiveCacheKey {
+		private static final long serialVersionUID = 1L;
+
+		private int id;
+
+		/**
+		 * For deserialization only.
+		 */
+		public IntKey() {
+		}
+
+		IntKey(int id, String entityOrRoleName) {
+			super( entityOrRoleName, id );
+			this.id = id;
+		}
+
+		@Override
+		public Object getId() {
+			return id;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			else if ( other == null || other.getClass() != IntKey.class ) {
+				return false;
+			}
+			else {
+				final IntKey that = (IntKey) other;
+				return id == that.id && sameName( that );
+			}
+		}
+
+		@Override
+		void writeId(ObjectOutput out) throws IOException {
+			out.writeInt( id );
+		}
+
+		@Override
+		int readId(ObjectInput in) throws IOException {
+			id = in.readInt();
+			return id;
+		}
+	}
+
+	/**
+	 * A key for an identifier of type {@link UUID}, holding its bits rather than
+	 * the {@code UUID} itself.
+	 */
+	public static final class UuidKey extends PrimitiveCacheKey {
+		private static final long serialVersionUID = 1L;
+
+		private long mostSignificantBits;
+		private long leastSignificantBits;
+
+		/**
+		 * For deserialization only.
+		 */
+		public UuidKey() {
+		}
+
+		UuidKey(UUID id, String entityOrRoleName) {
+			super( entityOrRoleName, id.hashCode() );
+			this.mostSignificantBits = id.getMostSignificantBits();
+			this.leastSignificantBits = id.getLeastSignificantBits();
+		}
+
+		@Override
+		public Object getId() {
+			return new UUID( mostSignificantBits, leastSignificantBits );
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if ( this == other ) {
+				return true;
+			}
+			else if ( other == null || other.getClass() != UuidKey.class ) {
+				return false;
+			}
+			else {
+				final UuidKey that = (UuidKey) other;
+				return mostSignificantBits == that.mostSignificantBits
+						&& leastSignificantBits == that.leastSignificantBits
+						&& sameName( that );
+			}
+		}
+
+		@Override
+		void writeId(ObjectOutput out) throws IOException {
+			out.writeLong( mostSignificantBits );
+			out.writeLong( leastSignificantBits );
+		}
+
+		@Override
+		int readId(ObjectInput in) throws IOException {
+			mostSignificantBits = in.readLong();
+			leastSignificantBits = in.readLong();
+			// the same as UUID.hashCode()
+			final long bits = mostSignificantBits ^ leastSignificantBits;
+			return (int) ( bits >> 32 ) ^ (int) bits;
+		}
+	}
+}
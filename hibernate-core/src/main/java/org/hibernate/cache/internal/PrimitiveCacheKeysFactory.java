@@ -0,0 +1,90 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.UUID;
+
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * A {@link CacheKeysFactory} producing {@linkplain PrimitiveCacheKey specialized keys}
+ * for identifiers of type {@code long}, {@code int}, and {@link UUID}, which hold the
+ * identifier unboxed, do not hash the identifier through its {@link org.hibernate.type.Type},
+ * and have a compact serialized form, reducing allocation, and the size of the keys sent
+ * to a distributed cache. Other identifiers, and the keys of a multi-tenant session
+ * factory, are handled by {@link DefaultCacheKeysFactory}.
+ * <p>
+ * Unlike {@link DefaultCacheKeysFactory}, the {@linkplain #getEntityId identifier
+ * returned} for a specialized key is the identifier itself, rather than its
+ * disassembled form.
+ * <p>
+ * Enabled by setting {@value org.hibernate.cfg.CacheSettings#CACHE_KEYS_FACTORY}
+ * to {@value #SHORT_NAME}.
+ *
+ * @since 6.5
+ */
+public class PrimitiveCacheKeysFactory implements CacheKeysFactory {
+	public static final String SHORT_NAME = "primitive";
+	public static final PrimitiveCacheKeysFactory INSTANCE = new PrimitiveCacheKeysFactory();
+
+	@Override
+	public Object createCollectionKey(Object id, CollectionPersister persister, SessionFactoryImplementor factory, String tenantIdentifier) {
+		final Object key = tenantIdentifier == null ? createKey( id, persister.getRole() ) : null;
+		return key == null
+				? DefaultCacheKeysFactory.staticCreateCollectionKey( id, persister, factory, tenantIdentifier )
+				: key;
+	}
+
+	@Override
+	public Object createEntityKey(Object id, EntityPersister persister, SessionFactoryImplementor factory, String tenantIdentifier) {
+		final Object key = tenantIdentifier == null ? createKey( id, persister.getRootEntityName() ) : null;
+		return key == null
+				? DefaultCacheKeysFactory.staticCreateEntityKey( id, persister, factory, tenantIdentifier )
+				: key;
+	}
+
+	private static Object createKey(Object id, String entityOrRoleName) {
+		if ( id instanceof Long ) {
+			return new PrimitiveCacheKey.LongKey( (Long) id, entityOrRoleName );
+		}
+		else if ( id instanceof Integer ) {
+			return new PrimitiveCacheKey.IntKey( (Integer) id, entityOrRoleName );
+		}
+		else if ( id instanceof UUID ) {
+			return new PrimitiveCacheKey.UuidKey( (UUID) id, entityOrRoleName );
+		}
+		else {
+			return null;
+		}
+	}
+
+	@Override
+	public Object createNaturalIdKey(Object naturalIdValues, EntityPersister persister, SharedSessionContractImplementor session) {
+		return DefaultCacheKeysFactory.staticCreateNaturalIdKey( naturalIdValues, persister, session );
+	}
+
+	@Override
+	public Object getEntityId(Object cacheKey) {
+		return cacheKey instanceof PrimitiveCacheKey
+				? ( (PrimitiveCacheKey) cacheKey ).getId()
+				: DefaultCacheKeysFactory.staticGetEntityId( cacheKey );
+	}
+
+	@Override
+	public Object getCollectionId(Object cacheKey) {
+		return getEntityId( cacheKey );
+	}
+
+	@Override
+	public Object getNaturalIdValues(Object cacheKey) {
+		return DefaultCacheKeysFactory.staticGetNaturalIdValues( cacheKey );
+	}
+}
@@ -6,7 +6,11 @@
  */
 package org.hibernate.cache.internal;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -18,8 +22,12 @@ import org.hibernate.event.spi.EventManager;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
+import static java.util.Collections.addAll;
+import static java.util.Collections.emptySet;
+
 /**
  * Standard implementation of TimestampsCache
  *
@@ -30,8 +38,14 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 
 	public static final boolean DEBUG_ENABLED = log.isDebugEnabled();
 
+	private static final char TAG_SEPARATOR = '#';
+	private static final String ANY_TAG = "*";
+
 	private final TimestampsRegion timestampsRegion;
 
+	// the query spaces written by entities with a query cache tag
+	private volatile Set<String> taggedSpaces;
+
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
 		this.timestampsRegion = timestampsRegion;
 	}
@@ -192,6 +206,74 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return true;
 	}
 
+	/**
+	 * A write to a tagged space also invalidates the space qualified by the tag
+	 * of the written rows, or, if the tag is not known, by a wildcard. A query
+	 * only reading rows with a certain tag checks the tagged spaces it reads
+	 * only for invalidations qualified by that tag, or by the wildcard.
+	 */
+	@Override
+	public String[] resolveInvalidationSpaces(
+			String[] spaces,
+			@Nullable Object tag,
+			SharedSessionContractImplementor session) {
+		final Set<String> taggedSpaces = getTaggedSpaces( session.getFactory() );
+		if ( taggedSpaces.isEmpty() ) {
+			return spaces;
+		}
+		final List<String> result = new ArrayList<>( spaces.length * 2 );
+		for ( String space : spaces ) {
+			result.add( space );
+			if ( taggedSpaces.contains( space ) ) {
+				result.add( qualify( space, tag ) );
+			}
+		}
+		return result.size() == spaces.length ? spaces : result.toArray( new String[0] );
+	}
+
+	@Override
+	public Set<String> resolveUpToDateCheckSpaces(
+			Set<String> spaces,
+			@Nullable Object tag,
+			SharedSessionContractImplementor session) {
+		if ( tag == null ) {
+			return spaces;
+		}
+		final Set<String> taggedSpaces = getTaggedSpaces( session.getFactory() );
+		if ( taggedSpaces.isEmpty() ) {
+			return spaces;
+		}
+		final Set<String> result = new HashSet<>();
+		for ( String space : spaces ) {
+			if ( taggedSpaces.contains( space ) ) {
+				result.add( qualify( space, tag ) );
+				result.add( qualify( space, null ) );
+			}
+			else {
+				result.add( space );
+			}
+		}
+		return result;
+	}
+
+	private static String qualify(String space, @Nullable Object tag) {
+		return space + TAG_SEPARATOR + ( tag == null ? ANY_TAG : tag.toString() );
+	}
+
+	private Set<String> getTaggedSpaces(SessionFactoryImplementor factory) {
+		Set<String> spaces = taggedSpaces;
+		if ( spaces == null ) {
+			final Set<String> result = new HashSet<>();
+			factory.getMappingMetamodel().forEachEntityDescriptor( persister -> {
+				if ( persister.getQueryCacheTagMapping() != null ) {
+					addAll( result, persister.getPropertySpaces() );
+				}
+			} );
+			spaces = taggedSpaces = result.isEmpty() ? emptySet() : result;
+		}
+		return spaces;
+	}
+
 	private Long getLastUpdateTimestampForSpace(String space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		final EventManager eventManager = session.getEventManager();
@@ -8,16 +8,24 @@ package org.hibernate.cache.spi;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.AccessType;
+import org.hibernate.cache.spi.support.CachePopulationExecutor;
 import org.hibernate.cache.spi.support.RegionNameQualifier;
 import org.hibernate.cache.spi.support.SimpleTimestamper;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 import static org.hibernate.cache.spi.SecondLevelCacheLogger.L2CACHE_LOGGER;
+import static org.hibernate.cfg.CacheSettings.CACHE_ASYNC_POPULATION;
+import static org.hibernate.cfg.CacheSettings.CACHE_ASYNC_POPULATION_MAX_PENDING;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getInt;
 
 /**
  * @author Steve Ebersole
@@ -46,6 +54,10 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 
 	private SessionFactoryOptions options;
 
+	private CachePopulationExecutor cachePopulationExecutor;
+
+	private ScheduledExecutorService scheduler;
+
 
 	protected boolean isStarted() {
 		if ( started.get() ) {
@@ -87,6 +99,11 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 				this.options = settings;
 				try {
 					prepareForUse( settings, configValues );
+					if ( getBoolean( CACHE_ASYNC_POPULATION, configValues ) ) {
+						cachePopulationExecutor = new CachePopulationExecutor(
+								getInt( CACHE_ASYNC_POPULATION_MAX_PENDING, configValues, 10_000 )
+						);
+					}
 					startingException = null;
 				}
 				catch ( Exception e ) {
@@ -108,9 +125,17 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 		if ( started.compareAndSet( true, false ) ) {
 			synchronized ( this ) {
 				try {
+					if ( cachePopulationExecutor != null ) {
+						cachePopulationExecutor.shutdown();
+					}
+					if ( scheduler != null ) {
+						scheduler.shutdownNow();
+					}
 					releaseFromUse();
 				}
 				finally {
+					cachePopulationExecutor = null;
+					scheduler = null;
 					options = null;
 					startingException = null;
 				}
@@ -123,6 +148,37 @@ public abstract class AbstractRegionFactory implements RegionFactory {
 
 	protected abstract void releaseFromUse();
 
+	/**
+	 * The executor performing cache writes in the background, or {@code null}
+	 * if {@value org.hibernate.cfg.CacheSettings#CACHE_ASYNC_POPULATION} is
+	 * not enabled.
+	 *
+	 * @since 6.5
+	 */
+	public CachePopulationExecutor getCachePopulationExecutor() {
+		return cachePopulationExecutor;
+	}
+
+	/**
+	 * Run the given task periodically, on a background thread shared by all tasks
+	 * scheduled with this region factory, until the region factory is stopped.
+	 *
+	 * @param period The period, in milliseconds
+	 *
+	 * @since 6.5
+	 */
+	public synchronized void scheduleAtFixedRate(Runnable task, long period) {
+		verifyStarted();
+		if ( scheduler == null ) {
+			scheduler = Executors.newSingleThreadScheduledExecutor( runnable -> {
+				final Thread thread = new Thread( runnable, "hibernate-cache-scheduler" );
+				thread.setDaemon( true );
+				return thread;
+			} );
+		}
+		scheduler.scheduleAtFixedRate( task, period, period, TimeUnit.MILLISECONDS );
+	}
+
 	@Override
 	public boolean isMinimalPutsEnabledByDefault() {
 		return false;
@@ -11,6 +11,7 @@ import java.util.Set;
 
 import org.hibernate.Cache;
 import org.hibernate.HibernateException;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.Remove;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
@@ -96,6 +97,18 @@ public interface CacheImplementor extends Service, Cache, Serializable {
 	 */
 	QueryResultsCache getQueryResultsCache(String regionName);
 
+	/**
+	 * The object coalescing concurrent loads of data missing from the cache, or
+	 * {@code null} if {@value org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT}
+	 * is not enabled.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default CacheMissCoalescer getCacheMissCoalescer() {
+		return null;
+	}
+
 	/**
 	 * Get the named QueryResultRegionAccess but not creating one if it
 	 * does not already exist.  This is intended for use by statistics.
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.Incubating;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Coalesces concurrent loads of data missing from the second-level cache, when
+ * {@value org.hibernate.cfg.CacheSettings#CACHE_SINGLE_FLIGHT} is enabled.
+ * <p>
+ * The first thread to miss a given cache key loads the data from the database,
+ * and puts it in the cache as usual. Any other thread missing the same key in
+ * the meantime waits for it to finish, up to a timeout, and then looks the data
+ * up in the cache again, before falling back to loading it from the database
+ * itself.
+ *
+ * @see CacheImplementor#getCacheMissCoalescer()
+ *
+ * @since 6.5
+ */
+@Incubating
+public final class CacheMissCoalescer {
+	private static final Logger log = Logger.getLogger( CacheMissCoalescer.class );
+
+	private final ConcurrentHashMap<Object, Load> loads = new ConcurrentHashMap<>();
+	private final long timeout;
+
+	/**
+	 * @param timeout The maximum time, in milliseconds, to wait for a load
+	 * performed by another thread
+	 */
+	public CacheMissCoalescer(long timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Load the data for the given cache key, unless another thread is already
+	 * loading it, in which case wait for that thread and then retry the cache.
+	 *
+	 * @param cacheKey The key of the data which was missing from the cache
+	 * @param fromCache Looks the data up in the cache, returning {@code null} if
+	 * it was not found
+	 * @param fromDatasource Loads the data from the database, and puts it in the
+	 * cache
+	 */
+	public <T> T load(Object cacheKey, Supplier<T> fromCache, Supplier<T> fromDatasource) {
+		final Thread thread = Thread.currentThread();
+		final Load load = new Load( thread );
+		final Load inFlight = loads.putIfAbsent( cacheKey, load );
+		if ( inFlight == null ) {
+			try {
+				return fromDatasource.get();
+			}
+			finally {
+				loads.remove( cacheKey, load );
+				load.latch.countDown();
+			}
+		}
+		else if ( inFlight.thread != thread && await( inFlight, cacheKey ) ) {
+			final T cached = fromCache.get();
+			// the concurrent load might not have populated the cache
+			return cached == null ? fromDatasource.get() : cached;
+		}
+		else {
+			// a reentrant load, or a load which did not finish in time
+			return fromDatasource.get();
+		}
+	}
+
+	private boolean await(Load load, Object cacheKey) {
+		try {
+			if ( load.latch.await( timeout, TimeUnit.MILLISECONDS ) ) {
+				return true;
+			}
+			else {
+				log.debugf( "Timed out waiting for concurrent load of cache key [%s]", cacheKey );
+				return false;
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static final class Load {
+		private final Thread thread;
+		private final CountDownLatch latch = new CountDownLatch( 1 );
+
+		private Load(Thread thread) {
+			this.thread = thread;
+		}
+	}
+}
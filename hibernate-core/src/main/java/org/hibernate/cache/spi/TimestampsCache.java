@@ -7,10 +7,14 @@
 package org.hibernate.cache.spi;
 
 import java.util.Collection;
+import java.util.Set;
 
+import org.hibernate.Incubating;
 import org.hibernate.cache.CacheException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 /**
  * Tracks invalidation of "query spaces" (tables) for the purpose of
  * determining if a cached query result set is stale. Implementations
@@ -67,6 +71,48 @@ public interface TimestampsCache {
 			Long timestamp,
 			SharedSessionContractImplementor session);
 
+	/**
+	 * Resolve the names under which an invalidation of the given query spaces
+	 * is recorded, when the invalidation is caused by a write of rows with the
+	 * given {@linkplain org.hibernate.annotations.QueryCacheTag query cache tag},
+	 * or by a write of rows with unknown tags, if the tag is {@code null}.
+	 * <p>
+	 * By default, query cache tags are ignored, and the given spaces are
+	 * returned as is.
+	 *
+	 * @see #resolveUpToDateCheckSpaces
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default String[] resolveInvalidationSpaces(
+			String[] spaces,
+			@Nullable Object tag,
+			SharedSessionContractImplementor session) {
+		return spaces;
+	}
+
+	/**
+	 * Resolve the names which must be {@linkplain #isUpToDate checked} for
+	 * cached results of a query reading the given query spaces, if the query
+	 * only reads rows with the given {@linkplain org.hibernate.annotations.QueryCacheTag
+	 * query cache tag}, or may read any rows, if the tag is {@code null}.
+	 * <p>
+	 * By default, query cache tags are ignored, and the given spaces are
+	 * returned as is.
+	 *
+	 * @see #resolveInvalidationSpaces
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default Set<String> resolveUpToDateCheckSpaces(
+			Set<String> spaces,
+			@Nullable Object tag,
+			SharedSessionContractImplementor session) {
+		return spaces;
+	}
+
 	default void clear() throws CacheException {
 		getRegion().clear();
 	}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
@@ -57,6 +61,33 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache at once. Used when
+	 * resolving a batch of entities or collections from the second level cache.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data by key, omitting the keys for which there is
+	 * no (readable) cached data
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 *
+	 * @since 6.5
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> entries = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				entries.put( key, value );
+			}
+		}
+		return entries;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
@@ -96,6 +127,37 @@ public interface CachedDomainDataAccess {
 			Object version,
 			boolean minimalPutOverride);
 
+	/**
+	 * Attempt to cache several objects at once, after loading them from the database.
+	 * Used when a batch of entities is loaded, for example by a multi-load, a batch
+	 * fetch, or the resolution of a query cache hit.
+	 *
+	 * @param session Current session.
+	 * @param entries The items by key
+	 * @param versions The version numbers of the items by key, omitting the items
+	 * which have no version
+	 *
+	 * @return the number of items which were successfully cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 *
+	 * @since 6.5
+	 */
+	default int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Map<Object, Object> entries,
+			Map<Object, Object> versions) {
+		int puts = 0;
+		for ( Map.Entry<Object, Object> entry : entries.entrySet() ) {
+			if ( putFromLoad( session, entry.getKey(), entry.getValue(), versions.get( entry.getKey() ) ) ) {
+				puts++;
+			}
+		}
+		return puts;
+	}
+
 	/**
 	 * We are going to attempt to update/delete the keyed object. This
 	 * method is used by "asynchronous" concurrency strategies.
@@ -0,0 +1,679 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.ComponentType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.java.EnumJavaType;
+
+/**
+ * Compact binary CacheEntry format for entities. Used to store the disassembled state of
+ * the entity into the second-level cache as a {@code byte[]}, which is much smaller than
+ * the array of boxed values, and cheaper to copy into an off-heap or distributed cache
+ * than a serialized {@link StandardCacheEntryImpl}.
+ * <p>
+ * The entry does not describe itself: the values are written in the order of the
+ * attributes of the entity, each preceded by a one byte tag identifying its encoding,
+ * and an enumerated value is written as its ordinal, since its type is known from the
+ * attribute mapping. Numbers are written as variable length integers, and strings as
+ * modified UTF-8. An entry holding a value of any other type is stored in the standard format.
+ * <p>
+ * The encoded state is {@linkplain StandardCacheEntryImpl#assemble assembled} directly
+ * into the state of the entity, without first decoding it into the disassembled state.
+ *
+ * @see org.hibernate.cfg.CacheSettings#USE_COMPACT_CACHE_ENTRIES
+ *
+ * @since 6.5
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT = 1;
+
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN = 2;
+	private static final byte FALSE = 3;
+	private static final byte TRUE = 4;
+	private static final byte INTEGER = 5;
+	private static final byte LONG = 6;
+	private static final byte SHORT = 7;
+	private static final byte BYTE = 8;
+	private static final byte CHARACTER = 9;
+	private static final byte FLOAT = 10;
+	private static final byte DOUBLE = 11;
+	private static final byte STRING = 12;
+	private static final byte BYTES = 13;
+	private static final byte UUID_VALUE = 14;
+	private static final byte BIG_DECIMAL = 15;
+	private static final byte BIG_INTEGER = 16;
+	private static final byte INSTANT = 17;
+	private static final byte LOCAL_DATE = 18;
+	private static final byte LOCAL_TIME = 19;
+	private static final byte LOCAL_DATE_TIME = 20;
+	private static final byte DATE = 21;
+	private static final byte TIMESTAMP = 22;
+	private static final byte SQL_DATE = 23;
+	private static final byte SQL_TIME = 24;
+	private static final byte ARRAY = 25;
+	private static final byte ENUM = 26;
+
+	private final EntityPersister persister;
+	private final Codec[] codecs;
+
+	/**
+	 * Constructs a CompactCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public CompactCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+		final Type[] types = persister.getPropertyTypes();
+		this.codecs = new Codec[types.length];
+		for ( int i = 0; i < types.length; i++ ) {
+			codecs[i] = codec( types[i] );
+		}
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final CompactCacheEntry structure = structure( entry.getSubclass(), persister.getFactory() );
+		if ( structure == null ) {
+			return item;
+		}
+		final Serializable[] state = entry.getDisassembledState();
+		final Output out = new Output( 16 + state.length * 8 );
+		try {
+			out.writeByte( FORMAT );
+			out.writeString( entry.getSubclass() );
+			writeValue( entry.getVersion(), out );
+			out.writeInt( state.length );
+			for ( int i = 0; i < state.length; i++ ) {
+				structure.codecs[i].write( state[i], out );
+			}
+		}
+		catch (UnsupportedValueException e) {
+			// store the entry in the standard format
+			return item;
+		}
+		return out.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			return structured;
+		}
+		final Input in = new Input( (byte[]) structured );
+		if ( in.readByte() != FORMAT ) {
+			throw new IllegalStateException( "Unknown format of compact cache entry" );
+		}
+		final String subclass = in.readString();
+		final Object version = readValue( in.readByte(), in );
+		final CompactCacheEntry structure = structure( subclass, factory );
+		if ( structure == null ) {
+			throw new IllegalStateException( "Compact cache entry for entity not using compact cache entries: " + subclass );
+		}
+		return new StandardCacheEntryImpl( new EncodedState( structure.codecs, in ), subclass, version );
+	}
+
+	private CompactCacheEntry structure(String subclass, SessionFactoryImplementor factory) {
+		if ( persister.getEntityName().equals( subclass ) ) {
+			return this;
+		}
+		else {
+			final CacheEntryStructure structure = factory.getRuntimeMetamodels()
+					.getMappingMetamodel()
+					.getEntityDescriptor( subclass )
+					.getCacheEntryStructure();
+			return structure instanceof CompactCacheEntry ? (CompactCacheEntry) structure : null;
+		}
+	}
+
+	/**
+	 * The encoded disassembled state of an entity.
+	 */
+	static final class EncodedState {
+		private final Codec[] codecs;
+		private final byte[] bytes;
+		private final int position;
+
+		private EncodedState(Codec[] codecs, Input in) {
+			this.codecs = codecs;
+			this.bytes = in.bytes;
+			this.position = in.position;
+		}
+
+		Serializable[] decode() {
+			final Input in = new Input( bytes, position );
+			final Serializable[] state = new Serializable[in.readInt()];
+			for ( int i = 0; i < state.length; i++ ) {
+				state[i] = (Serializable) codecs[i].read( in );
+			}
+			return state;
+		}
+
+		/**
+		 * Apply the {@link Type#assemble} operation to each value as it is decoded.
+		 *
+		 * @see CacheEntryHelper#assemble
+		 */
+		Object[] assemble(Type[] types, SharedSessionContractImplementor session, Object owner) {
+			final Input in = new Input( bytes, position );
+			final Object[] state = new Object[in.readInt()];
+			for ( int i = 0; i < state.length; i++ ) {
+				final Object value = codecs[i].read( in );
+				if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY
+						|| value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+					state[i] = value;
+				}
+				else {
+					state[i] = types[i].assemble( (Serializable) value, session, owner );
+				}
+			}
+			return state;
+		}
+	}
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Encoding of values
+
+	private static Codec codec(Type type) {
+		if ( type instanceof BasicType<?> ) {
+			final Object javaType = ( (BasicType<?>) type ).getJavaTypeDescriptor();
+			if ( javaType instanceof EnumJavaType<?> ) {
+				return new EnumCodec( ( (EnumJavaType<?>) javaType ).getJavaTypeClass().getEnumConstants() );
+			}
+		}
+		else if ( type instanceof ComponentType ) {
+			final Type[] subtypes = ( (ComponentType) type ).getSubtypes();
+			final Codec[] codecs = new Codec[subtypes.length];
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				codecs[i] = codec( subtypes[i] );
+			}
+			return new ComponentCodec( codecs );
+		}
+		return GenericCodec.INSTANCE;
+	}
+
+	/**
+	 * Writes and reads the disassembled values of a certain type.
+	 */
+	private interface Codec {
+		void write(Object value, Output out);
+
+		Object read(Input in);
+	}
+
+	private static final class GenericCodec implements Codec {
+		private static final GenericCodec INSTANCE = new GenericCodec();
+
+		@Override
+		public void write(Object value, Output out) {
+			writeValue( value, out );
+		}
+
+		@Override
+		public Object read(Input in) {
+			return readValue( in.readByte(), in );
+		}
+	}
+
+	private static final class EnumCodec implements Codec {
+		private final Object[] constants;
+
+		private EnumCodec(Object[] constants) {
+			this.constants = constants;
+		}
+
+		@Override
+		public void write(Object value, Output out) {
+			if ( value instanceof Enum<?> && ( (Enum<?>) value ).getDeclaringClass() == ( (Enum<?>) constants[0] ).getDeclaringClass() ) {
+				out.writeByte( ENUM );
+				out.writeInt( ( (Enum<?>) value ).ordinal() );
+			}
+			else {
+				writeValue( value, out );
+			}
+		}
+
+		@Override
+		public Object read(Input in) {
+			final byte tag = in.readByte();
+			return tag == ENUM ? constants[in.readInt()] : readValue( tag, in );
+		}
+	}
+
+	private static final class ComponentCodec implements Codec {
+		private final Codec[] codecs;
+
+		private ComponentCodec(Codec[] codecs) {
+			this.codecs = codecs;
+		}
+
+		@Override
+		public void write(Object value, Output out) {
+			if ( value != null && value.getClass() == Object[].class && ( (Object[]) value ).length == codecs.length ) {
+				final Object[] values = (Object[]) value;
+				out.writeByte( ARRAY );
+				out.writeInt( values.length );
+				for ( int i = 0; i < values.length; i++ ) {
+					codecs[i].write( values[i], out );
+				}
+			}
+			else {
+				writeValue( value, out );
+			}
+		}
+
+		@Override
+		public Object read(Input in) {
+			final byte tag = in.readByte();
+			if ( tag == ARRAY ) {
+				final Object[] values = new Object[in.readInt()];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = codecs[i].read( in );
+				}
+				return values;
+			}
+			else {
+				return readValue( tag, in );
+			}
+		}
+	}
+
+	private static void writeValue(Object value, Output out) {
+		if ( value == null ) {
+			out.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			out.writeByte( UNFETCHED );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			out.writeByte( UNKNOWN );
+		}
+		else {
+			final Class<?> type = value.getClass();
+			if ( type == Integer.class ) {
+				out.writeByte( INTEGER );
+				out.writeInt( (Integer) value );
+			}
+			else if ( type == Long.class ) {
+				out.writeByte( LONG );
+				out.writeLong( (Long) value );
+			}
+			else if ( type == String.class ) {
+				out.writeByte( STRING );
+				out.writeString( (String) value );
+			}
+			else if ( type == Boolean.class ) {
+				out.writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( type == Short.class ) {
+				out.writeByte( SHORT );
+				out.writeInt( (Short) value );
+			}
+			else if ( type == Byte.class ) {
+				out.writeByte( BYTE );
+				out.writeByte( (Byte) value );
+			}
+			else if ( type == Character.class ) {
+				out.writeByte( CHARACTER );
+				out.writeInt( (Character) value );
+			}
+			else if ( type == Float.class ) {
+				out.writeByte( FLOAT );
+				out.writeFixedInt( Float.floatToRawIntBits( (Float) value ) );
+			}
+			else if ( type == Double.class ) {
+				out.writeByte( DOUBLE );
+				out.writeFixedLong( Double.doubleToRawLongBits( (Double) value ) );
+			}
+			else if ( type == byte[].class ) {
+				out.writeByte( BYTES );
+				out.writeBytes( (byte[]) value );
+			}
+			else if ( type == UUID.class ) {
+				final UUID uuid = (UUID) value;
+				out.writeByte( UUID_VALUE );
+				out.writeFixedLong( uuid.getMostSignificantBits() );
+				out.writeFixedLong( uuid.getLeastSignificantBits() );
+			}
+			else if ( type == BigDecimal.class ) {
+				final BigDecimal decimal = (BigDecimal) value;
+				out.writeByte( BIG_DECIMAL );
+				out.writeInt( decimal.scale() );
+				out.writeBytes( decimal.unscaledValue().toByteArray() );
+			}
+			else if ( type == BigInteger.class ) {
+				out.writeByte( BIG_INTEGER );
+				out.writeBytes( ( (BigInteger) value ).toByteArray() );
+			}
+			else if ( type == Instant.class ) {
+				final Instant instant = (Instant) value;
+				out.writeByte( INSTANT );
+				out.writeLong( instant.getEpochSecond() );
+				out.writeInt( instant.getNano() );
+			}
+			else if ( type == LocalDate.class ) {
+				out.writeByte( LOCAL_DATE );
+				out.writeLong( ( (LocalDate) value ).toEpochDay() );
+			}
+			else if ( type == LocalTime.class ) {
+				out.writeByte( LOCAL_TIME );
+				out.writeLong( ( (LocalTime) value ).toNanoOfDay() );
+			}
+			else if ( type == LocalDateTime.class ) {
+				final LocalDateTime dateTime = (LocalDateTime) value;
+				out.writeByte( LOCAL_DATE_TIME );
+				out.writeLong( dateTime.toLocalDate().toEpochDay() );
+				out.writeLong( dateTime.toLocalTime().toNanoOfDay() );
+			}
+			else if ( type == Date.class ) {
+				out.writeByte( DATE );
+				out.writeLong( ( (Date) value ).getTime() );
+			}
+			else if ( type == Timestamp.class ) {
+				final Timestamp timestamp = (Timestamp) value;
+				out.writeByte( TIMESTAMP );
+				out.writeLong( timestamp.getTime() );
+				out.writeInt( timestamp.getNanos() );
+			}
+			else if ( type == java.sql.Date.class ) {
+				out.writeByte( SQL_DATE );
+				out.writeLong( ( (java.sql.Date) value ).getTime() );
+			}
+			else if ( type == Time.class ) {
+				out.writeByte( SQL_TIME );
+				out.writeLong( ( (Time) value ).getTime() );
+			}
+			else if ( type == Object[].class ) {
+				final Object[] values = (Object[]) value;
+				out.writeByte( ARRAY );
+				out.writeInt( values.length );
+				for ( Object element : values ) {
+					writeValue( element, out );
+				}
+			}
+			else {
+				throw new UnsupportedValueException();
+			}
+		}
+	}
+
+	private static Object readValue(byte tag, Input in) {
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case UNFETCHED:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case FALSE:
+				return Boolean.FALSE;
+			case TRUE:
+				return Boolean.TRUE;
+			case INTEGER:
+				return in.readInt();
+			case LONG:
+				return in.readLong();
+			case SHORT:
+				return (short) in.readInt();
+			case BYTE:
+				return in.readByte();
+			case CHARACTER:
+				return (char) in.readInt();
+			case FLOAT:
+				return Float.intBitsToFloat( in.readFixedInt() );
+			case DOUBLE:
+				return Double.longBitsToDouble( in.readFixedLong() );
+			case STRING:
+				return in.readString();
+			case BYTES:
+				return in.readBytes();
+			case UUID_VALUE:
+				return new UUID( in.readFixedLong(), in.readFixedLong() );
+			case BIG_DECIMAL: {
+				final int scale = in.readInt();
+				return new BigDecimal( new BigInteger( in.readBytes() ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( in.readBytes() );
+			case INSTANT: {
+				final long seconds = in.readLong();
+				return Instant.ofEpochSecond( seconds, in.readInt() );
+			}
+			case LOCAL_DATE:
+				return LocalDate.ofEpochDay( in.readLong() );
+			case LOCAL_TIME:
+				return LocalTime.ofNanoOfDay( in.readLong() );
+			case LOCAL_DATE_TIME: {
+				final LocalDate date = LocalDate.ofEpochDay( in.readLong() );
+				return LocalDateTime.of( date, LocalTime.ofNanoOfDay( in.readLong() ) );
+			}
+			case DATE:
+				return new Date( in.readLong() );
+			case TIMESTAMP: {
+				final Timestamp timestamp = new Timestamp( in.readLong() );
+				timestamp.setNanos( in.readInt() );
+				return timestamp;
+			}
+			case SQL_DATE:
+				return new java.sql.Date( in.readLong() );
+			case SQL_TIME:
+				return new Time( in.readLong() );
+			case ARRAY: {
+				final Object[] values = new Object[in.readInt()];
+				for ( int i = 0; i < values.length; i++ ) {
+					values[i] = readValue( in.readByte(), in );
+				}
+				return values;
+			}
+			default:
+				throw new IllegalStateException( "Unknown tag in compact cache entry: " + tag );
+		}
+	}
+
+	private static final class UnsupportedValueException extends RuntimeException {
+		private UnsupportedValueException() {
+			super( null, null, false, false );
+		}
+	}
+
+	private static final class Output {
+		private byte[] bytes;
+		private int position;
+
+		private Output(int size) {
+			bytes = new byte[size];
+		}
+
+		private void ensureCapacity(int length) {
+			if ( position + length > bytes.length ) {
+				bytes = Arrays.copyOf( bytes, Math.max( bytes.length * 2, position + length ) );
+			}
+		}
+
+		private void writeByte(int value) {
+			ensureCapacity( 1 );
+			bytes[position++] = (byte) value;
+		}
+
+		/**
+		 * Write a zigzag encoded variable length integer.
+		 */
+		private void writeInt(int value) {
+			writeUnsignedLong( Integer.toUnsignedLong( ( value << 1 ) ^ ( value >> 31 ) ) );
+		}
+
+		/**
+		 * Write a zigzag encoded variable length integer.
+		 */
+		private void writeLong(long value) {
+			writeUnsignedLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		private void writeUnsignedLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				bytes[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			bytes[position++] = (byte) value;
+		}
+
+		private void writeFixedInt(int value) {
+			ensureCapacity( 4 );
+			for ( int shift = 24; shift >= 0; shift -= 8 ) {
+				bytes[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeFixedLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				bytes[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		private void writeBytes(byte[] value) {
+			writeInt( value.length );
+			ensureCapacity( value.length );
+			System.arraycopy( value, 0, bytes, position, value.length );
+			position += value.length;
+		}
+
+		/**
+		 * Write the number of characters, followed by each character encoded on its own,
+		 * as in the modified UTF-8 of {@link java.io.DataOutput#writeUTF}, so that any
+		 * string is preserved, even one with unpaired surrogates.
+		 */
+		private void writeString(String value) {
+			final int length = value.length();
+			writeInt( length );
+			ensureCapacity( length * 3 );
+			for ( int i = 0; i < length; i++ ) {
+				final char c = value.charAt( i );
+				if ( c != 0 && c < 0x80 ) {
+					bytes[position++] = (byte) c;
+				}
+				else if ( c < 0x800 ) {
+					bytes[position++] = (byte) ( 0xC0 | c >> 6 );
+					bytes[position++] = (byte) ( 0x80 | c & 0x3F );
+				}
+				else {
+					bytes[position++] = (byte) ( 0xE0 | c >> 12 );
+					bytes[position++] = (byte) ( 0x80 | c >> 6 & 0x3F );
+					bytes[position++] = (byte) ( 0x80 | c & 0x3F );
+				}
+			}
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf( bytes, position );
+		}
+	}
+
+	private static final class Input {
+		private final byte[] bytes;
+		private int position;
+
+		private Input(byte[] bytes) {
+			this( bytes, 0 );
+		}
+
+		private Input(byte[] bytes, int position) {
+			this.bytes = bytes;
+			this.position = position;
+		}
+
+		private byte readByte() {
+			return bytes[position++];
+		}
+
+		private int readInt() {
+			final int value = (int) readUnsignedLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private long readLong() {
+			final long value = readUnsignedLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		private long readUnsignedLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = bytes[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			}
+			while ( ( b & 0x80 ) != 0 );
+			return value;
+		}
+
+		private int readFixedInt() {
+			int value = 0;
+			for ( int i = 0; i < 4; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( bytes[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		private byte[] readBytes() {
+			final int length = readInt();
+			final byte[] value = Arrays.copyOfRange( bytes, position, position + length );
+			position += length;
+			return value;
+		}
+
+		private String readString() {
+			final char[] chars = new char[readInt()];
+			for ( int i = 0; i < chars.length; i++ ) {
+				final int b = bytes[position++] & 0xFF;
+				if ( b < 0x80 ) {
+					chars[i] = (char) b;
+				}
+				else if ( b < 0xE0 ) {
+					chars[i] = (char) ( ( b & 0x1F ) << 6 | bytes[position++] & 0x3F );
+				}
+				else {
+					chars[i] = (char) ( ( b & 0x0F ) << 12 | ( bytes[position++] & 0x3F ) << 6 | bytes[position++] & 0x3F );
+				}
+			}
+			return new String( chars );
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi.entry;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.hibernate.AssertionFailure;
@@ -25,7 +27,9 @@ import org.hibernate.persister.entity.EntityPersister;
  */
 public class StandardCacheEntryImpl implements CacheEntry {
 
-	private final Serializable[] disassembledState;
+	private volatile Serializable[] disassembledState;
+	// the state read from a compact cache entry, which is not serializable, see writeObject()
+	private final transient CompactCacheEntry.EncodedState encodedState;
 	private final Object version;
 	private final String subclass;
 
@@ -54,16 +58,27 @@ public class StandardCacheEntryImpl implements CacheEntry {
 				session,
 				owner
 		);
+		this.encodedState = null;
 		this.subclass = persister.getEntityName();
 		this.version = version;
 	}
 
 	StandardCacheEntryImpl(Serializable[] disassembledState, String subclass, Object version) {
 		this.disassembledState = disassembledState;
+		this.encodedState = null;
 		this.subclass = subclass;
 		this.version = version;
 	}
 
+	/**
+	 * Constructs a StandardCacheEntryImpl from state read from a {@link CompactCacheEntry},
+	 * which is only decoded when needed.
+	 */
+	StandardCacheEntryImpl(CompactCacheEntry.EncodedState encodedState, String subclass, Object version) {
+		this.encodedState = encodedState;
+		this.subclass = subclass;
+		this.version = version;
+	}
 
 
 	@Override
@@ -76,7 +91,12 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		// todo: this was added to support initializing an entity's EntityEntry snapshot during reattach;
 		// this should be refactored to instead expose a method to assemble an EntityEntry based on this
 		// state for return.
-		return disassembledState;
+		Serializable[] state = disassembledState;
+		if ( state == null ) {
+			state = encodedState.decode();
+			disassembledState = state;
+		}
+		return state;
 	}
 
 	@Override
@@ -129,11 +149,10 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		}
 
 		//assembled state gets put in a new array (we read from cache by value!)
-		final Object[] state = CacheEntryHelper.assemble(
-				disassembledState,
-				persister.getPropertyTypes(),
-				session, instance
-		);
+		final Serializable[] disassembledState = this.disassembledState;
+		final Object[] state = disassembledState == null
+				? encodedState.assemble( persister.getPropertyTypes(), session, instance )
+				: CacheEntryHelper.assemble( disassembledState, persister.getPropertyTypes(), session, instance );
 
 		//persister.setIdentifier(instance, id); //before calling interceptor, for consistency with normal load
 
@@ -155,6 +174,12 @@ public class StandardCacheEntryImpl implements CacheEntry {
 		return state;
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		// write the decoded state in place of the encoded state
+		getDisassembledState();
+		out.defaultWriteObject();
+	}
+
 	@Override
 	public String toString() {
 		return "CacheEntry(" + subclass + ')';
@@ -6,11 +6,24 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
+import org.hibernate.cache.spi.AbstractRegionFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jboss.logging.Logger;
 
 /**
@@ -21,12 +34,34 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 
 	private final DomainDataRegion region;
 	private final DomainDataStorageAccess storageAccess;
+	private final @Nullable DomainDataCachingConfig cachingConfig;
+	private final @Nullable CachePopulationExecutor populationExecutor;
+	// incremented when the cache is cleared, to skip the writes scheduled before
+	private final AtomicLong populationGeneration = new AtomicLong();
 
 	protected AbstractCachedDomainDataAccess(
 			DomainDataRegion region,
 			DomainDataStorageAccess storageAccess) {
+		this( region, storageAccess, null );
+	}
+
+	/**
+	 * @param cachingConfig The configuration of the cached data, which is needed to
+	 * perform writes on the {@linkplain CachePopulationExecutor background thread},
+	 * since their statistics are only recorded once they are performed
+	 *
+	 * @since 6.5
+	 */
+	protected AbstractCachedDomainDataAccess(
+			DomainDataRegion region,
+			DomainDataStorageAccess storageAccess,
+			@Nullable DomainDataCachingConfig cachingConfig) {
 		this.region = region;
 		this.storageAccess = storageAccess;
+		this.cachingConfig = cachingConfig;
+		this.populationExecutor = cachingConfig != null && region.getRegionFactory() instanceof AbstractRegionFactory
+				? ( (AbstractRegionFactory) region.getRegionFactory() ).getCachePopulationExecutor()
+				: null;
 	}
 
 	@Override
@@ -38,8 +73,106 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return storageAccess;
 	}
 
+	/**
+	 * A write to the cache.
+	 *
+	 * @since 6.5
+	 */
+	@FunctionalInterface
+	protected interface CacheWrite {
+		/**
+		 * Perform the write.
+		 *
+		 * @param session The session, or {@code null} if the write is performed on the
+		 * background thread, outside the scope of any session
+		 *
+		 * @return whether an entry was put into the cache
+		 */
+		boolean write(@Nullable SharedSessionContractImplementor session);
+	}
+
+	/**
+	 * Perform the given write to the cache, either immediately, or later, on the
+	 * {@linkplain CachePopulationExecutor background thread} if
+	 * {@value org.hibernate.cfg.CacheSettings#CACHE_ASYNC_POPULATION} is enabled.
+	 * The write receives the session only when it is performed immediately, and so
+	 * must not capture it, nor any state obtained from it later. Writes for
+	 * {@linkplain AccessType#TRANSACTIONAL transactional} access are always performed
+	 * immediately.
+	 * <p>
+	 * A scheduled write is skipped if the cache is {@linkplain #discardPendingWrites()
+	 * cleared} before it is performed, and its put is only recorded in the statistics
+	 * once it is performed.
+	 *
+	 * @param coalesce Whether the write may be skipped if it is superseded by a later
+	 * write for the same key, which is true for writes of loaded data
+	 *
+	 * @return the result of the write, or {@code false} if it was scheduled
+	 */
+	protected boolean populate(
+			SharedSessionContractImplementor session,
+			Object key,
+			boolean coalesce,
+			CacheWrite write) {
+		if ( !isPopulatedInBackground() ) {
+			return write.write( session );
+		}
+		else {
+			final SessionFactoryImplementor factory = session.getFactory();
+			final long generation = populationGeneration.get();
+			populationExecutor.submit( key, coalesce, () -> {
+				if ( populationGeneration.get() == generation && write.write( null ) ) {
+					recordPut( factory.getStatistics() );
+				}
+			} );
+			return false;
+		}
+	}
+
+	/**
+	 * Whether the writes to the cache may be performed later, on the
+	 * {@linkplain CachePopulationExecutor background thread}.
+	 *
+	 * @since 6.5
+	 */
+	protected boolean isPopulatedInBackground() {
+		return populationExecutor != null && getAccessType() != AccessType.TRANSACTIONAL;
+	}
+
+	private void recordPut(StatisticsImplementor statistics) {
+		if ( statistics.isStatisticsEnabled() && cachingConfig != null ) {
+			if ( cachingConfig instanceof EntityDataCachingConfig ) {
+				statistics.entityCachePut( cachingConfig.getNavigableRole(), region.getName() );
+			}
+			else if ( cachingConfig instanceof CollectionDataCachingConfig ) {
+				statistics.collectionCachePut( cachingConfig.getNavigableRole(), region.getName() );
+			}
+			else if ( cachingConfig instanceof NaturalIdDataCachingConfig ) {
+				statistics.naturalIdCachePut( cachingConfig.getNavigableRole(), region.getName() );
+			}
+		}
+	}
+
+	/**
+	 * Skip the scheduled writes of loaded data for the given key, which is being
+	 * invalidated.
+	 */
+	protected void discardPendingPuts(Object key) {
+		if ( populationExecutor != null ) {
+			populationExecutor.discard( key );
+		}
+	}
+
+	/**
+	 * Skip all the scheduled writes, because the cache is being cleared.
+	 */
+	protected void discardPendingWrites() {
+		populationGeneration.incrementAndGet();
+	}
+
 	protected void clearCache() {
 		log.debugf( "Clearing cache data map [region=`%s`]", region.getName() );
+		discardPendingWrites();
 		getStorageAccess().evictData();
 	}
 
@@ -53,14 +186,21 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
 			Object key,
 			Object value,
 			Object version) {
-		getStorageAccess().putFromLoad( key, value, session );
-		return true;
+		return populate( session, key, true, (s) -> {
+			getStorageAccess().putFromLoad( key, value, s );
+			return true;
+		} );
 	}
 
 	@Override
@@ -73,6 +213,28 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return putFromLoad( session, key, value, version );
 	}
 
+	/**
+	 * Puts all the items in a single round trip to the cache, unless the writes
+	 * are {@linkplain #isPopulatedInBackground performed in the background}.
+	 * Like {@link #putFromLoad}, it goes through the
+	 * {@linkplain DomainDataStorageAccess#putFromLoad(Map, SharedSessionContractImplementor)
+	 * put-from-load} of the storage, so a subclass which overrides {@code putFromLoad}
+	 * should override this method as well.
+	 */
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Map<Object, Object> entries,
+			Map<Object, Object> versions) {
+		if ( isPopulatedInBackground() ) {
+			return CachedDomainDataAccess.super.putAllFromLoad( session, entries, versions );
+		}
+		else {
+			getStorageAccess().putFromLoad( entries, session );
+			return entries.size();
+		}
+	}
+
 	private static final SoftLock REGION_LOCK = new SoftLock() {
 	};
 
@@ -88,21 +250,25 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 
 	@Override
 	public void remove(SharedSessionContractImplementor session, Object key) {
+		discardPendingPuts( key );
 		getStorageAccess().removeFromCache( key, session );
 	}
 
 	@Override
 	public void removeAll(SharedSessionContractImplementor session) {
+		discardPendingWrites();
 		getStorageAccess().clearCache( session );
 	}
 
 	@Override
 	public void evict(Object key) {
+		discardPendingPuts( key );
 		getStorageAccess().evictData( key );
 	}
 
 	@Override
 	public void evictAll() {
+		discardPendingWrites();
 		getStorageAccess().evictData();
 	}
 
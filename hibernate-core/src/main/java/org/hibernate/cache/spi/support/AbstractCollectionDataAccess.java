@@ -29,7 +29,7 @@ public abstract class AbstractCollectionDataAccess
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			CollectionDataCachingConfig config) {
-		super( region, storageAccess );
+		super( region, storageAccess, config );
 		this.keysFactory = keysFactory;
 	}
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cache.spi.support;
 
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -31,6 +32,18 @@ public abstract class AbstractEntityDataAccess
 		this.cacheKeysFactory = cacheKeysFactory;
 	}
 
+	/**
+	 * @since 6.5
+	 */
+	public AbstractEntityDataAccess(
+			DomainDataRegion region,
+			CacheKeysFactory cacheKeysFactory,
+			DomainDataStorageAccess storageAccess,
+			EntityDataCachingConfig config) {
+		super( region, storageAccess, config );
+		this.cacheKeysFactory = cacheKeysFactory;
+	}
+
 	@Override
 	public Object generateCacheKey(
 			Object id,
@@ -25,7 +25,7 @@ public abstract class AbstractNaturalIdDataAccess extends AbstractCachedDomainDa
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			NaturalIdDataCachingConfig config) {
-		super( region, storageAccess );
+		super( region, storageAccess, config );
 		this.keysFactory = keysFactory;
 	}
 
@@ -7,13 +7,17 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.hibernate.cache.cfg.spi.DomainDataCachingConfig;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -41,6 +45,16 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		super( domainDataRegion, storageAccess );
 	}
 
+	/**
+	 * @since 6.5
+	 */
+	protected AbstractReadWriteAccess(
+			DomainDataRegion domainDataRegion,
+			DomainDataStorageAccess storageAccess,
+			DomainDataCachingConfig cachingConfig) {
+		super( domainDataRegion, storageAccess, cachingConfig );
+	}
+
 	protected abstract Comparator getVersionComparator();
 
 	protected UUID uuid() {
@@ -99,12 +113,54 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Omits the items which are not readable, as {@link #get} returns {@code null}
+	 * for them.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Getting cached data from region [`%s` (%s)] by keys %s", getRegion().getName(), getAccessType(), keys );
+		}
+		final Map<Object, Object> items;
+		try {
+			readLock.lock();
+			items = getStorageAccess().getFromCache( keys, session );
+		}
+		finally {
+			readLock.unlock();
+		}
+
+		final long timestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+		final Map<Object, Object> entries = new HashMap<>( items.size() );
+		for ( Map.Entry<Object, Object> item : items.entrySet() ) {
+			final Lockable lockable = (Lockable) item.getValue();
+			if ( lockable != null && lockable.isReadable( timestamp ) ) {
+				entries.put( item.getKey(), lockable.getValue() );
+			}
+		}
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Cache hits : region = `%s`, %s of %s keys", getRegion().getName(), entries.size(), keys.size() );
+		}
+		return entries;
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
 			Object key,
 			Object value,
 			Object version) {
+		final long txTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+		return populate( session, key, true, (s) -> putFromLoad( s, key, value, version, txTimestamp ) );
+	}
+
+	private boolean putFromLoad(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object version,
+			long txTimestamp) {
 		try {
 			final boolean debugEnabled = log.isDebugEnabled();
 			if ( debugEnabled ) {
@@ -113,11 +169,11 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
-			boolean writable = item == null || item.isWriteable( session.getCacheTransactionSynchronization().getCachingTimestamp(), version, getVersionComparator() );
+			boolean writable = item == null || item.isWriteable( txTimestamp, version, getVersionComparator() );
 			if ( writable ) {
 				getStorageAccess().putIntoCache(
 						key,
-						new Item( value, version, session.getCacheTransactionSynchronization().getCachingTimestamp() ),
+						new Item( value, version, txTimestamp ),
 						session
 				);
 				return true;
@@ -140,6 +196,53 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Reads the current entries and puts the writable items in a single round trip
+	 * to the cache each, unless the writes are {@linkplain #isPopulatedInBackground
+	 * performed in the background}.
+	 */
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Map<Object, Object> entries,
+			Map<Object, Object> versions) {
+		if ( isPopulatedInBackground() ) {
+			return super.putAllFromLoad( session, entries, versions );
+		}
+		final long txTimestamp = session.getCacheTransactionSynchronization().getCachingTimestamp();
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Caching data from load [region=`%s` (%s)] : keys %s", getRegion().getName(), getAccessType(), entries.keySet() );
+		}
+		try {
+			writeLock.lock();
+			final Map<Object, Object> items = getStorageAccess().getFromCache( entries.keySet(), session );
+			final Map<Object, Object> writableItems = new HashMap<>( entries.size() );
+			for ( Map.Entry<Object, Object> entry : entries.entrySet() ) {
+				final Object key = entry.getKey();
+				final Object version = versions.get( key );
+				final Lockable item = (Lockable) items.get( key );
+				if ( item == null || item.isWriteable( txTimestamp, version, getVersionComparator() ) ) {
+					writableItems.put( key, new Item( entry.getValue(), version, txTimestamp ) );
+				}
+				else if ( log.isDebugEnabled() ) {
+					log.debugf(
+							"Cache put-from-load [region=`%s` (%s), key=`%s`] failed due to being non-writable",
+							getAccessType(),
+							getRegion().getName(),
+							key
+					);
+				}
+			}
+			if ( !writableItems.isEmpty() ) {
+				getStorageAccess().putIntoCache( writableItems, session );
+			}
+			return writableItems.size();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
 	protected abstract AccessedDataClassification getAccessedDataClassification();
 
 	@Override
@@ -176,6 +279,13 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		populate( session, key, false, (s) -> {
+			doUnlockItem( s, key, lock );
+			return false;
+		} );
+	}
+
+	private void doUnlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
 		try {
 			if ( log.isDebugEnabled() ) {
 				log.debugf(
@@ -231,7 +341,9 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public void removeAll(SharedSessionContractImplementor session) {
-		// A no-op
+		// A no-op, except for the scheduled writes, since the region is
+		// cleared by #unlockRegion
+		discardPendingWrites();
 	}
 
 	/**
@@ -0,0 +1,214 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Incubating;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Performs writes to the second-level cache on a background thread, when
+ * {@value org.hibernate.cfg.CacheSettings#CACHE_ASYNC_POPULATION} is enabled.
+ * <p>
+ * The writes for a given key are performed one at a time, in the order in which
+ * they were {@linkplain #submit submitted}, so that each write observes the effect
+ * of the previous writes for the key, just as if they had been performed by the
+ * calling threads. A write which may be {@linkplain #submit coalesced} is dropped
+ * when another such write is submitted for the same key before it is performed.
+ * <p>
+ * When the number of pending writes reaches the configured limit, a write for a key
+ * with no pending writes is performed by the calling thread.
+ *
+ * @see AbstractCachedDomainDataAccess#populate
+ *
+ * @since 6.5
+ */
+@Incubating
+public final class CachePopulationExecutor {
+	private static final Logger log = Logger.getLogger( CachePopulationExecutor.class );
+
+	private final int maxPending;
+	private final ExecutorService executor;
+	private final ConcurrentHashMap<Object, Writes> pendingWrites = new ConcurrentHashMap<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+
+	public CachePopulationExecutor(int maxPending) {
+		this.maxPending = maxPending;
+		final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				1,
+				1,
+				0,
+				TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable, "hibernate-cache-population" );
+					thread.setDaemon( true );
+					return thread;
+				}
+		);
+		this.executor = executor;
+	}
+
+	/**
+	 * Perform the given write for the given key later.
+	 *
+	 * @param key The cache key
+	 * @param coalesce Whether the write may be dropped in favor of a later write
+	 * for the same key which may also be coalesced
+	 * @param write The write
+	 */
+	public void submit(Object key, boolean coalesce, Runnable write) {
+		final boolean[] first = new boolean[1];
+		pendingWrites.compute( key, (k, writes) -> {
+			if ( writes == null ) {
+				writes = new Writes();
+				first[0] = true;
+			}
+			if ( writes.add( write, coalesce ) ) {
+				pendingCount.incrementAndGet();
+			}
+			return writes;
+		} );
+		if ( first[0] ) {
+			if ( pendingCount.get() > maxPending ) {
+				drain( key );
+			}
+			else {
+				try {
+					executor.execute( () -> drain( key ) );
+				}
+				catch (RejectedExecutionException e) {
+					// shut down
+					drain( key );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Drop the pending writes for the given key which may be coalesced, because the
+	 * entry is being invalidated. A write which is already being performed is not
+	 * affected.
+	 */
+	public void discard(Object key) {
+		pendingWrites.computeIfPresent( key, (k, writes) -> {
+			pendingCount.addAndGet( -writes.discardCoalesced() );
+			return writes;
+		} );
+	}
+
+	/**
+	 * The number of writes which have not been performed yet.
+	 */
+	public int getPendingCount() {
+		return pendingCount.get();
+	}
+
+	/**
+	 * Wait until there are no pending writes, or the timeout elapses.
+	 *
+	 * @return {@code true} if there are no pending writes
+	 */
+	public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+		final long deadline = System.nanoTime() + unit.toNanos( timeout );
+		while ( pendingCount.get() > 0 ) {
+			if ( System.nanoTime() - deadline >= 0 ) {
+				return false;
+			}
+			Thread.sleep( 1 );
+		}
+		return true;
+	}
+
+	/**
+	 * Stop the background thread, dropping any pending writes.
+	 */
+	public void shutdown() {
+		executor.shutdownNow();
+		pendingWrites.clear();
+		pendingCount.set( 0 );
+	}
+
+	private void drain(Object key) {
+		while ( true ) {
+			final Runnable[] next = new Runnable[1];
+			// the entry is removed as soon as it is empty, so that
+			// the next write submitted for the key starts a new drain
+			pendingWrites.computeIfPresent( key, (k, writes) -> {
+				next[0] = writes.poll();
+				return next[0] == null ? null : writes;
+			} );
+			if ( next[0] == null ) {
+				return;
+			}
+			try {
+				next[0].run();
+			}
+			catch (RuntimeException e) {
+				log.debugf( e, "Unable to write to cache: %s", key );
+			}
+			finally {
+				pendingCount.decrementAndGet();
+			}
+		}
+	}
+
+	// guarded by the lock of the ConcurrentHashMap entry
+	private static final class Writes {
+		private final ArrayDeque<Write> writes = new ArrayDeque<>( 2 );
+
+		private boolean add(Runnable runnable, boolean coalesce) {
+			final Write last = writes.peekLast();
+			if ( coalesce && last != null && last.coalesce ) {
+				writes.pollLast();
+				writes.addLast( new Write( runnable, true ) );
+				return false;
+			}
+			else {
+				writes.addLast( new Write( runnable, coalesce ) );
+				return true;
+			}
+		}
+
+		private Runnable poll() {
+			final Write write = writes.pollFirst();
+			return write == null ? null : write.runnable;
+		}
+
+		private int discardCoalesced() {
+			int discarded = 0;
+			final Iterator<Write> iterator = writes.iterator();
+			while ( iterator.hasNext() ) {
+				if ( iterator.next().coalesce ) {
+					iterator.remove();
+					discarded++;
+				}
+			}
+			return discarded;
+		}
+	}
+
+	private static final class Write {
+		private final Runnable runnable;
+		private final boolean coalesce;
+
+		private Write(Runnable runnable, boolean coalesce) {
+			this.runnable = runnable;
+			this.coalesce = coalesce;
+		}
+	}
+}
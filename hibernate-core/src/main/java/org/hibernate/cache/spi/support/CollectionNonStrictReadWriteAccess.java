@@ -35,6 +35,7 @@ public class CollectionNonStrictReadWriteAccess extends AbstractCollectionDataAc
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		discardPendingPuts( key );
 		getStorageAccess().removeFromCache( key, session );
 	}
 }
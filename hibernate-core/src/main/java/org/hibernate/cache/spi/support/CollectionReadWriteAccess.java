@@ -35,7 +35,7 @@ public class CollectionReadWriteAccess extends AbstractReadWriteAccess implement
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			CollectionDataCachingConfig config) {
-		super( region, storageAccess );
+		super( region, storageAccess, config );
 		this.keysFactory = keysFactory;
 		this.collectionRole = config.getNavigableRole();
 		this.versionComparator = config.getOwnerVersionComparator();
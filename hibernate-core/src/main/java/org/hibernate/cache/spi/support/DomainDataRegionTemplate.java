@@ -6,11 +6,13 @@
  */
 package org.hibernate.cache.spi.support;
 
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
 import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
 import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
 import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
+import org.hibernate.cache.spi.AbstractRegionFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.access.AccessType;
@@ -90,11 +92,41 @@ public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
 		}
 	}
 
+	/**
+	 * The storage access for read-only and nonstrict read-write entity data, with a
+	 * near cache in front of {@link #getCacheStorageAccess()} if one is configured.
+	 *
+	 * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+	 */
+	protected DomainDataStorageAccess getNearCachedStorageAccess() {
+		final SessionFactoryOptions options = getSessionFactory().getSessionFactoryOptions();
+		return options.getNearCacheMaxEntries() > 0
+				? new NearCacheStorageAccess(
+						getCacheStorageAccess(),
+						options.getNearCacheMaxEntries(),
+						options.getNearCacheTimeToLive()
+				)
+				: getCacheStorageAccess();
+	}
+
 	protected EntityDataAccess generateReadOnlyEntityAccess(EntityDataCachingConfig accessConfig) {
+		final SessionFactoryOptions options = getSessionFactory().getSessionFactoryOptions();
+		final long refreshAheadInterval = options.getRefreshAheadInterval();
+		if ( refreshAheadInterval > 0 && getRegionFactory() instanceof AbstractRegionFactory ) {
+			final RefreshAheadEntityReadOnlyAccess access = new RefreshAheadEntityReadOnlyAccess(
+					this,
+					getEffectiveKeysFactory(),
+					getNearCachedStorageAccess(),
+					accessConfig,
+					options.getRefreshAheadMinHits()
+			);
+			( (AbstractRegionFactory) getRegionFactory() ).scheduleAtFixedRate( access::refresh, refreshAheadInterval );
+			return access;
+		}
 		return new EntityReadOnlyAccess(
 				this,
 				getEffectiveKeysFactory(),
-				getCacheStorageAccess(),
+				getNearCachedStorageAccess(),
 				accessConfig
 		);
 	}
@@ -112,7 +144,7 @@ public class DomainDataRegionTemplate extends AbstractDomainDataRegion {
 		return new EntityNonStrictReadWriteAccess(
 				this,
 				getEffectiveKeysFactory(),
-				getCacheStorageAccess(),
+				getNearCachedStorageAccess(),
 				accessConfig
 		);
 	}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -24,4 +28,55 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Specialized form of putting several things into the cache
+	 * in cases where the puts are coming from a load (read) from
+	 * the database, in a single round trip to the underlying cache
+	 * if the cache supports that
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each entry
+	 *
+	 * @since 6.5
+	 */
+	default void putFromLoad(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			putFromLoad( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
+	/**
+	 * Get the items mapped to the given keys in a single round trip to the
+	 * underlying cache, if the cache supports that
+	 *
+	 * @return the cached items by key, omitting the keys for which nothing is cached
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @since 6.5
+	 */
+	default Map<Object, Object> getFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> entries = new HashMap<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromCache( key, session );
+			if ( value != null ) {
+				entries.put( key, value );
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Put all the given items into the cache in a single round trip to the
+	 * underlying cache, if the cache supports that
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each entry
+	 *
+	 * @since 6.5
+	 */
+	default void putIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
 }
@@ -26,7 +26,7 @@ public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			EntityDataCachingConfig entityAccessConfig) {
-		super( domainDataRegion, keysFactory, storageAccess );
+		super( domainDataRegion, keysFactory, storageAccess, entityAccessConfig );
 	}
 
 	@Override
@@ -55,6 +55,7 @@ public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
 			Object value,
 			Object currentVersion,
 			Object previousVersion) {
+		discardPendingPuts( key );
 		getStorageAccess().removeFromCache( key, session );
 		return false;
 	}
@@ -76,11 +77,13 @@ public class EntityNonStrictReadWriteAccess extends AbstractEntityDataAccess {
 	 */
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) throws CacheException {
+		discardPendingPuts( key );
 		getStorageAccess().removeFromCache( key, session );
 	}
 
 	@Override
 	public void remove(SharedSessionContractImplementor session, Object key) {
+		discardPendingPuts( key );
 		getStorageAccess().removeFromCache( key, session );
 	}
 }
@@ -32,7 +32,7 @@ public class EntityReadOnlyAccess extends AbstractEntityDataAccess {
 			CacheKeysFactory cacheKeysFactory,
 			DomainDataStorageAccess storageAccess,
 			EntityDataCachingConfig config) {
-		super( region, cacheKeysFactory, storageAccess );
+		super( region, cacheKeysFactory, storageAccess, config );
 		if ( config.isMutable() ) {
 			L2CACHE_LOGGER.readOnlyCachingMutableEntity( config.getNavigableRole() );
 		}
@@ -51,8 +51,10 @@ public class EntityReadOnlyAccess extends AbstractEntityDataAccess {
 
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
-		getStorageAccess().putIntoCache( key, value, session );
-		return true;
+		return populate( session, key, false, (s) -> {
+			getStorageAccess().putIntoCache( key, value, s );
+			return true;
+		} );
 	}
 
 	@Override
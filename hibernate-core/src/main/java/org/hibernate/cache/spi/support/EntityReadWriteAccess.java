@@ -33,7 +33,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			EntityDataCachingConfig entityAccessConfig) {
-		super( domainDataRegion, storageAccess );
+		super( domainDataRegion, storageAccess, entityAccessConfig );
 		this.keysFactory = keysFactory;
 		this.versionComparator = entityAccessConfig.getVersionComparatorAccess() == null
 				? null
@@ -80,6 +80,10 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
+		return populate( session, key, false, (s) -> doAfterInsert( s, key, value, version ) );
+	}
+
+	private boolean doAfterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
 		try {
 			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -118,6 +122,15 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			Object currentVersion,
 			Object previousVersion,
 			SoftLock lock) {
+		return populate( session, key, false, (s) -> doAfterUpdate( s, key, value, currentVersion, lock ) );
+	}
+
+	private boolean doAfterUpdate(
+			SharedSessionContractImplementor session,
+			Object key,
+			Object value,
+			Object currentVersion,
+			SoftLock lock) {
 		try {
 			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
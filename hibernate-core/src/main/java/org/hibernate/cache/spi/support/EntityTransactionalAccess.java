@@ -22,7 +22,7 @@ public class EntityTransactionalAccess extends AbstractEntityDataAccess {
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			EntityDataCachingConfig accessConfig) {
-		super( region, keysFactory, storageAccess );
+		super( region, keysFactory, storageAccess, accessConfig );
 	}
 
 	@Override
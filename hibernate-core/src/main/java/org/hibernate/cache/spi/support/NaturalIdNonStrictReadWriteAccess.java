@@ -35,11 +35,13 @@ public class NaturalIdNonStrictReadWriteAccess extends AbstractNaturalIdDataAcce
 
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		discardPendingPuts( key );
 		getStorageAccess().removeFromCache( key, session );
 	}
 
 	@Override
 	public void remove(SharedSessionContractImplementor session, Object key) {
+		discardPendingPuts( key );
 		getStorageAccess().removeFromCache( key, session );
 	}
 
@@ -55,6 +57,7 @@ public class NaturalIdNonStrictReadWriteAccess extends AbstractNaturalIdDataAcce
 
 	@Override
 	public boolean update(SharedSessionContractImplementor session, Object key, Object value) {
+		discardPendingPuts( key );
 		getStorageAccess().removeFromCache( key, session );
 		return false;
 	}
@@ -31,7 +31,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 			CacheKeysFactory keysFactory,
 			DomainDataStorageAccess storageAccess,
 			NaturalIdDataCachingConfig naturalIdDataCachingConfig) {
-		super( region, storageAccess );
+		super( region, storageAccess, naturalIdDataCachingConfig );
 		this.keysFactory = keysFactory;
 	}
 
@@ -71,6 +71,10 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value) {
+		return populate( session, key, false, (s) -> doAfterInsert( s, key, value ) );
+	}
+
+	private boolean doAfterInsert(SharedSessionContractImplementor session, Object key, Object value) {
 		try {
 			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -98,6 +102,10 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 
 	@Override
 	public boolean afterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
+		return populate( session, key, false, (s) -> doAfterUpdate( s, key, value, lock ) );
+	}
+
+	private boolean doAfterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
 		try {
 			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
@@ -0,0 +1,219 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
+
+/**
+ * A {@link DomainDataStorageAccess} keeping the most frequently used entries of another
+ * {@code DomainDataStorageAccess} on the heap, as they were written or first read, so
+ * that repeated reads skip the underlying cache, along with any deserialization it
+ * involves.
+ * <p>
+ * Every write and eviction is applied to both the near cache and the underlying cache,
+ * so the near cache is only suitable for data which is not changed through other
+ * {@code SessionFactory}s sharing the underlying cache, or where reading stale data
+ * for at most the time-to-live of the entries is acceptable.
+ *
+ * @see org.hibernate.cfg.CacheSettings#NEAR_CACHE_MAX_ENTRIES
+ *
+ * @since 6.5
+ */
+public class NearCacheStorageAccess implements DomainDataStorageAccess {
+	private final DomainDataStorageAccess delegate;
+	private final BoundedConcurrentCache<Object, Entry> nearCache;
+	private final long timeToLiveNanos;
+
+	// incremented after every removal from the underlying cache, so that an entry
+	// read from it concurrently with the removal is not added to the near cache
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * @param delegate The underlying storage access
+	 * @param maxEntries The maximum number of entries held by the near cache
+	 * @param timeToLive The time in milliseconds after which an entry of the near
+	 * cache expires, or {@code 0} if the entries do not expire
+	 */
+	public NearCacheStorageAccess(DomainDataStorageAccess delegate, int maxEntries, long timeToLive) {
+		this.delegate = delegate;
+		this.nearCache = new BoundedConcurrentCache<>( maxEntries );
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos( timeToLive );
+	}
+
+	public DomainDataStorageAccess getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final Object value = getFromNearCache( key );
+		if ( value != null ) {
+			return value;
+		}
+		final long invalidationCount = invalidations.get();
+		final Object loaded = delegate.getFromCache( key, session );
+		if ( loaded != null ) {
+			putIntoNearCache( key, loaded, invalidationCount );
+		}
+		return loaded;
+	}
+
+	@Override
+	public Map<Object, Object> getFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> entries = new HashMap<>( keys.size() );
+		final List<Object> misses = new ArrayList<>( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = getFromNearCache( key );
+			if ( value != null ) {
+				entries.put( key, value );
+			}
+			else {
+				misses.add( key );
+			}
+		}
+		if ( !misses.isEmpty() ) {
+			final long invalidationCount = invalidations.get();
+			final Map<Object, Object> loaded = delegate.getFromCache( misses, session );
+			for ( Map.Entry<Object, Object> entry : loaded.entrySet() ) {
+				putIntoNearCache( entry.getKey(), entry.getValue(), invalidationCount );
+			}
+			entries.putAll( loaded );
+		}
+		return entries;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		delegate.putIntoCache( key, value, session );
+		nearCache.put( key, new Entry( value, expiration() ) );
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		delegate.putFromLoad( key, value, session );
+		nearCache.put( key, new Entry( value, expiration() ) );
+	}
+
+	@Override
+	public void putIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		delegate.putIntoCache( entries, session );
+		putAllIntoNearCache( entries );
+	}
+
+	@Override
+	public void putFromLoad(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		delegate.putFromLoad( entries, session );
+		putAllIntoNearCache( entries );
+	}
+
+	private void putAllIntoNearCache(Map<?, ?> entries) {
+		final long expiration = expiration();
+		for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+			nearCache.put( entry.getKey(), new Entry( entry.getValue(), expiration ) );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		delegate.removeFromCache( key, session );
+		invalidate( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+		invalidateAll();
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return getFromNearCache( key ) != null || delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+		invalidateAll();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		delegate.evictData( key );
+		invalidate( key );
+	}
+
+	@Override
+	public void release() {
+		invalidateAll();
+		delegate.release();
+	}
+
+	private Object getFromNearCache(Object key) {
+		final Entry entry = nearCache.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		else if ( entry.isExpired() ) {
+			nearCache.remove( key );
+			return null;
+		}
+		else {
+			return entry.value;
+		}
+	}
+
+	private void putIntoNearCache(Object key, Object value, long invalidationCount) {
+		final Entry entry = new Entry( value, expiration() );
+		nearCache.put( key, entry );
+		if ( invalidations.get() != invalidationCount ) {
+			// the entry might have been removed while we were reading it
+			nearCache.remove( key );
+		}
+	}
+
+	private void invalidate(Object key) {
+		invalidations.incrementAndGet();
+		nearCache.remove( key );
+	}
+
+	private void invalidateAll() {
+		invalidations.incrementAndGet();
+		nearCache.clear();
+	}
+
+	private long expiration() {
+		return timeToLiveNanos == 0 ? 0 : System.nanoTime() + timeToLiveNanos;
+	}
+
+	@Override
+	public String toString() {
+		return "NearCacheStorageAccess(" + nearCache + " -> " + delegate + ")";
+	}
+
+	private static final class Entry {
+		private final Object value;
+		private final long expiration;
+
+		private Entry(Object value, long expiration) {
+			this.value = value;
+			this.expiration = expiration;
+		}
+
+		private boolean isExpired() {
+			return expiration != 0 && System.nanoTime() - expiration > 0;
+		}
+	}
+}
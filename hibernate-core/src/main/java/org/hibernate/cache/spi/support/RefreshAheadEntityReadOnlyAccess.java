@@ -0,0 +1,157 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.support;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionBuilder;
+import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
+import org.hibernate.cache.internal.CacheKeyImplementation;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.jboss.logging.Logger;
+
+/**
+ * An {@link EntityReadOnlyAccess} which counts the reads of each entry, and which,
+ * when {@linkplain #refresh() asked to}, reloads the entries read at least a given
+ * number of times since the previous refresh from the database, replacing them in
+ * the cache before they expire.
+ * <p>
+ * The entities are reloaded in batches, by a session of the tenant of the entries with
+ * {@link CacheMode#REFRESH}, so that the entries are written to the cache even though
+ * they are already present. The entries of entities which no longer exist are evicted.
+ *
+ * @see org.hibernate.cfg.CacheSettings#REFRESH_AHEAD_INTERVAL
+ *
+ * @since 6.5
+ */
+public class RefreshAheadEntityReadOnlyAccess extends EntityReadOnlyAccess {
+	private static final Logger log = Logger.getLogger( RefreshAheadEntityReadOnlyAccess.class );
+
+	private final String entityName;
+	private final int minHits;
+	private final ConcurrentHashMap<Object, Integer> hits = new ConcurrentHashMap<>();
+
+	public RefreshAheadEntityReadOnlyAccess(
+			AbstractDomainDataRegion region,
+			CacheKeysFactory cacheKeysFactory,
+			DomainDataStorageAccess storageAccess,
+			EntityDataCachingConfig config,
+			int minHits) {
+		super( region, cacheKeysFactory, storageAccess, config );
+		this.entityName = config.getNavigableRole().getFullPath();
+		this.minHits = minHits;
+	}
+
+	@Override
+	public Object get(SharedSessionContractImplementor session, Object key) {
+		final Object entry = super.get( session, key );
+		if ( entry != null ) {
+			hit( key );
+		}
+		return entry;
+	}
+
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> entries = super.getAll( session, keys );
+		for ( Map.Entry<Object, Object> entry : entries.entrySet() ) {
+			if ( entry.getValue() != null ) {
+				hit( entry.getKey() );
+			}
+		}
+		return entries;
+	}
+
+	private void hit(Object key) {
+		hits.merge( key, 1, Integer::sum );
+	}
+
+	/**
+	 * Reload the entries read at least the configured number of times since the
+	 * previous refresh, and start counting the reads afresh.
+	 */
+	public void refresh() {
+		try {
+			final SessionFactoryImplementor factory = ( (AbstractDomainDataRegion) getRegion() ).getSessionFactory();
+			if ( factory.isClosed() ) {
+				return;
+			}
+			// the hot keys, grouped by tenant, since a session only loads the data of its tenant
+			final Map<String, List<Object>> hotKeys = new HashMap<>();
+			for ( Object key : hits.keySet() ) {
+				// removing the count atomically, any read from now on is counted for the next refresh
+				final Integer count = hits.remove( key );
+				if ( count != null && count >= minHits ) {
+					hotKeys.computeIfAbsent( getTenantId( key ), tenantId -> new ArrayList<>() ).add( key );
+				}
+			}
+			if ( !hotKeys.isEmpty() ) {
+				final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( entityName );
+				for ( Map.Entry<String, List<Object>> entry : hotKeys.entrySet() ) {
+					log.debugf( "Refreshing %s hot entries of cached entity [%s]", entry.getValue().size(), entityName );
+					reload( factory, persister, entry.getKey(), entry.getValue() );
+				}
+			}
+		}
+		catch (RuntimeException e) {
+			// don't let the exception cancel the next refreshes
+			log.debugf( e, "Unable to refresh cached entity [%s]", entityName );
+		}
+	}
+
+	private static String getTenantId(Object cacheKey) {
+		// simple cache keys are only used without multitenancy
+		return cacheKey instanceof CacheKeyImplementation
+				? ( (CacheKeyImplementation) cacheKey ).getTenantId()
+				: null;
+	}
+
+	private void reload(
+			SessionFactoryImplementor factory,
+			EntityPersister persister,
+			String tenantId,
+			List<Object> cacheKeys) {
+		final SessionBuilder sessionBuilder = factory.withOptions();
+		if ( tenantId != null ) {
+			sessionBuilder.tenantIdentifier( factory.getTenantIdentifierJavaType().fromString( tenantId ) );
+		}
+		try ( Session session = sessionBuilder.openSession() ) {
+			session.setDefaultReadOnly( true );
+			final List<Object> ids = new ArrayList<>( cacheKeys.size() );
+			for ( Object cacheKey : cacheKeys ) {
+				// the cache keys might hold the disassembled identifier
+				ids.add( persister.getIdentifierType().assemble(
+						(Serializable) getCacheKeyId( cacheKey ),
+						(SharedSessionContractImplementor) session,
+						null
+				) );
+			}
+			final List<?> entities = session.byMultipleIds( entityName )
+					.with( CacheMode.REFRESH )
+					.enableOrderedReturn( true )
+					.multiLoad( ids );
+			for ( int i = 0; i < cacheKeys.size(); i++ ) {
+				if ( entities.get( i ) == null ) {
+					// the row was deleted, so the entry must not outlive it
+					evict( cacheKeys.get( i ) );
+				}
+			}
+		}
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.cfg;
 
 import org.hibernate.CustomEntityDirtinessStrategy;
+import org.hibernate.Incubating;
 import org.hibernate.jpa.LegacySpecHints;
 import org.hibernate.jpa.SpecHints;
 
@@ -177,6 +178,23 @@ public interface AvailableSettings
 	 */
 	String DISCARD_PC_ON_CLOSE = "hibernate.discard_pc_on_close";
 
+	/**
+	 * When enabled, specifies that the persistence context of a session should hold
+	 * its entity instances in open-addressing hash tables indexed by entity hierarchy
+	 * and keyed directly by identifier, with specialized tables for {@code long} and
+	 * {@code int} identifiers, instead of a single {@link java.util.HashMap} keyed by
+	 * {@link org.hibernate.engine.spi.EntityKey}.
+	 * <p>
+	 * This reduces the memory overhead per managed entity, and is mainly useful for
+	 * sessions holding a very large number of entities.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String IDENTIFIER_INDEXED_PERSISTENCE_CONTEXT = "hibernate.persistence_context.identifier_indexed";
+
 	/**
 	 * When enabled, specifies that the generated identifier of an entity is unset
 	 * when the entity is {@linkplain org.hibernate.Session#remove(Object) deleted}.
@@ -8,6 +8,7 @@ package org.hibernate.cfg;
 
 import java.sql.PreparedStatement;
 
+import org.hibernate.Incubating;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 
 /**
@@ -55,6 +56,24 @@ public interface BatchSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * When enabled, together with {@link #ORDER_INSERTS}, specifies that insert statements
+	 * are ordered using a dependency graph of the entities being inserted, derived from
+	 * the foreign keys of their to-one associations, rather than a dependency graph of the
+	 * individual entity instances. All the inserts of an entity are then executed one
+	 * after the other, so that they can be batched together, and the ordering takes time
+	 * linear in the number of inserts.
+	 * <p/>
+	 * When the entities being inserted reference each other in a cycle, the inserts are
+	 * ordered as if this setting was disabled.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String ORDER_INSERTS_BY_ENTITY_DEPENDENCIES = "hibernate.order_inserts_by_entity_dependencies";
+
 	/**
 	 * When enabled, specifies that {@linkplain jakarta.persistence.Version versioned}
 	 * data should be included in batching.
@@ -65,6 +84,57 @@ public interface BatchSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Specifies the maximum number of rows to insert using a single multi-row
+	 * {@code insert ... values (...), (...)} statement when executing a batch of
+	 * inserts for an entity. The rows are still limited by {@link #STATEMENT_BATCH_SIZE}
+	 * and by the {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit()
+	 * parameter limit} of the database.
+	 * <p/>
+	 * Only applies to inserts which are batched, and only when the
+	 * {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert() Dialect
+	 * supports} multi-row inserts. A value less than 2 disables multi-row inserts.
+	 *
+	 * @settingDefault 0
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String MULTI_ROW_INSERT_SIZE = "hibernate.jdbc.multi_row_insert_size";
+
+	/**
+	 * When enabled, the insert of an entity whose identifier is generated by the
+	 * database, for example by an {@linkplain jakarta.persistence.GenerationType#IDENTITY
+	 * identity column}, is delayed until the session is flushed when the entity is
+	 * {@linkplain org.hibernate.Session#persist persisted}, so that instances of the
+	 * same entity can be inserted together, up to {@link #STATEMENT_BATCH_SIZE} rows
+	 * at once, using a multi-row {@code insert} statement which returns the generated
+	 * identifiers. Otherwise, such inserts are never batched, since each one is executed
+	 * immediately to obtain the identifier.
+	 * <p/>
+	 * This changes the semantics of {@link org.hibernate.Session#persist persist()}:
+	 * by default, the row is inserted immediately and the identifier is assigned to the
+	 * entity before {@code persist()} returns. When this setting is enabled, the identifier
+	 * is {@code null} until the session is flushed, and the row is not visible to native
+	 * SQL, or to other connections, before the flush. This must therefore only be enabled
+	 * when the application does not access the identifier of a persisted entity, or its row,
+	 * before the flush.
+	 * <p/>
+	 * Only applies to entities mapped to a single table using the standard insert, without
+	 * other generated values, and only when the {@linkplain org.hibernate.dialect.Dialect
+	 * Dialect} {@linkplain org.hibernate.dialect.Dialect#supportsValuesListForInsert() supports}
+	 * multi-row inserts and {@linkplain org.hibernate.dialect.Dialect#supportsOrderedGeneratedValuesForValuesListInsert()
+	 * returns the generated values in the order of the rows}, using either an
+	 * {@code insert ... returning} statement or {@link java.sql.Statement#getGeneratedKeys()}.
+	 * Other entities are still inserted immediately.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String BATCH_IDENTITY_INSERTS = "hibernate.jdbc.batch_identity_inserts";
+
 	/**
 	 * @deprecated Use {@link #BUILDER} instead
 	 */
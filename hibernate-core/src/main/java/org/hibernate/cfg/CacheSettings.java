@@ -161,6 +161,26 @@ public interface CacheSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enables the use of compact binary second-level cache entries for entities.
+	 * The disassembled state of the entity is encoded into a {@code byte[]}, in the
+	 * order of the attributes of the entity, using a compact encoding of the basic
+	 * values instead of Java serialization. This reduces the size of the entries,
+	 * especially when they are stored off-heap or in a distributed cache.
+	 * <p>
+	 * An entry holding a value which cannot be encoded is stored in the standard
+	 * format. Has no effect if {@value #USE_STRUCTURED_CACHE} or
+	 * {@value #USE_DIRECT_REFERENCE_CACHE_ENTRIES} apply to an entity.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bidirectional association's collection
 	 * cache when an element in the {@link jakarta.persistence.ManyToOne} collection
@@ -186,22 +206,200 @@ public interface CacheSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of entries held by the near cache placed in front of each
+	 * second-level cache region of {@linkplain org.hibernate.cache.spi.access.AccessType#READ_ONLY
+	 * read-only} and {@linkplain org.hibernate.cache.spi.access.AccessType#NONSTRICT_READ_WRITE
+	 * nonstrict read-write} entities.
+	 * <p>
+	 * The near cache holds the cache entries on the heap, as they were written by Hibernate,
+	 * so that repeated reads of read-mostly reference data skip the lookup in the underlying
+	 * cache, along with any deserialization it involves. The near cache is local to the
+	 * {@code SessionFactory}, and is invalidated by every update or eviction of the region
+	 * made through it, including those caused by bulk mutation queries. Changes made by
+	 * other nodes in a cluster are not visible until the entry expires, see
+	 * {@value #NEAR_CACHE_TTL}.
+	 *
+	 * @settingDefault {@code 0}, that is, no near cache
+	 *
+	 * @see org.hibernate.cache.spi.support.NearCacheStorageAccess
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String NEAR_CACHE_MAX_ENTRIES = "hibernate.cache.near_cache_max_entries";
+
+	/**
+	 * The time, in milliseconds, after which an entry written to the near cache expires.
+	 * A value of {@code 0} means that the entries only leave the near cache when they
+	 * are evicted to respect {@value #NEAR_CACHE_MAX_ENTRIES}, or invalidated.
+	 *
+	 * @settingDefault {@code 0}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String NEAR_CACHE_TTL = "hibernate.cache.near_cache_ttl";
+
+	/**
+	 * The interval, in milliseconds, at which the frequently read entries of the
+	 * second-level cache regions of {@linkplain org.hibernate.cache.spi.access.AccessType#READ_ONLY
+	 * read-only} entities are reloaded from the database in the background, so that
+	 * they are replaced before they expire, and readers of hot reference data never
+	 * miss the cache. It should be somewhat shorter than the time-to-live of the regions
+	 * configured with the cache provider.
+	 * <p>
+	 * An entry is considered hot if it was read at least the number of times given by
+	 * {@value #REFRESH_AHEAD_MIN_HITS} since it was last reloaded.
+	 *
+	 * @settingDefault {@code 0}, that is, no refresh-ahead
+	 *
+	 * @see org.hibernate.cache.spi.support.RefreshAheadEntityReadOnlyAccess
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String REFRESH_AHEAD_INTERVAL = "hibernate.cache.refresh_ahead_interval";
+
+	/**
+	 * The number of times an entry must be read from the cache within one
+	 * {@value #REFRESH_AHEAD_INTERVAL} for it to be reloaded in the background.
+	 *
+	 * @settingDefault {@code 2}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String REFRESH_AHEAD_MIN_HITS = "hibernate.cache.refresh_ahead_min_hits";
+
+	/**
+	 * The maximum amount of memory, in bytes, used by the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory} to store the entries of
+	 * each region outside the Java heap. The least recently used entries of a region are
+	 * evicted when its memory is exhausted.
+	 *
+	 * @settingDefault 64 MiB
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String OFF_HEAP_REGION_SIZE = "hibernate.cache.off_heap.region_size";
+
+	/**
+	 * The maximum amount of memory, in bytes, used by the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory} to store the entries of
+	 * all its regions outside the Java heap. Once it is exhausted, a region which can't
+	 * get more memory evicts its own least recently used entries, and an entry which
+	 * can't be stored at all is not cached.
+	 *
+	 * @settingDefault 256 MiB
+	 *
+	 * @see #OFF_HEAP_REGION_SIZE
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String OFF_HEAP_MAX_SIZE = "hibernate.cache.off_heap.max_size";
+
+	/**
+	 * The size, in bytes, of the blocks of memory used by the
+	 * {@link org.hibernate.cache.internal.OffHeapRegionFactory}. Each entry occupies at
+	 * least one block, and each block holds {@code 4} bytes of overhead, so the block size
+	 * should be close to, but not larger than, the size of typical serialized entries.
+	 *
+	 * @settingDefault {@code 128}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String OFF_HEAP_BLOCK_SIZE = "hibernate.cache.off_heap.block_size";
+
+	/**
+	 * When enabled, entries are written to the second-level cache on a background
+	 * thread, rather than by the thread which loaded the data or committed the
+	 * transaction, taking the latency of cache writes out of loads and commits.
+	 * <p>
+	 * This affects the entries written when data is loaded, and the entries written
+	 * and the soft locks released after a transaction completes. Soft locks are still
+	 * acquired, and entries still invalidated, before the transaction completes, so
+	 * stale data is never read from the cache, but it may take a moment before the
+	 * cache is populated. Writes for the same key are performed in order, and a write
+	 * of loaded data which is superseded by another before it is performed is skipped,
+	 * as are the writes which are pending when a region is cleared. A put is recorded
+	 * in the {@linkplain org.hibernate.stat.Statistics statistics} once it is performed.
+	 * <p>
+	 * Only has an effect for regions created by a {@link org.hibernate.cache.spi.RegionFactory}
+	 * based on {@link org.hibernate.cache.spi.support.RegionFactoryTemplate}.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see #CACHE_ASYNC_POPULATION_MAX_PENDING
+	 * @see org.hibernate.cache.spi.support.CachePopulationExecutor
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String CACHE_ASYNC_POPULATION = "hibernate.cache.async_population";
+
+	/**
+	 * The maximum number of cache writes waiting to be performed in the background,
+	 * when {@value #CACHE_ASYNC_POPULATION} is enabled. When the limit is reached,
+	 * cache writes are performed by the calling thread again, until the background
+	 * thread catches up.
+	 *
+	 * @settingDefault {@code 10000}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String CACHE_ASYNC_POPULATION_MAX_PENDING = "hibernate.cache.async_population.max_pending";
+
+	/**
+	 * When enabled, concurrent loads of an entity or collection missing from the
+	 * second-level cache are coalesced, so that only one thread loads it from the
+	 * database, while the others wait for the data it puts in the cache, up to
+	 * {@value #CACHE_SINGLE_FLIGHT_TIMEOUT}. This protects the database from a
+	 * stampede when a popular entry is evicted.
+	 * <p>
+	 * Only loads which may both read from, and write to, the cache are coalesced.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.CacheMissCoalescer
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String CACHE_SINGLE_FLIGHT = "hibernate.cache.single_flight";
+
+	/**
+	 * The maximum time, in milliseconds, a thread waits for another thread which is
+	 * loading the same data, when {@value #CACHE_SINGLE_FLIGHT} is enabled, before
+	 * loading the data from the database itself.
+	 *
+	 * @settingDefault {@code 1000}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String CACHE_SINGLE_FLIGHT_TIMEOUT = "hibernate.cache.single_flight.timeout";
+
 	/**
 	 * Specifies the {@link org.hibernate.cache.spi.CacheKeysFactory} to use, either:
 	 * <ul>
 	 *     <li>an instance of {@link org.hibernate.cache.spi.CacheKeysFactory},
 	 *     <li>a {@link Class} implementing {@link org.hibernate.cache.spi.CacheKeysFactory},
 	 *     <li>the name of a class implementing {@link org.hibernate.cache.spi.CacheKeysFactory},
-	 *     <li>{@code "default"} as a short name for {@link org.hibernate.cache.internal.DefaultCacheKeysFactory}, or
-	 *     <li>{@code "simple"} as a short name for {@link org.hibernate.cache.internal.SimpleCacheKeysFactory}.
+	 *     <li>{@code "default"} as a short name for {@link org.hibernate.cache.internal.DefaultCacheKeysFactory},
+	 *     <li>{@code "simple"} as a short name for {@link org.hibernate.cache.internal.SimpleCacheKeysFactory}, or
+	 *     <li>{@code "primitive"} as a short name for {@link org.hibernate.cache.internal.PrimitiveCacheKeysFactory}.
 	 * </ul>
+	 * <p>
+	 * By default, the {@link org.hibernate.cache.spi.RegionFactory} chooses the
+	 * {@code CacheKeysFactory}.
 	 *
 	 * @since 5.2
-	 *
-	 * @deprecated this is only honored for {@code hibernate-infinispan}
 	 */
-	@Deprecated
-	@SuppressWarnings("DeprecatedIsStillUsed")
 	String CACHE_KEYS_FACTORY = "hibernate.cache.keys_factory";
 
 	/**
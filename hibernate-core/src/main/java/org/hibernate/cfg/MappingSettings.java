@@ -153,6 +153,25 @@ public interface MappingSettings {
 	 */
 	String SEQUENCE_INCREMENT_SIZE_MISMATCH_STRATEGY = "hibernate.id.sequence.increment_size_mismatch_strategy";
 
+	/**
+	 * The number of values a {@linkplain org.hibernate.id.enhanced.SequenceStyleGenerator
+	 * sequence generator} with no optimizer fetches from its sequence in a single round
+	 * trip, holding the values not yet used in memory. This reduces the number of round
+	 * trips when persisting many entities, without requiring a sequence increment size
+	 * greater than 1. Values still held in memory when the application stops are lost.
+	 * <p>
+	 * Only takes effect if the dialect offers a
+	 * {@linkplain org.hibernate.dialect.sequence.SequenceSupport#getSequenceNextValuesString
+	 * statement returning multiple values of a sequence}. May be overridden for a particular
+	 * generator using the parameter {@value org.hibernate.id.enhanced.SequenceStyleGenerator#FETCH_SIZE_PARAM}.
+	 *
+	 * @settingDefault {@code 1}, that is, the values are fetched one at a time
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String SEQUENCE_FETCH_SIZE = "hibernate.id.sequence.fetch_size";
+
 	/**
 	 * Specifies the preferred JDBC type for storing boolean values.
 	 * <p>
@@ -6,6 +6,7 @@
  */
 package org.hibernate.cfg;
 
+import org.hibernate.Incubating;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.query.NullPrecedence;
 import org.hibernate.query.spi.QueryPlan;
@@ -190,6 +191,29 @@ public interface QuerySettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * When enabled, a parameter occurring in a SQL {@code IN} predicate and bound to
+	 * multiple values is passed to the database as a single bind parameter of SQL
+	 * {@code ARRAY} type, instead of being expanded to one bind parameter per value.
+	 * The predicate is then rendered using the array syntax of the dialect, for example
+	 * {@code = any(?)}, so that the same SQL statement is used whatever the number of
+	 * values, making better use of the statement and execution plan caches of the
+	 * database.
+	 * <p>
+	 * Only takes effect if the {@linkplain org.hibernate.dialect.Dialect#supportsStandardArrays
+	 * dialect supports standard arrays}, and only for non-negated predicates whose test
+	 * expression maps to a single basic column without a value converter. Other
+	 * predicates are expanded as usual.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @see org.hibernate.boot.spi.SessionFactoryOptions#inClauseArrayParameterEnabled()
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String IN_CLAUSE_ARRAY_PARAMETER = "hibernate.query.in_clause_array_parameter";
+
 	/**
 	 * When enabled, specifies that Hibernate should attempt to map parameter names
 	 * given in a {@link org.hibernate.procedure.ProcedureCall} or
@@ -202,6 +226,25 @@ public interface QuerySettings {
 	 */
 	String CALLABLE_NAMED_PARAMS_ENABLED = "hibernate.query.proc.callable_named_params_enabled";
 
+	/**
+	 * When enabled, specifies that the array of values assembled for each row of a
+	 * query result should be allocated once per query execution and reused for every
+	 * row, whenever the {@linkplain org.hibernate.sql.results.spi.RowTransformer row
+	 * transformer} does not hold on to that array. This is the case for single-valued
+	 * results, for instantiation of DTOs, for {@link java.util.List} and
+	 * {@link java.util.Map} results, but not for {@code Object[]} or
+	 * {@link jakarta.persistence.Tuple} results.
+	 * <p>
+	 * This avoids one allocation per row, and is mainly useful for queries streaming
+	 * a very large number of rows.
+	 *
+	 * @settingDefault {@code false}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	String QUERY_REUSE_ROW_BUFFER = "hibernate.query.reuse_row_buffer";
+
 	/**
 	 * When enabled, specifies that {@linkplain QueryPlan query plans} should be
 	 * {@linkplain org.hibernate.query.spi.QueryInterpretationCache cached}.
@@ -4446,6 +4446,27 @@ public abstract class Dialect implements ConversionContext, TypeContributor, Fun
 		return true;
 	}
 
+	/**
+	 * Does this dialect return the values generated by a multi-row insert of
+	 * form {@code insert ... values (...), (...)}, either using
+	 * {@link java.sql.Statement#getGeneratedKeys()} or a {@code returning}
+	 * clause, in the order of the rows of the {@code values} list?
+	 * <p>
+	 * Most databases do not formally guarantee this order, so the default is
+	 * {@code false}, in which case the generated identifiers of the rows are
+	 * never read from a single multi-row insert.
+	 *
+	 * @return {@code true} if the generated values are returned in the order
+	 *         of the inserted rows
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 *
+	 * @since 6.5
+	 */
+	public boolean supportsOrderedGeneratedValuesForValuesListInsert() {
+		return false;
+	}
+
 	/**
 	 * Does this dialect support the {@code from} clause for update statements?
 	 *
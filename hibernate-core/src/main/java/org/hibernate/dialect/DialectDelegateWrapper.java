@@ -1347,6 +1347,11 @@ public class DialectDelegateWrapper extends Dialect {
 		return wrapped.supportsValuesListForInsert();
 	}
 
+	@Override
+	public boolean supportsOrderedGeneratedValuesForValuesListInsert() {
+		return wrapped.supportsOrderedGeneratedValuesForValuesListInsert();
+	}
+
 	@Override
 	public boolean supportsSkipLocked() {
 		return wrapped.supportsSkipLocked();
@@ -848,6 +848,15 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	/**
+	 * @return {@code true} because the rows of the {@code final table} of a
+	 *         multi-row insert are returned in the order they were inserted
+	 */
+	@Override
+	public boolean supportsOrderedGeneratedValuesForValuesListInsert() {
+		return true;
+	}
+
 	@Override
 	public boolean unquoteGetGeneratedKeys() {
 		return true;
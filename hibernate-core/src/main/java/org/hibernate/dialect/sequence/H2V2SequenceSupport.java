@@ -15,6 +15,11 @@ public final class H2V2SequenceSupport extends ANSISequenceSupport {
 
 	public static final SequenceSupport INSTANCE = new H2V2SequenceSupport();
 
+	@Override
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from system_range(1," + count + ")";
+	}
+
 	@Override
 	public String getDropSequenceString(String sequenceName) {
 		return "drop sequence if exists " + sequenceName;
@@ -20,6 +20,11 @@ public final class OracleSequenceSupport extends NextvalSequenceSupport {
 		return " from dual";
 	}
 
+	@Override
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from dual connect by level<=" + count;
+	}
+
 	@Override
 	public boolean sometimesNeedsStartingValue() {
 		return true;
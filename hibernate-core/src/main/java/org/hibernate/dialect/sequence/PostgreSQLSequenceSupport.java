@@ -22,6 +22,11 @@ public class PostgreSQLSequenceSupport implements SequenceSupport {
 		return "nextval('" + sequenceName + "')";
 	}
 
+	@Override
+	public String getSequenceNextValuesString(String sequenceName, int count) {
+		return "select " + getSelectSequenceNextValString( sequenceName ) + " from generate_series(1," + count + ")";
+	}
+
 	@Override
 	public String getSelectSequencePreviousValString(String sequenceName) throws MappingException {
 		return "currval('" + sequenceName + "')";
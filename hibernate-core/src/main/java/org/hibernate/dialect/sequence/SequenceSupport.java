@@ -112,6 +112,22 @@ public interface SequenceSupport {
 		return getSequenceNextValString( sequenceName );
 	}
 
+	/**
+	 * Generate a select statement which retrieves the given number of next values
+	 * of a sequence, one value per row, in a single round trip.
+	 *
+	 * @param sequenceName the name of the sequence
+	 * @param count the number of values to retrieve
+	 * @return The select "next values" statement, or {@code null} if the database
+	 *         has no such statement, in which case the values are retrieved one at
+	 *         a time.
+	 *
+	 * @since 6.5
+	 */
+	default String getSequenceNextValuesString(String sequenceName, int count) {
+		return null;
+	}
+
 	/**
 	 * An optional multi-line form for databases which {@link #supportsPooledSequences()}.
 	 *
@@ -7,6 +7,8 @@
 package org.hibernate.engine.internal;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 
 import org.hibernate.cache.MutableCacheKeyBuilder;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
@@ -91,6 +93,31 @@ public final class CacheHelper {
 		return cachedValue;
 	}
 
+	/**
+	 * Get the cached data for all the given keys from the shared cache at once.
+	 *
+	 * @return the cached data by key, omitting the keys for which nothing is cached
+	 */
+	public static Map<Object, Object> fromSharedCache(
+			SharedSessionContractImplementor session,
+			Collection<?> cacheKeys,
+			CachedDomainDataAccess cacheAccess) {
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		Map<Object, Object> cachedValues = null;
+		eventListenerManager.cacheGetStart();
+		final EventManager eventManager = session.getEventManager();
+		final HibernateMonitoringEvent cacheGetEvent = eventManager.beginCacheGetEvent();
+		try {
+			cachedValues = cacheAccess.getAll( session, cacheKeys );
+		}
+		finally {
+			final boolean hit = cachedValues != null && !cachedValues.isEmpty();
+			eventManager.completeCacheGetEvent( cacheGetEvent, session, cacheAccess.getRegion(), hit );
+			eventListenerManager.cacheGetEnd( hit );
+		}
+		return cachedValues;
+	}
+
 	public static void addBasicValueToCacheKey(
 			MutableCacheKeyBuilder cacheKey,
 			Object value,
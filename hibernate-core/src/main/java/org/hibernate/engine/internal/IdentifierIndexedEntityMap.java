@@ -0,0 +1,583 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * A {@link Map} keyed by {@link EntityKey}, used by {@link StatefulPersistenceContext}
+ * as an alternative to a {@link HashMap} for holding the entities of a session.
+ * <p>
+ * Entries are indexed per entity hierarchy in open-addressing hash tables (linear
+ * probing, backward shift deletion) keyed directly by the identifier value, so that
+ * no node object is allocated per entry.  Identifiers of type {@code long} and
+ * {@code int} are additionally stored in primitive arrays, which makes probing
+ * cheap and avoids dispatching to the identifier {@link Type} to compare them.
+ * <p>
+ * Iterators over this map are fail-fast but do not support {@link Iterator#remove()}.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#IDENTIFIER_INDEXED_PERSISTENCE_CONTEXT
+ */
+final class IdentifierIndexedEntityMap<V> extends AbstractMap<EntityKey, V> {
+
+	private static final int MIN_CAPACITY = 8;
+
+	private final HashMap<String, IdentifierTable<V>> tablesByRootEntityName = new HashMap<>();
+
+	// one-entry cache, consecutive operations very often concern the same entity type
+	private EntityPersister lastPersister;
+	private IdentifierTable<V> lastTable;
+
+	private int size;
+	private int modCount;
+	private EntrySet entrySet;
+	private Values values;
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get( key ) != null;
+	}
+
+	@Override
+	public V get(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		return get( entityKey.getPersister(), entityKey.getIdentifier() );
+	}
+
+	/**
+	 * Look up the value mapped to the entity with the given persister and identifier,
+	 * without the need for an {@link EntityKey}.
+	 */
+	public V get(EntityPersister persister, Object id) {
+		final IdentifierTable<V> table = table( persister, id, false );
+		return table == null ? null : table.get( id );
+	}
+
+	@Override
+	public V put(EntityKey key, V value) {
+		return put( key, value, false );
+	}
+
+	@Override
+	public V putIfAbsent(EntityKey key, V value) {
+		return put( key, value, true );
+	}
+
+	private V put(EntityKey key, V value, boolean onlyIfAbsent) {
+		if ( value == null ) {
+			throw new IllegalArgumentException( "null values are not supported" );
+		}
+		final IdentifierTable<V> table = table( key.getPersister(), key.getIdentifier(), true );
+		final int sizeBefore = table.size;
+		final V previous = table.put( key, value, onlyIfAbsent );
+		if ( table.size != sizeBefore ) {
+			size++;
+			modCount++;
+		}
+		return previous;
+	}
+
+	@Override
+	public V remove(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final IdentifierTable<V> table = table( entityKey.getPersister(), entityKey.getIdentifier(), false );
+		if ( table == null ) {
+			return null;
+		}
+		final V removed = table.remove( entityKey.getIdentifier() );
+		if ( removed != null ) {
+			size--;
+			modCount++;
+		}
+		return removed;
+	}
+
+	@Override
+	public void clear() {
+		tablesByRootEntityName.clear();
+		lastPersister = null;
+		lastTable = null;
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		if ( entrySet == null ) {
+			entrySet = new EntrySet();
+		}
+		return entrySet;
+	}
+
+	@Override
+	public Collection<V> values() {
+		if ( values == null ) {
+			values = new Values();
+		}
+		return values;
+	}
+
+	private IdentifierTable<V> table(EntityPersister persister, Object id, boolean create) {
+		final IdentifierTable<V> table = table( persister, create );
+		if ( table == null || table.accepts( id ) ) {
+			return table;
+		}
+		else {
+			// e.g. a DelayedPostInsertIdentifier
+			if ( table.fallback == null && create ) {
+				table.fallback = new GenericIdentifierTable<>( persister.getIdentifierType(), persister.getFactory() );
+			}
+			return table.fallback;
+		}
+	}
+
+	private IdentifierTable<V> table(EntityPersister persister, boolean create) {
+		if ( persister == lastPersister ) {
+			return lastTable;
+		}
+		final String rootEntityName = persister.getRootEntityName();
+		IdentifierTable<V> table = tablesByRootEntityName.get( rootEntityName );
+		if ( table == null ) {
+			if ( !create ) {
+				return null;
+			}
+			table = createTable( persister );
+			tablesByRootEntityName.put( rootEntityName, table );
+		}
+		lastPersister = persister;
+		lastTable = table;
+		return table;
+	}
+
+	private static <V> IdentifierTable<V> createTable(EntityPersister persister) {
+		final Type identifierType = persister.getIdentifierType();
+		final Class<?> identifierClass = identifierType.getReturnedClass();
+		if ( identifierClass == Long.class || identifierClass == long.class ) {
+			return new LongIdentifierTable<>();
+		}
+		else if ( identifierClass == Integer.class || identifierClass == int.class ) {
+			return new IntIdentifierTable<>();
+		}
+		else {
+			return new GenericIdentifierTable<>( identifierType, persister.getFactory() );
+		}
+	}
+
+	/**
+	 * Spreads the bits of a hash, so that sequential identifiers do not end up
+	 * in long runs of adjacent slots.
+	 */
+	private static int mix(int hash) {
+		final int h = hash * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	/**
+	 * An open-addressing table for the entities of a single hierarchy.
+	 * The identifier of the entry in slot {@code i} is held by {@code keys[i]},
+	 * subclasses may keep a copy of it in a more efficient representation.
+	 */
+	private abstract static class IdentifierTable<V> {
+		EntityKey[] keys;
+		Object[] values;
+		int size;
+		int mask;
+		int threshold;
+
+		/**
+		 * Holds the entries with identifiers not {@linkplain #accepts accepted} by this table
+		 */
+		GenericIdentifierTable<V> fallback;
+
+		IdentifierTable() {
+			allocate( MIN_CAPACITY );
+		}
+
+		abstract boolean accepts(Object id);
+
+		abstract int hash(Object id);
+
+		/**
+		 * The hash of the identifier stored in the given slot
+		 */
+		abstract int hashAt(int index);
+
+		abstract boolean matches(int index, Object id);
+
+		abstract void allocateIdentifiers(int capacity);
+
+		abstract void setIdentifier(int index, Object id);
+
+		abstract void moveIdentifier(int from, int to);
+
+		private void allocate(int capacity) {
+			keys = new EntityKey[capacity];
+			values = new Object[capacity];
+			mask = capacity - 1;
+			threshold = capacity * 3 / 4;
+			allocateIdentifiers( capacity );
+		}
+
+		private int indexOf(Object id) {
+			int index = hash( id ) & mask;
+			while ( keys[index] != null ) {
+				if ( matches( index, id ) ) {
+					return index;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			return -1;
+		}
+
+		@SuppressWarnings("unchecked")
+		V get(Object id) {
+			final int index = indexOf( id );
+			return index < 0 ? null : (V) values[index];
+		}
+
+		@SuppressWarnings("unchecked")
+		V put(EntityKey key, V value, boolean onlyIfAbsent) {
+			final Object id = key.getIdentifier();
+			int index = hash( id ) & mask;
+			while ( keys[index] != null ) {
+				if ( matches( index, id ) ) {
+					final V previous = (V) values[index];
+					if ( !onlyIfAbsent ) {
+						values[index] = value;
+					}
+					return previous;
+				}
+				index = ( index + 1 ) & mask;
+			}
+			insert( index, key, value );
+			if ( ++size > threshold ) {
+				resize();
+			}
+			return null;
+		}
+
+		private void insert(int index, EntityKey key, Object value) {
+			keys[index] = key;
+			values[index] = value;
+			setIdentifier( index, key.getIdentifier() );
+		}
+
+		private void resize() {
+			final EntityKey[] oldKeys = keys;
+			final Object[] oldValues = values;
+			allocate( oldKeys.length << 1 );
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				final EntityKey key = oldKeys[i];
+				if ( key != null ) {
+					int index = hash( key.getIdentifier() ) & mask;
+					while ( keys[index] != null ) {
+						index = ( index + 1 ) & mask;
+					}
+					insert( index, key, oldValues[i] );
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		V remove(Object id) {
+			final int index = indexOf( id );
+			if ( index < 0 ) {
+				return null;
+			}
+			final V removed = (V) values[index];
+			size--;
+			// backward shift deletion: move up the entries which would
+			// no longer be reachable by probing once the slot is emptied
+			int hole = index;
+			int next = index;
+			while ( true ) {
+				next = ( next + 1 ) & mask;
+				if ( keys[next] == null ) {
+					break;
+				}
+				final int home = hashAt( next ) & mask;
+				// the entry may be moved if its home slot is not cyclically within (hole, next]
+				if ( hole <= next ? ( home <= hole || home > next ) : ( home <= hole && home > next ) ) {
+					keys[hole] = keys[next];
+					values[hole] = values[next];
+					moveIdentifier( next, hole );
+					hole = next;
+				}
+			}
+			keys[hole] = null;
+			values[hole] = null;
+			return removed;
+		}
+	}
+
+	private static final class LongIdentifierTable<V> extends IdentifierTable<V> {
+		private long[] ids;
+
+		@Override
+		boolean accepts(Object id) {
+			return id instanceof Long;
+		}
+
+		private static int hash(long id) {
+			return mix( Long.hashCode( id ) );
+		}
+
+		@Override
+		int hash(Object id) {
+			return hash( (long) (Long) id );
+		}
+
+		@Override
+		int hashAt(int index) {
+			return hash( ids[index] );
+		}
+
+		@Override
+		boolean matches(int index, Object id) {
+			return ids[index] == (Long) id;
+		}
+
+		@Override
+		void allocateIdentifiers(int capacity) {
+			ids = new long[capacity];
+		}
+
+		@Override
+		void setIdentifier(int index, Object id) {
+			ids[index] = (Long) id;
+		}
+
+		@Override
+		void moveIdentifier(int from, int to) {
+			ids[to] = ids[from];
+		}
+	}
+
+	private static final class IntIdentifierTable<V> extends IdentifierTable<V> {
+		private int[] ids;
+
+		@Override
+		boolean accepts(Object id) {
+			return id instanceof Integer;
+		}
+
+		@Override
+		int hash(Object id) {
+			return mix( (Integer) id );
+		}
+
+		@Override
+		int hashAt(int index) {
+			return mix( ids[index] );
+		}
+
+		@Override
+		boolean matches(int index, Object id) {
+			return ids[index] == (Integer) id;
+		}
+
+		@Override
+		void allocateIdentifiers(int capacity) {
+			ids = new int[capacity];
+		}
+
+		@Override
+		void setIdentifier(int index, Object id) {
+			ids[index] = (Integer) id;
+		}
+
+		@Override
+		void moveIdentifier(int from, int to) {
+			ids[to] = ids[from];
+		}
+	}
+
+	/**
+	 * Compares identifiers using the identifier {@link Type}, like {@link EntityKey#equals} does.
+	 */
+	private static final class GenericIdentifierTable<V> extends IdentifierTable<V> {
+		private final Type identifierType;
+		private final SessionFactoryImplementor factory;
+		private int[] hashes;
+
+		GenericIdentifierTable(Type identifierType, SessionFactoryImplementor factory) {
+			this.identifierType = identifierType;
+			this.factory = factory;
+		}
+
+		@Override
+		boolean accepts(Object id) {
+			return true;
+		}
+
+		@Override
+		int hash(Object id) {
+			return mix( identifierType.getHashCode( id, factory ) );
+		}
+
+		@Override
+		int hashAt(int index) {
+			return hashes[index];
+		}
+
+		@Override
+		boolean matches(int index, Object id) {
+			final Object existing = keys[index].getIdentifier();
+			return existing == id || identifierType.isEqual( existing, id, factory );
+		}
+
+		@Override
+		void allocateIdentifiers(int capacity) {
+			hashes = new int[capacity];
+		}
+
+		@Override
+		void setIdentifier(int index, Object id) {
+			hashes[index] = hash( id );
+		}
+
+		@Override
+		void moveIdentifier(int from, int to) {
+			hashes[to] = hashes[from];
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, V>> {
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if ( !( o instanceof Entry ) ) {
+				return false;
+			}
+			final Entry<?, ?> entry = (Entry<?, ?>) o;
+			final V value = get( entry.getKey() );
+			return value != null && value.equals( entry.getValue() );
+		}
+
+		@Override
+		public Iterator<Entry<EntityKey, V>> iterator() {
+			return new SlotIterator<>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				Entry<EntityKey, V> element(IdentifierTable<V> table, int index) {
+					return new SimpleImmutableEntry<>( table.keys[index], (V) table.values[index] );
+				}
+			};
+		}
+	}
+
+	private final class Values extends AbstractCollection<V> {
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public Iterator<V> iterator() {
+			return new SlotIterator<>() {
+				@Override
+				@SuppressWarnings("unchecked")
+				V element(IdentifierTable<V> table, int index) {
+					return (V) table.values[index];
+				}
+			};
+		}
+	}
+
+	private abstract class SlotIterator<T> implements Iterator<T> {
+		private final Iterator<IdentifierTable<V>> tables = tablesByRootEntityName.values().iterator();
+		private final int expectedModCount = modCount;
+		private IdentifierTable<V> table;
+		private IdentifierTable<V> fallbackVisited;
+		private int index = -1;
+
+		abstract T element(IdentifierTable<V> table, int index);
+
+		@Override
+		public boolean hasNext() {
+			if ( table != null ) {
+				final EntityKey[] keys = table.keys;
+				for ( int i = index + 1; i < keys.length; i++ ) {
+					if ( keys[i] != null ) {
+						return true;
+					}
+				}
+			}
+			return advanceTable();
+		}
+
+		private boolean advanceTable() {
+			while ( true ) {
+				final IdentifierTable<V> candidate;
+				if ( table != null && table.fallback != null && table.fallback != fallbackVisited ) {
+					candidate = fallbackVisited = table.fallback;
+				}
+				else if ( tables.hasNext() ) {
+					candidate = tables.next();
+				}
+				else {
+					return false;
+				}
+				table = candidate;
+				index = -1;
+				if ( candidate.size > 0 ) {
+					return true;
+				}
+			}
+		}
+
+		@Override
+		public T next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			final EntityKey[] keys = table.keys;
+			do {
+				index++;
+			}
+			while ( keys[index] == null );
+			return element( table, index );
+		}
+	}
+}
@@ -112,7 +112,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, EntityHolderImpl> entitiesByKey;
+	// (either a HashMap, or an IdentifierIndexedEntityMap)
+	private Map<EntityKey, EntityHolderImpl> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -175,11 +176,17 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private Map<EntityKey, EntityHolderImpl> getOrInitializeEntitiesByKey() {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = CollectionHelper.mapOfSize( INIT_COLL_SIZE );
+			entitiesByKey = createEntitiesByKey( INIT_COLL_SIZE );
 		}
 		return entitiesByKey;
 	}
 
+	private Map<EntityKey, EntityHolderImpl> createEntitiesByKey(int size) {
+		return session.getFactory().getSessionFactoryOptions().isIdentifierIndexedPersistenceContextEnabled()
+				? new IdentifierIndexedEntityMap<>()
+				: CollectionHelper.mapOfSize( size );
+	}
+
 	@Override
 	public boolean isStateless() {
 		return false;
@@ -499,16 +506,49 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	@Override
 	public Object getEntity(EntityKey key) {
-		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
+		return entityOf( entitiesByKey == null ? null : entitiesByKey.get( key ) );
+	}
+
+	@Override
+	public Object getEntity(Object id, EntityPersister persister) {
+		return entityOf( findEntityHolder( id, persister ) );
+	}
+
+	private static Object entityOf(EntityHolderImpl holder) {
 		return holder == null || holder.state == EntityHolderState.UNINITIALIZED ? null : holder.entity;
 	}
 
 	@Override
 	public boolean containsEntity(EntityKey key) {
-		final EntityHolderImpl holder = entitiesByKey == null ? null : entitiesByKey.get( key );
+		return holdsEntity( entitiesByKey == null ? null : entitiesByKey.get( key ) );
+	}
+
+	@Override
+	public boolean containsEntity(Object id, EntityPersister persister) {
+		return holdsEntity( findEntityHolder( id, persister ) );
+	}
+
+	private static boolean holdsEntity(EntityHolderImpl holder) {
 		return holder != null && holder.entity != null && holder.state != EntityHolderState.UNINITIALIZED;
 	}
 
+	/**
+	 * Look up the holder of the entity with the given identifier, without creating
+	 * an {@link EntityKey} when the entities are held by an {@link IdentifierIndexedEntityMap}.
+	 */
+	@SuppressWarnings("unchecked")
+	private EntityHolderImpl findEntityHolder(Object id, EntityPersister persister) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		else if ( entitiesByKey instanceof IdentifierIndexedEntityMap ) {
+			return ( (IdentifierIndexedEntityMap<EntityHolderImpl>) entitiesByKey ).get( persister, id );
+		}
+		else {
+			return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+		}
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final EntityHolderImpl holder = removeEntityHolder( key );
@@ -931,7 +971,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -942,7 +982,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( ownerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -978,11 +1018,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			//			in place of natural id snapshots.  BUt really its better to just do it the right way ^^ if we start
 			// 			going that route
 			final Object ownerId = ownerPersister.getIdByUniqueKey( key, collectionType.getLHSPropertyName(), session );
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		// as a last resort this is what the old code did...
-		return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+		return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 	}
 
 	@Override
@@ -1908,7 +1948,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( traceEnabled ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = CollectionHelper.mapOfSize(Math.max(count, INIT_COLL_SIZE));
+			rtn.entitiesByKey = rtn.createEntitiesByKey( Math.max( count, INIT_COLL_SIZE ) );
 			for ( int i = 0; i < count; i++ ) {
 				final EntityKey ek = EntityKey.deserialize( ois, sfi );
 				final EntityPersister persister = sfi.getMappingMetamodel().getEntityDescriptor( (String) ois.readObject() );
@@ -17,6 +17,7 @@ import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
 import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
 
@@ -63,6 +64,17 @@ public class BatchBuilderImpl implements BatchBuilder {
 				: explicitBatchSize;
 		assert batchSize > 1;
 
+		if ( key instanceof MultiRowInsertBatchKey
+				&& jdbcCoordinator.getJdbcSessionOwner() instanceof SharedSessionContractImplementor ) {
+			return new MultiRowInsertBatch(
+					(MultiRowInsertBatchKey) key,
+					statementGroupSupplier.get(),
+					batchSize,
+					jdbcCoordinator,
+					(SharedSessionContractImplementor) jdbcCoordinator.getJdbcSessionOwner()
+			);
+		}
+
 		return new BatchImpl( key, statementGroupSupplier.get(), batchSize, jdbcCoordinator );
 	}
 
@@ -121,25 +121,7 @@ public class BatchImpl implements Batch {
 					return;
 				}
 
-				//noinspection resource
-				final PreparedStatement statement = statementDetails.resolveStatement();
-				sqlStatementLogger.logStatement( statementDetails.getSqlString() );
-				jdbcValueBindings.beforeStatement( statementDetails );
-
-				try {
-					statement.addBatch();
-				}
-				catch (SQLException e) {
-					BATCH_LOGGER.debug( "SQLException escaped proxy", e );
-					throw sqlExceptionHelper.convert(
-							e,
-							"Could not perform addBatch",
-							statementDetails.getSqlString()
-					);
-				}
-				finally {
-					jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
-				}
+				addToBatch( statementDetails, jdbcValueBindings );
 			} );
 		}
 		catch (RuntimeException e) {
@@ -156,6 +138,32 @@ public class BatchImpl implements Batch {
 		}
 	}
 
+	/**
+	 * Bind the values of the current row to the statement for the given table,
+	 * and add it to the JDBC batch
+	 */
+	protected void addToBatch(PreparedStatementDetails statementDetails, JdbcValueBindings jdbcValueBindings) {
+		//noinspection resource
+		final PreparedStatement statement = statementDetails.resolveStatement();
+		sqlStatementLogger.logStatement( statementDetails.getSqlString() );
+		jdbcValueBindings.beforeStatement( statementDetails );
+
+		try {
+			statement.addBatch();
+		}
+		catch (SQLException e) {
+			BATCH_LOGGER.debug( "SQLException escaped proxy", e );
+			throw sqlExceptionHelper.convert(
+					e,
+					"Could not perform addBatch",
+					statementDetails.getSqlString()
+			);
+		}
+		finally {
+			jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+		}
+	}
+
 	protected void releaseStatements() {
 		statementGroup.forEachStatement( (tableName, statementDetails) -> {
 			if ( statementDetails.getStatement() == null ) {
@@ -257,51 +265,56 @@ public class BatchImpl implements Batch {
 			);
 		}
 
+		try {
+			getStatementGroup().forEachStatement( (tableName, statementDetails) -> performExecution( statementDetails ) );
+		}
+		finally {
+			batchPosition = 0;
+		}
+	}
+
+	/**
+	 * Execute the JDBC batch of the statement for the given table
+	 */
+	protected void performExecution(PreparedStatementDetails statementDetails) {
+		final String sql = statementDetails.getSqlString();
+		final PreparedStatement statement = statementDetails.getStatement();
+
+		if ( statement == null ) {
+			return;
+		}
+
 		//noinspection deprecation
 		final JdbcSessionOwner jdbcSessionOwner = jdbcCoordinator.getJdbcSessionOwner();
 		final JdbcObserver observer = jdbcSessionOwner.getJdbcSessionContext().getObserver();
 		try {
-			getStatementGroup().forEachStatement( (tableName, statementDetails) -> {
-				final String sql = statementDetails.getSqlString();
-				final PreparedStatement statement = statementDetails.getStatement();
-
-				if ( statement == null ) {
-					return;
-				}
-
+			if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+				final int[] rowCounts;
+				final EventManager eventManager = jdbcSessionOwner.getEventManager();
+				final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
 				try {
-					if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
-						final int[] rowCounts;
-						final EventManager eventManager = jdbcSessionOwner.getEventManager();
-						final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
-						try {
-							observer.jdbcExecuteBatchStart();
-							rowCounts = statement.executeBatch();
-						}
-						finally {
-							eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
-							observer.jdbcExecuteBatchEnd();
-						}
-						checkRowCounts( rowCounts, statementDetails );
-					}
-					else {
-						statement.executeBatch();
-					}
-				}
-				catch (SQLException e) {
-					abortBatch( e );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
-					throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+					observer.jdbcExecuteBatchStart();
+					rowCounts = statement.executeBatch();
 				}
-				catch (RuntimeException re) {
-					abortBatch( re );
-					BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
-					throw re;
+				finally {
+					eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
+					observer.jdbcExecuteBatchEnd();
 				}
-			} );
+				checkRowCounts( rowCounts, statementDetails );
+			}
+			else {
+				statement.executeBatch();
+			}
 		}
-		finally {
-			batchPosition = 0;
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, sql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", sql );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, sql );
+			throw re;
 		}
 	}
 
@@ -0,0 +1,315 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementGroup;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.jdbc.spi.SqlExceptionHelper;
+import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.HibernateMonitoringEvent;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.jdbc.TooManyRowsAffectedException;
+import org.hibernate.resource.jdbc.ResourceRegistry;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+import org.hibernate.sql.model.internal.MultiRowInsert;
+
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_LOGGER;
+import static org.hibernate.engine.jdbc.batch.JdbcBatchLogging.BATCH_MESSAGE_LOGGER;
+
+/**
+ * Batch of inserts which combines the rows added to the batch into multi-row
+ * {@code insert into t (c1, c2) values (?, ?), (?, ?), ...} statements, rather
+ * than executing the single-row insert once per row.
+ * <p>
+ * The values bound for each row are collected when the row is added to the
+ * batch, and only bound once the batch is executed.  Rows are then inserted
+ * using statements of {@linkplain MultiRowInsertBatchKey#getRowsPerStatement()
+ * the configured number of rows}, which are themselves executed as a JDBC batch,
+ * followed by a single statement for the remaining rows.  The number of rows
+ * per statement is reduced as needed to respect the
+ * {@linkplain org.hibernate.dialect.Dialect#getParameterCountLimit() parameter
+ * limit} of the database.
+ * <p>
+ * The tables are processed in the order of the statement group, so that rows of
+ * a table are always inserted after the rows of the tables they depend on.
+ * The multi-row statements are {@linkplain MultiRowInsert rendered from the
+ * mutation model}, and inserts into tables for which the key has no
+ * {@link MultiRowInsert}, such as inserts using custom SQL, are simply batched
+ * as usual.
+ *
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT_SIZE
+ */
+public class MultiRowInsertBatch extends BatchImpl {
+	private final int rowsPerStatement;
+	private final int parameterCountLimit;
+
+	private final SharedSessionContractImplementor session;
+	private final JdbcCoordinator jdbcCoordinator;
+	private final SqlStatementLogger sqlStatementLogger;
+	private final SqlExceptionHelper sqlExceptionHelper;
+
+	private final Map<String, MultiRowInsert> multiRowInserts;
+	private final Map<String, List<Binding[]>> pendingRowsByTable = new HashMap<>();
+	private final Map<String, PreparedStatement> multiRowStatementsByTable = new HashMap<>();
+
+	public MultiRowInsertBatch(
+			MultiRowInsertBatchKey key,
+			PreparedStatementGroup statementGroup,
+			int batchSizeToUse,
+			JdbcCoordinator jdbcCoordinator,
+			SharedSessionContractImplementor session) {
+		super( key, statementGroup, batchSizeToUse, jdbcCoordinator );
+		this.session = session;
+		this.jdbcCoordinator = jdbcCoordinator;
+
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		this.sqlStatementLogger = jdbcServices.getSqlStatementLogger();
+		this.sqlExceptionHelper = jdbcServices.getSqlExceptionHelper();
+		this.multiRowInserts = key.getMultiRowInserts();
+		this.rowsPerStatement = Math.min( key.getRowsPerStatement(), batchSizeToUse );
+		this.parameterCountLimit = jdbcServices.getDialect().getParameterCountLimit();
+	}
+
+	@Override
+	protected void addToBatch(PreparedStatementDetails statementDetails, JdbcValueBindings jdbcValueBindings) {
+		final String tableName = statementDetails.getMutatingTableDetails().getTableName();
+		final MultiRowInsert multiRowInsert = multiRowInserts.get( tableName );
+		final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup( tableName );
+		if ( multiRowInsert == null || bindingGroup == null || statementDetails.getStatement() != null
+				|| !multiRowInsert.getSingleRowSqlString().equals( statementDetails.getSqlString() ) ) {
+			// not a standard insert, or one which was already batched as usual
+			super.addToBatch( statementDetails, jdbcValueBindings );
+			return;
+		}
+
+		// the binding group is cleared by afterStatement(), so copy the bindings
+		final Binding[] row = bindingGroup.getBindings().toArray( new Binding[0] );
+		pendingRowsByTable.computeIfAbsent( tableName, (name) -> new ArrayList<>() ).add( row );
+		jdbcValueBindings.afterStatement( statementDetails.getMutatingTableDetails() );
+	}
+
+	@Override
+	protected void performExecution(PreparedStatementDetails statementDetails) {
+		final List<Binding[]> rows = pendingRowsByTable.remove( statementDetails.getMutatingTableDetails().getTableName() );
+		if ( rows != null ) {
+			insertRows( statementDetails, rows );
+		}
+		// execute the JDBC batch of any row which was batched as usual
+		super.performExecution( statementDetails );
+	}
+
+	private void insertRows(PreparedStatementDetails statementDetails, List<Binding[]> rows) {
+		final String tableName = statementDetails.getMutatingTableDetails().getTableName();
+		final MultiRowInsert multiRowInsert = multiRowInserts.get( tableName );
+		final int parametersPerRow = multiRowInsert.getParametersPerRow();
+		final int width = parametersPerRow == 0 || parameterCountLimit <= 0
+				? rowsPerStatement
+				: Math.max( 1, Math.min( rowsPerStatement, parameterCountLimit / parametersPerRow ) );
+		final int fullStatements = rows.size() / width;
+		final int remainingRows = rows.size() - fullStatements * width;
+
+		if ( BATCH_LOGGER.isTraceEnabled() ) {
+			BATCH_LOGGER.tracef(
+					"Inserting %s rows into `%s` using %s statement(s) of %s rows and one of %s rows",
+					rows.size(),
+					tableName,
+					fullStatements,
+					width,
+					remainingRows
+			);
+		}
+
+		String executedSql = multiRowInsert.getSingleRowSqlString();
+		try {
+			if ( fullStatements > 0 ) {
+				executedSql = multiRowInsert.getSqlString( width );
+				final PreparedStatement statement = resolveMultiRowStatement( tableName, executedSql );
+				for ( int i = 0; i < fullStatements; i++ ) {
+					sqlStatementLogger.logStatement( executedSql );
+					bindRows( statement, rows, i * width, width, parametersPerRow );
+					statement.addBatch();
+				}
+				final int[] rowCounts = execute( statementDetails, executedSql, statement::executeBatch );
+				if ( rowCounts != null ) {
+					for ( int rowCount : rowCounts ) {
+						checkRowCount( rowCount, width, statementDetails, executedSql );
+					}
+				}
+			}
+			if ( remainingRows > 0 ) {
+				executedSql = multiRowInsert.getSqlString( remainingRows );
+				final PreparedStatement statement = prepareStatement( executedSql );
+				try {
+					sqlStatementLogger.logStatement( executedSql );
+					bindRows( statement, rows, fullStatements * width, remainingRows, parametersPerRow );
+					final int[] rowCounts = execute(
+							statementDetails,
+							executedSql,
+							() -> new int[] { statement.executeUpdate() }
+					);
+					if ( rowCounts != null ) {
+						checkRowCount( rowCounts[0], remainingRows, statementDetails, executedSql );
+					}
+				}
+				finally {
+					getResourceRegistry().release( statement );
+				}
+			}
+		}
+		catch (SQLException e) {
+			abortBatch( e );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( e, executedSql );
+			throw sqlExceptionHelper.convert( e, "could not execute batch", executedSql );
+		}
+		catch (RuntimeException re) {
+			abortBatch( re );
+			BATCH_MESSAGE_LOGGER.unableToExecuteBatch( re, executedSql );
+			throw re;
+		}
+	}
+
+	/**
+	 * Execute the statement, recording the execution for the identifier table only,
+	 * as is done for other batches. Returns the row counts only for the identifier
+	 * table, since that's the one which is checked.
+	 */
+	private int[] execute(PreparedStatementDetails statementDetails, String sql, Execution execution)
+			throws SQLException {
+		if ( statementDetails.getMutatingTableDetails().isIdentifierTable() ) {
+			final JdbcObserver observer = session.getJdbcSessionContext().getObserver();
+			final EventManager eventManager = session.getEventManager();
+			final HibernateMonitoringEvent jdbcBatchExecutionEvent = eventManager.beginJdbcBatchExecutionEvent();
+			try {
+				observer.jdbcExecuteBatchStart();
+				return execution.execute();
+			}
+			finally {
+				eventManager.completeJdbcBatchExecutionEvent( jdbcBatchExecutionEvent, sql );
+				observer.jdbcExecuteBatchEnd();
+			}
+		}
+		else {
+			execution.execute();
+			return null;
+		}
+	}
+
+	private void checkRowCount(int rowCount, int expectedRowCount, PreparedStatementDetails statementDetails, String sql) {
+		if ( rowCount == Statement.SUCCESS_NO_INFO || statementDetails.getExpectation() == Expectations.NONE ) {
+			return;
+		}
+		if ( rowCount < expectedRowCount ) {
+			throw new StaleStateException(
+					"Unexpected row count: " + rowCount + "; expected: " + expectedRowCount
+							+ "; statement executed: " + sql
+			);
+		}
+		if ( rowCount > expectedRowCount ) {
+			throw new TooManyRowsAffectedException(
+					"Unexpected row count: " + rowCount + "; expected: " + expectedRowCount,
+					expectedRowCount,
+					rowCount
+			);
+		}
+	}
+
+	private void bindRows(
+			PreparedStatement statement,
+			List<Binding[]> rows,
+			int firstRow,
+			int rowCount,
+			int parametersPerRow) {
+		for ( int i = 0; i < rowCount; i++ ) {
+			final int offset = i * parametersPerRow;
+			for ( Binding binding : rows.get( firstRow + i ) ) {
+				final int position = offset + binding.getPosition();
+				try {
+					binding.getValueBinder().bind( statement, binding.getValue(), position, session );
+				}
+				catch (SQLException e) {
+					throw sqlExceptionHelper.convert(
+							e,
+							String.format(
+									Locale.ROOT,
+									"Unable to bind parameter #%s - %s",
+									position,
+									binding.getValue()
+							)
+					);
+				}
+			}
+		}
+	}
+
+	private PreparedStatement resolveMultiRowStatement(String tableName, String sql) {
+		final PreparedStatement existing = multiRowStatementsByTable.get( tableName );
+		if ( existing != null ) {
+			return existing;
+		}
+		final PreparedStatement statement = prepareStatement( sql );
+		multiRowStatementsByTable.put( tableName, statement );
+		return statement;
+	}
+
+	private PreparedStatement prepareStatement(String sql) {
+		final PreparedStatement statement = jdbcCoordinator.getMutationStatementPreparer().prepareStatement( sql, false );
+		getResourceRegistry().register( null, statement );
+		return statement;
+	}
+
+	private ResourceRegistry getResourceRegistry() {
+		return jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+	}
+
+	@Override
+	protected void releaseStatements() {
+		pendingRowsByTable.clear();
+		if ( !multiRowStatementsByTable.isEmpty() ) {
+			final ResourceRegistry resourceRegistry = getResourceRegistry();
+			for ( PreparedStatement statement : multiRowStatementsByTable.values() ) {
+				try {
+					if ( !statement.isClosed() ) {
+						statement.clearBatch();
+					}
+				}
+				catch (SQLException e) {
+					BATCH_MESSAGE_LOGGER.unableToReleaseBatchStatement();
+				}
+				resourceRegistry.release( statement );
+			}
+			multiRowStatementsByTable.clear();
+		}
+		super.releaseStatements();
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatch(" + getKey().toLoggableString() + ")";
+	}
+
+	@FunctionalInterface
+	private interface Execution {
+		int[] execute() throws SQLException;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Map;
+
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.sql.model.internal.MultiRowInsert;
+
+/**
+ * BatchKey for a batch of inserts whose rows may be combined into
+ * multi-row {@code insert ... values (...), (...)} statements.
+ *
+ * @see MultiRowInsertBatch
+ * @see org.hibernate.cfg.BatchSettings#MULTI_ROW_INSERT_SIZE
+ */
+public class MultiRowInsertBatchKey extends BasicBatchKey {
+	private final int rowsPerStatement;
+	private final Map<String, MultiRowInsert> multiRowInserts;
+
+	/**
+	 * Constructs a MultiRowInsertBatchKey
+	 *
+	 * @param comparison A string used to compare batch keys.
+	 * @param expectation The expectation for the batch
+	 * @param rowsPerStatement The maximum number of rows to insert per statement
+	 * @param multiRowInserts The multi-row inserts, by name of the table they insert into
+	 */
+	public MultiRowInsertBatchKey(
+			String comparison,
+			Expectation expectation,
+			int rowsPerStatement,
+			Map<String, MultiRowInsert> multiRowInserts) {
+		super( comparison, expectation );
+		this.rowsPerStatement = rowsPerStatement;
+		this.multiRowInserts = multiRowInserts;
+	}
+
+	/**
+	 * The maximum number of rows to insert with a single statement
+	 */
+	public int getRowsPerStatement() {
+		return rowsPerStatement;
+	}
+
+	/**
+	 * The multi-row inserts, by name of the table they insert into.
+	 * Rows of the other tables are batched as usual.
+	 */
+	public Map<String, MultiRowInsert> getMultiRowInserts() {
+		return multiRowInserts;
+	}
+
+	@Override
+	public String toString() {
+		return "MultiRowInsertBatchKey(" + toLoggableString() + ", " + rowsPerStatement + ")";
+	}
+}
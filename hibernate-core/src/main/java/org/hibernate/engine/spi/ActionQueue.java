@@ -10,8 +10,12 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
@@ -20,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.hibernate.AssertionFailure;
@@ -30,6 +35,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -41,13 +47,26 @@ import org.hibernate.action.internal.UnresolvedEntityInsertActions;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.metamodel.mapping.AttributeMapping;
+import org.hibernate.metamodel.mapping.AttributeMappingsList;
+import org.hibernate.metamodel.mapping.EmbeddableMappingType;
+import org.hibernate.metamodel.mapping.EmbeddableValuedModelPart;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.ForeignKeyDescriptor;
+import org.hibernate.metamodel.mapping.ManagedMappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.DiscriminatedAssociationAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
 import org.hibernate.metamodel.mapping.internal.EntityCollectionPart;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.LazyInitializer;
 import org.hibernate.type.CollectionType;
@@ -145,7 +164,7 @@ public class ActionQueue {
 				if ( instance.insertions == null ) {
 					//Special case of initialization
 					instance.insertions = instance.isOrderInsertsEnabled()
-							? new ExecutableList<>( InsertActionSorter.INSTANCE )
+							? new ExecutableList<>( instance.getInsertActionSorter() )
 							: new ExecutableList<>( false );
 				}
 			}
@@ -424,7 +443,7 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( executable.getPropertySpaces() );
+			invalidateSpaces( getQueryCacheSpaces( executable ) );
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -627,22 +646,30 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( ComparableExecutable e : list ) {
-				try {
-					e.execute();
-				}
-				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
-						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+			for ( int i = 0; i < list.size(); ) {
+				final int identityInserts = countBatchableIdentityInserts( list, i );
+				if ( identityInserts > 1 ) {
+					final List<EntityIdentityInsertAction> actions = new ArrayList<>( identityInserts );
+					for ( int j = i; j < i + identityInserts; j++ ) {
+						actions.add( (EntityIdentityInsertAction) list.get( j ) );
+					}
+					try {
+						EntityIdentityInsertAction.executeAll( actions );
 					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+					finally {
+						for ( EntityIdentityInsertAction action : actions ) {
+							registerCompletionProcesses( action );
 						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+					}
+					i += identityInserts;
+				}
+				else {
+					final ComparableExecutable e = list.get( i++ );
+					try {
+						e.execute();
+					}
+					finally {
+						registerCompletionProcesses( e );
 					}
 				}
 			}
@@ -652,7 +679,7 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				invalidateSpaces( list.getQuerySpaces().toArray(new String[0]) );
+				invalidateSpaces( getQueryCacheSpaces( list ) );
 			}
 			// @NonNull String @Nullable [] - array nullable, elements not
 			// @Nullable String @NonNull [] - elements nullable, array not
@@ -662,6 +689,52 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerCompletionProcesses(Executable executable) {
+		if ( executable.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
+		}
+		if ( executable.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( executable.getAfterTransactionCompletionProcess() );
+		}
+	}
+
+	/**
+	 * The number of consecutive delayed identity inserts of instances of the same entity,
+	 * starting at the given index, which can be inserted at once, up to the JDBC batch size.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private int countBatchableIdentityInserts(ExecutableList<?> list, int index) {
+		if ( !session.getFactory().getSessionFactoryOptions().isIdentityInsertBatchingEnabled()
+				|| !( list.get( index ) instanceof EntityIdentityInsertAction ) ) {
+			return 0;
+		}
+		final EntityPersister persister = ( (EntityIdentityInsertAction) list.get( index ) ).getPersister();
+		if ( !isDelayedIdentityInsert( list.get( index ), persister )
+				|| !persister.getInsertCoordinator().supportsInsertAll() ) {
+			return 0;
+		}
+		final Integer batchSize = session.getConfiguredJdbcBatchSize();
+		final int maxCount = batchSize == null ? 1 : Math.min( batchSize, list.size() - index );
+		int count = 1;
+		while ( count < maxCount && isDelayedIdentityInsert( list.get( index + count ), persister ) ) {
+			count++;
+		}
+		return count;
+	}
+
+	private static boolean isDelayedIdentityInsert(Executable executable, EntityPersister persister) {
+		return executable instanceof EntityIdentityInsertAction
+				&& !( (EntityIdentityInsertAction) executable ).isEarlyInsert()
+				&& ( (EntityIdentityInsertAction) executable ).getPersister() == persister;
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -674,6 +747,41 @@ public class ActionQueue {
 		}
 	}
 
+	/**
+	 * The query spaces affected by the actions in the list, qualified by the
+	 * {@linkplain org.hibernate.annotations.QueryCacheTag query cache tags}
+	 * of the affected rows.
+	 */
+	private String[] getQueryCacheSpaces(ExecutableList<?> list) {
+		final String[] spaces = list.getQuerySpaces().toArray( new String[0] );
+		final TimestampsCache timestampsCache = session.getFactory().getCache().getTimestampsCache();
+		if ( timestampsCache.resolveInvalidationSpaces( spaces, null, session ) == spaces ) {
+			// none of the spaces is tagged
+			return spaces;
+		}
+		final Set<String> querySpaces = new HashSet<>();
+		for ( Executable executable : list ) {
+			final String[] executableSpaces = getQueryCacheSpaces( executable );
+			if ( executableSpaces != null ) {
+				Collections.addAll( querySpaces, executableSpaces );
+			}
+		}
+		return querySpaces.toArray( new String[0] );
+	}
+
+	private String @Nullable [] getQueryCacheSpaces(Executable executable) {
+		if ( executable instanceof EntityAction ) {
+			return ( (EntityAction) executable ).getQueryCacheSpaces();
+		}
+		else {
+			final String[] spaces = executable.getPropertySpaces();
+			return spaces == null
+					? null
+					: session.getFactory().getCache().getTimestampsCache()
+							.resolveInvalidationSpaces( spaces, null, session );
+		}
+	}
+
 	/**
 	 * This method is now called once per execution of an ExecutableList or once for execution of an Execution.
 	 *
@@ -818,6 +926,23 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private ExecutableList.Sorter<AbstractEntityInsertAction> getInsertActionSorter() {
+		return session.getFactory().getFastSessionServices().insertActionSorter;
+	}
+
+	/**
+	 * Create the sorter of the insert actions of the sessions of a session factory.
+	 * It may hold state determined from the mapping model of that factory.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ORDER_INSERTS_BY_ENTITY_DEPENDENCIES
+	 */
+	public static ExecutableList.Sorter<AbstractEntityInsertAction> createInsertActionSorter(
+			SessionFactoryOptions sessionFactoryOptions) {
+		return sessionFactoryOptions.isOrderInsertsByEntityDependenciesEnabled()
+				? new EntityDependencyInsertActionSorter()
+				: InsertActionSorter.INSTANCE;
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
@@ -1386,4 +1511,246 @@ public class ActionQueue {
 
 	}
 
+	/**
+	 * Sorts the insert actions using a dependency graph of the entities being inserted,
+	 * rather than a dependency graph of the individual entity instances, as is done by
+	 * the {@link InsertActionSorter}.
+	 * <p>
+	 * The insert actions are grouped by entity, preserving their relative order, and the
+	 * groups are scheduled in a topological order of the graph in which an entity depends
+	 * on the entities referenced by the foreign keys of its to-one associations, including
+	 * those of its identifier and of its embeddables, and on the owners of the one-to-many
+	 * associations whose elements it is. Each entity is thus inserted by a single
+	 * run of inserts, which is batched using as few JDBC batches as possible. The dependencies
+	 * of each entity are determined once, from the mapping model, so that the sorting takes
+	 * time linear in the number of insert actions.
+	 * <p>
+	 * Dependencies of an entity on itself are satisfied by the relative order of its insert
+	 * actions. When the entities being inserted depend on each other in a cycle, or have
+	 * {@linkplain org.hibernate.annotations.Any any} associations, whose target is unknown,
+	 * the insert actions are sorted by the {@link InsertActionSorter} instead.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#ORDER_INSERTS_BY_ENTITY_DEPENDENCIES
+	 */
+	private static class EntityDependencyInsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
+		/**
+		 * The dependencies of an entity which has {@linkplain org.hibernate.annotations.Any any}
+		 * associations, and whose dependencies can't be determined
+		 */
+		private static final EntityDependencies UNKNOWN_DEPENDENCIES = new EntityDependencies(
+				Collections.emptyList(),
+				Collections.emptyList()
+		);
+
+		// The dependencies only depend on the mapping model, so they are determined once
+		// per entity. There is one sorter per session factory.
+		private final Map<String, EntityDependencies> dependenciesByEntityName = new ConcurrentHashMap<>();
+
+		/**
+		 * The names of the entities whose inserts must be scheduled before, and after,
+		 * the inserts of an entity. The inserts of their subclasses as well.
+		 */
+		private static class EntityDependencies {
+			private final List<String> referencedEntityNames;
+			private final List<String> referencingEntityNames;
+
+			private EntityDependencies(List<String> referencedEntityNames, List<String> referencingEntityNames) {
+				this.referencedEntityNames = referencedEntityNames;
+				this.referencingEntityNames = referencingEntityNames;
+			}
+		}
+
+		private static class EntityInsertGroup {
+			private final EntityPersister persister;
+			private final List<AbstractEntityInsertAction> insertActions = new ArrayList<>();
+			// Groups which must be scheduled after this group
+			private final List<EntityInsertGroup> dependentGroups = new ArrayList<>();
+			// The number of groups which must be scheduled before this group, and aren't yet
+			private int dependencyCount;
+
+			private EntityInsertGroup(EntityPersister persister) {
+				this.persister = persister;
+			}
+
+			private void addDependentGroup(EntityInsertGroup dependentGroup) {
+				dependentGroups.add( dependentGroup );
+				dependentGroup.dependencyCount++;
+			}
+		}
+
+		@Override
+		public void sort(List<AbstractEntityInsertAction> insertions) {
+			final Map<String, EntityInsertGroup> groupsByEntityName = new LinkedHashMap<>();
+			for ( AbstractEntityInsertAction insertAction : insertions ) {
+				groupsByEntityName.computeIfAbsent(
+						insertAction.getEntityName(),
+						entityName -> new EntityInsertGroup( insertAction.getPersister() )
+				).insertActions.add( insertAction );
+			}
+			final Collection<EntityInsertGroup> groups = groupsByEntityName.values();
+
+			if ( groups.size() > 1 ) {
+				// The groups of the inserts of each entity, and of its subclasses
+				final Map<String, List<EntityInsertGroup>> groupsByTypeOrSuperTypeName = new HashMap<>();
+				for ( EntityInsertGroup group : groups ) {
+					EntityMappingType type = group.persister;
+					while ( type != null ) {
+						groupsByTypeOrSuperTypeName.computeIfAbsent( type.getEntityName(), name -> new ArrayList<>() )
+								.add( group );
+						type = type.getSuperMappingType();
+					}
+				}
+				for ( EntityInsertGroup group : groups ) {
+					final EntityDependencies dependencies = getDependencies( group.persister );
+					if ( dependencies == UNKNOWN_DEPENDENCIES ) {
+						InsertActionSorter.INSTANCE.sort( insertions );
+						return;
+					}
+					for ( String referencedEntityName : dependencies.referencedEntityNames ) {
+						final List<EntityInsertGroup> referencedGroups = groupsByTypeOrSuperTypeName.get( referencedEntityName );
+						if ( referencedGroups != null ) {
+							for ( EntityInsertGroup referencedGroup : referencedGroups ) {
+								if ( referencedGroup != group ) {
+									referencedGroup.addDependentGroup( group );
+								}
+							}
+						}
+					}
+					for ( String referencingEntityName : dependencies.referencingEntityNames ) {
+						final List<EntityInsertGroup> referencingGroups = groupsByTypeOrSuperTypeName.get( referencingEntityName );
+						if ( referencingGroups != null ) {
+							for ( EntityInsertGroup referencingGroup : referencingGroups ) {
+								if ( referencingGroup != group ) {
+									group.addDependentGroup( referencingGroup );
+								}
+							}
+						}
+					}
+				}
+			}
+
+			// Schedule the groups whose dependencies are all scheduled, in the
+			// order in which the entities were first inserted
+			final List<AbstractEntityInsertAction> sortedInsertions = new ArrayList<>( insertions.size() );
+			final Queue<EntityInsertGroup> schedulableGroups = new ArrayDeque<>( groups.size() );
+			for ( EntityInsertGroup group : groups ) {
+				if ( group.dependencyCount == 0 ) {
+					schedulableGroups.add( group );
+				}
+			}
+			int scheduledGroups = 0;
+			while ( !schedulableGroups.isEmpty() ) {
+				final EntityInsertGroup group = schedulableGroups.remove();
+				sortedInsertions.addAll( group.insertActions );
+				scheduledGroups++;
+				for ( EntityInsertGroup dependentGroup : group.dependentGroups ) {
+					if ( --dependentGroup.dependencyCount == 0 ) {
+						schedulableGroups.add( dependentGroup );
+					}
+				}
+			}
+
+			if ( scheduledGroups < groups.size() ) {
+				LOG.debugf(
+						"The inserts of %s entities depend on each other in a cycle, sorting the inserts by instance",
+						groups.size() - scheduledGroups
+				);
+				InsertActionSorter.INSTANCE.sort( insertions );
+			}
+			else {
+				if ( LOG.isDebugEnabled() ) {
+					LOG.debugf(
+							"Sorted %s inserts into %s groups of inserts of the same entity",
+							insertions.size(),
+							scheduledGroups
+					);
+				}
+				insertions.clear();
+				insertions.addAll( sortedInsertions );
+			}
+		}
+
+		private EntityDependencies getDependencies(EntityPersister persister) {
+			final EntityDependencies dependencies = dependenciesByEntityName.get( persister.getEntityName() );
+			if ( dependencies != null ) {
+				return dependencies;
+			}
+			// resolving them more than once is harmless, and doesn't block the other sessions
+			final EntityDependencies resolved = resolveDependencies( persister );
+			dependenciesByEntityName.put( persister.getEntityName(), resolved );
+			return resolved;
+		}
+
+		/**
+		 * Determine the dependencies of the given entity resulting from its associations,
+		 * and from the associations of its identifier.
+		 */
+		private static EntityDependencies resolveDependencies(EntityPersister persister) {
+			final List<String> referencedEntityNames = new ArrayList<>();
+			final List<String> referencingEntityNames = new ArrayList<>();
+			final EntityIdentifierMapping identifierMapping = persister.getIdentifierMapping();
+			final boolean resolved = addDependencies( persister, referencedEntityNames, referencingEntityNames )
+					&& ( !( identifierMapping instanceof EmbeddableValuedModelPart )
+							|| addDependencies(
+									( (EmbeddableValuedModelPart) identifierMapping ).getEmbeddableTypeDescriptor(),
+									referencedEntityNames,
+									referencingEntityNames
+							) );
+			return resolved
+					? new EntityDependencies( referencedEntityNames, referencingEntityNames )
+					: UNKNOWN_DEPENDENCIES;
+		}
+
+		/**
+		 * Add the dependencies resulting from the associations of the given type, that is,
+		 * of the entity or of one of its embeddables.
+		 *
+		 * @return {@code false} if the dependencies can't be determined
+		 */
+		private static boolean addDependencies(
+				ManagedMappingType mappingType,
+				List<String> referencedEntityNames,
+				List<String> referencingEntityNames) {
+			final AttributeMappingsList attributeMappings = mappingType.getAttributeMappings();
+			for ( int i = 0; i < attributeMappings.size(); i++ ) {
+				final AttributeMapping attributeMapping = attributeMappings.get( i );
+				if ( attributeMapping instanceof ToOneAttributeMapping ) {
+					final ToOneAttributeMapping toOne = (ToOneAttributeMapping) attributeMapping;
+					final String associatedEntityName = toOne.getEntityMappingType().getEntityName();
+					if ( toOne.getSideNature() == ForeignKeyDescriptor.Nature.KEY ) {
+						// the foreign key references the associated entity
+						referencedEntityNames.add( associatedEntityName );
+					}
+					else {
+						// the foreign key of the associated entity references this entity
+						referencingEntityNames.add( associatedEntityName );
+					}
+				}
+				else if ( attributeMapping instanceof PluralAttributeMapping ) {
+					final PluralAttributeMapping pluralAttributeMapping = (PluralAttributeMapping) attributeMapping;
+					// the table of the elements of a one-to-many association
+					// has a foreign key referencing this entity
+					if ( pluralAttributeMapping.getCollectionDescriptor().isOneToMany()
+							&& pluralAttributeMapping.getElementDescriptor() instanceof EntityCollectionPart ) {
+						referencingEntityNames.add(
+								( (EntityCollectionPart) pluralAttributeMapping.getElementDescriptor() )
+										.getAssociatedEntityMappingType()
+										.getEntityName()
+						);
+					}
+				}
+				else if ( attributeMapping instanceof EmbeddedAttributeMapping ) {
+					final EmbeddableMappingType embeddable =
+							( (EmbeddedAttributeMapping) attributeMapping ).getEmbeddableTypeDescriptor();
+					if ( !addDependencies( embeddable, referencedEntityNames, referencingEntityNames ) ) {
+						return false;
+					}
+				}
+				else if ( attributeMapping instanceof DiscriminatedAssociationAttributeMapping ) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
 }
@@ -6,10 +6,17 @@
  */
 package org.hibernate.engine.spi;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -65,6 +72,13 @@ public class BatchFetchQueue {
 	 */
 	private @Nullable Map<String, LinkedHashMap<CollectionEntry, PersistentCollection<?>>> batchLoadableCollections;
 
+	/**
+	 * Used to hold the second-level cache entries of entities which were looked up in
+	 * bulk, ahead of being loaded one by one. A {@code null} value means there is no
+	 * cache entry for the entity.
+	 */
+	private @Nullable Map<EntityKey, Object> prefetchedCacheEntries;
+
 	/**
 	 * Constructs a queue for the given context.
 	 *
@@ -83,6 +97,7 @@ public class BatchFetchQueue {
 		batchLoadableEntityKeys = null;
 		batchLoadableCollections = null;
 		subselectsByEntityKey = null;
+		prefetchedCacheEntries = null;
 	}
 
 
@@ -214,6 +229,8 @@ public class BatchFetchQueue {
 		}
 
 		final EntityIdentifierMapping identifierMapping = entityDescriptor.getIdentifierMapping();
+		final CachedKeys cachedKeys =
+				cachedEntityKeys( set.iterator(), entityDescriptor.getEntityPersister(), domainBatchSize );
 
 		int batchPosition = 1;
 		int end = -1;
@@ -229,7 +246,7 @@ public class BatchFetchQueue {
 				end = batchPosition;
 			}
 			else {
-				if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+				if ( cachedKeys == null || !cachedKeys.isCached( key ) ) {
 					//noinspection unchecked
 					collector.accept( batchPosition++, (T) key.getIdentifier() );
 				}
@@ -272,6 +289,8 @@ public class BatchFetchQueue {
 		final LinkedHashSet<EntityKey> set =
 				batchLoadableEntityKeys.get( entityDescriptor.getEntityName() );
 		if ( set != null ) {
+			final CachedKeys cachedKeys =
+					cachedEntityKeys( set.iterator(), entityDescriptor.getEntityPersister(), maxBatchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					// the first id found after the given id
@@ -283,7 +302,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, entityDescriptor.getEntityPersister() ) ) {
+					if ( cachedKeys == null || !cachedKeys.isCached( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -301,19 +320,81 @@ public class BatchFetchQueue {
 		return ids;
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private @Nullable CachedKeys cachedEntityKeys(
+			Iterator<EntityKey> entityKeys,
+			EntityPersister persister,
+			int batchSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new CachedKeys(
+					entityKeys,
+					batchSize,
+					entityKey -> cache.generateCacheKey(
+							( (EntityKey) entityKey ).getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					cacheKeys -> CacheHelper.fromSharedCache( session, cacheKeys, cache ),
+					// entities already looked up in the cache are not looked up again
+					entityKey -> hasPrefetchedCacheEntry( (EntityKey) entityKey )
+							? prefetchedCacheEntries.get( entityKey ) != null
+							: null
 			);
-			return CacheHelper.fromSharedCache( session, key, persister, cache ) != null;
 		}
-		return false;
+		return null;
+	}
+
+
+	// second-level cache prefetch support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Remember the result of a bulk lookup of the given entity in the second-level
+	 * cache, until the entity is loaded.
+	 *
+	 * @param key The key of the entity
+	 * @param cacheEntry The cache entry, or {@code null} if the entity is not cached
+	 *
+	 * @since 6.5
+	 */
+	public void addPrefetchedCacheEntry(EntityKey key, @Nullable Object cacheEntry) {
+		if ( prefetchedCacheEntries == null ) {
+			prefetchedCacheEntries = new HashMap<>();
+		}
+		prefetchedCacheEntries.put( key, cacheEntry );
+	}
+
+	/**
+	 * Whether the given entity was looked up in the second-level cache ahead of being
+	 * loaded, and the result is still available from {@link #removePrefetchedCacheEntry}.
+	 *
+	 * @since 6.5
+	 */
+	public boolean hasPrefetchedCacheEntry(EntityKey key) {
+		return prefetchedCacheEntries != null && prefetchedCacheEntries.containsKey( key );
+	}
+
+	/**
+	 * Take the result of a bulk lookup of the given entity in the second-level cache.
+	 *
+	 * @return The cache entry, or {@code null} if the entity is not cached
+	 *
+	 * @since 6.5
+	 */
+	public @Nullable Object removePrefetchedCacheEntry(EntityKey key) {
+		return prefetchedCacheEntries == null ? null : prefetchedCacheEntries.remove( key );
+	}
+
+	/**
+	 * Forget the results of bulk lookups in the second-level cache which were not used.
+	 * Called when the operation which looked them up completes, so that they can never
+	 * become stale.
+	 *
+	 * @since 6.5
+	 */
+	public void clearPrefetchedCacheEntries() {
+		prefetchedCacheEntries = null;
 	}
 
 
@@ -382,6 +463,9 @@ public class BatchFetchQueue {
 			return;
 		}
 
+		final CachedKeys cachedKeys =
+				cachedCollectionKeys( map, pluralAttributeMapping.getCollectionDescriptor(), batchSize );
+
 		int i = 1;
 		int end = -1;
 		boolean checkForEnd = false;
@@ -425,7 +509,7 @@ public class BatchFetchQueue {
 			if ( isEqual ) {
 				end = i;
 			}
-			else if ( !isCached( loadedKey, pluralAttributeMapping.getCollectionDescriptor() ) ) {
+			else if ( cachedKeys == null || !cachedKeys.isCached( loadedKey ) ) {
 				//noinspection unchecked
 				collector.accept( i++, (T) loadedKey );
 			}
@@ -469,6 +553,7 @@ public class BatchFetchQueue {
 		final LinkedHashMap<CollectionEntry, PersistentCollection<?>> map =
 				batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final CachedKeys cachedKeys = cachedCollectionKeys( map, collectionPersister, batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection<?>> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final Object loadedKey = ce.getLoadedKey();
@@ -503,7 +588,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( loadedKey, collectionPersister ) ) {
+				else if ( cachedKeys == null || !cachedKeys.isCached( loadedKey ) ) {
 					keys[i++] = loadedKey;
 					//count++;
 				}
@@ -519,22 +604,116 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Object collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	private @Nullable CachedKeys cachedCollectionKeys(
+			LinkedHashMap<CollectionEntry, PersistentCollection<?>> collections,
+			CollectionPersister persister,
+			int batchSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new CachedKeys(
+					new CollectionKeyIterator( collections.entrySet().iterator() ),
+					batchSize,
+					collectionKey -> cache.generateCacheKey(
+							collectionKey,
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					cacheKeys -> CacheHelper.fromSharedCache( session, cacheKeys, cache ),
+					collectionKey -> null
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, persister, cache ) != null;
 		}
-		return false;
+		return null;
 	}
 
 	public SharedSessionContractImplementor getSession() {
 		return context.getSession();
 	}
+
+	/**
+	 * Determines which of the candidates for a batch are already in the second-level
+	 * cache, and so need not be fetched. Rather than hitting the cache once for every
+	 * candidate, looks up the candidates a batch at a time, in the order in which they
+	 * are considered for the batch.
+	 * <p>
+	 * Candidates are identified by instance, since {@link #isCached} is always passed
+	 * the very same instance that was returned by the iterator.
+	 */
+	private static final class CachedKeys {
+		private final Iterator<?> candidates;
+		private final int batchSize;
+		private final Function<Object, Object> cacheKeyGenerator;
+		private final Function<Collection<Object>, Map<Object, Object>> cacheLookup;
+		private final Function<Object, @Nullable Boolean> knownCached;
+		private final Map<Object, Boolean> cached = new IdentityHashMap<>();
+
+		private CachedKeys(
+				Iterator<?> candidates,
+				int batchSize,
+				Function<Object, Object> cacheKeyGenerator,
+				Function<Collection<Object>, Map<Object, Object>> cacheLookup,
+				Function<Object, @Nullable Boolean> knownCached) {
+			this.candidates = candidates;
+			this.batchSize = Math.max( batchSize, 1 );
+			this.cacheKeyGenerator = cacheKeyGenerator;
+			this.cacheLookup = cacheLookup;
+			this.knownCached = knownCached;
+		}
+
+		boolean isCached(Object candidate) {
+			Boolean result = cached.remove( candidate );
+			while ( result == null && candidates.hasNext() ) {
+				lookupNextBatch();
+				result = cached.remove( candidate );
+			}
+			return result != null && result;
+		}
+
+		private void lookupNextBatch() {
+			final List<Object> batch = new ArrayList<>( batchSize );
+			final List<Object> cacheKeys = new ArrayList<>( batchSize );
+			while ( batch.size() < batchSize && candidates.hasNext() ) {
+				final Object candidate = candidates.next();
+				if ( candidate != null ) {
+					final Boolean known = knownCached.apply( candidate );
+					if ( known != null ) {
+						cached.put( candidate, known );
+						continue;
+					}
+					batch.add( candidate );
+					cacheKeys.add( cacheKeyGenerator.apply( candidate ) );
+				}
+			}
+			if ( !batch.isEmpty() ) {
+				final Map<Object, Object> cachedValues = cacheLookup.apply( cacheKeys );
+				for ( int i = 0; i < batch.size(); i++ ) {
+					cached.put( batch.get( i ), cachedValues.containsKey( cacheKeys.get( i ) ) );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Iterates the keys of the uninitialized collections queued for batch fetching,
+	 * returning {@code null} for the entries which are skipped when building a batch.
+	 */
+	private static final class CollectionKeyIterator implements Iterator<Object> {
+		private final Iterator<Entry<CollectionEntry, PersistentCollection<?>>> entries;
+
+		private CollectionKeyIterator(Iterator<Entry<CollectionEntry, PersistentCollection<?>>> entries) {
+			this.entries = entries;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return entries.hasNext();
+		}
+
+		@Override
+		public @Nullable Object next() {
+			final Entry<CollectionEntry, PersistentCollection<?>> entry = entries.next();
+			return entry.getValue().wasInitialized() ? null : entry.getKey().getLoadedKey();
+		}
+	}
 }
@@ -182,6 +182,41 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance with the given identifier, without the need for an
+	 * {@link EntityKey} when the implementation does not require one.
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return The matching entity, or {@code null}
+	 *
+	 * @see #getEntity(EntityKey)
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default Object getEntity(Object id, EntityPersister persister) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Is there an entity with the given identifier in the persistence context?
+	 *
+	 * @param id The identifier of the entity
+	 * @param persister The persister of the entity
+	 *
+	 * @return {@code true} indicates an entity was found; otherwise {@code false}
+	 *
+	 * @see #containsEntity(EntityKey)
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean containsEntity(Object id, EntityPersister persister) {
+		return containsEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
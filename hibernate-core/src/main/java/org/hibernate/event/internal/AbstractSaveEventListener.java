@@ -128,12 +128,27 @@ public abstract class AbstractSaveEventListener<C>
 			persister.setIdentifier( entity, generatedId, source );
 		}
 		final boolean delayIdentityInserts =
-				!source.isTransactionInProgress()
+				( !source.isTransactionInProgress() || isIdentityInsertBatchingEnabled( persister, source ) )
 						&& !requiresImmediateIdAccess
 						&& generatedOnExecution;
 		return performSave( entity, generatedId, persister, generatedOnExecution, context, source, delayIdentityInserts );
 	}
 
+	/**
+	 * Whether the identity inserts of the given entity may be delayed until flush, so
+	 * that they can be batched, even though a transaction is in progress.
+	 *
+	 * @see org.hibernate.cfg.BatchSettings#BATCH_IDENTITY_INSERTS
+	 */
+	private static boolean isIdentityInsertBatchingEnabled(EntityPersister persister, EventSource source) {
+		if ( !source.getFactory().getSessionFactoryOptions().isIdentityInsertBatchingEnabled() ) {
+			return false;
+		}
+		final Integer batchSize = source.getConfiguredJdbcBatchSize();
+		return batchSize != null && batchSize > 1
+				&& persister.getInsertCoordinator().supportsInsertAll();
+	}
+
 	/**
 	 * Generate an id before execution of the insert statements,
 	 * using the given {@link BeforeExecutionGenerator}.
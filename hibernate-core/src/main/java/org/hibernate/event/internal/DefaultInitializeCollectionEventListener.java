@@ -6,7 +6,9 @@
  */
 package org.hibernate.event.internal;
 
+import org.hibernate.CacheMode;
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.CacheMissCoalescer;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.entry.CollectionCacheEntry;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -64,20 +66,64 @@ public class DefaultInitializeCollectionEventListener implements InitializeColle
 				if ( LOG.isTraceEnabled() ) {
 					LOG.trace( "Collection not cached" );
 				}
-				loadedPersister.initialize( loadedKey, source );
-				handlePotentiallyEmptyCollection( collection, source, ce, loadedPersister );
-				if ( LOG.isTraceEnabled() ) {
-					LOG.trace( "Collection initialized" );
+				final CacheMissCoalescer cacheMissCoalescer = getCacheMissCoalescer( loadedPersister, source );
+				if ( cacheMissCoalescer == null ) {
+					initializeCollectionFromDatasource( loadedKey, loadedPersister, collection, ce, source );
 				}
-
-				final StatisticsImplementor statistics = source.getFactory().getStatistics();
-				if ( statistics.isStatisticsEnabled() ) {
-					statistics.fetchCollection( loadedPersister.getRole() );
+				else {
+					final Object cacheKey = loadedPersister.getCacheAccessStrategy().generateCacheKey(
+							loadedKey,
+							loadedPersister,
+							source.getFactory(),
+							source.getTenantIdentifier()
+					);
+					cacheMissCoalescer.load(
+							cacheKey,
+							() -> initializeCollectionFromCache( loadedKey, loadedPersister, collection, source )
+									? Boolean.TRUE
+									: null,
+							() -> {
+								initializeCollectionFromDatasource( loadedKey, loadedPersister, collection, ce, source );
+								return Boolean.TRUE;
+							}
+					);
 				}
 			}
 		}
 	}
 
+	private void initializeCollectionFromDatasource(
+			Object id,
+			CollectionPersister persister,
+			PersistentCollection<?> collection,
+			CollectionEntry ce,
+			SessionImplementor source) {
+		persister.initialize( id, source );
+		handlePotentiallyEmptyCollection( collection, source, ce, persister );
+		if ( LOG.isTraceEnabled() ) {
+			LOG.trace( "Collection initialized" );
+		}
+
+		final StatisticsImplementor statistics = source.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.fetchCollection( persister.getRole() );
+		}
+	}
+
+	/**
+	 * The {@link CacheMissCoalescer}, if the collection may be both read from,
+	 * and written to, the second-level cache.
+	 */
+	private static CacheMissCoalescer getCacheMissCoalescer(CollectionPersister persister, SessionImplementor source) {
+		final CacheMode cacheMode = source.getCacheMode();
+		return persister.hasCache()
+				&& cacheMode.isGetEnabled()
+				&& cacheMode.isPutEnabled()
+				&& !( source.getLoadQueryInfluencers().hasEnabledFilters() && persister.isAffectedByEnabledFilters( source ) )
+						? source.getFactory().getCache().getCacheMissCoalescer()
+						: null;
+	}
+
 	private void handlePotentiallyEmptyCollection(
 			PersistentCollection<?> collection,
 			SessionImplementor source,
@@ -6,6 +6,7 @@
  */
 package org.hibernate.event.internal;
 
+import org.hibernate.CacheMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
 import org.hibernate.NonUniqueObjectException;
@@ -13,6 +14,7 @@ import org.hibernate.PersistentObjectException;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
+import org.hibernate.cache.spi.CacheMissCoalescer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityHolder;
@@ -587,10 +589,43 @@ public class DefaultLoadEventListener implements LoadEventListener {
 						infoString( persister, event.getEntityId(), event.getSession().getFactory() )
 				);
 			}
-			return loadFromDatasource( event, persister );
+			final CacheMissCoalescer cacheMissCoalescer = getCacheMissCoalescer( event, persister );
+			if ( cacheMissCoalescer == null ) {
+				return loadFromDatasource( event, persister );
+			}
+			else {
+				final EventSource session = event.getSession();
+				final Object cacheKey = persister.getCacheAccessStrategy().generateCacheKey(
+						event.getEntityId(),
+						persister,
+						session.getFactory(),
+						session.getTenantIdentifier()
+				);
+				return cacheMissCoalescer.load(
+						cacheKey,
+						() -> CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( event, persister, keyToLoad ),
+						() -> loadFromDatasource( event, persister )
+				);
+			}
 		}
 	}
 
+	/**
+	 * The {@link CacheMissCoalescer}, if the entity may be both read from, and
+	 * written to, the second-level cache.
+	 */
+	private static CacheMissCoalescer getCacheMissCoalescer(LoadEvent event, EntityPersister persister) {
+		final EventSource session = event.getSession();
+		final CacheMode cacheMode = session.getCacheMode();
+		return persister.canReadFromCache()
+				&& persister.canWriteToCache()
+				&& cacheMode.isGetEnabled()
+				&& cacheMode.isPutEnabled()
+				&& event.getLockMode().lessThan( LockMode.READ )
+						? session.getFactory().getCache().getCacheMissCoalescer()
+						: null;
+	}
+
 	/**
 	 * Performs the process of loading an entity from the configured
 	 * underlying datasource.
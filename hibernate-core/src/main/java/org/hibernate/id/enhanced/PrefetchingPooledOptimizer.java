@@ -0,0 +1,212 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreMessageLogger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Optimizer which, like the {@link PooledOptimizer}, interprets the value stored in
+ * the database as the high end of a pool of values, but which hands out the values
+ * of the current pool without acquiring a lock, and which obtains the next pool
+ * before the current one is exhausted.
+ * <p>
+ * The values of the current pool are claimed with an atomic increment. The thread which
+ * claims the value at the low-water mark, a quarter of the pool before its end, obtains
+ * the next pool from the database, while other threads keep on using the current pool,
+ * so that, unless the pool is exhausted faster than the database round trip completes,
+ * no thread ever waits for the database. The next pool is obtained by the thread which
+ * crosses the mark, rather than by a background thread, since the database structure
+ * is accessed through the {@link AccessCallback} of the calling session.
+ * <p>
+ * Each tenant has its own state, so that the tenants do not contend with each other.
+ *
+ * @see PooledOptimizer
+ *
+ * @since 6.5
+ */
+public class PrefetchingPooledOptimizer extends AbstractOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = Logger.getMessageLogger(
+			CoreMessageLogger.class,
+			PrefetchingPooledOptimizer.class.getName()
+	);
+
+	/**
+	 * A pool of values, starting at {@code lo}, of which {@code claimed} have been
+	 * handed out.
+	 */
+	private static class Pool {
+		private final IntegralDataTypeHolder lo;
+		private final int size;
+		private final AtomicInteger claimed = new AtomicInteger();
+
+		private Pool(IntegralDataTypeHolder lo, int size) {
+			this.lo = lo;
+			this.size = size;
+		}
+	}
+
+	private class GenerationState {
+		private volatile Pool current;
+		// only accessed while holding the lock
+		private Pool next;
+		private IntegralDataTypeHolder lastSourceValue;
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+
+		private Serializable generate(AccessCallback callback) {
+			while ( true ) {
+				final Pool pool = current;
+				if ( pool != null ) {
+					final int offset = pool.claimed.getAndIncrement();
+					if ( offset < pool.size ) {
+						if ( lowWaterMark > 0 && offset == pool.size - lowWaterMark ) {
+							prefetch( pool, callback );
+						}
+						return pool.lo.copy().add( offset ).makeValue();
+					}
+				}
+				replace( pool, callback );
+			}
+		}
+
+		/**
+		 * Obtain the pool following the given current pool, unless it has already
+		 * been obtained.
+		 */
+		private void prefetch(Pool pool, AccessCallback callback) {
+			lock.lock();
+			try {
+				if ( current == pool && next == null ) {
+					next = nextPool( callback );
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Replace the given exhausted pool, waiting for the next pool if it is still
+		 * being obtained by another thread.
+		 */
+		private void replace(Pool exhausted, AccessCallback callback) {
+			lock.lock();
+			try {
+				if ( current == exhausted ) {
+					if ( next != null ) {
+						current = next;
+						next = null;
+					}
+					else {
+						current = exhausted == null ? initialPool( callback ) : nextPool( callback );
+					}
+				}
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+
+		private Pool initialPool(AccessCallback callback) {
+			final IntegralDataTypeHolder hiValue = callback.getNextValue();
+			lastSourceValue = hiValue;
+			// unfortunately not really safe to normalize this
+			// to 1 as an initial value like we do for the others
+			// because we would not be able to control this if
+			// we are using a sequence...
+			if ( hiValue.lt( 1 ) ) {
+				log.pooledOptimizerReportedInitialValue( hiValue );
+			}
+			// the call to obtain next-value just gave us the initialValue
+			if ( ( initialValue == -1 && hiValue.lt( incrementSize ) ) || hiValue.eq( initialValue ) ) {
+				return new Pool( hiValue.copy(), 1 );
+			}
+			else {
+				return new Pool( hiValue.copy().subtract( incrementSize - 1 ), incrementSize );
+			}
+		}
+
+		private Pool nextPool(AccessCallback callback) {
+			final IntegralDataTypeHolder hiValue = callback.getNextValue();
+			lastSourceValue = hiValue;
+			return new Pool( hiValue.copy().subtract( incrementSize - 1 ), incrementSize );
+		}
+	}
+
+	private final int lowWaterMark;
+	private long initialValue = -1;
+
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs a {@code PrefetchingPooledOptimizer}
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public PrefetchingPooledOptimizer(Class<?> returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		this.lowWaterMark = incrementSize / 4;
+		if ( log.isTraceEnabled() ) {
+			log.tracev(
+					"Creating prefetching pooled optimizer with [incrementSize={0}; returnClass={1}]",
+					incrementSize,
+					returnClass.getName()
+			);
+		}
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final String tenantIdentifier = callback.getTenantIdentifier();
+		final GenerationState generationState = tenantIdentifier == null
+				? noTenantState
+				: tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+		return generationState.generate( callback );
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		noTenantState.lock.lock();
+		try {
+			if ( noTenantState.lastSourceValue == null ) {
+				throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+			}
+			return noTenantState.lastSourceValue;
+		}
+		finally {
+			noTenantState.lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
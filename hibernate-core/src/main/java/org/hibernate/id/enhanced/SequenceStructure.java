@@ -9,13 +9,23 @@ package org.hibernate.id.enhanced;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
 import org.hibernate.boot.model.relational.Database;
 import org.hibernate.boot.model.relational.Namespace;
 import org.hibernate.boot.model.relational.QualifiedName;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.dialect.sequence.SequenceSupport;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.IdentifierGeneratorHelper;
@@ -40,8 +50,12 @@ public class SequenceStructure implements DatabaseStructure {
 	private final int initialValue;
 	private final int incrementSize;
 	private final Class numberType;
+	private final int fetchSize;
 
 	private String sql;
+	private String multipleValuesSql;
+	private final FetchedValues noTenantFetchedValues = new FetchedValues();
+	private final Map<String,FetchedValues> tenantSpecificFetchedValues = new ConcurrentHashMap<>();
 	private boolean applyIncrementSizeToSourceValues;
 	private int accessCounter;
 	protected QualifiedName physicalSequenceName;
@@ -53,11 +67,28 @@ public class SequenceStructure implements DatabaseStructure {
 			int initialValue,
 			int incrementSize,
 			Class numberType) {
+		this( jdbcEnvironment, contributor, qualifiedSequenceName, initialValue, incrementSize, 1, numberType );
+	}
+
+	/**
+	 * @param fetchSize The number of values to fetch from the sequence in a single round trip
+	 *
+	 * @since 6.5
+	 */
+	public SequenceStructure(
+			JdbcEnvironment jdbcEnvironment,
+			String contributor,
+			QualifiedName qualifiedSequenceName,
+			int initialValue,
+			int incrementSize,
+			int fetchSize,
+			Class numberType) {
 		this.contributor = contributor;
 		this.logicalQualifiedSequenceName = qualifiedSequenceName;
 
 		this.initialValue = initialValue;
 		this.incrementSize = incrementSize;
+		this.fetchSize = fetchSize;
 		this.numberType = numberType;
 	}
 
@@ -95,41 +126,16 @@ public class SequenceStructure implements DatabaseStructure {
 		return new AccessCallback() {
 			@Override
 			public IntegralDataTypeHolder getNextValue() {
-				accessCounter++;
-				try {
-					final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
-					try {
-						final ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( st, sql );
-						try {
-							rs.next();
-							final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
-							value.initialize( rs, 1 );
-							if ( LOG.isDebugEnabled() ) {
-								LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
-							}
-							return value;
-						}
-						finally {
-							try {
-								session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, st );
-							}
-							catch( Throwable ignore ) {
-								// intentionally empty
-							}
-						}
+				if ( multipleValuesSql == null ) {
+					accessCounter++;
+					final IntegralDataTypeHolder value = fetchValues( session, sql ).get( 0 );
+					if ( LOG.isDebugEnabled() ) {
+						LOG.debugf( "Sequence value obtained: %s", value.makeValue() );
 					}
-					finally {
-						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( st );
-						session.getJdbcCoordinator().afterStatementExecution();
-					}
-
+					return value;
 				}
-				catch ( SQLException sqle) {
-					throw session.getJdbcServices().getSqlExceptionHelper().convert(
-							sqle,
-							"could not get next sequence value",
-							sql
-					);
+				else {
+					return locateFetchedValues( session.getTenantIdentifier() ).next( session );
 				}
 			}
 
@@ -140,6 +146,81 @@ public class SequenceStructure implements DatabaseStructure {
 		};
 	}
 
+	private List<IntegralDataTypeHolder> fetchValues(SharedSessionContractImplementor session, String sql) {
+		try {
+			final PreparedStatement st = session.getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
+			try {
+				final ResultSet rs = session.getJdbcCoordinator().getResultSetReturn().extract( st, sql );
+				try {
+					final List<IntegralDataTypeHolder> values = new ArrayList<>();
+					while ( rs.next() ) {
+						final IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder( numberType );
+						value.initialize( rs, 1 );
+						values.add( value );
+					}
+					if ( values.isEmpty() ) {
+						throw new HibernateException( "Sequence query returned no value: " + sql );
+					}
+					return values;
+				}
+				finally {
+					try {
+						session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( rs, st );
+					}
+					catch( Throwable ignore ) {
+						// intentionally empty
+					}
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getLogicalConnection().getResourceRegistry().release( st );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+
+		}
+		catch ( SQLException sqle) {
+			throw session.getJdbcServices().getSqlExceptionHelper().convert(
+					sqle,
+					"could not get next sequence value",
+					sql
+			);
+		}
+	}
+
+	/**
+	 * The values fetched from the sequence for a tenant, but not yet used.
+	 */
+	private class FetchedValues {
+		/**
+		 * Use a lock instead of the monitor lock to avoid pinning when using virtual threads.
+		 */
+		private final Lock lock = new ReentrantLock();
+		private final Deque<IntegralDataTypeHolder> values = new ArrayDeque<>();
+
+		private IntegralDataTypeHolder next(SharedSessionContractImplementor session) {
+			lock.lock();
+			try {
+				if ( values.isEmpty() ) {
+					accessCounter++;
+					values.addAll( fetchValues( session, multipleValuesSql ) );
+					if ( LOG.isDebugEnabled() ) {
+						LOG.debugf( "%s sequence values obtained", values.size() );
+					}
+				}
+				return values.poll();
+			}
+			finally {
+				lock.unlock();
+			}
+		}
+	}
+
+	private FetchedValues locateFetchedValues(String tenantIdentifier) {
+		return tenantIdentifier == null
+				? noTenantFetchedValues
+				: tenantSpecificFetchedValues.computeIfAbsent( tenantIdentifier, tenant -> new FetchedValues() );
+	}
+
 	@Override
 	public void configure(Optimizer optimizer) {
 		applyIncrementSizeToSourceValues = optimizer.applyIncrementSizeToSourceValues();
@@ -152,7 +233,15 @@ public class SequenceStructure implements DatabaseStructure {
 
 	@Override
 	public void initialize(SqlStringGenerationContext context) {
-		this.sql = context.getDialect().getSequenceSupport().getSequenceNextValString( context.format( physicalSequenceName ) );
+		final SequenceSupport sequenceSupport = context.getDialect().getSequenceSupport();
+		final String sequenceName = context.format( physicalSequenceName );
+		this.sql = sequenceSupport.getSequenceNextValString( sequenceName );
+		if ( fetchSize > 1 ) {
+			this.multipleValuesSql = sequenceSupport.getSequenceNextValuesString( sequenceName, fetchSize );
+			if ( multipleValuesSql == null ) {
+				LOG.debugf( "Dialect does not support fetching multiple values of sequence [%s]", sequenceName );
+			}
+		}
 	}
 
 	@Override
@@ -21,6 +21,7 @@ import org.hibernate.boot.registry.selector.spi.StrategySelector;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.BulkInsertionCapableIdentifierGenerator;
@@ -85,6 +86,12 @@ import static org.hibernate.internal.util.config.ConfigurationHelper.getString;
  *     <td>{@code false}</td>
  *     <td>Allows explicit definition of which optimization strategy to use</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@value #FETCH_SIZE_PARAM}</td>
+ *     <td>{@code 1}</td>
+ *     <td>The number of values to fetch from a sequence in a single round trip,
+ *         when no optimizer is used</td>
+ *   </tr>
  * </table>
  * <p>
  * Configuration parameters used specifically when the underlying structure is a table:
@@ -138,6 +145,18 @@ public class SequenceStyleGenerator
 	 */
 	public static final String FORCE_TBL_PARAM = "force_table_use";
 
+	// sequence-specific parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * The number of values to fetch from the sequence in a single round trip,
+	 * when no optimizer is used.
+	 *
+	 * @see org.hibernate.cfg.MappingSettings#SEQUENCE_FETCH_SIZE
+	 *
+	 * @since 6.5
+	 */
+	public static final String FETCH_SIZE_PARAM = "fetch_size";
+
 
 	// table-specific parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -157,6 +176,7 @@ public class SequenceStyleGenerator
 	private DatabaseStructure databaseStructure;
 	private Optimizer optimizer;
 	private Type identifierType;
+	private int fetchSize = 1;
 
 	/**
 	 * Getter for property 'databaseStructure'.
@@ -220,6 +240,10 @@ public class SequenceStyleGenerator
 			LOG.forcingTableUse();
 		}
 
+		if ( optimizationStrategy == StandardOptimizerDescriptor.NONE ) {
+			this.fetchSize = determineFetchSize( parameters, serviceRegistry );
+		}
+
 		this.databaseStructure = buildDatabaseStructure(
 				type,
 				parameters,
@@ -415,6 +439,25 @@ public class SequenceStyleGenerator
 		return getInt( INCREMENT_PARAM, params, DEFAULT_INCREMENT_SIZE );
 	}
 
+	/**
+	 * Determine the number of values to fetch from the sequence in a single round trip,
+	 * when no optimizer is used.
+	 * <p>
+	 * Called during {@linkplain #configure configuration}.
+	 *
+	 * @param params The params supplied in the generator config (plus some standard useful extras).
+	 * @param serviceRegistry The service registry
+	 *
+	 * @return The fetch size
+	 *
+	 * @since 6.5
+	 */
+	protected int determineFetchSize(Properties params, ServiceRegistry serviceRegistry) {
+		final int defaultFetchSize = serviceRegistry.getService( ConfigurationService.class )
+				.getSetting( AvailableSettings.SEQUENCE_FETCH_SIZE, StandardConverters.INTEGER, 1 );
+		return getInt( FETCH_SIZE_PARAM, params, defaultFetchSize );
+	}
+
 	/**
 	 * Determine the optimizer to use.
 	 * <p>
@@ -516,6 +559,7 @@ public class SequenceStyleGenerator
 				sequenceName,
 				initialValue,
 				incrementSize,
+				fetchSize,
 				type.getReturnedClass()
 		);
 	}
@@ -21,6 +21,7 @@ import org.hibernate.type.descriptor.java.UUIDJavaType;
 import org.hibernate.type.descriptor.java.UUIDJavaType.ValueTransformer;
 
 import static org.hibernate.annotations.UuidGenerator.Style.TIME;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
 import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
 import static org.hibernate.internal.util.ReflectHelper.getPropertyType;
 
@@ -43,6 +44,9 @@ public class UuidGenerator implements BeforeExecutionGenerator {
 		if ( config.style() == TIME ) {
 			generator = new CustomVersionOneStrategy();
 		}
+		else if ( config.style() == VERSION_7 ) {
+			generator = UuidVersion7Strategy.INSTANCE;
+		}
 		else {
 			generator = StandardRandomStrategy.INSTANCE;
 		}
@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.uuid;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.UUIDGenerationStrategy;
+
+/**
+ * Applies a version 7 (time-ordered) generation strategy, as defined by
+ * <a href="https://datatracker.ietf.org/doc/html/rfc9562#section-5.7">RFC 9562</a>.
+ * <p>
+ * The 48 most significant bits hold the number of milliseconds since the Unix epoch,
+ * followed by the version, a 12-bit counter, the variant, and 62 random bits. Since
+ * the values generated one after the other increase, they are inserted at the end of
+ * an index, rather than at a random position, as with {@linkplain StandardRandomStrategy
+ * random UUIDs}. The byte representation of the values, and their canonical string
+ * representation, sort in the same order as the values themselves. The layout is
+ * also compatible with that of a <a href="https://github.com/ulid/spec">ULID</a>,
+ * which starts with the same 48-bit timestamp.
+ * <p>
+ * The timestamp and the counter are advanced together with a compare-and-set, without
+ * locking. The counter starts at a random value each millisecond, and is incremented
+ * for each value generated within the same millisecond, so that the values generated
+ * by this strategy are strictly increasing, even when the clock goes backwards; when
+ * the counter overflows, the timestamp is advanced by one millisecond.
+ *
+ * @implNote The random bits are obtained from {@link ThreadLocalRandom}, rather than
+ *           from a {@link java.security.SecureRandom}, which serializes its callers.
+ *           The values are therefore not suitable as unguessable tokens.
+ *
+ * @since 6.5
+ */
+public class UuidVersion7Strategy implements UUIDGenerationStrategy, UuidGenerator.ValueGenerator {
+	public static final UuidVersion7Strategy INSTANCE = new UuidVersion7Strategy();
+
+	private static final int COUNTER_BITS = 12;
+
+	/**
+	 * The timestamp, shifted left by {@value #COUNTER_BITS} bits, and the counter
+	 * of the last generated value.
+	 */
+	private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+	@Override
+	public int getGeneratedVersion() {
+		return 7;
+	}
+
+	@Override
+	public UUID generateUUID(SharedSessionContractImplementor session) {
+		return generateUuid( session );
+	}
+
+	@Override
+	public UUID generateUuid(SharedSessionContractImplementor session) {
+		final long timestampAndCounter = nextTimestampAndCounter();
+		final long mostSignificantBits = ( timestampAndCounter >>> COUNTER_BITS ) << 16
+				| 0x7000L
+				| ( timestampAndCounter & 0xFFFL );
+		final long leastSignificantBits = ThreadLocalRandom.current().nextLong() >>> 2
+				| 0x8000000000000000L;
+		return new UUID( mostSignificantBits, leastSignificantBits );
+	}
+
+	private long nextTimestampAndCounter() {
+		while ( true ) {
+			final long last = lastTimestampAndCounter.get();
+			final long now = System.currentTimeMillis();
+			final long next;
+			if ( now > last >>> COUNTER_BITS ) {
+				// a new millisecond, start the counter at a random value leaving
+				// room for at least 2048 values within the same millisecond
+				next = now << COUNTER_BITS | ThreadLocalRandom.current().nextInt( 1 << ( COUNTER_BITS - 1 ) );
+			}
+			else {
+				// the same millisecond, or the clock went backwards
+				next = last + 1;
+			}
+			if ( lastTimestampAndCounter.compareAndSet( last, next ) ) {
+				return next;
+			}
+		}
+	}
+}
@@ -1870,4 +1870,8 @@ public interface CoreMessageLogger extends BasicLogger {
 	@Message(value = "UCP properties were encountered, but the UCP ConnectionProvider was not found on the classpath; these properties are going to be ignored.",
 		id = 517)
 	void ucpProviderClassNotFound();
+
+	@LogMessage(level = INFO)
+	@Message(value = "Query plan cache evictions: %s", id = 518)
+	void queryPlanCacheEvictions(long queryPlanCacheEvictionCount);
 }
@@ -16,6 +16,7 @@ import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockOptions;
 import org.hibernate.TimeZoneStorageStrategy;
+import org.hibernate.action.internal.AbstractEntityInsertAction;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.dialect.Dialect;
@@ -24,6 +25,8 @@ import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.ExecutableList;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.event.internal.EmptyEventManager;
 import org.hibernate.event.spi.EventManager;
@@ -178,6 +181,7 @@ public final class FastSessionServices {
 	public final BatchBuilder batchBuilder;
 	public final Dialect dialect;
 	public final ParameterMarkerStrategy parameterMarkerStrategy;
+	public final ExecutableList.Sorter<AbstractEntityInsertAction> insertActionSorter;
 
 	//Private fields:
 	private final CacheStoreMode defaultCacheStoreMode;
@@ -244,6 +248,7 @@ public final class FastSessionServices {
 		this.requiresMultiTenantConnectionProvider = sessionFactory.getSessionFactoryOptions().isMultiTenancyEnabled();
 		this.parameterMarkerStrategy = serviceRegistry.getService( ParameterMarkerStrategy.class );
 		this.mutationExecutorService = serviceRegistry.getService( MutationExecutorService.class );
+		this.insertActionSorter = ActionQueue.createInsertActionSorter( sessionFactoryOptions );
 
 		//Some "hot" services:
 		this.connectionProvider = requiresMultiTenantConnectionProvider
@@ -8,6 +8,10 @@ package org.hibernate.internal;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.Filter;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 
 import org.hibernate.metamodel.mapping.JdbcMapping;
 import org.hibernate.metamodel.mapping.JdbcMappingContainer;
@@ -23,10 +27,34 @@ import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	private final JdbcMapping jdbcMapping;
 	private final Object jdbcParameterValue;
+	private final String filterName;
+	private final String parameterName;
+	private final int elementIndex;
 
 	public FilterJdbcParameter(JdbcMapping jdbcMapping, Object jdbcParameterValue) {
+		this( jdbcMapping, jdbcParameterValue, null, null, -1 );
+	}
+
+	/**
+	 * A parameter whose value is read from the named filter parameter of the
+	 * executing session, so that SQL rendered for one execution may be reused
+	 * with other values of the parameter.
+	 *
+	 * @param jdbcParameterValue The value to bind if the filter is not enabled
+	 * @param elementIndex The index of the value in a parameter list, or {@code -1}
+	 * if the parameter is single-valued
+	 */
+	public FilterJdbcParameter(
+			JdbcMapping jdbcMapping,
+			Object jdbcParameterValue,
+			String filterName,
+			String parameterName,
+			int elementIndex) {
 		this.jdbcMapping = jdbcMapping;
 		this.jdbcParameterValue = jdbcParameterValue;
+		this.filterName = filterName;
+		this.parameterName = parameterName;
+		this.elementIndex = elementIndex;
 	}
 
 	@Override
@@ -38,13 +66,41 @@ public class FilterJdbcParameter implements JdbcParameter, JdbcParameterBinder {
 	public void bindParameterValue(PreparedStatement statement, int startPosition, JdbcParameterBindings jdbcParameterBindings, ExecutionContext executionContext) throws SQLException {
 		jdbcMapping.getJdbcValueBinder().bind(
 				statement,
-				jdbcMapping.convertToRelationalValue( jdbcParameterValue ),
+				jdbcMapping.convertToRelationalValue( resolveValue( executionContext ) ),
 				startPosition,
 				executionContext.getSession()
 		);
 
 	}
 
+	private Object resolveValue(ExecutionContext executionContext) {
+		if ( filterName != null ) {
+			final LoadQueryInfluencers loadQueryInfluencers = executionContext.getLoadQueryInfluencers();
+			final Filter filter = loadQueryInfluencers == null ? null : loadQueryInfluencers.getEnabledFilter( filterName );
+			if ( filter instanceof FilterImpl ) {
+				final Object value = ( (FilterImpl) filter ).getParameter( parameterName );
+				if ( elementIndex < 0 ) {
+					return value;
+				}
+				else if ( value instanceof List ) {
+					final List<?> list = (List<?>) value;
+					if ( elementIndex < list.size() ) {
+						return list.get( elementIndex );
+					}
+				}
+				else if ( value instanceof Iterable ) {
+					int index = 0;
+					for ( Object element : (Iterable<?>) value ) {
+						if ( index++ == elementIndex ) {
+							return element;
+						}
+					}
+				}
+			}
+		}
+		return jdbcParameterValue;
+	}
+
 	@Override
 	public JdbcMappingContainer getExpressionType() {
 		return jdbcMapping;
@@ -6,12 +6,15 @@
  */
 package org.hibernate.internal;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.SessionException;
 import org.hibernate.StatelessSession;
 import org.hibernate.TransientObjectException;
@@ -36,6 +39,7 @@ import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.loader.ast.spi.CascadingFetchProfile;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.proxy.LazyInitializer;
@@ -71,6 +75,11 @@ import static org.hibernate.proxy.HibernateProxy.extractLazyInitializer;
 public class StatelessSessionImpl extends AbstractSharedSessionContract implements StatelessSession {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( StatelessSessionImpl.class );
 
+	/**
+	 * The JDBC batch size of {@link #insertMultiple} and friends when no batch size is configured
+	 */
+	private static final int DEFAULT_MULTIPLE_OPERATIONS_BATCH_SIZE = 50;
+
 	private final LoadQueryInfluencers influencers;
 	private final PersistenceContext temporaryPersistenceContext;
 	private final boolean connectionProvided;
@@ -210,6 +219,52 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 	}
 
 
+	// bulk operations ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void insertMultiple(List<?> entities) {
+		forEachBatched( entities, entity -> insert( null, entity ) );
+	}
+
+	@Override
+	public void updateMultiple(List<?> entities) {
+		forEachBatched( entities, entity -> update( null, entity ) );
+	}
+
+	@Override
+	public void deleteMultiple(List<?> entities) {
+		forEachBatched( entities, entity -> delete( null, entity ) );
+	}
+
+	/**
+	 * Apply the given operation to each of the given entities with JDBC batching
+	 * enabled, even if it is not enabled for this session, and execute the last
+	 * batch before returning. If the operation fails, the statements not yet
+	 * executed are discarded.
+	 */
+	private void forEachBatched(List<?> entities, Consumer<Object> operation) {
+		checkOpen();
+		final Integer jdbcBatchSize = getJdbcBatchSize();
+		final int configuredJdbcBatchSize = getConfiguredJdbcBatchSize();
+		setJdbcBatchSize( configuredJdbcBatchSize > 1
+				? configuredJdbcBatchSize
+				: Math.min( entities.size(), DEFAULT_MULTIPLE_OPERATIONS_BATCH_SIZE ) );
+		try {
+			for ( Object entity : entities ) {
+				operation.accept( entity );
+			}
+			getJdbcCoordinator().executeBatch();
+		}
+		catch (RuntimeException e) {
+			getJdbcCoordinator().abortBatch();
+			throw e;
+		}
+		finally {
+			setJdbcBatchSize( jdbcBatchSize );
+		}
+	}
+
+
 	// loading ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	@Override @SuppressWarnings("unchecked")
@@ -239,6 +294,23 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return result;
 	}
 
+	@Override @SuppressWarnings("unchecked")
+	public <T> List<T> getMultiple(Class<T> entityClass, List<?> ids) {
+		checkOpen();
+		for ( Object id : ids ) {
+			if ( id == null ) {
+				throw new IllegalArgumentException( "Null id" );
+			}
+		}
+
+		final List<?> results = getEntityPersister( entityClass.getName() )
+				.multiLoad( ids.toArray(), this, StatelessMultiIdLoadOptions.INSTANCE );
+		if ( temporaryPersistenceContext.isLoadFinished() ) {
+			temporaryPersistenceContext.clear();
+		}
+		return (List<T>) results;
+	}
+
 	@Override
 	public <T> T get(EntityGraph<T> graph, GraphSemantic graphSemantic, Object id) {
 		return get( graph, graphSemantic, id, LockMode.NONE );
@@ -708,4 +780,41 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		return true;
 	}
 
+	/**
+	 * A stateless session has neither a persistence context nor access
+	 * to the second-level cache, so ids are always loaded from the database.
+	 */
+	private static class StatelessMultiIdLoadOptions implements MultiIdLoadOptions {
+		private static final StatelessMultiIdLoadOptions INSTANCE = new StatelessMultiIdLoadOptions();
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return true;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
 }
@@ -0,0 +1,604 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * A bounded cache supporting fully concurrent, lock-free retrievals, using the
+ * <em>W-TinyLFU</em> eviction policy.
+ * <p>
+ * Entries are held in a {@link ConcurrentHashMap}, and so retrievals never block.
+ * Instead of reordering the eviction queues on each access, reads are recorded in
+ * lossy, striped ring buffers, and additions in a non-blocking queue. The buffers
+ * are drained in batches by whichever thread manages to acquire the eviction lock,
+ * without waiting for it.
+ * <p>
+ * A new entry is first added to a small admission window, ordered by recency.
+ * When it falls out of the window, it is admitted to the main space only if it was
+ * used more frequently than the entry which would be evicted to make room for it,
+ * as estimated by a {@linkplain FrequencySketch count-min sketch} of the access
+ * history. The main space is divided into a <em>probation</em> and a <em>protected</em>
+ * segment, with entries being promoted to the protected segment when accessed again.
+ * This makes the cache resistant to scans of entries which are used only once, for
+ * example, queries with literals inlined into the query string.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class BoundedConcurrentCache<K, V> {
+	/**
+	 * The number of reads buffered per stripe.
+	 */
+	private static final int READ_BUFFER_SIZE = 16;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	/**
+	 * The maximum number of stripes of the read buffer.
+	 */
+	private static final int MAX_READ_BUFFERS = 16;
+	/**
+	 * The number of pending additions beyond which writers help draining the buffer,
+	 * waiting for the eviction lock if necessary.
+	 */
+	private static final int WRITE_BUFFER_THRESHOLD = 64;
+
+	private static final byte WINDOW = 0;
+	private static final byte PROBATION = 1;
+	private static final byte PROTECTED = 2;
+
+	private final int maximumSize;
+	private final int maximumWindowSize;
+	private final int maximumProtectedSize;
+	private final Runnable evictionListener;
+
+	private final ConcurrentHashMap<K, Node<K, V>> map;
+	private final ReadBuffer<K, V>[] readBuffers;
+	private final int readBufferMask;
+	private final ConcurrentLinkedQueue<Node<K, V>> writeBuffer = new ConcurrentLinkedQueue<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final LongAdder evictionCount = new LongAdder();
+
+	// the following are guarded by the eviction lock
+	private final FrequencySketch sketch;
+	private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+	private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+
+	/**
+	 * Creates a new cache holding at most the given number of entries.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 */
+	public BoundedConcurrentCache(int maximumSize) {
+		this( maximumSize, null );
+	}
+
+	/**
+	 * Creates a new cache holding at most the given number of entries.
+	 *
+	 * @param maximumSize the maximum number of entries
+	 * @param evictionListener a callback invoked each time an entry is evicted, or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public BoundedConcurrentCache(int maximumSize, Runnable evictionListener) {
+		if ( maximumSize <= 0 ) {
+			throw new IllegalArgumentException( "Maximum size must be positive" );
+		}
+		this.maximumSize = maximumSize;
+		this.maximumWindowSize = Math.max( 1, maximumSize / 100 );
+		this.maximumProtectedSize = (int) ( ( maximumSize - maximumWindowSize ) * 0.8 );
+		this.evictionListener = evictionListener;
+		this.map = new ConcurrentHashMap<>( Math.min( maximumSize, 1024 ) );
+		this.sketch = new FrequencySketch( maximumSize );
+
+		final int stripes = Math.min(
+				MAX_READ_BUFFERS,
+				ceilingPowerOfTwo( Runtime.getRuntime().availableProcessors() )
+		);
+		this.readBuffers = new ReadBuffer[stripes];
+		for ( int i = 0; i < stripes; i++ ) {
+			readBuffers[i] = new ReadBuffer<>();
+		}
+		this.readBufferMask = stripes - 1;
+	}
+
+	/**
+	 * The maximum number of entries held by this cache.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * The number of entries currently held by this cache.
+	 */
+	public int size() {
+		return map.size();
+	}
+
+	/**
+	 * The number of entries evicted from this cache since its creation.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	/**
+	 * Returns the value associated with the given key, or {@code null}.
+	 * This operation never blocks.
+	 */
+	public V get(Object key) {
+		final Node<K, V> node = map.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		afterRead( node );
+		return node.value;
+	}
+
+	/**
+	 * Associates the given value with the given key, replacing any existing value.
+	 */
+	public void put(K key, V value) {
+		if ( value == null ) {
+			throw new NullPointerException( "Cached value cannot be null" );
+		}
+		final Node<K, V> node = new Node<>( key, value );
+		final Node<K, V> existing = map.putIfAbsent( key, node );
+		if ( existing == null ) {
+			afterWrite( node );
+		}
+		else {
+			existing.value = value;
+			afterRead( existing );
+		}
+	}
+
+	/**
+	 * Returns the value associated with the given key, computing and caching
+	 * it using the given function if there is none. If the function returns
+	 * {@code null}, nothing is cached, and {@code null} is returned.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		final Node<K, V> existing = map.get( key );
+		if ( existing != null ) {
+			afterRead( existing );
+			return existing.value;
+		}
+		final Node<K, V>[] created = new Node[1];
+		final Node<K, V> node = map.computeIfAbsent(
+				key,
+				k -> {
+					final V value = mappingFunction.apply( k );
+					return value == null ? null : ( created[0] = new Node<>( k, value ) );
+				}
+		);
+		if ( node == null ) {
+			return null;
+		}
+		else if ( node == created[0] ) {
+			afterWrite( node );
+		}
+		else {
+			afterRead( node );
+		}
+		return node.value;
+	}
+
+	/**
+	 * Removes the entry for the given key, if any.
+	 */
+	public void remove(Object key) {
+		final Node<K, V> node = map.remove( key );
+		if ( node != null ) {
+			evictionLock.lock();
+			try {
+				unlink( node );
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void clear() {
+		evictionLock.lock();
+		try {
+			writeBuffer.clear();
+			for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+				readBuffer.drain( null );
+			}
+			window.clear();
+			probation.clear();
+			protectedSegment.clear();
+			map.clear();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Run any pending maintenance, applying all buffered reads and writes, and
+	 * evicting entries as required.
+	 */
+	public void cleanUp() {
+		evictionLock.lock();
+		try {
+			maintenance();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRead(Node<K, V> node) {
+		final ReadBuffer<K, V> buffer = readBuffers[stripe()];
+		if ( !buffer.offer( node ) ) {
+			// the buffer is full, try to drain it, but never block a reader
+			tryToDrain();
+			buffer.offer( node );
+		}
+	}
+
+	private void afterWrite(Node<K, V> node) {
+		writeBuffer.add( node );
+		if ( map.size() > maximumSize + WRITE_BUFFER_THRESHOLD ) {
+			// writers outpace maintenance, throttle them
+			cleanUp();
+		}
+		tryToDrain();
+	}
+
+	private void tryToDrain() {
+		// loop until the write buffer is empty, since a writer which failed
+		// to acquire the lock relies on the current holder to apply its write
+		do {
+			if ( !evictionLock.tryLock() ) {
+				return;
+			}
+			try {
+				maintenance();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+		while ( !writeBuffer.isEmpty() );
+	}
+
+	private void maintenance() {
+		assert evictionLock.isHeldByCurrentThread();
+		for ( ReadBuffer<K, V> readBuffer : readBuffers ) {
+			readBuffer.drain( this );
+		}
+		Node<K, V> added;
+		while ( ( added = writeBuffer.poll() ) != null ) {
+			onAdd( added );
+		}
+		evict();
+	}
+
+	private void onAdd(Node<K, V> node) {
+		if ( node.queue >= 0 || map.get( node.key ) != node ) {
+			// already linked, or removed in the meantime
+			return;
+		}
+		sketch.increment( node.key );
+		node.queue = WINDOW;
+		window.addLast( node );
+	}
+
+	void onAccess(Node<K, V> node) {
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSegment.addLast( node );
+				if ( protectedSegment.size > maximumProtectedSize ) {
+					final Node<K, V> demoted = protectedSegment.removeFirst();
+					demoted.queue = PROBATION;
+					probation.addLast( demoted );
+				}
+				break;
+			case PROTECTED:
+				protectedSegment.moveToBack( node );
+				break;
+			default:
+				// not yet added, or already evicted
+		}
+	}
+
+	private void evict() {
+		// entries falling out of the window become candidates for the main space
+		while ( window.size > maximumWindowSize ) {
+			final Node<K, V> candidate = window.removeFirst();
+			candidate.queue = PROBATION;
+			probation.addLast( candidate );
+		}
+
+		while ( window.size + probation.size + protectedSegment.size > maximumSize ) {
+			final Node<K, V> victim = probation.first;
+			final Node<K, V> candidate = probation.last;
+			if ( victim == null ) {
+				evictEntry( protectedSegment.first != null ? protectedSegment.first : window.first );
+			}
+			else if ( victim == candidate ) {
+				evictEntry( victim );
+			}
+			else if ( sketch.frequency( candidate.key ) > sketch.frequency( victim.key ) ) {
+				evictEntry( victim );
+			}
+			else {
+				evictEntry( candidate );
+			}
+		}
+	}
+
+	private void evictEntry(Node<K, V> node) {
+		unlink( node );
+		if ( map.remove( node.key, node ) ) {
+			evictionCount.increment();
+			if ( evictionListener != null ) {
+				evictionListener.run();
+			}
+		}
+	}
+
+	private void unlink(Node<K, V> node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				break;
+			default:
+				// not yet added, or already evicted
+		}
+		node.queue = -1;
+	}
+
+	private int stripe() {
+		final long id = Thread.currentThread().getId();
+		final int hash = (int) ( id ^ ( id >>> 32 ) ) * 0x9E3779B9;
+		return ( hash >>> 16 ) & readBufferMask;
+	}
+
+	private static int ceilingPowerOfTwo(int x) {
+		return x <= 1 ? 1 : Integer.highestOneBit( x - 1 ) << 1;
+	}
+
+	@Override
+	public String toString() {
+		return "BoundedConcurrentCache(" + size() + "/" + maximumSize + ")";
+	}
+
+	private static final class Node<K, V> {
+		private final K key;
+		private volatile V value;
+
+		// the following are guarded by the eviction lock
+		private byte queue = -1;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * A doubly-linked list of nodes, ordered from least to most recently used.
+	 * Not thread-safe.
+	 */
+	private static final class AccessOrderDeque<K, V> {
+		private Node<K, V> first;
+		private Node<K, V> last;
+		private int size;
+
+		void addLast(Node<K, V> node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+			size++;
+		}
+
+		Node<K, V> removeFirst() {
+			final Node<K, V> node = first;
+			remove( node );
+			return node;
+		}
+
+		void remove(Node<K, V> node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			size--;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+
+		void clear() {
+			Node<K, V> node = first;
+			while ( node != null ) {
+				final Node<K, V> next = node.next;
+				node.previous = null;
+				node.next = null;
+				node.queue = -1;
+				node = next;
+			}
+			first = null;
+			last = null;
+			size = 0;
+		}
+	}
+
+	/**
+	 * A lossy ring buffer of recorded reads, with many producers, and a single
+	 * consumer holding the eviction lock. A read is simply dropped when the buffer
+	 * is full or contended, since the access history needs only be approximate.
+	 */
+	private static final class ReadBuffer<K, V> {
+		private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+		private final AtomicLong writeCounter = new AtomicLong();
+		private volatile long readCounter;
+
+		/**
+		 * @return {@code false} if the buffer is full
+		 */
+		boolean offer(Node<K, V> node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			if ( tail - head >= READ_BUFFER_SIZE ) {
+				return false;
+			}
+			if ( writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				buffer.lazySet( (int) ( tail & READ_BUFFER_MASK ), node );
+			}
+			return true;
+		}
+
+		void drain(BoundedConcurrentCache<K, V> cache) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			for ( ; head < tail; head++ ) {
+				final int index = (int) ( head & READ_BUFFER_MASK );
+				final Node<K, V> node = buffer.get( index );
+				if ( node == null ) {
+					// the producer has not published its read yet
+					break;
+				}
+				buffer.lazySet( index, null );
+				if ( cache != null ) {
+					cache.onAccess( node );
+				}
+			}
+			readCounter = head;
+		}
+	}
+
+	/**
+	 * A probabilistic multiset estimating the access frequency of keys, using a
+	 * count-min sketch of 4-bit counters. All counters are periodically halved,
+	 * so that the history ages, and keys which are no longer used lose their
+	 * advantage. Not thread-safe.
+	 */
+	static final class FrequencySketch {
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+		};
+		private static final long RESET_MASK = 0x7777777777777777L;
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+		private final int tableMask;
+		private final int sampleSize;
+		private int size;
+
+		FrequencySketch(int maximumSize) {
+			final int length = ceilingPowerOfTwo( Math.min( maximumSize, 1 << 24 ) );
+			this.table = new long[length];
+			this.tableMask = length - 1;
+			this.sampleSize = 10 * Math.min( maximumSize, Integer.MAX_VALUE / 10 );
+		}
+
+		int frequency(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for ( int i = 0; i < 4; i++ ) {
+				final int index = indexOf( hash, i );
+				final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+				frequency = Math.min( frequency, count );
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			final int hash = spread( key.hashCode() );
+			final int start = ( hash & 3 ) << 2;
+			boolean added = false;
+			for ( int i = 0; i < 4; i++ ) {
+				added |= incrementAt( indexOf( hash, i ), start + i );
+			}
+			if ( added && ++size == sampleSize ) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			final int offset = counter << 2;
+			final long mask = 0xfL << offset;
+			if ( ( table[index] & mask ) != mask ) {
+				table[index] += 1L << offset;
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			int odd = 0;
+			for ( int i = 0; i < table.length; i++ ) {
+				odd += Long.bitCount( table[i] & ONE_MASK );
+				table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+			}
+			size = ( size >>> 1 ) - ( odd >>> 2 );
+		}
+
+		private int indexOf(int hash, int i) {
+			long h = ( hash + SEEDS[i] ) * SEEDS[i];
+			h += h >>> 32;
+			return ( (int) h ) & tableMask;
+		}
+
+		private static int spread(int x) {
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+			return ( x >>> 16 ) ^ x;
+		}
+	}
+}
@@ -81,6 +81,18 @@ public interface HibernateHints {
 	 */
 	String HINT_CACHE_REGION = "org.hibernate.cacheRegion";
 
+	/**
+	 * Hint for specifying the {@linkplain org.hibernate.annotations.QueryCacheTag
+	 * query cache tag} of the rows read by the query.
+	 *
+	 * @implSpec No effect unless {@link #HINT_CACHEABLE} is set to {@code true}
+	 *
+	 * @see org.hibernate.query.SelectionQuery#setCacheTag
+	 *
+	 * @since 6.5
+	 */
+	String HINT_CACHE_TAG = "org.hibernate.cacheTag";
+
 	/**
 	 * Hint for specifying the {@link org.hibernate.CacheMode} to use.
 	 *
@@ -9,7 +9,6 @@ package org.hibernate.loader.ast.internal;
 import org.hibernate.Hibernate;
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.ast.spi.EntityBatchLoader;
@@ -96,8 +95,7 @@ public abstract class AbstractEntityBatchLoader<T>
 
 		initializeEntities( ids, id, entityInstance, lockOptions, readOnly, session );
 
-		final EntityKey entityKey = session.generateEntityKey( id, getLoadable().getEntityPersister() );
 		//noinspection unchecked
-		return (T) session.getPersistenceContext().getEntity( entityKey );
+		return (T) session.getPersistenceContext().getEntity( id, getLoadable().getEntityPersister() );
 	}
 }
@@ -6,13 +6,18 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
 import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -50,17 +55,71 @@ public abstract class AbstractMultiIdEntityLoader<T> implements MultiIdEntityLoa
 
 	@Override
 	public final <K> List<T> load(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+		return load( ids, loadOptions, (SharedSessionContractImplementor) session );
+	}
+
+	@Override
+	public final <K> List<T> load(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session) {
 		assert ids != null;
-		if ( loadOptions.isOrderReturnEnabled() ) {
-			return performOrderedMultiLoad( ids, loadOptions, session );
+		try {
+			if ( loadOptions.isOrderReturnEnabled() ) {
+				return performOrderedMultiLoad( ids, loadOptions, session );
+			}
+			else {
+				return performUnorderedMultiLoad( ids, loadOptions, session );
+			}
 		}
-		else {
-			return performUnorderedMultiLoad( ids, loadOptions, session );
+		finally {
+			// in case resolving the ids failed before the entries were cleared
+			clearPrefetchedCacheEntries( loadOptions, session );
+		}
+	}
+
+	/**
+	 * Look up the entities with the given ids in the second-level cache all at once,
+	 * ahead of resolving them one at a time.
+	 *
+	 * @see CacheEntityLoaderHelper#prefetchFromSecondLevelCache
+	 * @see #clearPrefetchedCacheEntries
+	 */
+	protected void prefetchFromSecondLevelCache(
+			Object[] ids,
+			boolean coerce,
+			LockOptions lockOptions,
+			SharedSessionContractImplementor session) {
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		if ( ids.length > 1 && persister.canReadFromCache() ) {
+			final List<EntityKey> entityKeys = new ArrayList<>( ids.length );
+			for ( Object id : ids ) {
+				entityKeys.add( new EntityKey(
+						coerce ? identifierMapping.getJavaType().coerce( id, session ) : id,
+						persister
+				) );
+			}
+			CacheEntityLoaderHelper.INSTANCE.prefetchFromSecondLevelCache(
+					session.asEventSource(),
+					lockOptions.getLockMode(),
+					persister,
+					entityKeys
+			);
+		}
+	}
+
+	/**
+	 * Forget the entries {@linkplain #prefetchFromSecondLevelCache looked up in the
+	 * second-level cache} which were not used. If the second-level cache was not checked,
+	 * any entries were looked up by the caller, which is responsible for clearing them.
+	 */
+	protected void clearPrefetchedCacheEntries(
+			MultiIdLoadOptions loadOptions,
+			SharedSessionContractImplementor session) {
+		if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			session.getPersistenceContextInternal().getBatchFetchQueue().clearPrefetchedCacheEntries();
 		}
 	}
 
-	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
+	protected abstract <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session);
 
-	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session);
+	protected abstract <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, SharedSessionContractImplementor session);
 
 }
@@ -6,6 +6,11 @@
  */
 package org.hibernate.loader.ast.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
 import org.hibernate.LockMode;
@@ -18,6 +23,7 @@ import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.engine.internal.CacheHelper;
 import org.hibernate.engine.internal.StatefulPersistenceContext;
 import org.hibernate.engine.internal.TwoPhaseLoad;
+import org.hibernate.engine.spi.BatchFetchQueue;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityHolder;
 import org.hibernate.engine.spi.EntityKey;
@@ -249,7 +255,7 @@ public class CacheEntityLoaderHelper {
 			return null;
 		}
 
-		final Object ce = getFromSharedCache( entityKey.getIdentifier(), persister, source );
+		final Object ce = getFromSharedCache( entityKey, persister, source );
 
 		if ( ce == null ) {
 			// nothing was found in cache
@@ -260,20 +266,92 @@ public class CacheEntityLoaderHelper {
 	}
 
 
+	/**
+	 * Looks up all the entities with the given keys in the second-level cache at once,
+	 * ahead of loading them one by one using {@link #loadFromSecondLevelCache}, so that
+	 * the cache is hit once, rather than once per entity. Entities which are already
+	 * associated with the persistence context are not looked up.
+	 * <p>
+	 * The results are held by the {@link BatchFetchQueue} until the entities are loaded,
+	 * and the caller must {@linkplain BatchFetchQueue#clearPrefetchedCacheEntries clear}
+	 * any which remain when it is done loading.
+	 *
+	 * @param source The source
+	 * @param lockMode The lock mode the entities are to be loaded with
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The entity keys
+	 *
+	 * @return The keys of the entities which are neither associated with the persistence
+	 * context, nor were found in the cache, and so must be loaded from the database
+	 *
+	 * @since 6.5
+	 */
+	public List<EntityKey> prefetchFromSecondLevelCache(
+			final EventSource source,
+			final LockMode lockMode,
+			final EntityPersister persister,
+			final Collection<EntityKey> entityKeys) {
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final List<EntityKey> keysToLookUp = new ArrayList<>( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
+			if ( persistenceContext.getEntity( entityKey ) == null ) {
+				keysToLookUp.add( entityKey );
+			}
+		}
+		final boolean useCache = keysToLookUp.size() > 1
+				&& persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& lockMode.lessThan( LockMode.READ );
+		if ( !useCache ) {
+			return keysToLookUp;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final List<Object> cacheKeys = new ArrayList<>( keysToLookUp.size() );
+		for ( EntityKey entityKey : keysToLookUp ) {
+			cacheKeys.add( cache.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			) );
+		}
+		final Map<Object, Object> cacheEntries = CacheHelper.fromSharedCache( source, cacheKeys, cache );
+		final BatchFetchQueue batchFetchQueue = persistenceContext.getBatchFetchQueue();
+		final List<EntityKey> misses = new ArrayList<>();
+		for ( int i = 0; i < keysToLookUp.size(); i++ ) {
+			final EntityKey entityKey = keysToLookUp.get( i );
+			final Object cacheEntry = cacheEntries.get( cacheKeys.get( i ) );
+			batchFetchQueue.addPrefetchedCacheEntry( entityKey, cacheEntry );
+			if ( cacheEntry == null ) {
+				misses.add( entityKey );
+			}
+		}
+		return misses;
+	}
+
 	private Object getFromSharedCache(
-			final Object entityId,
+			final EntityKey entityKey,
 			final EntityPersister persister,
 			SessionImplementor source) {
 		final EntityDataAccess cache = persister.getCacheAccessStrategy();
 		final SessionFactoryImplementor factory = source.getFactory();
-		final Object ck = cache.generateCacheKey(
-				entityId,
-				persister,
-				factory,
-				source.getTenantIdentifier()
-		);
+		final BatchFetchQueue batchFetchQueue = source.getPersistenceContextInternal().getBatchFetchQueue();
+		final Object ce;
+		if ( batchFetchQueue.hasPrefetchedCacheEntry( entityKey ) ) {
+			ce = batchFetchQueue.removePrefetchedCacheEntry( entityKey );
+		}
+		else {
+			final Object ck = cache.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+			ce = CacheHelper.fromSharedCache( source, ck, persister, persister.getCacheAccessStrategy() );
+		}
 
-		final Object ce = CacheHelper.fromSharedCache( source, ck, persister, persister.getCacheAccessStrategy() );
 		final StatisticsImplementor statistics = factory.getStatistics();
 		if ( statistics.isStatisticsEnabled() ) {
 			if ( ce == null ) {
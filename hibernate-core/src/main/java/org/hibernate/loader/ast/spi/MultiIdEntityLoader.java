@@ -8,6 +8,7 @@ package org.hibernate.loader.ast.spi;
 
 import java.util.List;
 
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.spi.EventSource;
 
 /**
@@ -18,4 +19,16 @@ public interface MultiIdEntityLoader<T> extends EntityMultiLoader<T> {
 	 * Load multiple entities by id.  The exact result depends on the passed options.
 	 */
 	<K> List<T> load(K[] ids, MultiIdLoadOptions options, EventSource session);
+
+	/**
+	 * Load multiple entities by id, from a session which is not necessarily
+	 * an {@link EventSource}, for example, a {@link org.hibernate.StatelessSession}.
+	 * The options must not enable checking the session or second-level cache in
+	 * this case.
+	 *
+	 * @since 6.5
+	 */
+	default <K> List<T> load(K[] ids, MultiIdLoadOptions options, SharedSessionContractImplementor session) {
+		return load( ids, options, session.asEventSource() );
+	}
 }
@@ -122,6 +122,7 @@ public abstract class PersistentClass implements IdentifiableTypeClass, Attribut
 
 	private boolean isCached;
 	private CacheLayout queryCacheLayout;
+	private Property queryCacheTagProperty;
 
 	public PersistentClass(MetadataBuildingContext buildingContext) {
 		this.metadataBuildingContext = buildingContext;
@@ -347,6 +348,22 @@ public abstract class PersistentClass implements IdentifiableTypeClass, Attribut
 		this.queryCacheLayout = queryCacheLayout;
 	}
 
+	/**
+	 * The {@linkplain org.hibernate.annotations.QueryCacheTag query cache tag}
+	 * attribute of this entity, declared by this class or by a superclass, or
+	 * {@code null} if there is none.
+	 */
+	public Property getQueryCacheTagProperty() {
+		if ( queryCacheTagProperty == null && getSuperclass() != null ) {
+			return getSuperclass().getQueryCacheTagProperty();
+		}
+		return queryCacheTagProperty;
+	}
+
+	public void setQueryCacheTagProperty(Property queryCacheTagProperty) {
+		this.queryCacheTagProperty = queryCacheTagProperty;
+	}
+
 	public abstract String getCacheConcurrencyStrategy();
 
 	public abstract String getNaturalIdCacheRegionName();
@@ -15,6 +15,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.hibernate.Filter;
+import org.hibernate.Incubating;
 import org.hibernate.Internal;
 import org.hibernate.boot.jaxb.mapping.JaxbEntity;
 import org.hibernate.engine.OptimisticLockStyle;
@@ -364,6 +365,17 @@ public interface EntityMappingType
 		return null;
 	}
 
+	/**
+	 * The attribute holding the {@linkplain org.hibernate.annotations.QueryCacheTag
+	 * query cache tag} of the entity, or {@code null} if the entity has no such attribute.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default AttributeMapping getQueryCacheTagMapping() {
+		return null;
+	}
+
 	@Override
 	default TableDetails getSoftDeleteTableDetails() {
 		return getIdentifierTableDetails();
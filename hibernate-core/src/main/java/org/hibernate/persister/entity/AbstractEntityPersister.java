@@ -64,6 +64,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -457,6 +458,7 @@ public abstract class AbstractEntityPersister
 	private EntityRowIdMapping rowIdMapping;
 	private EntityDiscriminatorMapping discriminatorMapping;
 	private SoftDeleteMapping softDeleteMapping;
+	private AttributeMapping queryCacheTagMapping;
 
 	private AttributeMappingsList attributeMappings;
 	protected AttributeMappingsMap declaredAttributeMappings = AttributeMappingsMap.builder().build();
@@ -1224,10 +1226,14 @@ public abstract class AbstractEntityPersister
 			// todo : do we also need to unset proxy factory?
 			return new ReferenceCacheEntryHelper( this );
 		}
+		else if ( options.isStructuredCacheEntriesEnabled() ) {
+			return new StructuredCacheEntryHelper( this );
+		}
+		else if ( options.isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
 		else {
-			return options.isStructuredCacheEntriesEnabled()
-					? new StructuredCacheEntryHelper( this )
-					: new StandardCacheEntryHelper( this );
+			return new StandardCacheEntryHelper( this );
 		}
 	}
 
@@ -3853,6 +3859,11 @@ public abstract class AbstractEntityPersister
 		return multiIdLoader.load( ids, loadOptions, session );
 	}
 
+	@Override
+	public List<?> multiLoad(Object[] ids, SharedSessionContractImplementor session, MultiIdLoadOptions loadOptions) {
+		return multiIdLoader.load( ids, loadOptions, session );
+	}
+
 	@Override
 	public void registerAffectingFetchProfile(String fetchProfileName) {
 		if ( affectingFetchProfileNames == null ) {
@@ -4995,6 +5006,26 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final CompactCacheEntry structure;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new CompactCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl( state, persister, version, session, entity );
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
@@ -5096,6 +5127,15 @@ public abstract class AbstractEntityPersister
 
 		postProcessAttributeMappings( creationProcess, bootEntityDescriptor );
 
+		final Property queryCacheTagProperty = bootEntityDescriptor.getQueryCacheTagProperty();
+		if ( queryCacheTagProperty != null ) {
+			queryCacheTagMapping = findAttributeMapping( queryCacheTagProperty.getName() );
+			if ( queryCacheTagMapping == null ) {
+				throw new MappingException( "@QueryCacheTag attribute must be an attribute of the entity: "
+						+ getEntityName() + "." + queryCacheTagProperty.getName() );
+			}
+		}
+
 		final ReflectionOptimizer reflectionOptimizer = representationStrategy.getReflectionOptimizer();
 		accessOptimizer = reflectionOptimizer != null ? reflectionOptimizer.getAccessOptimizer() : null;
 
@@ -5984,6 +6024,11 @@ public abstract class AbstractEntityPersister
 		return softDeleteMapping;
 	}
 
+	@Override
+	public AttributeMapping getQueryCacheTagMapping() {
+		return queryCacheTagMapping;
+	}
+
 	@Override
 	public TableDetails getSoftDeleteTableDetails() {
 		return getIdentifierTableDetails();
@@ -6,6 +6,10 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Incubating;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.values.GeneratedValues;
 
@@ -36,4 +40,35 @@ public interface InsertCoordinator extends MutationCoordinator {
 			Object id,
 			Object[] values,
 			SharedSessionContractImplementor session);
+
+	/**
+	 * Whether {@link #insertAll} inserts several instances of the entity at once,
+	 * rather than one after the other.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default boolean supportsInsertAll() {
+		return false;
+	}
+
+	/**
+	 * Persist several instances of an entity with a generated identifier.
+	 *
+	 * @return The {@linkplain GeneratedValues generated values} of each instance,
+	 *         in the order of the given instances.
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default List<GeneratedValues> insertAll(
+			List<Object> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		final List<GeneratedValues> generatedValues = new ArrayList<>( entities.size() );
+		for ( int i = 0; i < entities.size(); i++ ) {
+			generatedValues.add( insert( entities.get( i ), values.get( i ), session ) );
+		}
+		return generatedValues;
+	}
 }
@@ -6,17 +6,30 @@
  */
 package org.hibernate.persister.entity.mutation;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+import org.hibernate.HibernateException;
 import org.hibernate.Internal;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.internal.MultiRowInsertBatchKey;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.MutationExecutor;
 import org.hibernate.engine.jdbc.mutation.ParameterUsage;
 import org.hibernate.engine.jdbc.mutation.TableInclusionChecker;
+import org.hibernate.engine.jdbc.mutation.spi.Binding;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.generator.BeforeExecutionGenerator;
@@ -24,20 +37,33 @@ import org.hibernate.generator.Generator;
 import org.hibernate.generator.OnExecutionGenerator;
 import org.hibernate.generator.values.GeneratedValues;
 import org.hibernate.generator.values.GeneratedValuesMutationDelegate;
+import org.hibernate.generator.values.internal.GeneratedValuesImpl;
+import org.hibernate.id.insert.GetGeneratedKeysDelegate;
+import org.hibernate.id.insert.InsertReturningDelegate;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMappingsList;
 import org.hibernate.metamodel.mapping.BasicEntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EmbeddableMappingType;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.metamodel.mapping.ManagedMappingType;
 import org.hibernate.metamodel.mapping.PluralAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.EmbeddedAttributeMapping;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
 import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.resource.jdbc.ResourceRegistry;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.MutationType;
 import org.hibernate.sql.model.TableMapping;
 import org.hibernate.sql.model.ValuesAnalysis;
+import org.hibernate.sql.model.ast.MutationGroup;
 import org.hibernate.sql.model.ast.builder.MutationGroupBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilder;
 import org.hibernate.sql.model.ast.builder.TableInsertBuilderStandard;
 import org.hibernate.sql.model.ast.builder.TableMutationBuilder;
+import org.hibernate.sql.model.internal.MultiRowInsert;
 import org.hibernate.tuple.entity.EntityMetamodel;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -56,13 +82,37 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 	private final MutationOperationGroup staticInsertGroup;
 	private final BasicBatchKey batchKey;
 
+	// the multi-row variants of the static insert, when the instances
+	// can be inserted using multi-row inserts returning their identifiers
+	private final MultiRowInsert multiRowIdentityInsert;
+
 	public InsertCoordinatorStandard(AbstractEntityPersister entityPersister, SessionFactoryImplementor factory) {
 		super( entityPersister, factory );
 
+		final MutationGroup staticInsertMutationGroup;
+		if ( entityPersister.getEntityMetamodel().isDynamicInsert() ) {
+			// the entity specified dynamic-insert - skip generating the
+			// static inserts as we will create them every time
+			staticInsertMutationGroup = null;
+			staticInsertGroup = null;
+		}
+		else {
+			staticInsertMutationGroup = generateStaticMutationGroup();
+			staticInsertGroup = createOperationGroup( null, staticInsertMutationGroup );
+		}
+
 		if ( entityPersister.isIdentifierAssignedByInsert() || entityPersister.hasInsertGeneratedProperties() ) {
 			// disable batching in case of insert generated identifier or properties
 			batchKey = null;
 		}
+		else if ( staticInsertMutationGroup != null && supportsMultiRowInsert( factory ) ) {
+			batchKey = new MultiRowInsertBatchKey(
+					entityPersister.getEntityName() + "#INSERT",
+					null,
+					factory.getSessionFactoryOptions().getMultiRowInsertSize(),
+					multiRowInserts( staticInsertMutationGroup, factory )
+			);
+		}
 		else {
 			batchKey = new BasicBatchKey(
 					entityPersister.getEntityName() + "#INSERT",
@@ -70,14 +120,94 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 			);
 		}
 
-		if ( entityPersister.getEntityMetamodel().isDynamicInsert() ) {
-			// the entity specified dynamic-insert - skip generating the
-			// static inserts as we will create them every time
-			staticInsertGroup = null;
+		multiRowIdentityInsert = supportsMultiRowIdentityInsert( entityPersister, staticInsertGroup, factory )
+				? MultiRowInsert.from( staticInsertMutationGroup.getSingleTableMutation(), factory )
+				: null;
+	}
+
+	private static boolean supportsMultiRowInsert(SessionFactoryImplementor factory) {
+		return factory.getSessionFactoryOptions().getMultiRowInsertSize() >= 2
+				&& factory.getJdbcServices().getDialect().supportsValuesListForInsert();
+	}
+
+	/**
+	 * The multi-row inserts of the tables of the given static insert which use a standard insert
+	 */
+	private static Map<String, MultiRowInsert> multiRowInserts(
+			MutationGroup staticInsertMutationGroup,
+			SessionFactoryImplementor factory) {
+		final Map<String, MultiRowInsert> multiRowInserts = new HashMap<>();
+		for ( int i = 0; i < staticInsertMutationGroup.getNumberOfTableMutations(); i++ ) {
+			final MultiRowInsert multiRowInsert =
+					MultiRowInsert.from( staticInsertMutationGroup.getTableMutation( i ), factory );
+			if ( multiRowInsert != null ) {
+				multiRowInserts.put( multiRowInsert.getTableName(), multiRowInsert );
+			}
 		}
-		else {
-			staticInsertGroup = generateStaticOperationGroup();
+		return multiRowInserts;
+	}
+
+	/**
+	 * Whether the instances of the entity, whose identifier is generated by the database,
+	 * can be inserted using a multi-row insert which returns the generated identifiers,
+	 * that is, whether the entity is mapped to a single table using the static insert,
+	 * without other generated values, and without association to the entities of its
+	 * own hierarchy, which would require the identifier of one of the rows in the
+	 * values of another. The Dialect must also return the generated identifiers in
+	 * the order of the rows, since they are assigned to the entities in that order.
+	 *
+	 * @see Dialect#supportsOrderedGeneratedValuesForValuesListInsert()
+	 */
+	private static boolean supportsMultiRowIdentityInsert(
+			AbstractEntityPersister entityPersister,
+			MutationOperationGroup staticInsertGroup,
+			SessionFactoryImplementor factory) {
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		if ( !factory.getSessionFactoryOptions().isIdentityInsertBatchingEnabled()
+				|| !dialect.supportsValuesListForInsert()
+				|| !dialect.supportsOrderedGeneratedValuesForValuesListInsert()
+				|| staticInsertGroup == null
+				|| staticInsertGroup.getNumberOfOperations() != 1
+				|| !entityPersister.isIdentifierAssignedByInsert()
+				|| entityPersister.hasInsertGeneratedProperties()
+				|| entityPersister.getRowIdMapping() != null
+				|| !( entityPersister.getIdentifierMapping() instanceof BasicEntityIdentifierMapping )
+				|| !hasStandardInserts( entityPersister ) ) {
+			return false;
+		}
+		final GeneratedValuesMutationDelegate delegate = entityPersister.getInsertDelegate();
+		return ( delegate instanceof InsertReturningDelegate || delegate instanceof GetGeneratedKeysDelegate )
+				&& !referencesHierarchy( entityPersister, entityPersister.getRootEntityDescriptor() );
+	}
+
+	private static boolean hasStandardInserts(AbstractEntityPersister entityPersister) {
+		final boolean[] standardInserts = { true };
+		entityPersister.forEachMutableTable( (tableMapping) -> {
+			if ( tableMapping.getInsertCustomSql() != null || tableMapping.isInsertCallable() ) {
+				standardInserts[0] = false;
+			}
+		} );
+		return standardInserts[0];
+	}
+
+	private static boolean referencesHierarchy(ManagedMappingType mappingType, EntityMappingType rootEntityDescriptor) {
+		final AttributeMappingsList attributeMappings = mappingType.getAttributeMappings();
+		for ( int i = 0; i < attributeMappings.size(); i++ ) {
+			final AttributeMapping attributeMapping = attributeMappings.get( i );
+			if ( attributeMapping instanceof ToOneAttributeMapping ) {
+				final EntityMappingType associatedEntity = ( (ToOneAttributeMapping) attributeMapping ).getEntityMappingType();
+				if ( associatedEntity.getRootEntityDescriptor() == rootEntityDescriptor ) {
+					return true;
+				}
+			}
+			else if ( attributeMapping instanceof EmbeddedAttributeMapping ) {
+				final EmbeddableMappingType embeddable = ( (EmbeddedAttributeMapping) attributeMapping ).getEmbeddableTypeDescriptor();
+				if ( referencesHierarchy( embeddable, rootEntityDescriptor ) ) {
+					return true;
+				}
+			}
 		}
+		return false;
 	}
 
 	@Override
@@ -104,6 +234,159 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 		return coordinateInsert( id, values, entity, session );
 	}
 
+	@Override
+	public boolean supportsInsertAll() {
+		return multiRowIdentityInsert != null;
+	}
+
+	/**
+	 * Insert the given instances, whose identifier is generated by the database, using
+	 * multi-row inserts which return the generated identifiers, in the order of the rows.
+	 * The number of rows of each insert is only limited by the
+	 * {@linkplain Dialect#getParameterCountLimit() parameter limit} of the database.
+	 *
+	 * @implNote Only supported when the {@linkplain Dialect#supportsOrderedGeneratedValuesForValuesListInsert()
+	 *           Dialect returns the generated values in the order of the rows}, since nothing else
+	 *           correlates a returned identifier with the inserted row.
+	 */
+	@Override
+	public List<GeneratedValues> insertAll(
+			List<Object> entities,
+			List<Object[]> values,
+			SharedSessionContractImplementor session) {
+		if ( !supportsInsertAll() ) {
+			return InsertCoordinator.super.insertAll( entities, values, session );
+		}
+
+		final GeneratedValues[] generatedValues = new GeneratedValues[entities.size()];
+		final List<Integer> insertedIndexes = new ArrayList<>( entities.size() );
+		final List<Binding[]> rows = new ArrayList<>( entities.size() );
+		final MutationOperation operation = staticInsertGroup.getSingleOperation();
+		final MutationExecutor mutationExecutor = executor( session, staticInsertGroup, false );
+		try {
+			final JdbcValueBindings jdbcValueBindings = mutationExecutor.getJdbcValueBindings();
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final Object entity = entities.get( i );
+				final Object[] state = values.get( i );
+				if ( preInsertInMemoryValueGeneration( state, entity, session ) ) {
+					// this instance needs its own insert
+					generatedValues[i] = doDynamicInserts( null, state, entity, session, false );
+				}
+				else {
+					final InsertValuesAnalysis insertValuesAnalysis = new InsertValuesAnalysis( entityPersister(), state );
+					decomposeForInsert(
+							mutationExecutor,
+							null,
+							state,
+							staticInsertGroup,
+							entityPersister().getPropertyInsertability(),
+							getTableInclusionChecker( insertValuesAnalysis ),
+							session
+					);
+					// the binding group is cleared by afterStatement(), so copy the bindings
+					final BindingGroup bindingGroup = jdbcValueBindings.getBindingGroup(
+							operation.getTableDetails().getTableName()
+					);
+					rows.add( bindingGroup == null ? new Binding[0] : bindingGroup.getBindings().toArray( new Binding[0] ) );
+					jdbcValueBindings.afterStatement( operation.getTableDetails() );
+					insertedIndexes.add( i );
+				}
+			}
+		}
+		finally {
+			mutationExecutor.release();
+		}
+
+		final BasicEntityIdentifierMapping identifierMapping =
+				(BasicEntityIdentifierMapping) entityPersister().getIdentifierMapping();
+		final int parametersPerRow = multiRowIdentityInsert.getParametersPerRow();
+		final int parameterCountLimit = dialect().getParameterCountLimit();
+		final int rowsPerStatement = parametersPerRow == 0 || parameterCountLimit <= 0
+				? rows.size()
+				: Math.max( 1, parameterCountLimit / parametersPerRow );
+		for ( int firstRow = 0; firstRow < rows.size(); firstRow += rowsPerStatement ) {
+			final int rowCount = Math.min( rowsPerStatement, rows.size() - firstRow );
+			final Object[] ids = executeMultiRowInsert( rows, firstRow, rowCount, parametersPerRow, session );
+			for ( int i = 0; i < rowCount; i++ ) {
+				final GeneratedValuesImpl rowGeneratedValues = new GeneratedValuesImpl( List.of( identifierMapping ) );
+				rowGeneratedValues.addGeneratedValue( identifierMapping, ids[i] );
+				generatedValues[insertedIndexes.get( firstRow + i )] = rowGeneratedValues;
+			}
+		}
+		return Arrays.asList( generatedValues );
+	}
+
+	private Object[] executeMultiRowInsert(
+			List<Binding[]> rows,
+			int firstRow,
+			int rowCount,
+			int parametersPerRow,
+			SharedSessionContractImplementor session) {
+		final String sql = multiRowIdentityInsert.getSqlString( rowCount );
+
+		final JdbcServices jdbcServices = session.getJdbcServices();
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		final ResourceRegistry resourceRegistry = jdbcCoordinator.getLogicalConnection().getResourceRegistry();
+		final GeneratedValuesMutationDelegate delegate = entityPersister().getInsertDelegate();
+		final JdbcMapping identifierJdbcMapping = entityPersister().getIdentifierMapping().getSingleJdbcMapping();
+
+		jdbcServices.getSqlStatementLogger().logStatement( sql );
+		final PreparedStatement statement = delegate.prepareStatement( sql, session );
+		try {
+			for ( int i = 0; i < rowCount; i++ ) {
+				final int offset = i * parametersPerRow;
+				for ( Binding binding : rows.get( firstRow + i ) ) {
+					binding.getValueBinder().bind( statement, binding.getValue(), offset + binding.getPosition(), session );
+				}
+			}
+
+			final ResultSet resultSet;
+			if ( delegate instanceof GetGeneratedKeysDelegate ) {
+				jdbcCoordinator.getResultSetReturn().executeUpdate( statement, sql );
+				resultSet = statement.getGeneratedKeys();
+			}
+			else {
+				resultSet = jdbcCoordinator.getResultSetReturn().execute( statement, sql );
+			}
+			try {
+				final Object[] ids = new Object[rowCount];
+				int row = 0;
+				while ( resultSet.next() ) {
+					if ( row < rowCount ) {
+						ids[row] = identifierJdbcMapping.convertToDomainValue(
+								identifierJdbcMapping.getJdbcValueExtractor().extract( resultSet, 1, session )
+						);
+					}
+					row++;
+				}
+				if ( row != rowCount ) {
+					throw new HibernateException( String.format(
+							Locale.ROOT,
+							"Unexpected number of generated identifiers for `%s`: %s; expected: %s",
+							entityPersister().getNavigableRole().getFullPath(),
+							row,
+							rowCount
+					) );
+				}
+				return ids;
+			}
+			finally {
+				resourceRegistry.release( resultSet, statement );
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert(
+					e,
+					"could not insert: " + MessageHelper.infoString( entityPersister() ),
+					sql
+			);
+		}
+		finally {
+			resourceRegistry.release( statement );
+			jdbcCoordinator.afterStatementExecution();
+		}
+	}
+
 	/**
 	 * Perform the insert(s).
 	 *
@@ -372,12 +655,16 @@ public class InsertCoordinatorStandard extends AbstractMutationCoordinator imple
 	}
 
 	public MutationOperationGroup generateStaticOperationGroup() {
+		return createOperationGroup( null, generateStaticMutationGroup() );
+	}
+
+	private MutationGroup generateStaticMutationGroup() {
 		final MutationGroupBuilder insertGroupBuilder = new MutationGroupBuilder( MutationType.INSERT, entityPersister() );
 		entityPersister().forEachMutableTable(
 				(tableMapping) -> insertGroupBuilder.addTableDetailsBuilder( createTableInsertBuilder( tableMapping, false ) )
 		);
 		applyTableInsertDetails( insertGroupBuilder, entityPersister().getPropertyInsertability(), null, null, false );
-		return createOperationGroup( null, insertGroupBuilder.buildMutationGroup() );
+		return insertGroupBuilder.buildMutationGroup();
 	}
 
 	private TableMutationBuilder<?> createTableInsertBuilder(EntityTableMapping tableMapping, boolean forceIdentifierBinding) {
@@ -489,6 +489,31 @@ public interface SelectionQuery<R> extends CommonQueryContract {
 	 */
 	SelectionQuery<R> setCacheRegion(String cacheRegion);
 
+	/**
+	 * The {@linkplain org.hibernate.annotations.QueryCacheTag query cache tag}
+	 * declared by this query, or {@code null} if none was declared.
+	 *
+	 * @see #setCacheTag(Object)
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	Object getCacheTag();
+
+	/**
+	 * Declare that this query only reads rows with the given
+	 * {@linkplain org.hibernate.annotations.QueryCacheTag query cache tag},
+	 * so that its cached results (assuming {@link #isCacheable}) are only
+	 * invalidated by writes of rows with the same tag, or with an unknown tag.
+	 *
+	 * @see org.hibernate.annotations.QueryCacheTag
+	 * @see org.hibernate.jpa.HibernateHints#HINT_CACHE_TAG
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	SelectionQuery<R> setCacheTag(Object tag);
+
 	/**
 	 * The {@link LockOptions} currently in effect for the query
 	 */
@@ -10,7 +10,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
 import org.hibernate.query.QueryLogging;
 import org.hibernate.query.hql.HqlTranslator;
 import org.hibernate.query.spi.HqlInterpretation;
@@ -38,21 +38,28 @@ public class QueryInterpretationCacheStandardImpl implements QueryInterpretation
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap<Key, QueryPlan> queryPlanCache;
+	private final BoundedConcurrentCache<Key, QueryPlan> queryPlanCache;
 
-	private final BoundedConcurrentHashMap<Object, HqlInterpretation> hqlInterpretationCache;
-	private final BoundedConcurrentHashMap<String, ParameterInterpretation> nativeQueryParamCache;
+	private final BoundedConcurrentCache<Object, HqlInterpretation> hqlInterpretationCache;
+	private final BoundedConcurrentCache<String, ParameterInterpretation> nativeQueryParamCache;
 	private final Supplier<StatisticsImplementor> statisticsSupplier;
 
 	public QueryInterpretationCacheStandardImpl(int maxQueryPlanCount, Supplier<StatisticsImplementor> statisticsSupplier) {
 		log.debugf( "Starting QueryInterpretationCache(%s)", maxQueryPlanCount );
 
-		this.queryPlanCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.hqlInterpretationCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		this.nativeQueryParamCache = new BoundedConcurrentHashMap<>( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+		this.queryPlanCache = new BoundedConcurrentCache<>( maxQueryPlanCount, this::evicted );
+		this.hqlInterpretationCache = new BoundedConcurrentCache<>( maxQueryPlanCount, this::evicted );
+		this.nativeQueryParamCache = new BoundedConcurrentCache<>( maxQueryPlanCount, this::evicted );
 		this.statisticsSupplier = statisticsSupplier;
 	}
 
+	private void evicted() {
+		final StatisticsImplementor statistics = statisticsSupplier.get();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction();
+		}
+	}
+
 	@Override
 	public int getNumberOfCachedHqlInterpretations() {
 		return hqlInterpretationCache.size();
@@ -43,6 +43,7 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 	private CacheStoreMode cacheStoreMode;
 	private Boolean resultCachingEnabled;
 	private String resultCacheRegionName;
+	private Object resultCacheTag;
 	private Boolean readOnlyEnabled;
 	private Boolean queryPlanCachingEnabled;
 
@@ -185,6 +186,16 @@ public class QueryOptionsImpl implements MutableQueryOptions, AppliedGraph {
 		this.resultCacheRegionName = resultCacheRegionName;
 	}
 
+	@Override
+	public Object getResultCacheTag() {
+		return resultCacheTag;
+	}
+
+	@Override
+	public void setResultCacheTag(Object resultCacheTag) {
+		this.resultCacheTag = resultCacheTag;
+	}
+
 	@Override
 	public void setTimeout(int timeout) {
 		this.timeout = timeout;
@@ -66,6 +66,7 @@ import static org.hibernate.internal.log.DeprecationLogger.DEPRECATION_LOGGER;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
 import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_TAG;
 import static org.hibernate.jpa.HibernateHints.HINT_COMMENT;
 import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
@@ -182,6 +183,7 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		putIfNotNull( hints, HINT_FETCH_SIZE, getQueryOptions().getFetchSize() );
 		putIfNotNull( hints, HINT_CACHEABLE, getQueryOptions().isResultCachingEnabled() );
 		putIfNotNull( hints, HINT_CACHE_REGION, getQueryOptions().getResultCacheRegionName() );
+		putIfNotNull( hints, HINT_CACHE_TAG, getQueryOptions().getResultCacheTag() );
 		putIfNotNull( hints, HINT_CACHE_MODE, getQueryOptions().getCacheMode() );
 		putIfNotNull( hints, HINT_QUERY_PLAN_CACHEABLE, getQueryOptions().getQueryPlanCachingEnabled() );
 
@@ -310,6 +312,9 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 				case HINT_CACHE_REGION:
 					applyCacheRegionHint( (String) value );
 					return true;
+				case HINT_CACHE_TAG:
+					applyCacheTagHint( value );
+					return true;
 				case HINT_CACHE_MODE:
 					applyCacheModeHint( getCacheMode( value ) );
 					return true;
@@ -364,6 +369,10 @@ public abstract class AbstractCommonQueryContract implements CommonQueryContract
 		getQueryOptions().setResultCacheRegionName( regionName );
 	}
 
+	protected void applyCacheTagHint(Object tag) {
+		getQueryOptions().setResultCacheTag( tag );
+	}
+
 	private void applyReadOnlyHint(Boolean readOnly) {
 		getQueryOptions().setReadOnly( readOnly );
 	}
@@ -872,6 +872,17 @@ public abstract class AbstractSelectionQuery<R>
 		return this;
 	}
 
+	@Override
+	public Object getCacheTag() {
+		return getQueryOptions().getResultCacheTag();
+	}
+
+	@Override
+	public SelectionQuery<R> setCacheTag(Object tag) {
+		getQueryOptions().setResultCacheTag( tag );
+		return this;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// covariance
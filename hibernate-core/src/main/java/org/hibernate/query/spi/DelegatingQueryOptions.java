@@ -91,6 +91,11 @@ public class DelegatingQueryOptions implements QueryOptions {
 		return queryOptions.getResultCacheRegionName();
 	}
 
+	@Override
+	public Object getResultCacheTag() {
+		return queryOptions.getResultCacheTag();
+	}
+
 	@Override
 	public LockOptions getLockOptions() {
 		return queryOptions.getLockOptions();
@@ -11,6 +11,7 @@ import jakarta.persistence.CacheStoreMode;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.Incubating;
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.graph.spi.RootGraphImplementor;
 import org.hibernate.query.QueryLogging;
@@ -59,6 +60,14 @@ public interface MutableQueryOptions extends QueryOptions {
 	 */
 	void setResultCacheRegionName(String cacheRegion);
 
+	/**
+	 * Corollary to {@link #getResultCacheTag()}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	void setResultCacheTag(Object tag);
+
 	/**
 	 * Corollary to {@link #getQueryPlanCachingEnabled()}
 	 */
@@ -15,6 +15,7 @@ import jakarta.persistence.CacheStoreMode;
 
 import org.hibernate.CacheMode;
 import org.hibernate.FlushMode;
+import org.hibernate.Incubating;
 import org.hibernate.LockOptions;
 import org.hibernate.graph.spi.AppliedGraph;
 import org.hibernate.query.ResultListTransformer;
@@ -101,6 +102,18 @@ public interface QueryOptions {
 	 */
 	String getResultCacheRegionName();
 
+	/**
+	 * The {@linkplain org.hibernate.annotations.QueryCacheTag query cache tag}
+	 * of the rows read by the query, if any. No effect unless
+	 * {@link #isResultCachingEnabled} returns {@code true}
+	 *
+	 * @since 6.5
+	 */
+	@Incubating
+	default Object getResultCacheTag() {
+		return null;
+	}
+
 	/**
 	 * Should the query plan of the query be cached?
 	 */
@@ -8,8 +8,12 @@ package org.hibernate.query.sqm.internal;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.persistence.Tuple;
 import org.hibernate.AssertionFailure;
@@ -25,7 +29,9 @@ import org.hibernate.metamodel.mapping.MappingModelExpressible;
 import org.hibernate.query.Query;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.spi.Limit;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.spi.SelectQueryPlan;
@@ -38,6 +44,7 @@ import org.hibernate.query.sqm.tree.select.SqmSelection;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.FromClauseAccess;
 import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.ArrayJdbcParameter;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.exec.spi.JdbcParametersList;
@@ -73,7 +80,13 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private final SqmInterpreter<List<R>, Void> listInterpreter;
 	private final SqmInterpreter<ScrollableResultsImplementor<R>, ScrollMode> scrollInterpreter;
 
-	private volatile CacheableSqmInterpretation cacheableSqmInterpretation;
+	/**
+	 * The translations of the query, for each combination of the presence of
+	 * an offset and a limit, which affect the rendered SQL
+	 */
+	private final AtomicReferenceArray<CacheableSqmInterpretation> cacheableSqmInterpretations =
+			new AtomicReferenceArray<>( 4 );
+	private final ReentrantLock interpretationLock = new ReentrantLock();
 
 	public ConcreteSqmSelectQueryPlan(
 			SqmSelectStatement<?> sqm,
@@ -97,94 +110,78 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		this.executeQueryInterpreter = (resultsConsumer, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						null,
-						sql -> executionContext.getSession()
-								.getJdbcCoordinator()
-								.getStatementPreparer()
-								.prepareQueryStatement( sql, false, null ),
-						resultsConsumer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					null,
+					sql -> executionContext.getSession()
+							.getJdbcCoordinator()
+							.getStatementPreparer()
+							.prepareQueryStatement( sql, false, null ),
+					resultsConsumer
+			);
 		};
 		this.listInterpreter = (unused, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.selectStatement,
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
-				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
-						rowTransformer,
-						uniqueSemantic
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+					session.getPersistenceContext().getBatchFetchQueue(),
+					sqmInterpretation.selectStatement,
+					JdbcParametersList.empty(),
+					jdbcParameterBindings
+			);
+
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+			return session.getFactory().getJdbcServices().getJdbcSelectExecutor().list(
+					jdbcSelect,
+					jdbcParameterBindings,
+					listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+					rowTransformer,
+					uniqueSemantic
+			);
 		};
 
 		this.scrollInterpreter = (scrollMode, executionContext, sqmInterpretation, jdbcParameterBindings) -> {
 			final SharedSessionContractImplementor session = executionContext.getSession();
 			final JdbcOperationQuerySelect jdbcSelect = sqmInterpretation.getJdbcSelect();
-			try {
-//				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-//						executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
-//						sqmInterpretation.selectStatement,
-//						Collections.emptyList(),
-//						jdbcParameterBindings
-//				);
-
-				final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
-						.getJdbcServices()
-						.getJdbcSelectExecutor();
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
-				return jdbcSelectExecutor.scroll(
-						jdbcSelect,
-						scrollMode,
-						jdbcParameterBindings,
-						new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
-						rowTransformer
-				);
-			}
-			finally {
-				domainParameterXref.clearExpansions();
-			}
+//			final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+//					executionContext.getSession().getPersistenceContext().getBatchFetchQueue(),
+//					sqmInterpretation.selectStatement,
+//					Collections.emptyList(),
+//					jdbcParameterBindings
+//			);
+
+			final JdbcSelectExecutor jdbcSelectExecutor = session.getFactory()
+					.getJdbcServices()
+					.getJdbcSelectExecutor();
+			session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames() );
+			return jdbcSelectExecutor.scroll(
+					jdbcSelect,
+					scrollMode,
+					jdbcParameterBindings,
+					new SqmJdbcExecutionContextAdapter( executionContext, jdbcSelect ),
+					rowTransformer
+			);
 		};
 
 		// todo (6.0) : we should do as much of the building as we can here
 		//  	since this is the thing cached, all the work we do here will
 		//  	be cached as well.
 		// NOTE : this statement ^^ is not affected by load-query-influencers,
-		//		multi-valued parameter expansion, etc - because those all
-		//		cause the plan to not be cached.
-		// NOTE2 (regarding NOTE) : not sure multi-valued parameter expansion, in
-		//		particular, should veto caching of the plan.  The expansion happens
-		//		for each execution - see creation of `JdbcParameterBindings` in
-		//		`#performList` and `#performScroll`.
+		//		etc - because those are part of the key of the cached plan.
+		//		Multi-valued parameters are expanded when the query is translated,
+		//		and each translation records its expansions in its own copy of the
+		//		`DomainParameterXref`, so that translations may be cached and
+		//		shared between executions with the same number of bound values.
 	}
 
 	protected static SqmJdbcExecutionContextAdapter listInterpreterExecutionContext(
@@ -314,15 +311,18 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 	private <T, X> T withCacheableSqmInterpretation(DomainQueryExecutionContext executionContext, X context, SqmInterpreter<T, X> interpreter) {
 		// NOTE : VERY IMPORTANT - intentional double-lock checking
 		//		The other option would be to leverage `java.util.concurrent.locks.ReadWriteLock`
-		//		to protect access.  However, synchronized is much simpler here.  We will verify
-		// 		during throughput testing whether this is an issue and consider changes then
+		//		to protect access.  However, a simple lock is enough here.  It is not a monitor,
+		//		since the translation happens while holding it, and a virtual thread waiting
+		//		for a monitor pins its carrier thread
 
-		CacheableSqmInterpretation localCopy = cacheableSqmInterpretation;
+		final int shape = limitShape( executionContext.getQueryOptions() );
+		CacheableSqmInterpretation localCopy = cacheableSqmInterpretations.get( shape );
 		JdbcParameterBindings jdbcParameterBindings = null;
 
 		if ( localCopy == null ) {
-			synchronized ( this ) {
-				localCopy = cacheableSqmInterpretation;
+			interpretationLock.lock();
+			try {
+				localCopy = cacheableSqmInterpretations.get( shape );
 				if ( localCopy == null ) {
 					localCopy = buildCacheableSqmInterpretation(
 							sqm,
@@ -331,19 +331,25 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 					);
 					jdbcParameterBindings = localCopy.firstParameterBindings;
 					localCopy.firstParameterBindings = null;
-					cacheableSqmInterpretation = localCopy;
+					cacheableSqmInterpretations.set( shape, localCopy );
 				}
 			}
+			finally {
+				interpretationLock.unlock();
+			}
 		}
 		else {
+			// If the translation expanded a multi-valued parameter to a different number of values,
+			// the parameters can't even be bound, so we have to translate the query again
+			final boolean sameExpansions = localCopy.hasSameExpansions( executionContext.getQueryParameterBindings() );
 			// If the translation depends on parameter bindings or it isn't compatible with the current query options,
 			// we have to rebuild the JdbcSelect, which is still better than having to translate from SQM to SQL AST again
-			if ( localCopy.jdbcSelect.dependsOnParameterBindings() ) {
+			if ( sameExpansions && localCopy.jdbcSelect.dependsOnParameterBindings() ) {
 				jdbcParameterBindings = createJdbcParameterBindings( localCopy, executionContext );
 			}
-			// If the translation depends on the limit or lock options, we have to rebuild the JdbcSelect
-			// We could avoid this by putting the lock options into the cache key
-			if ( !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+			// If the translation depends on the values of the limit or lock options, we have to rebuild the JdbcSelect
+			if ( !sameExpansions
+					|| !localCopy.jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
 				localCopy = buildCacheableSqmInterpretation(
 						sqm,
 						domainParameterXref,
@@ -351,7 +357,7 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				);
 				jdbcParameterBindings = localCopy.firstParameterBindings;
 				localCopy.firstParameterBindings = null;
-				cacheableSqmInterpretation = localCopy;
+				cacheableSqmInterpretations.set( shape, localCopy );
 			}
 		}
 
@@ -362,11 +368,24 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		return interpreter.interpret( context, executionContext, localCopy, jdbcParameterBindings );
 	}
 
+	/**
+	 * The presence of an offset or limit changes the rendered SQL, so we keep
+	 * a separate translation for each combination, instead of rebuilding the
+	 * translation each time the query is executed with a different one.
+	 */
+	private static int limitShape(QueryOptions queryOptions) {
+		final Limit limit = queryOptions.getLimit();
+		if ( limit == null ) {
+			return 0;
+		}
+		return ( limit.getFirstRow() == null ? 0 : 1 ) | ( limit.getMaxRows() == null ? 0 : 2 );
+	}
+
 	private JdbcParameterBindings createJdbcParameterBindings(CacheableSqmInterpretation sqmInterpretation, DomainQueryExecutionContext executionContext) {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		return SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				sqmInterpretation.getDomainParameterXref(),
 				sqmInterpretation.getJdbcParamsXref(),
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				sqmInterpretation.getTableGroupAccess()::findTableGroup,
@@ -388,12 +407,14 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		final SharedSessionContractImplementor session = executionContext.getSession();
 		final SessionFactoryImplementor sessionFactory = session.getFactory();
 
+		// the expansions of multi-valued parameters belong to this translation
+		final DomainParameterXref translationParameterXref = domainParameterXref.copy();
 		final SqmTranslation<SelectStatement> sqmInterpretation =
 				sessionFactory.getQueryEngine().getSqmTranslatorFactory()
 						.createSelectTranslator(
 								sqm,
 								executionContext.getQueryOptions(),
-								domainParameterXref,
+								translationParameterXref,
 								executionContext.getQueryParameterBindings(),
 								executionContext.getSession().getLoadQueryInfluencers(),
 								sessionFactory,
@@ -411,11 +432,15 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 						);
 
 		final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref
-				= SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+				= SqmUtil.generateJdbcParamsXref( translationParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+		// later executions may share this translation whatever the number of values of these parameters
+		domainParameterXref.addArrayBoundParameters(
+				arrayBoundParameters( executionContext.getQueryParameterBindings(), jdbcParamsXref )
+		);
 
 		final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
 				executionContext.getQueryParameterBindings(),
-				domainParameterXref,
+				translationParameterXref,
 				jdbcParamsXref,
 				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
 				tableGroupAccess::findTableGroup,
@@ -432,12 +457,67 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 				sqmInterpretation.getSqlAst(),
 				selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() ),
 				tableGroupAccess,
+				translationParameterXref,
 				jdbcParamsXref,
 				sqmInterpretation.getSqmParameterMappingModelTypeResolutions(),
+				expandedBindingSizes( executionContext.getQueryParameterBindings(), jdbcParamsXref ),
 				jdbcParameterBindings
 		);
 	}
 
+	/**
+	 * The number of values of each multi-valued parameter, except the ones which
+	 * were bound to a single {@linkplain ArrayJdbcParameter array parameter}, and
+	 * so don't affect the SQL.
+	 */
+	private static Map<QueryParameterImplementor<?>, Integer> expandedBindingSizes(
+			QueryParameterBindings parameterBindings,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref) {
+		if ( !parameterBindings.hasAnyMultiValuedBindings() ) {
+			return Collections.emptyMap();
+		}
+		final Map<QueryParameterImplementor<?>, Integer> sizes = new IdentityHashMap<>();
+		parameterBindings.visitBindings( (parameter, binding) -> {
+			if ( binding.isMultiValued() && !isBoundToArray( jdbcParamsXref.get( parameter ) ) ) {
+				sizes.put( parameter, binding.getBindValues().size() );
+			}
+		} );
+		return sizes;
+	}
+
+	/**
+	 * The multi-valued parameters which were bound to a single {@linkplain ArrayJdbcParameter
+	 * array parameter}.
+	 */
+	private static Set<QueryParameterImplementor<?>> arrayBoundParameters(
+			QueryParameterBindings parameterBindings,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref) {
+		if ( !parameterBindings.hasAnyMultiValuedBindings() ) {
+			return Collections.emptySet();
+		}
+		final Set<QueryParameterImplementor<?>> parameters = Collections.newSetFromMap( new IdentityHashMap<>() );
+		parameterBindings.visitBindings( (parameter, binding) -> {
+			if ( binding.isMultiValued() && isBoundToArray( jdbcParamsXref.get( parameter ) ) ) {
+				parameters.add( parameter );
+			}
+		} );
+		return parameters;
+	}
+
+	private static boolean isBoundToArray(Map<SqmParameter<?>, List<JdbcParametersList>> jdbcParamsBySqmParam) {
+		if ( jdbcParamsBySqmParam == null || jdbcParamsBySqmParam.isEmpty() ) {
+			return false;
+		}
+		for ( List<JdbcParametersList> jdbcParamsLists : jdbcParamsBySqmParam.values() ) {
+			for ( JdbcParametersList jdbcParams : jdbcParamsLists ) {
+				if ( jdbcParams.size() != 1 || !( jdbcParams.get( 0 ) instanceof ArrayJdbcParameter ) ) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	private interface SqmInterpreter<T, X> {
 		T interpret(
 				X context,
@@ -450,22 +530,28 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 		private final SelectStatement selectStatement;
 		private final JdbcOperationQuerySelect jdbcSelect;
 		private final FromClauseAccess tableGroupAccess;
+		private final DomainParameterXref domainParameterXref;
 		private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
 		private final Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes;
+		private final Map<QueryParameterImplementor<?>, Integer> expandedBindingSizes;
 		private transient JdbcParameterBindings firstParameterBindings;
 
 		CacheableSqmInterpretation(
 				SelectStatement selectStatement,
 				JdbcOperationQuerySelect jdbcSelect,
 				FromClauseAccess tableGroupAccess,
+				DomainParameterXref domainParameterXref,
 				Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
 				Map<SqmParameter<?>, MappingModelExpressible<?>> sqmParameterMappingModelTypes,
+				Map<QueryParameterImplementor<?>, Integer> expandedBindingSizes,
 				JdbcParameterBindings firstParameterBindings) {
 			this.selectStatement = selectStatement;
 			this.jdbcSelect = jdbcSelect;
 			this.tableGroupAccess = tableGroupAccess;
+			this.domainParameterXref = domainParameterXref;
 			this.jdbcParamsXref = jdbcParamsXref;
 			this.sqmParameterMappingModelTypes = sqmParameterMappingModelTypes;
+			this.expandedBindingSizes = expandedBindingSizes;
 			this.firstParameterBindings = firstParameterBindings;
 		}
 
@@ -481,6 +567,10 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return tableGroupAccess;
 		}
 
+		DomainParameterXref getDomainParameterXref() {
+			return domainParameterXref;
+		}
+
 		Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> getJdbcParamsXref() {
 			return jdbcParamsXref;
 		}
@@ -489,6 +579,19 @@ public class ConcreteSqmSelectQueryPlan<R> implements SelectQueryPlan<R> {
 			return sqmParameterMappingModelTypes;
 		}
 
+		/**
+		 * Whether the multi-valued parameters expanded by this translation
+		 * are bound to the same number of values as when it was translated
+		 */
+		boolean hasSameExpansions(QueryParameterBindings parameterBindings) {
+			for ( Map.Entry<QueryParameterImplementor<?>, Integer> entry : expandedBindingSizes.entrySet() ) {
+				if ( parameterBindings.getBinding( entry.getKey() ).getBindValues().size() != entry.getValue() ) {
+					return false;
+				}
+			}
+			return true;
+		}
+
 		JdbcParameterBindings getFirstParameterBindings() {
 			return firstParameterBindings;
 		}
@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.hibernate.internal.util.collections.LinkedIdentityHashMap;
@@ -116,6 +117,9 @@ public class DomainParameterXref {
 
 	private Map<SqmParameter<?>,List<SqmParameter<?>>> expansions;
 
+	// the multi-valued parameters which translations bound to a single array parameter
+	private volatile Set<QueryParameterImplementor<?>> arrayBoundParameters = Collections.emptySet();
+
 	/**
 	 * @implSpec Constructor is defined as public for
 	 */
@@ -185,6 +189,32 @@ public class DomainParameterXref {
 		return queryParamBySqmParam.get( sqmParameter );
 	}
 
+	/**
+	 * Was the given multi-valued parameter bound to a single array parameter,
+	 * rather than expanded to one parameter per value, by a translation of the
+	 * statement? If so, the SQL does not depend on the number of its values.
+	 *
+	 * @see #addArrayBoundParameters
+	 */
+	public boolean isArrayBoundParameter(QueryParameterImplementor<?> queryParameter) {
+		return arrayBoundParameters.contains( queryParameter );
+	}
+
+	/**
+	 * Record the multi-valued parameters which a translation of the statement
+	 * bound to a single array parameter.
+	 */
+	public void addArrayBoundParameters(Set<QueryParameterImplementor<?>> queryParameters) {
+		if ( !arrayBoundParameters.containsAll( queryParameters ) ) {
+			synchronized ( this ) {
+				final Set<QueryParameterImplementor<?>> parameters = Collections.newSetFromMap( new IdentityHashMap<>() );
+				parameters.addAll( arrayBoundParameters );
+				parameters.addAll( queryParameters );
+				arrayBoundParameters = parameters;
+			}
+		}
+	}
+
 	public void addExpansion(
 			QueryParameterImplementor<?> domainParam,
 			SqmParameter originalSqmParameter,
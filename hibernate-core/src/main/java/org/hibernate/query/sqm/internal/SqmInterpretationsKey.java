@@ -7,20 +7,27 @@
 package org.hibernate.query.sqm.internal;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Supplier;
 
+import org.hibernate.Filter;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.spi.AppliedGraph;
+import org.hibernate.graph.spi.RootGraphImplementor;
+import org.hibernate.internal.FilterImpl;
 import org.hibernate.query.ResultListTransformer;
 import org.hibernate.query.TupleTransformer;
 import org.hibernate.query.spi.QueryInterpretationCache;
 import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.spi.QueryParameterImplementor;
 import org.hibernate.query.sqm.tree.SqmStatement;
 
-import static java.lang.Boolean.TRUE;
 import static org.hibernate.query.spi.AbstractSelectionQuery.CRITERIA_HQL_STRING;
 
 /**
@@ -33,7 +40,8 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		SqmStatement<?> getSqmStatement();
 		QueryOptions getQueryOptions();
 		LoadQueryInfluencers getLoadQueryInfluencers();
-		Supplier<Boolean> hasMultiValuedParameterBindingsChecker();
+		QueryParameterBindings getQueryParameterBindings();
+		DomainParameterXref getDomainParameterXref();
 	}
 
 	public interface InterpretationsKeySource extends CacheabilityInfluencers {
@@ -45,6 +53,8 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			final Object query = CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
 					? keySource.getSqmStatement()
 					: keySource.getQueryString();
+			final AppliedGraph appliedGraph = keySource.getQueryOptions().getAppliedGraph();
+			final GraphSemantic graphSemantic = appliedGraph.getSemantic();
 			return new SqmInterpretationsKey(
 					query,
 					query.hashCode(),
@@ -52,7 +62,11 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 					keySource.getQueryOptions().getLockOptions(),
 					keySource.getQueryOptions().getTupleTransformer(),
 					keySource.getQueryOptions().getResultListTransformer(),
-					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() )
+					memoryEfficientDefensiveSetCopy( keySource.getLoadQueryInfluencers().getEnabledFetchProfileNames() ),
+					enabledFiltersCopy( keySource.getLoadQueryInfluencers() ),
+					multiValuedBindingSizes( keySource ),
+					graphSemantic == null ? null : appliedGraph.getGraph(),
+					graphSemantic
 			);
 		}
 		else {
@@ -79,24 +93,88 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		}
 	}
 
+	/**
+	 * The values of the filter parameters are bound per execution, but a parameter
+	 * list is rendered as one JDBC parameter per element, so the key holds the names
+	 * of the enabled filters along with the size of each parameter list, or
+	 * {@code -1} for a single-valued parameter.
+	 */
+	private static Map<String, Map<String, Integer>> enabledFiltersCopy(LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !loadQueryInfluencers.hasEnabledFilters() ) {
+			return null;
+		}
+		final Map<String, Filter> enabledFilters = loadQueryInfluencers.getEnabledFilters();
+		final Map<String, Map<String, Integer>> copy = new HashMap<>( enabledFilters.size() );
+		for ( Map.Entry<String, Filter> entry : enabledFilters.entrySet() ) {
+			final Map<String, ?> parameters = ( (FilterImpl) entry.getValue() ).getParameters();
+			final Map<String, Integer> parameterShapes = new HashMap<>( parameters.size() );
+			for ( Map.Entry<String, ?> parameter : parameters.entrySet() ) {
+				final Object value = parameter.getValue();
+				parameterShapes.put(
+						parameter.getKey(),
+						value instanceof Collection ? ( (Collection<?>) value ).size() : -1
+				);
+			}
+			copy.put( entry.getKey(), parameterShapes );
+		}
+		return copy;
+	}
+
+	/**
+	 * A multi-valued parameter is expanded to one JDBC parameter per value when the
+	 * query is translated, so the key holds the number of values bound to each
+	 * multi-valued parameter. The expansions are recorded by each translation of
+	 * the plan in its own copy of the {@link DomainParameterXref}.
+	 * <p>
+	 * When a translation has rendered the parameter with a single
+	 * {@linkplain org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER array parameter},
+	 * the SQL only depends on whether the list is empty, so that is all the key holds.
+	 * Whether it did is only known once the query has been translated, so the first
+	 * execution is keyed on the exact number of values.
+	 */
+	private static Map<Object, Integer> multiValuedBindingSizes(InterpretationsKeySource keySource) {
+		final DomainParameterXref domainParameterXref = keySource.getDomainParameterXref();
+		final Map<Object, Integer> sizes = new HashMap<>();
+		keySource.getQueryParameterBindings().visitBindings( (parameter, binding) -> {
+			if ( binding.isMultiValued() ) {
+				final int size = binding.getBindValues().size();
+				sizes.put(
+						parameterKey( parameter ),
+						domainParameterXref.isArrayBoundParameter( parameter ) ? Math.min( size, 1 ) : size
+				);
+			}
+		} );
+		return sizes.isEmpty() ? null : sizes;
+	}
+
+	private static Object parameterKey(QueryParameterImplementor<?> parameter) {
+		if ( parameter.getName() != null ) {
+			return parameter.getName();
+		}
+		else if ( parameter.getPosition() != null ) {
+			return parameter.getPosition();
+		}
+		else {
+			// a criteria parameter, which belongs to the SQM statement of the key
+			return parameter;
+		}
+	}
+
 	private static boolean isCacheable(InterpretationsKeySource keySource) {
-		assert keySource.getQueryOptions().getAppliedGraph() != null;
+		final AppliedGraph appliedGraph = keySource.getQueryOptions().getAppliedGraph();
+		assert appliedGraph != null;
 
 		// for now at least, skip caching Criteria-based plans
 		// - especially wrt parameters atm; this works with HQL because the
 		// parameters are part of the query string; with Criteria, they're not.
 		return keySource.isQueryPlanCacheable()
-				// At the moment we cannot cache query plan if there is filter enabled.
-			&& ! keySource.getLoadQueryInfluencers().hasEnabledFilters()
-				// At the moment we cannot cache query plan if it has an entity graph
-			&& keySource.getQueryOptions().getAppliedGraph().getSemantic() == null
-				// todo (6.0) : this one may be ok because of how I implemented multi-valued param handling
-				// - the expansion is done per-execution based on the "static" SQM
-				// - Note from Christian: The call to domainParameterXref.clearExpansions()
-				//   in ConcreteSqmSelectQueryPlan is a concurrency issue when cached
-				// - This could be solved by using a method-local clone of domainParameterXref
-				//   when multi-valued params exist
-			&& ! keySource.hasMultiValuedParameterBindingsChecker().get() == TRUE;
+				// We can only cache the query plan for an entity graph which can't be modified later
+			&& ( appliedGraph.getSemantic() == null
+					|| appliedGraph.getGraph() != null && !appliedGraph.getGraph().isMutable() )
+				// A criteria query is keyed on its (uncopied) tree, which applications have always been
+				// able to keep modifying between executions when it has multi-valued parameters
+			&& !( CRITERIA_HQL_STRING.equals( keySource.getQueryString() )
+					&& keySource.getQueryParameterBindings().hasAnyMultiValuedBindings() );
 	}
 
 	public static QueryInterpretationCache.Key generateNonSelectKey(InterpretationsKeySource keyDetails) {
@@ -113,6 +191,10 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 	private final TupleTransformer<?> tupleTransformer;
 	private final ResultListTransformer<?> resultListTransformer;
 	private final Collection<String> enabledFetchProfiles;
+	private final Map<String, Map<String, Integer>> enabledFilters;
+	private final Map<Object, Integer> multiValuedBindingSizes;
+	private final RootGraphImplementor<?> graph;
+	private final GraphSemantic graphSemantic;
 	private final int hashcode;
 
 	private SqmInterpretationsKey(
@@ -122,7 +204,11 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			LockOptions lockOptions,
 			TupleTransformer<?> tupleTransformer,
 			ResultListTransformer<?> resultListTransformer,
-			Collection<String> enabledFetchProfiles) {
+			Collection<String> enabledFetchProfiles,
+			Map<String, Map<String, Integer>> enabledFilters,
+			Map<Object, Integer> multiValuedBindingSizes,
+			RootGraphImplementor<?> graph,
+			GraphSemantic graphSemantic) {
 		this.query = query;
 		this.hashcode = hash;
 		this.resultType = resultType;
@@ -130,6 +216,10 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 		this.tupleTransformer = tupleTransformer;
 		this.resultListTransformer = resultListTransformer;
 		this.enabledFetchProfiles = enabledFetchProfiles;
+		this.enabledFilters = enabledFilters;
+		this.multiValuedBindingSizes = multiValuedBindingSizes;
+		this.graph = graph;
+		this.graphSemantic = graphSemantic;
 	}
 
 	@Override
@@ -142,7 +232,11 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 				lockOptions.makeDefensiveCopy(),
 				tupleTransformer,
 				resultListTransformer,
-				enabledFetchProfiles
+				enabledFetchProfiles,
+				enabledFilters,
+				multiValuedBindingSizes,
+				graph,
+				graphSemantic
 		);
 	}
 
@@ -167,7 +261,11 @@ public final class SqmInterpretationsKey implements QueryInterpretationCache.Key
 			&& Objects.equals( lockOptions, that.lockOptions )
 			&& Objects.equals( tupleTransformer, that.tupleTransformer )
 			&& Objects.equals( resultListTransformer, that.resultListTransformer )
-			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles );
+			&& Objects.equals( enabledFetchProfiles, that.enabledFetchProfiles )
+			&& Objects.equals( enabledFilters, that.enabledFilters )
+			&& Objects.equals( multiValuedBindingSizes, that.multiValuedBindingSizes )
+			&& graph == that.graph
+			&& graphSemantic == that.graphSemantic;
 	}
 
 	@Override
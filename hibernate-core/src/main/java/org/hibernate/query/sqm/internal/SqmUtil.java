@@ -66,6 +66,7 @@ import org.hibernate.sql.ast.Clause;
 import org.hibernate.sql.ast.SqlTreeCreationException;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.from.TableGroup;
+import org.hibernate.sql.exec.internal.ArrayJdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingImpl;
 import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
@@ -304,6 +305,20 @@ public class SqmUtil {
 				}
 				else if ( domainParamBinding.isMultiValued() ) {
 					final Collection<?> bindValues = domainParamBinding.getBindValues();
+					if ( isArrayParameter( jdbcParamsBinds ) ) {
+						// all the values are bound at once to a parameter of array type
+						for ( int i = 0; i < jdbcParamsBinds.size(); i++ ) {
+							final ArrayJdbcParameter arrayParameter = (ArrayJdbcParameter) jdbcParamsBinds.get( i ).get( 0 );
+							jdbcParameterBindings.addBinding(
+									arrayParameter,
+									new JdbcParameterBindingImpl(
+											arrayParameter.getJdbcMapping(),
+											arrayParameter.toArray( bindValues, session )
+									)
+							);
+						}
+						continue;
+					}
 					final Iterator<?> valueItr = bindValues.iterator();
 
 					// the original SqmParameter is the one we are processing.. create a binding for it..
@@ -412,6 +427,14 @@ public class SqmUtil {
 		return jdbcParameterBindings;
 	}
 
+	private static boolean isArrayParameter(List<JdbcParametersList> jdbcParamsBinds) {
+		if ( jdbcParamsBinds.isEmpty() ) {
+			return false;
+		}
+		final JdbcParametersList jdbcParams = jdbcParamsBinds.get( 0 );
+		return jdbcParams.size() == 1 && jdbcParams.get( 0 ) instanceof ArrayJdbcParameter;
+	}
+
 	private static void createValueBindings(
 			JdbcParameterBindings jdbcParameterBindings,
 			QueryParameterImplementor<?> domainParam,
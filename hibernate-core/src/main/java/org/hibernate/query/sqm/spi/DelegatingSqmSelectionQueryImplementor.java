@@ -239,6 +239,11 @@ public abstract class DelegatingSqmSelectionQueryImplementor<R> implements SqmSe
 		return getDelegate().getCacheRegion();
 	}
 
+	@Override
+	public Object getCacheTag() {
+		return getDelegate().getCacheTag();
+	}
+
 	@Override
 	public LockOptions getLockOptions() {
 		return getDelegate().getLockOptions();
@@ -584,6 +589,12 @@ public abstract class DelegatingSqmSelectionQueryImplementor<R> implements SqmSe
 		return this;
 	}
 
+	@Override
+	public SqmSelectionQueryImplementor<R> setCacheTag(Object tag) {
+		getDelegate().setCacheTag( tag );
+		return this;
+	}
+
 	@Override
 	public SqmSelectionQueryImplementor<R> setTimeout(int timeout) {
 		getDelegate().setTimeout( timeout );
@@ -32,6 +32,7 @@ import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.collections.Stack;
 import org.hibernate.internal.util.collections.StandardStack;
 import org.hibernate.loader.MultipleBagFetchException;
+import org.hibernate.loader.ast.internal.MultiKeyLoadHelper;
 import org.hibernate.metamodel.CollectionClassification;
 import org.hibernate.metamodel.MappingMetamodel;
 import org.hibernate.metamodel.mapping.AssociationKey;
@@ -343,6 +344,7 @@ import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
 import org.hibernate.sql.ast.tree.predicate.ExistsPredicate;
 import org.hibernate.sql.ast.tree.predicate.GroupedPredicate;
+import org.hibernate.sql.ast.tree.predicate.InArrayPredicate;
 import org.hibernate.sql.ast.tree.predicate.InListPredicate;
 import org.hibernate.sql.ast.tree.predicate.InSubQueryPredicate;
 import org.hibernate.sql.ast.tree.predicate.Junction;
@@ -363,6 +365,7 @@ import org.hibernate.sql.ast.tree.update.Assignable;
 import org.hibernate.sql.ast.tree.update.Assignment;
 import org.hibernate.sql.ast.tree.update.UpdateStatement;
 import org.hibernate.sql.exec.internal.AbstractJdbcParameter;
+import org.hibernate.sql.exec.internal.ArrayJdbcParameter;
 import org.hibernate.sql.exec.internal.JdbcParameterImpl;
 import org.hibernate.sql.exec.internal.JdbcParametersImpl;
 import org.hibernate.sql.exec.internal.SqlTypedMappingJdbcParameter;
@@ -399,6 +402,7 @@ import org.hibernate.usertype.UserVersionType;
 import org.hibernate.usertype.internal.AbstractTimeZoneStorageCompositeUserType;
 import org.jboss.logging.Logger;
 
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.PreparedStatement;
@@ -5737,7 +5741,8 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				for ( List<JdbcParameter> parameters : jdbcParamsForSqmParameter ) {
 					assert parameters.size() == 1;
 					final JdbcParameter jdbcParameter = parameters.get( 0 );
-					if ( ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
+					if ( !( jdbcParameter instanceof ArrayJdbcParameter )
+							&& ( (SqlExpressible) jdbcParameter ).getJdbcMapping() != jdbcMapping ) {
 						final JdbcParameter newJdbcParameter = new JdbcParameterImpl( jdbcMapping );
 						parameters.set( 0, newJdbcParameter );
 						jdbcParameters.getJdbcParameters().remove( jdbcParameter );
@@ -7817,9 +7822,12 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 				final SqmParameter<?> sqmParameter = (SqmParameter<?>) sqmExpression;
 
 				if ( sqmParameter.allowMultiValuedBinding() ) {
-					final InListPredicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
-					if ( specialCase != null ) {
-						handleTypeComparison( specialCase );
+					final Predicate specialCase = processInListWithSingleParameter( predicate, sqmParameter );
+					if ( specialCase instanceof InListPredicate ) {
+						handleTypeComparison( (InListPredicate) specialCase );
+						return specialCase;
+					}
+					else if ( specialCase != null ) {
 						return specialCase;
 					}
 				}
@@ -7887,7 +7895,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
-	private InListPredicate processInListWithSingleParameter(
+	private Predicate processInListWithSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter) {
 		assert sqmParameter.allowMultiValuedBinding();
@@ -7899,7 +7907,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		return processInSingleHqlParameter( sqmPredicate, sqmParameter );
 	}
 
-	private InListPredicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
+	private Predicate processInSingleHqlParameter(SqmInListPredicate<?> sqmPredicate, SqmParameter<?> sqmParameter) {
 		final QueryParameterImplementor<?> domainParam = domainParameterXref.getQueryParameter( sqmParameter );
 		final QueryParameterBinding<?> domainParamBinding = domainParameterBindings.getBinding( domainParam );
 		if ( !domainParamBinding.isMultiValued() ) {
@@ -7910,7 +7918,7 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		return processInSingleParameter( sqmPredicate, sqmParameter, domainParam, domainParamBinding );
 	}
 
-	private InListPredicate processInSingleCriteriaParameter(
+	private Predicate processInSingleCriteriaParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			JpaCriteriaParameter<?> jpaCriteriaParameter) {
 		assert jpaCriteriaParameter.allowsMultiValuedBinding();
@@ -7925,15 +7933,16 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 	}
 
 	@SuppressWarnings( "rawtypes" )
-	private InListPredicate processInSingleParameter(
+	private Predicate processInSingleParameter(
 			SqmInListPredicate<?> sqmPredicate,
 			SqmParameter<?> sqmParameter,
 			QueryParameterImplementor<?> domainParam,
 			QueryParameterBinding<?> domainParamBinding) {
 		final Iterator<?> iterator = domainParamBinding.getBindValues().iterator();
 
+		final Expression testExpression = (Expression) sqmPredicate.getTestExpression().accept( this );
 		final InListPredicate inListPredicate = new InListPredicate(
-				(Expression) sqmPredicate.getTestExpression().accept( this ),
+				testExpression,
 				sqmPredicate.isNegated(),
 				getBooleanType()
 		);
@@ -7945,6 +7954,34 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 			return inListPredicate;
 		}
 
+		if ( !sqmPredicate.isNegated()
+				&& !( testExpression instanceof DiscriminatorPathInterpretation<?> )
+				&& creationContext.getSessionFactory().getSessionFactoryOptions().inClauseArrayParameterEnabled() ) {
+			final MappingModelExpressible<?> valueMapping =
+					determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex );
+			final JdbcMapping arrayJdbcMapping = resolveArrayJdbcMapping( valueMapping );
+			if ( arrayJdbcMapping != null ) {
+				// bind all the values to a single parameter of array type,
+				// so that the SQL does not depend on the number of values
+				final ArrayJdbcParameter arrayParameter =
+						new ArrayJdbcParameter( arrayJdbcMapping, valueMapping.getSingleJdbcMapping() );
+				final List<JdbcParameter> jdbcParametersForSqm = new ArrayList<>( 1 );
+				jdbcParametersForSqm.add( arrayParameter );
+				jdbcParameters.addParameters( jdbcParametersForSqm );
+				jdbcParamsBySqmParam.computeIfAbsent( sqmParameter, k -> new ArrayList<>( 1 ) )
+						.add( jdbcParametersForSqm );
+				sqmParameterMappingModelTypes.put( sqmParameter, valueMapping );
+				if ( domainParamBinding.setType( (MappingModelExpressible) valueMapping ) ) {
+					replaceJdbcParametersType(
+							sqmParameter,
+							domainParameterXref.getSqmParameters( domainParam ),
+							valueMapping
+					);
+				}
+				return new InArrayPredicate( testExpression, arrayParameter, getBooleanType() );
+			}
+		}
+
 		inferrableTypeAccessStack.push(
 				() -> determineValueMapping( sqmPredicate.getTestExpression(), fromClauseIndex )
 		);
@@ -7966,6 +8003,46 @@ public abstract class BaseSqmToSqlAstConverter<T extends Statement> extends Base
 		}
 	}
 
+	/**
+	 * Resolve the {@link JdbcMapping} of an array of the values of the given mapping,
+	 * or {@code null} if the values cannot be bound as a single array parameter.
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+	 */
+	private JdbcMapping resolveArrayJdbcMapping(MappingModelExpressible<?> valueMapping) {
+		if ( !( valueMapping instanceof BasicValuedMapping )
+				|| !creationContext.getSessionFactory().getJdbcServices().getDialect().supportsStandardArrays() ) {
+			return null;
+		}
+		final JdbcMapping elementJdbcMapping = ( (BasicValuedMapping) valueMapping ).getJdbcMapping();
+		if ( !( elementJdbcMapping instanceof BasicType<?> )
+				|| elementJdbcMapping.getValueConverter() != null
+				|| elementJdbcMapping.getJdbcType() instanceof ArrayJdbcType
+				|| elementJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass().isPrimitive() ) {
+			return null;
+		}
+		final Class<?> arrayClass = Array.newInstance(
+				elementJdbcMapping.getJavaTypeDescriptor().getJavaTypeClass(),
+				0
+		).getClass();
+		try {
+			final JdbcMapping arrayJdbcMapping = MultiKeyLoadHelper.resolveArrayJdbcMapping(
+					null,
+					elementJdbcMapping,
+					arrayClass,
+					creationContext.getSessionFactory()
+			);
+			return arrayJdbcMapping != null
+					&& arrayJdbcMapping.getJdbcType().getDefaultSqlTypeCode() == SqlTypes.ARRAY
+					? arrayJdbcMapping
+					: null;
+		}
+		catch (IllegalArgumentException e) {
+			// the element type has no array counterpart
+			return null;
+		}
+	}
+
 	@Override
 	public InSubQueryPredicate visitInSubQueryPredicate(SqmInSubQueryPredicate<?> predicate) {
 		return new InSubQueryPredicate(
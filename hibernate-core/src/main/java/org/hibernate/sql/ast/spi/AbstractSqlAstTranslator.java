@@ -7527,23 +7527,39 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 
 		if ( value instanceof Iterable
 				&& !valueMapping.getJavaTypeDescriptor().isInstance( value ) ) {
-			processIterableFilterParameterValue( valueMapping, ( (Iterable<?>) value ).iterator() );
+			processIterableFilterParameterValue( parameter, valueMapping, ( (Iterable<?>) value ).iterator() );
 		}
 		else {
-			processSingularFilterParameterValue( valueMapping, value );
+			processSingularFilterParameterValue( parameter, valueMapping, value, -1 );
 		}
 
 		return markerStart + marker.length();
 	}
 
-	private void processSingularFilterParameterValue(JdbcMapping valueMapping, Object value) {
-		visitParameterAsParameter( new FilterJdbcParameter( valueMapping, value ) );
-	}
-
-	private void processIterableFilterParameterValue(JdbcMapping valueMapping, Iterator<?> iterator) {
+	private void processSingularFilterParameterValue(
+			FilterFragmentParameter parameter,
+			JdbcMapping valueMapping,
+			Object value,
+			int elementIndex) {
+		// the value is read from the filter of the executing session, so that a
+		// cached query plan binds the current value of the filter parameter
+		visitParameterAsParameter( new FilterJdbcParameter(
+				valueMapping,
+				value,
+				parameter.getFilterName(),
+				parameter.getParameterName(),
+				elementIndex
+		) );
+	}
+
+	private void processIterableFilterParameterValue(
+			FilterFragmentParameter parameter,
+			JdbcMapping valueMapping,
+			Iterator<?> iterator) {
+		int elementIndex = 0;
 		while ( iterator.hasNext() ) {
 			final Object element = iterator.next();
-			processSingularFilterParameterValue( valueMapping, element );
+			processSingularFilterParameterValue( parameter, valueMapping, element, elementIndex++ );
 			if ( iterator.hasNext() ) {
 				appendSql( "," );
 			}
@@ -8703,12 +8719,18 @@ public abstract class AbstractSqlAstTranslator<T extends JdbcOperation> implemen
 		try {
 			sqlBuffer.append( ") values (" );
 
-			tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
-				if ( columnPosition > 0 ) {
-					sqlBuffer.append( ',' );
+			// a multi-row insert repeats the values of the row for every row
+			for ( int row = 0; row < tableInsert.getRowCount(); row++ ) {
+				if ( row > 0 ) {
+					sqlBuffer.append( "),(" );
 				}
-				columnValueBinding.getValueExpression().accept( this );
-			} );
+				tableInsert.forEachValueBinding( (columnPosition, columnValueBinding) -> {
+					if ( columnPosition > 0 ) {
+						sqlBuffer.append( ',' );
+					}
+					columnValueBinding.getValueExpression().accept( this );
+				} );
+			}
 		}
 		finally {
 			getCurrentClauseStack().pop();
@@ -0,0 +1,53 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.sql.exec.internal;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.mapping.JdbcMapping;
+import org.hibernate.type.descriptor.java.JavaType;
+
+/**
+ * A {@link org.hibernate.sql.ast.tree.expression.JdbcParameter} of SQL {@code ARRAY}
+ * type to which all the values of a multi-valued query parameter are bound at once.
+ *
+ * @see org.hibernate.cfg.QuerySettings#IN_CLAUSE_ARRAY_PARAMETER
+ */
+public class ArrayJdbcParameter extends AbstractJdbcParameter {
+	private final JdbcMapping elementJdbcMapping;
+
+	public ArrayJdbcParameter(JdbcMapping arrayJdbcMapping, JdbcMapping elementJdbcMapping) {
+		super( arrayJdbcMapping );
+		this.elementJdbcMapping = elementJdbcMapping;
+	}
+
+	public JdbcMapping getElementJdbcMapping() {
+		return elementJdbcMapping;
+	}
+
+	/**
+	 * Create the array to bind to this parameter from the given values.
+	 */
+	public Object toArray(Collection<?> values, SharedSessionContractImplementor session) {
+		//noinspection unchecked
+		final JavaType<Object> elementJavaType = (JavaType<Object>) elementJdbcMapping.getJavaTypeDescriptor();
+		final Object array = Array.newInstance( elementJavaType.getJavaTypeClass(), values.size() );
+		int i = 0;
+		for ( Object value : values ) {
+			Array.set(
+					array,
+					i++,
+					value == null || elementJavaType.isInstance( value )
+							? value
+							: elementJavaType.wrap( value, session )
+			);
+		}
+		return array;
+	}
+}
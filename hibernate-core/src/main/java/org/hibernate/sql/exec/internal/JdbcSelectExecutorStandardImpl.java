@@ -230,6 +230,18 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 		return result;
 	}
 
+	private static Set<String> resolveUpToDateCheckSpaces(
+			Set<String> querySpaces,
+			ExecutionContext executionContext) {
+		final Object tag = executionContext.getQueryOptions().getResultCacheTag();
+		if ( tag == null || querySpaces == null ) {
+			return querySpaces;
+		}
+		final SharedSessionContractImplementor session = executionContext.getSession();
+		return session.getFactory().getCache().getTimestampsCache()
+				.resolveUpToDateCheckSpaces( querySpaces, tag, session );
+	}
+
 	private <T> int getResultSize(T result) {
 		if ( result instanceof List ) {
 			return ( (List<?>) result ).size();
@@ -280,7 +292,7 @@ public class JdbcSelectExecutorStandardImpl implements JdbcSelectExecutor {
 					queryResultsCacheKey,
 					// todo (6.0) : `querySpaces` and `session` make perfect sense as args, but its odd passing those into this method just to pass along
 					//		atm we do not even collect querySpaces, but we need to
-					querySpaces,
+					resolveUpToDateCheckSpaces( querySpaces, executionContext ),
 					session
 			);
 
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.sql.model.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Internal;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.sql.model.ast.TableMutation;
+import org.hibernate.sql.model.jdbc.JdbcInsertMutation;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The SQL of the multi-row variants of a {@linkplain TableInsertStandard standard insert},
+ * which insert several rows using a single {@code insert ... values (...), (...)} statement.
+ * <p>
+ * The SQL is {@linkplain TableInsertStandard#withRowCount rendered from the mutation model}
+ * by the {@link org.hibernate.sql.ast.SqlAstTranslator} of the Dialect, so that it includes
+ * any returning clause the Dialect needs, and is cached by number of rows. The JDBC parameters
+ * of the rows follow each other: the parameter at position {@code p} of the single-row insert
+ * is found at position {@code r * getParametersPerRow() + p} for the row {@code r}, counted
+ * from zero.
+ *
+ * @since 6.5
+ */
+@Internal
+public class MultiRowInsert {
+	private final TableInsertStandard tableInsert;
+	private final String singleRowSql;
+	private final int parametersPerRow;
+	private final SessionFactoryImplementor factory;
+	private final ConcurrentHashMap<Integer, String> sqlByRowCount = new ConcurrentHashMap<>();
+
+	private MultiRowInsert(TableInsertStandard tableInsert, JdbcInsertMutation operation, SessionFactoryImplementor factory) {
+		this.tableInsert = tableInsert;
+		this.singleRowSql = operation.getSqlString();
+		this.parametersPerRow = operation.getParameterBinders().size();
+		this.factory = factory;
+	}
+
+	/**
+	 * The multi-row variants of the given table mutation, or {@code null} if it
+	 * isn't a standard insert of at least one value, for example an insert using
+	 * {@linkplain org.hibernate.annotations.SQLInsert custom SQL}.
+	 */
+	public static @Nullable MultiRowInsert from(TableMutation<?> tableMutation, SessionFactoryImplementor factory) {
+		if ( tableMutation instanceof TableInsertStandard ) {
+			final TableInsertStandard tableInsert = (TableInsertStandard) tableMutation;
+			if ( tableInsert.getNumberOfValueBindings() > 0 && tableInsert.getRowCount() == 1 ) {
+				final JdbcInsertMutation operation = tableInsert.createMutationOperation( null, factory );
+				if ( operation != null && !operation.isCallable()
+						&& operation.getExpectation().getNumberOfParametersUsed() == 0 ) {
+					return new MultiRowInsert( tableInsert, operation, factory );
+				}
+			}
+		}
+		return null;
+	}
+
+	public String getTableName() {
+		return tableInsert.getTableName();
+	}
+
+	/**
+	 * The SQL of the single-row insert
+	 */
+	public String getSingleRowSqlString() {
+		return singleRowSql;
+	}
+
+	/**
+	 * The number of JDBC parameters of each row
+	 */
+	public int getParametersPerRow() {
+		return parametersPerRow;
+	}
+
+	/**
+	 * The SQL of the insert of the given number of rows
+	 */
+	public String getSqlString(int rowCount) {
+		if ( rowCount == 1 ) {
+			return singleRowSql;
+		}
+		return sqlByRowCount.computeIfAbsent(
+				rowCount,
+				(count) -> tableInsert.withRowCount( count ).createMutationOperation( null, factory ).getSqlString()
+		);
+	}
+}
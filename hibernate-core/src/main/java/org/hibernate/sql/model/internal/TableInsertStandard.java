@@ -22,6 +22,7 @@ import org.hibernate.sql.model.ast.MutatingTableReference;
  */
 public class TableInsertStandard extends AbstractTableInsert {
 	private final List<ColumnReference> returningColumns;
+	private final int rowCount;
 
 	public TableInsertStandard(
 			MutatingTableReference mutatingTable,
@@ -31,6 +32,48 @@ public class TableInsertStandard extends AbstractTableInsert {
 			List<ColumnValueParameter> parameters) {
 		super( mutatingTable, mutationTarget, parameters, valueBindings );
 		this.returningColumns = returningColumns;
+		this.rowCount = 1;
+	}
+
+	private TableInsertStandard(TableInsertStandard original, int rowCount) {
+		super(
+				original.getMutatingTable(),
+				original.getMutationTarget(),
+				original.getMutationComment(),
+				original.getParameters(),
+				original.getValueBindings()
+		);
+		this.returningColumns = original.returningColumns;
+		this.rowCount = rowCount;
+	}
+
+	/**
+	 * A copy of this insert, which inserts the given number of rows, with the
+	 * same {@linkplain #getValueBindings() values}, at once, using a multi-row
+	 * {@code values} clause.
+	 *
+	 * @see org.hibernate.dialect.Dialect#supportsValuesListForInsert()
+	 *
+	 * @since 6.5
+	 */
+	public TableInsertStandard withRowCount(int rowCount) {
+		if ( rowCount < 1 ) {
+			throw new IllegalArgumentException( "rowCount must be at least 1" );
+		}
+		if ( getNumberOfValueBindings() == 0 && rowCount > 1 ) {
+			throw new IllegalStateException( "An insert without values cannot insert multiple rows" );
+		}
+		return rowCount == this.rowCount ? this : new TableInsertStandard( this, rowCount );
+	}
+
+	/**
+	 * The number of rows inserted by this insert, each of which has the same
+	 * {@linkplain #getValueBindings() values}.
+	 *
+	 * @since 6.5
+	 */
+	public int getRowCount() {
+		return rowCount;
 	}
 
 	@Override
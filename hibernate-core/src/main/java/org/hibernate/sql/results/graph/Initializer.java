@@ -93,6 +93,14 @@ public interface Initializer {
 		// by default - nothing to do
 	}
 
+	/**
+	 * Lifecycle method called instead of {@link #endLoading} when the result values
+	 * processing fails, to release what is held for the whole processing
+	 */
+	default void abortLoading(ExecutionContext executionContext) {
+		// by default - nothing to do
+	}
+
 	boolean isPartOfKey();
 
 	static boolean isPartOfKey(NavigablePath navigablePath, FetchParentAccess parentAccess) {
@@ -6,12 +6,17 @@
  */
 package org.hibernate.sql.results.graph.entity;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import org.hibernate.Hibernate;
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
 import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
@@ -29,11 +34,13 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventManager;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.HibernateMonitoringEvent;
 import org.hibernate.event.spi.PreLoadEvent;
 import org.hibernate.event.spi.PreLoadEventListener;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.loader.ast.internal.CacheEntityLoaderHelper;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
 import org.hibernate.metamodel.mapping.AttributeMapping;
 import org.hibernate.metamodel.mapping.AttributeMetadata;
 import org.hibernate.metamodel.mapping.CompositeIdentifierMapping;
@@ -62,6 +69,7 @@ import org.hibernate.sql.results.graph.Initializer;
 import org.hibernate.sql.results.graph.basic.BasicResultAssembler;
 import org.hibernate.sql.results.graph.embeddable.internal.EmbeddableAssembler;
 import org.hibernate.sql.results.internal.NullValueAssembler;
+import org.hibernate.sql.results.internal.RowProcessingStateStandardImpl;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingOptions;
 import org.hibernate.sql.results.jdbc.spi.JdbcValuesSourceProcessingState;
 import org.hibernate.sql.results.jdbc.spi.RowProcessingState;
@@ -108,6 +116,9 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 
 	private boolean shallowCached;
 
+	// entities loaded by this execution, by concrete entity, which are put into the second-level cache together
+	private Map<EntityPersister, PendingCachePuts> pendingCachePuts;
+
 	// per-row state
 	private EntityPersister concreteDescriptor;
 	private EntityKey entityKey;
@@ -308,12 +319,116 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 	@Override
 	public void startLoading(RowProcessingState rowProcessingState) {
 		if ( rowProcessingState.isQueryCacheHit() && entityDescriptor.useShallowQueryCacheLayout() && !isParentShallowCached() ) {
+			if ( !shallowCached && !rowProcessingState.isScrollResult() ) {
+				prefetchFromSecondLevelCache( rowProcessingState );
+			}
 			shallowCached = true;
 			// Inform sub-initializers if this is a query cache hit for a shallow entry
 			markSubInitializersAsShallowCached();
 		}
 	}
 
+	/**
+	 * The entities of a query cache hit with the shallow layout are loaded one at a time,
+	 * so look them all up in the second-level cache at once, before the rows are read,
+	 * and then load those which were not found in the cache from the database at once.
+	 */
+	private void prefetchFromSecondLevelCache(RowProcessingState rowProcessingState) {
+		final EntityPersister persister = entityDescriptor.getEntityPersister();
+		if ( identifierAssembler instanceof BasicResultAssembler
+				&& rowProcessingState instanceof RowProcessingStateStandardImpl ) {
+			final RowProcessingStateStandardImpl rows = (RowProcessingStateStandardImpl) rowProcessingState;
+			if ( !rows.isBeforeFirst() ) {
+				return;
+			}
+			final JdbcValuesSourceProcessingOptions processingOptions =
+					rowProcessingState.getJdbcValuesSourceProcessingState().getProcessingOptions();
+			final List<EntityKey> entityKeys = new ArrayList<>();
+			try {
+				while ( rows.next() ) {
+					final Object id = identifierAssembler.assemble( rowProcessingState, processingOptions );
+					if ( id != null ) {
+						entityKeys.add( new EntityKey( id, persister ) );
+					}
+				}
+			}
+			finally {
+				rows.beforeFirst();
+			}
+			final LockMode lockMode = getQueryLockMode( rowProcessingState );
+			final EventSource session = rowProcessingState.getSession().asEventSource();
+			final List<EntityKey> misses = CacheEntityLoaderHelper.INSTANCE.prefetchFromSecondLevelCache(
+					session,
+					lockMode,
+					persister,
+					entityKeys
+			);
+			if ( misses.size() > 1 ) {
+				final Object[] ids = new Object[misses.size()];
+				for ( int i = 0; i < ids.length; i++ ) {
+					ids[i] = misses.get( i ).getIdentifier();
+				}
+				// the entities become managed, and are then resolved from the persistence context
+				persister.multiLoad(
+						ids,
+						session,
+						new ShallowCacheHitMultiIdLoadOptions( new LockOptions( lockMode ) )
+				);
+			}
+		}
+	}
+
+	/**
+	 * Options for loading the entities of a shallow query cache hit which were not found
+	 * in the second-level cache.
+	 */
+	private static class ShallowCacheHitMultiIdLoadOptions implements MultiIdLoadOptions {
+		private final LockOptions lockOptions;
+
+		private ShallowCacheHitMultiIdLoadOptions(LockOptions lockOptions) {
+			this.lockOptions = lockOptions;
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			// the cache was already checked
+			return false;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return lockOptions;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
+	private LockMode getQueryLockMode(RowProcessingState rowProcessingState) {
+		final LockOptions lockOptions = rowProcessingState.getJdbcValuesSourceProcessingState()
+				.getQueryOptions()
+				.getLockOptions();
+		final LockMode lockMode = lockOptions == null ? null : lockOptions.findGreatestLockMode();
+		return lockMode == null ? LockMode.NONE : lockMode;
+	}
+
 	@Override
 	public void markShallowCached() {
 		super.markShallowCached();
@@ -869,7 +984,15 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 		// No need to put into the entity cache if this is coming from the query cache already
 		final EntityDataAccess cacheAccess = concreteDescriptor.getCacheAccessStrategy();
 		if ( !rowProcessingState.isQueryCacheHit() && cacheAccess != null && session.getCacheMode().isPutEnabled() ) {
-			putInCache( toInitialize, session, persistenceContext, entityIdentifier, version, cacheAccess );
+			putInCache(
+					toInitialize,
+					session,
+					persistenceContext,
+					entityIdentifier,
+					version,
+					cacheAccess,
+					rowProcessingState.isScrollResult()
+			);
 		}
 	}
 
@@ -924,7 +1047,8 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 			PersistenceContext persistenceContext,
 			Object entityIdentifier,
 			Object version,
-			EntityDataAccess cacheAccess) {
+			EntityDataAccess cacheAccess,
+			boolean isScrollResult) {
 		final SessionFactoryImplementor factory = session.getFactory();
 
 		if ( EntityLoadingLogging.ENTITY_LOADING_LOGGER.isDebugEnabled() ) {
@@ -973,36 +1097,91 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 				);
 			}
 		}
+		else if ( isScrollResult ) {
+			// the rows of a scroll are not all read before the results are closed
+			final Map<Object, Object> versions = version == null ? Map.of() : Map.of( cacheKey, version );
+			putFromLoad(
+					session,
+					concreteDescriptor,
+					cacheAccess,
+					Map.of( cacheKey, concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ) ),
+					versions
+			);
+		}
 		else {
-			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-			boolean put = false;
-			final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
-			try {
-				eventListenerManager.cachePutStart();
-				put = cacheAccess.putFromLoad(
-						session,
-						cacheKey,
-						concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ),
-						version,
-						//useMinimalPuts( session, entityEntry )
-						false
-				);
+			if ( pendingCachePuts == null ) {
+				pendingCachePuts = new HashMap<>();
 			}
-			finally {
-				eventManager.completeCachePutEvent(
-						cachePutEvent,
-						session,
-						cacheAccess,
-						concreteDescriptor,
-						put,
-						EventManager.CacheActionDescription.ENTITY_LOAD
-				);
-				final StatisticsImplementor statistics = factory.getStatistics();
-				if ( put && statistics.isStatisticsEnabled() ) {
-					statistics.entityCachePut( rootEntityDescriptor.getNavigableRole(), cacheAccess.getRegion().getName() );
+			pendingCachePuts.computeIfAbsent( concreteDescriptor, descriptor -> new PendingCachePuts( cacheAccess ) )
+					.add( cacheKey, concreteDescriptor.getCacheEntryStructure().structure( cacheEntry ), version );
+		}
+	}
+
+	/**
+	 * The entities of a concrete entity type loaded by this execution.
+	 */
+	private static class PendingCachePuts {
+		private final EntityDataAccess cacheAccess;
+		private final Map<Object, Object> entries = new HashMap<>();
+		private final Map<Object, Object> versions = new HashMap<>();
+
+		private PendingCachePuts(EntityDataAccess cacheAccess) {
+			this.cacheAccess = cacheAccess;
+		}
+
+		private void add(Object cacheKey, Object entry, Object version) {
+			entries.put( cacheKey, entry );
+			if ( version != null ) {
+				versions.put( cacheKey, version );
+			}
+		}
+	}
+
+	/**
+	 * Put the entities loaded by this execution into the second-level cache,
+	 * with a single bulk write to the region for each concrete entity type.
+	 */
+	private void putPendingInCache(SharedSessionContractImplementor session) {
+		if ( pendingCachePuts != null ) {
+			final Map<EntityPersister, PendingCachePuts> puts = pendingCachePuts;
+			pendingCachePuts = null;
+			for ( Map.Entry<EntityPersister, PendingCachePuts> entry : puts.entrySet() ) {
+				final PendingCachePuts pending = entry.getValue();
+				putFromLoad( session, entry.getKey(), pending.cacheAccess, pending.entries, pending.versions );
+			}
+		}
+	}
+
+	private void putFromLoad(
+			SharedSessionContractImplementor session,
+			EntityPersister persister,
+			EntityDataAccess cacheAccess,
+			Map<Object, Object> entries,
+			Map<Object, Object> versions) {
+		final EventManager eventManager = session.getEventManager();
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		int puts = 0;
+		final HibernateMonitoringEvent cachePutEvent = eventManager.beginCachePutEvent();
+		try {
+			eventListenerManager.cachePutStart();
+			puts = cacheAccess.putAllFromLoad( session, entries, versions );
+		}
+		finally {
+			eventManager.completeCachePutEvent(
+					cachePutEvent,
+					session,
+					cacheAccess,
+					persister,
+					puts > 0,
+					EventManager.CacheActionDescription.ENTITY_LOAD
+			);
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				for ( int i = 0; i < puts; i++ ) {
+					statistics.entityCachePut( persister.getNavigableRole(), cacheAccess.getRegion().getName() );
 				}
-				eventListenerManager.cachePutEnd();
 			}
+			eventListenerManager.cachePutEnd();
 		}
 	}
 
@@ -1172,7 +1351,28 @@ public abstract class AbstractEntityInitializer extends AbstractFetchParentAcces
 	@Override
 	public void endLoading(ExecutionContext executionContext) {
 		super.endLoading( executionContext );
-		shallowCached = false;
+		finishLoading( executionContext );
+	}
+
+	@Override
+	public void abortLoading(ExecutionContext executionContext) {
+		super.abortLoading( executionContext );
+		// the entities of the rows read before the failure were fully loaded
+		finishLoading( executionContext );
+	}
+
+	private void finishLoading(ExecutionContext executionContext) {
+		try {
+			putPendingInCache( executionContext.getSession() );
+		}
+		finally {
+			if ( shallowCached ) {
+				executionContext.getSession().getPersistenceContextInternal()
+						.getBatchFetchQueue()
+						.clearPrefetchedCacheEntries();
+			}
+			shallowCached = false;
+		}
 	}
 
 	protected enum State {
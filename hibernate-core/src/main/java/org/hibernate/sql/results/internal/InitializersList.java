@@ -86,6 +86,12 @@ public final class InitializersList {
 		}
 	}
 
+	public void abortLoading(final ExecutionContext executionContext) {
+		for ( Initializer initializer : initializers ) {
+			initializer.abortLoading( executionContext );
+		}
+	}
+
 	public void resolveKeys(final RowProcessingState rowProcessingState) {
 		for ( Initializer init : sortedNonCollectionsFirst ) {
 			init.resolveKey( rowProcessingState );
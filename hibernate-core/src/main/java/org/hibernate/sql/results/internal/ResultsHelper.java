@@ -175,7 +175,13 @@ public class ResultsHelper {
 
 		final InitializersList initializersList = initializersBuilder.build( initializerMap );
 
-		return new StandardRowReader<>( assemblers, initializersList, rowTransformer, transformedResultJavaType );
+		return new StandardRowReader<>(
+				assemblers,
+				initializersList,
+				rowTransformer,
+				transformedResultJavaType,
+				sessionFactory.getSessionFactoryOptions().isRowBufferReuseEnabled()
+		);
 	}
 
 	public static void finalizeCollectionLoading(
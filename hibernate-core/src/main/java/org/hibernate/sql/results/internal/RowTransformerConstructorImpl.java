@@ -51,6 +51,11 @@ public class RowTransformerConstructorImpl<T> implements RowTransformer<T> {
 		}
 	}
 
+	@Override
+	public boolean isRowReusable(int rawElementCount) {
+		return true;
+	}
+
 	@Override
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
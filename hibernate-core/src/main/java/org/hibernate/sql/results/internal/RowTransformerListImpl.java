@@ -29,4 +29,9 @@ public class RowTransformerListImpl<T> implements RowTransformer<List<Object>> {
 	public List<Object> transformRow(Object[] row) {
 		return List.of( row );
 	}
+
+	@Override
+	public boolean isRowReusable(int rawElementCount) {
+		return true;
+	}
 }
@@ -40,6 +40,11 @@ public class RowTransformerMapImpl implements RowTransformer<Map<String,Object>>
 		return map;
 	}
 
+	@Override
+	public boolean isRowReusable(int rawElementCount) {
+		return true;
+	}
+
 	@Override
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
@@ -29,6 +29,11 @@ public class RowTransformerSingularReturnImpl<R> implements RowTransformer<R> {
 		return (R) row[0];
 	}
 
+	@Override
+	public boolean isRowReusable(int rawElementCount) {
+		return true;
+	}
+
 	@Override
 	public int determineNumberOfResultElements(int rawElementCount) {
 		return 1;
@@ -7,6 +7,7 @@
 package org.hibernate.sql.results.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -33,17 +34,35 @@ public class StandardRowReader<T> implements RowReader<T> {
 	private final Class<T> domainResultJavaType;
 
 	private final int assemblerCount;
+	// Only non-null if the row transformer does not retain the raw row
+	private final Object[] resultRowBuffer;
 
 	public StandardRowReader(
 			List<DomainResultAssembler<?>> resultAssemblers,
 			InitializersList initializers,
 			RowTransformer<T> rowTransformer,
 			Class<T> domainResultJavaType) {
+		this( resultAssemblers, initializers, rowTransformer, domainResultJavaType, false );
+	}
+
+	/**
+	 * @param reuseResultRow whether the array of assembled values may be reused for
+	 * every row, which requires {@link RowTransformer#isRowReusable(int)}
+	 */
+	public StandardRowReader(
+			List<DomainResultAssembler<?>> resultAssemblers,
+			InitializersList initializers,
+			RowTransformer<T> rowTransformer,
+			Class<T> domainResultJavaType,
+			boolean reuseResultRow) {
 		this.resultAssemblers = resultAssemblers;
 		this.initializers = initializers;
 		this.rowTransformer = rowTransformer;
 		this.assemblerCount = resultAssemblers.size();
 		this.domainResultJavaType = domainResultJavaType;
+		this.resultRowBuffer = reuseResultRow && rowTransformer.isRowReusable( assemblerCount )
+				? new Object[assemblerCount]
+				: null;
 	}
 
 	@Override
@@ -85,7 +104,7 @@ public class StandardRowReader<T> implements RowReader<T> {
 		LoadingLogger.LOGGER.trace( "StandardRowReader#readRow" );
 		coordinateInitializers( rowProcessingState );
 
-		final Object[] resultRow = new Object[ assemblerCount ];
+		final Object[] resultRow = resultRowBuffer == null ? new Object[ assemblerCount ] : resultRowBuffer;
 
 		for ( int i = 0; i < assemblerCount; i++ ) {
 			final DomainResultAssembler assembler = resultAssemblers.get( i );
@@ -95,7 +114,12 @@ public class StandardRowReader<T> implements RowReader<T> {
 
 		afterRow( rowProcessingState );
 
-		return rowTransformer.transformRow( resultRow );
+		final T result = rowTransformer.transformRow( resultRow );
+		if ( resultRowBuffer != null ) {
+			// don't keep the values of the previous row reachable
+			Arrays.fill( resultRowBuffer, null );
+		}
+		return result;
 	}
 
 	private void afterRow(RowProcessingState rowProcessingState) {
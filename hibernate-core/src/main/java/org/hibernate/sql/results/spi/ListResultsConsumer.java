@@ -222,6 +222,12 @@ public class ListResultsConsumer<R> implements ResultsConsumer<List<R>, R> {
 		}
 		catch (RuntimeException e) {
 			ex = e;
+			try {
+				rowReader.getInitializersList().abortLoading( jdbcValuesSourceProcessingState.getExecutionContext() );
+			}
+			catch (RuntimeException e2) {
+				ex.addSuppressed( e2 );
+			}
 		}
 		finally {
 			try {
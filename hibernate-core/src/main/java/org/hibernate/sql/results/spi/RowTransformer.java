@@ -30,4 +30,17 @@ public interface RowTransformer<T> {
 	default int determineNumberOfResultElements(int rawElementCount) {
 		return rawElementCount;
 	}
+
+	/**
+	 * Is the transformed result independent of the "raw" row array passed to
+	 * {@link #transformRow(Object[])}, so that the array may be reused for the
+	 * next row?
+	 *
+	 * @see org.hibernate.cfg.QuerySettings#QUERY_REUSE_ROW_BUFFER
+	 *
+	 * @since 6.5
+	 */
+	default boolean isRowReusable(int rawElementCount) {
+		return false;
+	}
 }
@@ -395,4 +395,15 @@ public interface Statistics {
 	 * The global number of query plans lookups <em>not</em> found in cache.
 	 */
 	long getQueryPlanCacheMissCount();
+
+	/**
+	 * The global number of query plans and query interpretations evicted
+	 * from cache to make room for new ones, or {@code 0} if evictions are
+	 * not tracked by this implementation.
+	 *
+	 * @since 6.5
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		return 0;
+	}
 }
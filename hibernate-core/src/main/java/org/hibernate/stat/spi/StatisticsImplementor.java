@@ -269,6 +269,16 @@ public interface StatisticsImplementor extends Statistics, Service {
 		//For backward compatibility
 	}
 
+	/**
+	 * Callback indicating a query plan or query interpretation was evicted
+	 * from the query plan cache.
+	 *
+	 * @since 6.5
+	 */
+	default void queryPlanCacheEviction() {
+		//For backward compatibility
+	}
+
 	/**
 	 * Callback indicating compilation of a sql/hql query
 	 *
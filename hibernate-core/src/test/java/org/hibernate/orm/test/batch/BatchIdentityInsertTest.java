@@ -0,0 +1,210 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#BATCH_IDENTITY_INSERTS}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.BATCH_IDENTITY_INSERTS, value = "true")
+})
+@DomainModel(annotatedClasses = {
+		BatchIdentityInsertTest.Author.class,
+		BatchIdentityInsertTest.Book.class,
+		BatchIdentityInsertTest.Category.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsIdentityColumns.class)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForInsert.class)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsOrderedGeneratedValuesForValuesListInsert.class)
+public class BatchIdentityInsertTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+			session.createMutationQuery( "update Category set parent = null" ).executeUpdate();
+			session.createMutationQuery( "delete from Category" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertRows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Author> authors = new ArrayList<>();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 23; i++ ) {
+				final Author author = new Author( "author " + i );
+				session.persist( author );
+				authors.add( author );
+			}
+			// the inserts are delayed until flush
+			assertThat( authors ).extracting( author -> author.id ).containsOnlyNulls();
+			assertThat( statementInspector.getSqlQueries() ).isEmpty();
+			session.flush();
+			assertThat( authors ).extracting( author -> author.id ).doesNotContainNull().doesNotHaveDuplicates();
+
+			// the batches of 10 rows are inserted using one statement each
+			assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+			assertThat( statementInspector.getSqlQueries() )
+					.extracting( BatchIdentityInsertTest::rowCount )
+					.containsExactly( 10, 10, 3 );
+			// each identifier is the one of the row of the entity it was assigned to
+			for ( int i = 0; i < 23; i++ ) {
+				final Object name = session.createNativeQuery( "select name from Author where id = :id", Object.class )
+						.setParameter( "id", authors.get( i ).id )
+						.getSingleResult();
+				assertThat( name ).isEqualTo( "author " + i );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 23; i++ ) {
+				final Author author = session.find( Author.class, authors.get( i ).id );
+				assertThat( author.name ).isEqualTo( "author " + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertReferencingRows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Book> books = new ArrayList<>();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Author> authors = new ArrayList<>();
+			for ( int i = 0; i < 4; i++ ) {
+				final Author author = new Author( "author " + i );
+				session.persist( author );
+				authors.add( author );
+			}
+			for ( int i = 0; i < 8; i++ ) {
+				final Book book = new Book( "book " + i, authors.get( i % 4 ) );
+				session.persist( book );
+				books.add( book );
+			}
+		} );
+
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 2 );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 8; i++ ) {
+				final Book book = session.find( Book.class, books.get( i ).id );
+				assertThat( book.title ).isEqualTo( "book " + i );
+				assertThat( book.author.name ).isEqualTo( "author " + i % 4 );
+			}
+		} );
+	}
+
+	@Test
+	public void testSelfReferencingEntity(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Category> categories = new ArrayList<>();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			Category parent = null;
+			for ( int i = 0; i < 3; i++ ) {
+				final Category category = new Category( "category " + i, parent );
+				session.persist( category );
+				categories.add( category );
+				parent = category;
+			}
+		} );
+
+		// the rows reference each other, and are inserted one after the other
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+
+		scope.inTransaction( session -> {
+			final Category category = session.find( Category.class, categories.get( 2 ).id );
+			assertThat( category.parent.name ).isEqualTo( "category 1" );
+			assertThat( category.parent.parent.name ).isEqualTo( "category 0" );
+			assertThat( category.parent.parent.parent ).isNull();
+		} );
+	}
+
+	private static int rowCount(String sql) {
+		return sql.split( "\\),\\(" ).length;
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(String title, Author author) {
+			this.title = title;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+		private String name;
+		@ManyToOne
+		private Category parent;
+
+		public Category() {
+		}
+
+		public Category(String name, Category parent) {
+			this.name = name;
+			this.parent = parent;
+		}
+	}
+}
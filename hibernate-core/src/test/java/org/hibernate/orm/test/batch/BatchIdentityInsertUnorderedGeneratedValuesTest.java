@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.BatchSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@link BatchSettings#BATCH_IDENTITY_INSERTS} has no effect when the Dialect
+ * does not return the generated values of a multi-row insert in the order of the rows
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.BATCH_IDENTITY_INSERTS, value = "true"),
+		@Setting(name = AvailableSettings.DIALECT,
+				value = "org.hibernate.orm.test.batch.BatchIdentityInsertUnorderedGeneratedValuesTest$TestDialect")
+})
+@DomainModel(annotatedClasses = BatchIdentityInsertUnorderedGeneratedValuesTest.Author.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialect(H2Dialect.class)
+public class BatchIdentityInsertUnorderedGeneratedValuesTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Author" ).executeUpdate() );
+	}
+
+	@Test
+	public void testInsertRows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		final List<Author> authors = new ArrayList<>();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				final Author author = new Author( "author " + i );
+				session.persist( author );
+				authors.add( author );
+				// the row is inserted immediately
+				assertThat( author.id ).isNotNull();
+				assertThat( statementInspector.getSqlQueries() ).hasSize( i + 1 );
+			}
+		} );
+
+		assertThat( statementInspector.getSqlQueries() )
+				.allSatisfy( sql -> assertThat( sql ).doesNotContain( "),(" ) );
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.find( Author.class, authors.get( i ).id ).name ).isEqualTo( "author " + i );
+			}
+		} );
+	}
+
+	public static class TestDialect extends H2Dialect {
+		@Override
+		public boolean supportsOrderedGeneratedValuesForValuesListInsert() {
+			return false;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		@GeneratedValue(strategy = GenerationType.IDENTITY)
+		private Long id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.batch;
+
+import java.util.List;
+
+import org.hibernate.annotations.SQLInsert;
+import org.hibernate.cfg.BatchSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#MULTI_ROW_INSERT_SIZE}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = BatchSettings.STATEMENT_BATCH_SIZE, value = "10"),
+		@Setting(name = BatchSettings.MULTI_ROW_INSERT_SIZE, value = "4")
+})
+@DomainModel(annotatedClasses = {
+		MultiRowInsertBatchTest.Item.class,
+		MultiRowInsertBatchTest.Animal.class,
+		MultiRowInsertBatchTest.Dog.class,
+		MultiRowInsertBatchTest.Note.class
+})
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsValuesListForInsert.class)
+public class MultiRowInsertBatchTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Dog" ).executeUpdate();
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+			session.createMutationQuery( "delete from Item" ).executeUpdate();
+			session.createMutationQuery( "delete from Note" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testInsertRows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 23; i++ ) {
+				session.persist( new Item( i, "item " + i, i % 3 == 0 ? null : i ) );
+			}
+		} );
+
+		// each batch of 10 is inserted using two statements of 4 rows, and one of 2 rows,
+		// with the statement of 4 rows being reused, and the last 3 rows using one statement
+		final List<String> inserts = statementInspector.getSqlQueries();
+		assertThat( inserts ).hasSize( 4 );
+		assertThat( inserts ).extracting( MultiRowInsertBatchTest::rowCount ).containsExactly( 4, 2, 2, 3 );
+
+		scope.inTransaction( session -> {
+			final List<Item> items = session.createSelectionQuery( "from Item order by id", Item.class )
+					.getResultList();
+			assertThat( items ).hasSize( 23 );
+			for ( int i = 0; i < 23; i++ ) {
+				assertThat( items.get( i ).id ).isEqualTo( i );
+				assertThat( items.get( i ).name ).isEqualTo( "item " + i );
+				assertThat( items.get( i ).quantity ).isEqualTo( i % 3 == 0 ? null : i );
+			}
+		} );
+	}
+
+	@Test
+	public void testInsertJoinedRows(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Item item = new Item( 1, "bone", 1 );
+			session.persist( item );
+			for ( int i = 0; i < 7; i++ ) {
+				session.persist( new Dog( i, "dog " + i, item ) );
+			}
+		} );
+
+		scope.inTransaction( session -> {
+			final List<Dog> dogs = session.createSelectionQuery( "from Dog order by id", Dog.class )
+					.getResultList();
+			assertThat( dogs ).hasSize( 7 );
+			for ( int i = 0; i < 7; i++ ) {
+				assertThat( ( (Animal) dogs.get( i ) ).name ).isEqualTo( "dog " + i );
+				assertThat( dogs.get( i ).toy.name ).isEqualTo( "bone" );
+			}
+		} );
+	}
+
+	@Test
+	public void testCustomSqlInsertRows(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 5; i++ ) {
+				session.persist( new Note( i, "note " + i ) );
+			}
+		} );
+
+		// the custom insert is prepared once and batched as usual
+		assertThat( statementInspector.getSqlQueries() )
+				.containsExactly( "insert into Note (text,id) values (?,?)" );
+
+		scope.inTransaction( session -> {
+			final List<Note> notes = session.createSelectionQuery( "from Note order by id", Note.class )
+					.getResultList();
+			assertThat( notes ).extracting( note -> note.text )
+					.containsExactly( "note 0", "note 1", "note 2", "note 3", "note 4" );
+		} );
+	}
+
+	private static int rowCount(String sql) {
+		return sql.split( "\\),\\(" ).length;
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Integer id;
+		private String name;
+		private Integer quantity;
+
+		public Item() {
+		}
+
+		public Item(Integer id, String name, Integer quantity) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	@Entity(name = "Note")
+	@SQLInsert(sql = "insert into Note (text,id) values (?,?)")
+	public static class Note {
+		@Id
+		private Integer id;
+		private String text;
+
+		public Note() {
+		}
+
+		public Note(Integer id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.JOINED)
+	public static class Animal {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		@ManyToOne
+		private Item toy;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, Item toy) {
+			super( id, name );
+			this.toy = toy;
+		}
+	}
+}
@@ -0,0 +1,249 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cache.spi.AbstractRegionFactory;
+import org.hibernate.cache.spi.support.CachePopulationExecutor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#CACHE_ASYNC_POPULATION}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = CacheSettings.CACHE_ASYNC_POPULATION, value = "true")
+})
+@DomainModel(annotatedClasses = {
+		AsyncCachePopulationTest.Country.class,
+		AsyncCachePopulationTest.Currency.class,
+		AsyncCachePopulationTest.Rate.class
+})
+@SessionFactory
+public class AsyncCachePopulationTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Country" ).executeUpdate();
+			session.createMutationQuery( "delete from Currency" ).executeUpdate();
+			session.createMutationQuery( "delete from Rate" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testInsertAndUpdate(SessionFactoryScope scope) throws InterruptedException {
+		scope.inTransaction( session -> session.persist( new Country( 1, "France" ) ) );
+		awaitPopulation( scope );
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Country.class, 1 ) ).isTrue();
+
+		scope.inTransaction( session -> session.find( Country.class, 1 ).name = "Italy" );
+		awaitPopulation( scope );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( session.find( Country.class, 1 ).name ).isEqualTo( "Italy" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testPutFromLoad(SessionFactoryScope scope) throws InterruptedException {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Currency( i, "Currency " + i ) );
+			}
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Currency", Currency.class ).getResultList()
+		).hasSize( 10 ) );
+		awaitPopulation( scope );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				assertThat( session.find( Currency.class, i ).code ).isEqualTo( "Currency " + i );
+			}
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 10 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testUpdateInvalidatesNonStrictEntry(SessionFactoryScope scope) throws InterruptedException {
+		scope.inTransaction( session -> session.persist( new Rate( 1, 10 ) ) );
+		scope.inTransaction( session -> session.find( Rate.class, 1 ) );
+		awaitPopulation( scope );
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Rate.class, 1 ) ).isTrue();
+
+		scope.inTransaction( session -> session.find( Rate.class, 1 ).amount = 20 );
+		// the entry is invalidated immediately, not in the background
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Rate.class, 1 ) ).isFalse();
+		scope.inTransaction( session -> assertThat( session.find( Rate.class, 1 ).amount ).isEqualTo( 20 ) );
+	}
+
+	@Test
+	public void testPutIsRecordedWhenPerformed(SessionFactoryScope scope) throws InterruptedException {
+		persistCurrencies( scope );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final CountDownLatch latch = blockPopulation( scope );
+		try {
+			loadCurrencies( scope );
+			assertThat( statistics.getSecondLevelCachePutCount() ).isZero();
+		}
+		finally {
+			latch.countDown();
+		}
+		awaitPopulation( scope );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 10 );
+		assertThat( statistics.getDomainDataRegionStatistics( Currency.class.getName() ).getPutCount() )
+				.isEqualTo( 10 );
+		assertThat( scope.getSessionFactory().getCache().containsEntity( Currency.class, 1 ) ).isTrue();
+	}
+
+	@Test
+	public void testEvictAllDiscardsPendingPuts(SessionFactoryScope scope) throws InterruptedException {
+		persistCurrencies( scope );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		final CountDownLatch latch = blockPopulation( scope );
+		try {
+			loadCurrencies( scope );
+			scope.getSessionFactory().getCache().evictAllRegions();
+		}
+		finally {
+			latch.countDown();
+		}
+		awaitPopulation( scope );
+		// the puts scheduled before the eviction were skipped
+		assertThat( statistics.getSecondLevelCachePutCount() ).isZero();
+		for ( int i = 1; i <= 10; i++ ) {
+			assertThat( scope.getSessionFactory().getCache().containsEntity( Currency.class, i ) ).isFalse();
+		}
+	}
+
+	private static void persistCurrencies(SessionFactoryScope scope) throws InterruptedException {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Currency( i, "Currency " + i ) );
+			}
+		} );
+		awaitPopulation( scope );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	private static void loadCurrencies(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Currency", Currency.class ).getResultList()
+		).hasSize( 10 ) );
+	}
+
+	/**
+	 * Keep the background thread busy until the returned latch is released
+	 */
+	private static CountDownLatch blockPopulation(SessionFactoryScope scope) {
+		final CountDownLatch latch = new CountDownLatch( 1 );
+		getPopulationExecutor( scope ).submit( new Object(), false, () -> {
+			try {
+				latch.await( 10, TimeUnit.SECONDS );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		} );
+		return latch;
+	}
+
+	private static void awaitPopulation(SessionFactoryScope scope) throws InterruptedException {
+		assertThat( getPopulationExecutor( scope ).awaitCompletion( 10, TimeUnit.SECONDS ) ).isTrue();
+	}
+
+	private static CachePopulationExecutor getPopulationExecutor(SessionFactoryScope scope) {
+		final CachePopulationExecutor executor = ( (AbstractRegionFactory) scope.getSessionFactory()
+				.getCache()
+				.getRegionFactory() ).getCachePopulationExecutor();
+		assertThat( executor ).isNotNull();
+		return executor;
+	}
+
+	@Entity(name = "Country")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Country {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Currency")
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	@Immutable
+	public static class Currency {
+		@Id
+		private Integer id;
+		private String code;
+
+		public Currency() {
+		}
+
+		public Currency(Integer id, String code) {
+			this.id = id;
+			this.code = code;
+		}
+	}
+
+	@Entity(name = "Rate")
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Rate {
+		@Id
+		private Integer id;
+		private int amount;
+
+		public Rate() {
+		}
+
+		public Rate(Integer id, int amount) {
+			this.id = id;
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,302 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that entities are looked up in, and put into, the second-level cache
+ * in bulk when they are loaded by multiple ids, batch fetched, or resolved
+ * from a query cache hit.
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_CACHE_LAYOUT, value = "SHALLOW"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(
+				name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.cache.BulkCacheLookupTest$CountingRegionFactory"
+		)
+})
+@DomainModel(annotatedClasses = {
+		BulkCacheLookupTest.Author.class,
+		BulkCacheLookupTest.Book.class
+})
+@SessionFactory
+public class BulkCacheLookupTest {
+	private static final int AUTHORS = 10;
+	private static final Integer[] IDS = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+
+	private static final AtomicInteger singleGets = new AtomicInteger();
+	private static final AtomicInteger bulkGets = new AtomicInteger();
+	private static final AtomicInteger singlePuts = new AtomicInteger();
+	private static final AtomicInteger bulkPuts = new AtomicInteger();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i <= AUTHORS; i++ ) {
+				final Author author = new Author( i, "Author " + i );
+				session.persist( author );
+				session.persist( new Book( i, "Book " + i, author ) );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		resetCounters();
+	}
+
+	private static void resetCounters() {
+		singleGets.set( 0 );
+		bulkGets.set( 0 );
+		singlePuts.set( 0 );
+		bulkPuts.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testMultiLoad(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.byMultipleIds( Author.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( IDS );
+			assertThat( authors ).extracting( author -> author.id ).containsExactly( IDS );
+		} );
+		assertThat( bulkGets ).hasValue( 1 );
+		assertThat( singleGets ).hasValue( 0 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( AUTHORS );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testUnorderedMultiLoadWithMisses(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.getSessionFactory().getCache().evictEntityData( Author.class, 2 );
+		scope.getSessionFactory().getCache().evictEntityData( Author.class, 5 );
+		scope.inTransaction( session -> {
+			final List<Author> authors = session.byMultipleIds( Author.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.multiLoad( IDS );
+			assertThat( authors ).extracting( author -> author.id ).containsExactlyInAnyOrder( IDS );
+		} );
+		// one lookup, and one read of the current entries by the read-write cache when the misses are put
+		assertThat( bulkGets ).hasValue( 2 );
+		assertThat( singleGets ).hasValue( 0 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( AUTHORS - 2 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		// the loaded entities are put into the cache together
+		assertThat( bulkPuts ).hasValue( 1 );
+		assertThat( singlePuts ).hasValue( 0 );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testBatchFetch(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 1; i <= AUTHORS; i += 2 ) {
+			scope.getSessionFactory().getCache().evictEntityData( Author.class, i );
+		}
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery( "from Book order by id", Book.class )
+					.getResultList();
+			statistics.clear();
+			Hibernate.initialize( books.get( 0 ).author );
+			// only the authors which are not cached are batch fetched, and then put together
+			assertThat( bulkGets ).hasValue( 2 );
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			assertThat( statistics.getEntityLoadCount() ).isEqualTo( AUTHORS / 2 );
+			for ( Book book : books ) {
+				Hibernate.initialize( book.author );
+			}
+			assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+			assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( AUTHORS / 2 );
+		} );
+		assertThat( bulkPuts ).hasValue( 1 );
+		assertThat( singlePuts ).hasValue( 0 );
+	}
+
+	@Test
+	public void testQueryCacheHit(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "from Author order by id";
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( hql, Author.class ).setCacheable( true ).getResultList()
+		).hasSize( AUTHORS ) );
+		statistics.clear();
+		resetCounters();
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( hql, Author.class ).setCacheable( true ).getResultList()
+		).extracting( author -> author.id ).containsExactly( IDS ) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( AUTHORS );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		assertThat( bulkGets ).hasValue( 1 );
+		assertThat( singleGets ).hasValue( 0 );
+	}
+
+	@Test
+	public void testQueryCacheHitWithMisses(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		final String hql = "from Author order by id";
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( hql, Author.class ).setCacheable( true ).getResultList()
+		).hasSize( AUTHORS ) );
+		for ( int i = 1; i <= AUTHORS; i += 2 ) {
+			scope.getSessionFactory().getCache().evictEntityData( Author.class, i );
+		}
+		statistics.clear();
+		resetCounters();
+		scope.inTransaction( session -> assertThat(
+				session.createSelectionQuery( hql, Author.class ).setCacheable( true ).getResultList()
+		).extracting( author -> author.name ).containsExactly(
+				"Author 1", "Author 2", "Author 3", "Author 4", "Author 5",
+				"Author 6", "Author 7", "Author 8", "Author 9", "Author 10"
+		) );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( AUTHORS / 2 );
+		// the entities which are not cached are loaded together
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getEntityLoadCount() ).isEqualTo( AUTHORS / 2 );
+		// a read-write cache reads the current entries when the loaded entities are put into it
+		assertThat( bulkGets ).hasValue( 2 );
+		assertThat( singleGets ).hasValue( 0 );
+		assertThat( bulkPuts ).hasValue( 1 );
+		assertThat( singlePuts ).hasValue( 0 );
+		assertThat( statistics.getSecondLevelCachePutCount() ).isEqualTo( AUTHORS / 2 );
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					new CountingStorageAccess(),
+					getImplicitCacheKeysFactory(),
+					buildingContext
+			);
+		}
+	}
+
+	public static class CountingStorageAccess extends MapStorageAccessImpl {
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			singleGets.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+
+		@Override
+		public Map<Object, Object> getFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+			bulkGets.incrementAndGet();
+			final Map<Object, Object> entries = new HashMap<>();
+			for ( Object key : keys ) {
+				final Object value = super.getFromCache( key, session );
+				if ( value != null ) {
+					entries.put( key, value );
+				}
+			}
+			return entries;
+		}
+
+		@Override
+		public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+			singlePuts.incrementAndGet();
+			super.putIntoCache( key, value, session );
+		}
+
+		@Override
+		public void putIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+			bulkPuts.incrementAndGet();
+			for ( Map.Entry<?, ?> entry : entries.entrySet() ) {
+				super.putIntoCache( entry.getKey(), entry.getValue(), session );
+			}
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = AUTHORS)
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
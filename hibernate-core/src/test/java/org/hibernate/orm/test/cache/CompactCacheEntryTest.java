@@ -0,0 +1,294 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheSettings#USE_COMPACT_CACHE_ENTRIES}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = CacheSettings.USE_COMPACT_CACHE_ENTRIES, value = "true")
+})
+@DomainModel(annotatedClasses = {
+		CompactCacheEntryTest.Publisher.class,
+		CompactCacheEntryTest.Book.class,
+		CompactCacheEntryTest.EBook.class
+})
+@SessionFactory
+public class CompactCacheEntryTest {
+	private static final UUID ISBN = UUID.randomUUID();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Publisher publisher = new Publisher( 1, "Publisher" );
+			session.persist( publisher );
+			final Book book = new Book( 1L, "Hibernate in Action – 2nd edition", publisher );
+			book.genre = Genre.TECHNICAL;
+			book.price = new BigDecimal( "-39.95" );
+			book.isbn = ISBN;
+			book.published = LocalDate.of( 2015, 11, 1 );
+			book.dimensions = new Dimensions( 23.5, 19 );
+			book.binding = Binding.HARDCOVER;
+			session.persist( book );
+			final EBook ebook = new EBook( 2L, "Java Persistence with Hibernate", publisher );
+			ebook.format = "EPUB";
+			session.persist( ebook );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Publisher" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntriesAreStoredAsBytes(SessionFactoryScope scope) {
+		assertThat( getCachedItem( scope, Book.class, 1L ) ).isInstanceOf( byte[].class );
+		assertThat( getCachedItem( scope, Book.class, 2L ) ).isInstanceOf( byte[].class );
+		assertThat( getCachedItem( scope, Publisher.class, 1 ) ).isInstanceOf( byte[].class );
+	}
+
+	@Test
+	public void testEnumWithConstantSpecificBody(SessionFactoryScope scope) {
+		// the constants of Binding are instances of anonymous subclasses
+		assertThat( Binding.HARDCOVER.getClass() ).isNotEqualTo( Binding.class );
+		assertThat( getCachedItem( scope, Book.class, 1L ) ).isInstanceOf( byte[].class );
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.binding ).isEqualTo( Binding.HARDCOVER );
+		} );
+		assertThat( scope.getSessionFactory().getStatistics().getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testLoadFromCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.title ).isEqualTo( "Hibernate in Action – 2nd edition" );
+			assertThat( book.genre ).isEqualTo( Genre.TECHNICAL );
+			assertThat( book.price ).isEqualTo( new BigDecimal( "-39.95" ) );
+			assertThat( book.isbn ).isEqualTo( ISBN );
+			assertThat( book.published ).isEqualTo( LocalDate.of( 2015, 11, 1 ) );
+			assertThat( book.dimensions.height ).isEqualTo( 23.5 );
+			assertThat( book.dimensions.pages ).isEqualTo( 19 );
+			assertThat( book.version ).isEqualTo( 0 );
+			assertThat( ( (Publisher) Hibernate.unproxy( book.publisher ) ).name ).isEqualTo( "Publisher" );
+
+			final Book ebook = session.find( Book.class, 2L );
+			assertThat( ebook ).isInstanceOf( EBook.class );
+			assertThat( ( (EBook) ebook ).format ).isEqualTo( "EPUB" );
+			assertThat( ebook.genre ).isNull();
+			assertThat( ebook.dimensions ).isNull();
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testStringWithSurrogates(SessionFactoryScope scope) {
+		// a supplementary character, followed by an unpaired high surrogate
+		final String format = "\uD83D\uDCD6 \uD83D";
+		scope.inTransaction( session -> {
+			final EBook ebook = new EBook( 3L, "Unicode", session.getReference( Publisher.class, 1 ) );
+			ebook.format = format;
+			session.persist( ebook );
+		} );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final EBook ebook = session.find( EBook.class, 3L );
+			assertThat( ebook.format ).isEqualTo( format );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	@Test
+	public void testSerializeDecodedEntry(SessionFactoryScope scope) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Book.class );
+		final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure()
+				.destructure( getCachedItem( scope, Book.class, 1L ), scope.getSessionFactory() );
+		final CacheEntry copy = (CacheEntry) SerializationHelper.clone( entry );
+		assertThat( copy.getSubclass() ).isEqualTo( entry.getSubclass() );
+		assertThat( copy.getVersion() ).isEqualTo( entry.getVersion() );
+		assertThat( copy.getDisassembledState() ).isEqualTo( entry.getDisassembledState() );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			book.genre = Genre.FICTION;
+			book.dimensions.pages = 400;
+		} );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Book book = session.find( Book.class, 1L );
+			assertThat( book.genre ).isEqualTo( Genre.FICTION );
+			assertThat( book.dimensions.pages ).isEqualTo( 400 );
+			assertThat( book.version ).isEqualTo( 1 );
+		} );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+	}
+
+	private static Object getCachedItem(SessionFactoryScope scope, Class<?> entityClass, Object id) {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( entityClass );
+		final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+		return scope.fromSession( session -> {
+			final Object cachedItem = cacheAccess.get(
+					session,
+					cacheAccess.generateCacheKey( id, persister, scope.getSessionFactory(), null )
+			);
+			assertThat( persister.getCacheEntryStructure().destructure( cachedItem, scope.getSessionFactory() ) )
+					.isInstanceOf( CacheEntry.class );
+			return cachedItem;
+		} );
+	}
+
+	public enum Genre {
+		FICTION,
+		TECHNICAL
+	}
+
+	public enum Binding {
+		PAPERBACK {
+			@Override
+			public boolean isRigid() {
+				return false;
+			}
+		},
+		HARDCOVER {
+			@Override
+			public boolean isRigid() {
+				return true;
+			}
+		};
+
+		public abstract boolean isRigid();
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private double height;
+		private int pages;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double height, int pages) {
+			this.height = height;
+			this.pages = pages;
+		}
+	}
+
+	@Entity(name = "Publisher")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Publisher {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Publisher() {
+		}
+
+		public Publisher(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Long id;
+		@Version
+		private int version;
+		private String title;
+		@Enumerated(EnumType.STRING)
+		private Genre genre;
+		@Enumerated(EnumType.ORDINAL)
+		private Binding binding;
+		private BigDecimal price;
+		private UUID isbn;
+		private LocalDate published;
+		private Dimensions dimensions;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Publisher publisher;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title, Publisher publisher) {
+			this.id = id;
+			this.title = title;
+			this.publisher = publisher;
+		}
+	}
+
+	@Entity(name = "EBook")
+	public static class EBook extends Book {
+		private String format;
+
+		public EBook() {
+		}
+
+		public EBook(Long id, String title, Publisher publisher) {
+			super( id, title, publisher );
+		}
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.NearCacheStorageAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.cache.CachingRegionFactory;
+import org.hibernate.testing.cache.MapStorageAccessImpl;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CacheSettings#NEAR_CACHE_MAX_ENTRIES}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = CacheSettings.NEAR_CACHE_MAX_ENTRIES, value = "100"),
+		@Setting(
+				name = AvailableSettings.CACHE_REGION_FACTORY,
+				value = "org.hibernate.orm.test.cache.NearCacheTest$CountingRegionFactory"
+		)
+})
+@DomainModel(annotatedClasses = {
+		NearCacheTest.Currency.class,
+		NearCacheTest.Country.class,
+		NearCacheTest.Product.class
+})
+@SessionFactory
+public class NearCacheTest {
+	private static final AtomicInteger storageGets = new AtomicInteger();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Currency( "EUR", "Euro" ) );
+			session.persist( new Country( "AT", "Austria" ) );
+			session.persist( new Product( 1, "Coffee" ) );
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+		storageGets.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Currency" ).executeUpdate();
+			session.createMutationQuery( "delete from Country" ).executeUpdate();
+			session.createMutationQuery( "delete from Product" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testReadsSkipTheUnderlyingCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				assertThat( session.find( Currency.class, "EUR" ).name ).isEqualTo( "Euro" );
+				assertThat( session.find( Country.class, "AT" ).name ).isEqualTo( "Austria" );
+				assertThat( session.find( Product.class, 1 ).name ).isEqualTo( "Coffee" );
+			} );
+		}
+		// nonstrict read-write entities are only cached when they are loaded
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 8 );
+		// after that miss, only the read-write entity is read from the underlying cache
+		assertThat( storageGets ).hasValue( 4 );
+	}
+
+	@Test
+	public void testUpdateInvalidates(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Country.class, "AT" ).name = "Österreich" );
+		scope.inTransaction( session -> assertThat( session.find( Country.class, "AT" ).name )
+				.isEqualTo( "Österreich" ) );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidates(SessionFactoryScope scope) {
+		scope.inTransaction( session -> assertThat( session.find( Country.class, "AT" ).name )
+				.isEqualTo( "Austria" ) );
+		scope.inTransaction( session -> session.createMutationQuery( "update Country set name = 'Österreich'" )
+				.executeUpdate() );
+		scope.inTransaction( session -> assertThat( session.find( Country.class, "AT" ).name )
+				.isEqualTo( "Österreich" ) );
+	}
+
+	@Test
+	public void testEviction(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> session.find( Currency.class, "EUR" ) );
+		scope.getSessionFactory().getCache().evictEntityData( Currency.class, "EUR" );
+		scope.inTransaction( session -> assertThat( session.find( Currency.class, "EUR" ).name )
+				.isEqualTo( "Euro" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testExpiration() throws InterruptedException {
+		final NearCacheStorageAccess storageAccess = new NearCacheStorageAccess( new CountingStorageAccess(), 10, 10 );
+		storageAccess.putIntoCache( "key", "value", null );
+		assertThat( storageAccess.getFromCache( "key", null ) ).isEqualTo( "value" );
+		assertThat( storageGets ).hasValue( 0 );
+		Thread.sleep( 20 );
+		assertThat( storageAccess.getFromCache( "key", null ) ).isEqualTo( "value" );
+		assertThat( storageGets ).hasValue( 1 );
+	}
+
+	public static class CountingRegionFactory extends CachingRegionFactory {
+		@Override
+		public DomainDataRegion buildDomainDataRegion(
+				DomainDataRegionConfig regionConfig,
+				DomainDataRegionBuildingContext buildingContext) {
+			return new DomainDataRegionImpl(
+					regionConfig,
+					this,
+					new CountingStorageAccess(),
+					getImplicitCacheKeysFactory(),
+					buildingContext
+			);
+		}
+	}
+
+	public static class CountingStorageAccess extends MapStorageAccessImpl {
+		@Override
+		public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+			storageGets.incrementAndGet();
+			return super.getFromCache( key, session );
+		}
+	}
+
+	@Entity(name = "Currency")
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Currency {
+		@Id
+		private String code;
+		private String name;
+
+		public Currency() {
+		}
+
+		public Currency(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Country")
+	@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+	public static class Country {
+		@Id
+		private String code;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.internal.OffHeapRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.util.ServiceRegistryUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link OffHeapRegionFactory}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.CACHE_REGION_FACTORY, value = "org.hibernate.cache.internal.OffHeapRegionFactory"),
+		@Setting(name = CacheSettings.OFF_HEAP_REGION_SIZE, value = "65536"),
+		@Setting(name = CacheSettings.OFF_HEAP_BLOCK_SIZE, value = "64")
+})
+@DomainModel(annotatedClasses = {
+		OffHeapRegionFactoryTest.Author.class,
+		OffHeapRegionFactoryTest.Book.class
+})
+@SessionFactory
+public class OffHeapRegionFactoryTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin King" );
+			session.persist( author );
+			for ( int i = 1; i <= 3; i++ ) {
+				final Book book = new Book( i, "Book " + i, author );
+				author.books.add( book );
+				session.persist( book );
+			}
+		} );
+		scope.getSessionFactory().getStatistics().clear();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testEntitiesAndCollections(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		scope.inTransaction( session -> assertThat( session.find( Author.class, 1 ).books ).hasSize( 3 ) );
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			assertThat( author.name ).isEqualTo( "Gavin King" );
+			assertThat( author.books ).extracting( book -> book.title )
+					.containsExactlyInAnyOrder( "Book 1", "Book 2", "Book 3" );
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void testUpdate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.find( Author.class, 1 ).name = "Steve Ebersole" );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> assertThat( session.find( Author.class, 1 ).name )
+				.isEqualTo( "Steve Ebersole" ) );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testQueryCache(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> assertThat(
+					session.createSelectionQuery( "select title from Book order by id", String.class )
+							.setCacheable( true )
+							.getResultList()
+			).containsExactly( "Book 1", "Book 2", "Book 3" ) );
+		}
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testLeastRecentlyUsedEntriesAreEvicted(SessionFactoryScope scope) {
+		final int count = 2000;
+		scope.inTransaction( session -> {
+			final Author author = session.find( Author.class, 1 );
+			for ( int i = 100; i < 100 + count; i++ ) {
+				session.persist( new Book( i, "A book with a rather long title, number " + i, author ) );
+			}
+		} );
+		final org.hibernate.Cache cache = scope.getSessionFactory().getCache();
+		assertThat( cache.containsEntity( Book.class, 100 ) ).isFalse();
+		assertThat( cache.containsEntity( Book.class, 100 + count - 1 ) ).isTrue();
+
+		// the blocks of evicted entries are reused
+		scope.inTransaction( session -> {
+			for ( int i = 100; i < 100 + count; i++ ) {
+				assertThat( session.find( Book.class, i ).title )
+						.isEqualTo( "A book with a rather long title, number " + i );
+			}
+		} );
+	}
+
+	@Test
+	public void testMemoryIsSharedByTheRegions() {
+		// the whole budget is taken by the first region to need memory
+		try ( StandardServiceRegistry serviceRegistry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, OffHeapRegionFactory.class.getName() )
+				.applySetting( AvailableSettings.HBM2DDL_AUTO, "create-drop" )
+				.applySetting( CacheSettings.OFF_HEAP_REGION_SIZE, "65536" )
+				.applySetting( CacheSettings.OFF_HEAP_MAX_SIZE, "65536" )
+				.applySetting( CacheSettings.OFF_HEAP_BLOCK_SIZE, "64" )
+				.build();
+				SessionFactory sessionFactory = new MetadataSources( serviceRegistry )
+						.addAnnotatedClass( Author.class )
+						.addAnnotatedClass( Book.class )
+						.buildMetadata()
+						.buildSessionFactory() ) {
+			sessionFactory.inTransaction( session -> session.persist( new Book( 1, "Book 1", null ) ) );
+			sessionFactory.inTransaction( session -> session.persist( new Author( 1, "Gavin King" ) ) );
+			final org.hibernate.Cache cache = sessionFactory.getCache();
+			assertThat( cache.containsEntity( Book.class, 1 ) ).isTrue();
+			// there is no memory left for the entry, so it is not cached
+			assertThat( cache.containsEntity( Author.class, 1 ) ).isFalse();
+			sessionFactory.inTransaction( session -> assertThat( session.find( Author.class, 1 ).name )
+					.isEqualTo( "Gavin King" ) );
+
+			// the memory of a cleared region can be used by the other regions
+			cache.evictEntityData( Book.class );
+			sessionFactory.inTransaction( session -> session.find( Author.class, 1 ) );
+			assertThat( cache.containsEntity( Author.class, 1 ) ).isTrue();
+		}
+	}
+
+	@Test
+	public void testDirectReferenceCacheEntriesAreRejected() {
+		try ( StandardServiceRegistry serviceRegistry = ServiceRegistryUtil.serviceRegistryBuilder()
+				.applySetting( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" )
+				.applySetting( AvailableSettings.CACHE_REGION_FACTORY, OffHeapRegionFactory.class.getName() )
+				.applySetting( CacheSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES, "true" )
+				.build() ) {
+			final Metadata metadata = new MetadataSources( serviceRegistry )
+					.addAnnotatedClass( Author.class )
+					.addAnnotatedClass( Book.class )
+					.buildMetadata();
+			assertThatThrownBy( metadata::buildSessionFactory )
+					.hasRootCauseInstanceOf( CacheException.class )
+					.hasStackTraceContaining( CacheSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES );
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+		@OneToMany(mappedBy = "author")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, Author author) {
+			this.id = id;
+			this.title = title;
+			this.author = author;
+		}
+	}
+}
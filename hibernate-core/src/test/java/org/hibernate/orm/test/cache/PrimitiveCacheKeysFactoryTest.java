@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.internal.BasicCacheKeyImplementation;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.internal.PrimitiveCacheKey;
+import org.hibernate.cache.internal.PrimitiveCacheKeysFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PrimitiveCacheKeysFactory}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = CacheSettings.CACHE_KEYS_FACTORY, value = PrimitiveCacheKeysFactory.SHORT_NAME)
+})
+@DomainModel(annotatedClasses = {
+		PrimitiveCacheKeysFactoryTest.LongEntity.class,
+		PrimitiveCacheKeysFactoryTest.IntEntity.class,
+		PrimitiveCacheKeysFactoryTest.UuidEntity.class,
+		PrimitiveCacheKeysFactoryTest.StringEntity.class
+})
+@SessionFactory
+public class PrimitiveCacheKeysFactoryTest {
+	private static final UUID UUID_ID = UUID.fromString( "018f2f6e-7c4a-7b3e-9a51-6f0d2c3b4a59" );
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testKeys(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( LongEntity.class );
+		final PrimitiveCacheKeysFactory keysFactory = PrimitiveCacheKeysFactory.INSTANCE;
+
+		final Object key = keysFactory.createEntityKey( 42L, persister, factory, null );
+		assertThat( key ).isInstanceOf( PrimitiveCacheKey.LongKey.class );
+		assertThat( key ).isEqualTo( keysFactory.createEntityKey( 42L, persister, factory, null ) );
+		assertThat( key ).hasSameHashCodeAs( keysFactory.createEntityKey( 42L, persister, factory, null ) );
+		assertThat( key ).isNotEqualTo( keysFactory.createEntityKey( 43L, persister, factory, null ) );
+		assertThat( keysFactory.getEntityId( key ) ).isEqualTo( 42L );
+
+		final Object clone = roundTrip( key );
+		assertThat( clone ).isEqualTo( key );
+		assertThat( clone ).hasSameHashCodeAs( key );
+		assertThat( ( (PrimitiveCacheKey) clone ).getEntityOrRoleName() )
+				.isSameAs( ( (PrimitiveCacheKey) key ).getEntityOrRoleName() );
+
+		// the serialized form is smaller than that of the default key
+		final Object defaultKey = DefaultCacheKeysFactory.INSTANCE.createEntityKey( 42L, persister, factory, null );
+		assertThat( defaultKey ).isInstanceOf( BasicCacheKeyImplementation.class );
+		assertThat( serialize( key ).length ).isLessThan( serialize( defaultKey ).length );
+
+		// the keys of a multi-tenant session factory are not specialized
+		assertThat( keysFactory.createEntityKey( 42L, persister, factory, "tenant" ) )
+				.isNotInstanceOf( PrimitiveCacheKey.class );
+	}
+
+	@Test
+	public void testUuidKey(SessionFactoryScope scope) throws Exception {
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( UuidEntity.class );
+		final Object key = PrimitiveCacheKeysFactory.INSTANCE.createEntityKey( UUID_ID, persister, factory, null );
+		assertThat( key ).isInstanceOf( PrimitiveCacheKey.UuidKey.class );
+		assertThat( PrimitiveCacheKeysFactory.INSTANCE.getEntityId( key ) ).isEqualTo( UUID_ID );
+		final Object clone = roundTrip( key );
+		assertThat( clone ).isEqualTo( key );
+		assertThat( clone ).hasSameHashCodeAs( key );
+	}
+
+	@Test
+	public void testCaching(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final LongEntity longEntity = new LongEntity( 1L, "long" );
+			longEntity.tags.add( "tag" );
+			session.persist( longEntity );
+			session.persist( new IntEntity( 1, "int" ) );
+			session.persist( new UuidEntity( UUID_ID, "uuid" ) );
+			session.persist( new StringEntity( "1", "string" ) );
+		} );
+		scope.inTransaction( session -> assertThat( session.find( LongEntity.class, 1L ).tags ).hasSize( 1 ) );
+
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		scope.inTransaction( session -> {
+			final LongEntity longEntity = session.find( LongEntity.class, 1L );
+			assertThat( longEntity.name ).isEqualTo( "long" );
+			assertThat( longEntity.tags ).containsExactly( "tag" );
+			assertThat( session.find( IntEntity.class, 1 ).name ).isEqualTo( "int" );
+			assertThat( session.find( UuidEntity.class, UUID_ID ).name ).isEqualTo( "uuid" );
+			assertThat( session.find( StringEntity.class, "1" ).name ).isEqualTo( "string" );
+		} );
+		assertThat( statistics.getPrepareStatementCount() ).isZero();
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 5 );
+		assertThat( scope.getSessionFactory().getCache().containsEntity( IntEntity.class, 1 ) ).isTrue();
+
+		final SessionFactoryImplementor factory = scope.getSessionFactory();
+		final EntityPersister persister = factory.getMappingMetamodel().getEntityDescriptor( LongEntity.class );
+		assertThat( persister.getCacheAccessStrategy().generateCacheKey( 1L, persister, factory, null ) )
+				.isInstanceOf( PrimitiveCacheKey.LongKey.class );
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( ObjectOutputStream out = new ObjectOutputStream( bytes ) ) {
+			out.writeObject( object );
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object roundTrip(Object object) throws IOException, ClassNotFoundException {
+		try ( ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( serialize( object ) ) ) ) {
+			return in.readObject();
+		}
+	}
+
+	@Entity(name = "LongEntity")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class LongEntity {
+		@Id
+		private Long id;
+		private String name;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Set<String> tags = new HashSet<>();
+
+		public LongEntity() {
+		}
+
+		public LongEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "IntEntity")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class IntEntity {
+		@Id
+		private int id;
+		private String name;
+
+		public IntEntity() {
+		}
+
+		public IntEntity(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "UuidEntity")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class UuidEntity {
+		@Id
+		private UUID id;
+		private String name;
+
+		public UuidEntity() {
+		}
+
+		public UuidEntity(UUID id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "StringEntity")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class StringEntity {
+		@Id
+		private String id;
+		private String name;
+
+		public StringEntity() {
+		}
+
+		public StringEntity(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
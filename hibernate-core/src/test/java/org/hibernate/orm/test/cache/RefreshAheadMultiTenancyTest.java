@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryProducer;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that {@value CacheSettings#REFRESH_AHEAD_INTERVAL} reloads the entries
+ * of each tenant with a session of that tenant
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.REFRESH_AHEAD_INTERVAL, value = "100"),
+		@Setting(name = CacheSettings.REFRESH_AHEAD_MIN_HITS, value = "2"),
+		@Setting(name = AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, value = "create-drop")
+})
+@DomainModel(annotatedClasses = RefreshAheadMultiTenancyTest.Country.class)
+@SessionFactory
+public class RefreshAheadMultiTenancyTest implements SessionFactoryProducer {
+	private volatile String currentTenant = "mine";
+
+	@Override
+	public SessionFactoryImplementor produceSessionFactory(MetadataImplementor model) {
+		final SessionFactoryBuilder sessionFactoryBuilder = model.getSessionFactoryBuilder();
+		sessionFactoryBuilder.applyCurrentTenantIdentifierResolver( new CurrentTenantIdentifierResolver<String>() {
+			@Override
+			public String resolveCurrentTenantIdentifier() {
+				return currentTenant;
+			}
+
+			@Override
+			public boolean validateExistingCurrentSessions() {
+				return false;
+			}
+		} );
+		return (SessionFactoryImplementor) sessionFactoryBuilder.build();
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		currentTenant = "mine";
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testHotEntryRefreshedForItsTenant(SessionFactoryScope scope) throws InterruptedException {
+		inTenant( scope, "mine", session -> {
+			session.persist( new Country( "AT", "Austria" ) );
+			return null;
+		} );
+		// sessions which do not specify a tenant now belong to another tenant
+		currentTenant = "yours";
+		// bypass the cache, so that its entry is now stale
+		inTenant( scope, "mine", session -> {
+			session.doWork( connection -> {
+				try ( Statement statement = connection.createStatement() ) {
+					statement.executeUpdate( "update Country set name = upper(name)" );
+				}
+			} );
+			return null;
+		} );
+
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		String name;
+		do {
+			name = inTenant( scope, "mine", session -> session.find( Country.class, "AT" ).name );
+			Thread.sleep( 10 );
+		}
+		while ( !"AUSTRIA".equals( name ) && System.nanoTime() < deadline );
+		assertThat( name ).isEqualTo( "AUSTRIA" );
+	}
+
+	private static <T> T inTenant(SessionFactoryScope scope, String tenant, Function<Session, T> action) {
+		try ( Session session = scope.getSessionFactory().withOptions().tenantIdentifier( (Object) tenant ).openSession() ) {
+			session.getTransaction().begin();
+			try {
+				final T result = action.apply( session );
+				session.getTransaction().commit();
+				return result;
+			}
+			catch (RuntimeException e) {
+				session.getTransaction().rollback();
+				throw e;
+			}
+		}
+	}
+
+	@Entity(name = "Country")
+	@Immutable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Country {
+		@Id
+		private String code;
+		private String name;
+		@TenantId
+		private String tenant;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
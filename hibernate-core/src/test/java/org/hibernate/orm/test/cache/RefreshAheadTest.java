@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.cache.spi.support.RefreshAheadEntityReadOnlyAccess;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#REFRESH_AHEAD_INTERVAL}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = CacheSettings.REFRESH_AHEAD_INTERVAL, value = "100"),
+		@Setting(name = CacheSettings.REFRESH_AHEAD_MIN_HITS, value = "2")
+})
+@DomainModel(annotatedClasses = RefreshAheadTest.Country.class)
+@SessionFactory
+public class RefreshAheadTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testHotEntryRefreshed(SessionFactoryScope scope) throws InterruptedException {
+		final EntityPersister persister = scope.getSessionFactory().getMappingMetamodel()
+				.getEntityDescriptor( Country.class );
+		assertThat( persister.getCacheAccessStrategy() ).isInstanceOf( RefreshAheadEntityReadOnlyAccess.class );
+
+		scope.inTransaction( session -> {
+			session.persist( new Country( "AT", "Austria" ) );
+			session.persist( new Country( "DE", "Germany" ) );
+		} );
+		// bypass the cache, so that its entries are now stale
+		scope.inTransaction( session -> session.doWork( connection -> {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.executeUpdate( "update Country set name = upper(name)" );
+			}
+		} ) );
+
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		String name;
+		do {
+			// read the entries from the cache, only Austria being hot
+			name = scope.fromTransaction( session -> session.find( Country.class, "AT" ).name );
+			Thread.sleep( 10 );
+		}
+		while ( !"AUSTRIA".equals( name ) && System.nanoTime() < deadline );
+		assertThat( name ).isEqualTo( "AUSTRIA" );
+
+		scope.inTransaction( session -> assertThat( session.find( Country.class, "DE" ).name )
+				.isEqualTo( "Germany" ) );
+	}
+
+	@Test
+	public void testDeletedEntryEvicted(SessionFactoryScope scope) throws InterruptedException {
+		scope.inTransaction( session -> session.persist( new Country( "AT", "Austria" ) ) );
+		// make the entry hot
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> assertThat( session.find( Country.class, "AT" ) ).isNotNull() );
+		}
+		// bypass the cache, so that its entry is now stale
+		scope.inTransaction( session -> session.doWork( connection -> {
+			try ( Statement statement = connection.createStatement() ) {
+				statement.executeUpdate( "delete from Country" );
+			}
+		} ) );
+
+		final org.hibernate.Cache cache = scope.getSessionFactory().getCache();
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( cache.containsEntity( Country.class, "AT" ) && System.nanoTime() < deadline ) {
+			Thread.sleep( 10 );
+		}
+		assertThat( cache.containsEntity( Country.class, "AT" ) ).isFalse();
+	}
+
+	@Entity(name = "Country")
+	@Immutable
+	@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+	public static class Country {
+		@Id
+		private String code;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(String code, String name) {
+			this.code = code;
+			this.name = name;
+		}
+	}
+}
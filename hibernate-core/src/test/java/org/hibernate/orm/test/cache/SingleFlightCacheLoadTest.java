@@ -0,0 +1,183 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.cache;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.CacheSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value CacheSettings#CACHE_SINGLE_FLIGHT}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = CacheSettings.CACHE_SINGLE_FLIGHT, value = "true"),
+		@Setting(name = CacheSettings.CACHE_SINGLE_FLIGHT_TIMEOUT, value = "10000"),
+		@Setting(name = AvailableSettings.STATEMENT_INSPECTOR,
+				value = "org.hibernate.orm.test.cache.SingleFlightCacheLoadTest$BlockingStatementInspector")
+})
+@DomainModel(annotatedClasses = SingleFlightCacheLoadTest.Product.class)
+@SessionFactory
+public class SingleFlightCacheLoadTest {
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Product product = new Product( 1, "Widget" );
+			product.tags.add( "new" );
+			product.tags.add( "popular" );
+			session.persist( product );
+		} );
+		// put the collection in the cache
+		scope.inTransaction( session -> assertThat( session.find( Product.class, 1 ).tags ).hasSize( 2 ) );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		BlockingStatementInspector.disarm();
+		scope.inTransaction( session -> session.remove( session.find( Product.class, 1 ) ) );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testConcurrentEntityMisses(SessionFactoryScope scope) throws Exception {
+		scope.getSessionFactory().getCache().evictEntityData();
+		concurrently( scope, "name", session -> assertThat( session.find( Product.class, 1 ).name )
+				.isEqualTo( "Widget" ) );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 2 );
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testConcurrentCollectionMisses(SessionFactoryScope scope) throws Exception {
+		scope.getSessionFactory().getCache().evictCollectionData();
+		concurrently( scope, "tags", session -> assertThat( session.find( Product.class, 1 ).tags )
+				.containsExactlyInAnyOrder( "new", "popular" ) );
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( statistics.getPrepareStatementCount() ).isEqualTo( 1 );
+		assertThat( statistics.getSecondLevelCacheMissCount() ).isEqualTo( 2 );
+		// the entity twice, and the collection once
+		assertThat( statistics.getSecondLevelCacheHitCount() ).isEqualTo( 3 );
+	}
+
+	/**
+	 * Runs the given work on two threads, holding the first one in the database
+	 * until the second one has missed the cache.
+	 */
+	private static void concurrently(SessionFactoryScope scope, String sql, Consumer<Session> work)
+			throws Exception {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		statistics.clear();
+		BlockingStatementInspector.arm( sql );
+		final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+		try {
+			final Future<?> first = executor.submit( () -> scope.inTransaction( work::accept ) );
+			assertThat( BlockingStatementInspector.entered.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+			final Future<?> second = executor.submit( () -> scope.inTransaction( work::accept ) );
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+			while ( statistics.getSecondLevelCacheMissCount() < 2 && System.nanoTime() < deadline ) {
+				Thread.sleep( 1 );
+			}
+			BlockingStatementInspector.release.countDown();
+
+			// rethrows the failures of the work on the test thread
+			first.get( 10, TimeUnit.SECONDS );
+			second.get( 10, TimeUnit.SECONDS );
+		}
+		finally {
+			BlockingStatementInspector.release.countDown();
+			executor.shutdownNow();
+		}
+	}
+
+	public static class BlockingStatementInspector implements StatementInspector {
+		private static final AtomicBoolean armed = new AtomicBoolean();
+		private static volatile String sqlFragment;
+		private static volatile CountDownLatch entered;
+		private static volatile CountDownLatch release;
+
+		static void arm(String sql) {
+			sqlFragment = sql;
+			entered = new CountDownLatch( 1 );
+			release = new CountDownLatch( 1 );
+			armed.set( true );
+		}
+
+		static void disarm() {
+			armed.set( false );
+		}
+
+		@Override
+		public String inspect(String sql) {
+			if ( sql.toLowerCase( Locale.ROOT ).startsWith( "select" )
+					&& sql.contains( sqlFragment == null ? "" : sqlFragment )
+					&& armed.compareAndSet( true, false ) ) {
+				entered.countDown();
+				try {
+					release.await( 10, TimeUnit.SECONDS );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return sql;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Integer id;
+		private String name;
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private Set<String> tags = new HashSet<>();
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -6,6 +6,16 @@
  */
 package org.hibernate.orm.test.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import org.hibernate.id.IdentifierGeneratorHelper;
 import org.hibernate.id.IntegralDataTypeHolder;
 import org.hibernate.id.enhanced.AccessCallback;
@@ -304,6 +314,71 @@ public class OptimizerUnitTest {
 
 	}
 
+	@Test
+	public void testBasicPrefetchingPooledOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 8 );
+		final Optimizer optimizer = buildPrefetchingPooledOptimizer( 1, 8 );
+
+		Long next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 1, next.intValue() );
+		assertEquals( 1, sequence.getTimesCalled() );
+		assertEquals( 1, sequence.getCurrentValue() );
+
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 2, next.intValue() );
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 9, sequence.getCurrentValue() );
+
+		for ( int i = 3; i < 8; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+
+		// the low-water mark of the pool 2-9 is crossed, the next pool is obtained
+		next = ( Long ) optimizer.generate( sequence );
+		assertEquals( 8, next.intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 17, sequence.getCurrentValue() );
+
+		for ( int i = 9; i < 14; i++ ) {
+			next = ( Long ) optimizer.generate( sequence );
+			assertEquals( i, next.intValue() );
+		}
+		assertEquals( 3, sequence.getTimesCalled() );
+	}
+
+	@Test
+	public void testConcurrentPrefetchingPooledOptimizerUsage() throws Exception {
+		final SourceMock sequence = new SourceMock( 1, 50 );
+		final Optimizer optimizer = buildPrefetchingPooledOptimizer( 1, 50 );
+		final int threads = 8;
+		final int valuesPerThread = 5_000;
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						values.add( ( Long ) optimizer.generate( sequence ) );
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// no value is handed out twice, and no pool is skipped
+		assertEquals( threads * valuesPerThread, values.size() );
+		assertEquals( 1, Collections.min( values ).intValue() );
+		assertEquals( threads * valuesPerThread, Collections.max( values ).intValue() );
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
@@ -324,6 +399,10 @@ public class OptimizerUnitTest {
 		return buildOptimizer( StandardOptimizerDescriptor.POOLED_LOTL, initial, increment );
 	}
 
+	private static Optimizer buildPrefetchingPooledOptimizer(long initial, int increment) {
+		return buildOptimizer( StandardOptimizerDescriptor.POOLED_PREFETCH, initial, increment );
+	}
+
 	private static Optimizer buildOptimizer(
 			StandardOptimizerDescriptor descriptor,
 			long initial,
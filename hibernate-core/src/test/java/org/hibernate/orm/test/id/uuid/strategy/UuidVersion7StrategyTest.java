@@ -0,0 +1,102 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.id.uuid.strategy;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+
+import org.hibernate.testing.orm.junit.BaseUnitTest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@BaseUnitTest
+public class UuidVersion7StrategyTest {
+
+	@Test
+	public void testLayout() {
+		final long before = System.currentTimeMillis();
+		final UUID uuid = new UuidVersion7Strategy().generateUuid( null );
+		final long after = System.currentTimeMillis();
+
+		assertThat( uuid.version() ).isEqualTo( 7 );
+		assertThat( uuid.variant() ).isEqualTo( 2 );
+		final long timestamp = uuid.getMostSignificantBits() >>> 16;
+		assertThat( timestamp ).isBetween( before, after );
+	}
+
+	@Test
+	public void testMonotonic() {
+		final UuidVersion7Strategy strategy = new UuidVersion7Strategy();
+		final List<UUID> values = new ArrayList<>();
+		// many more values than fit in the counter of a single millisecond
+		for ( int i = 0; i < 100_000; i++ ) {
+			values.add( strategy.generateUuid( null ) );
+		}
+		for ( int i = 1; i < values.size(); i++ ) {
+			final UUID previous = values.get( i - 1 );
+			final UUID current = values.get( i );
+			assertThat( current ).isGreaterThan( previous );
+			// the binary and string representations sort in the same order
+			assertThat( Arrays.compareUnsigned( bytes( current ), bytes( previous ) ) ).isPositive();
+			assertThat( current.toString() ).isGreaterThan( previous.toString() );
+		}
+	}
+
+	@Test
+	public void testConcurrentUniqueness() throws Exception {
+		final UuidVersion7Strategy strategy = new UuidVersion7Strategy();
+		final int threads = 8;
+		final int valuesPerThread = 10_000;
+		final Set<UUID> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add( executor.submit( () -> {
+					final Set<UUID> generated = new HashSet<>();
+					UUID previous = null;
+					for ( int j = 0; j < valuesPerThread; j++ ) {
+						final UUID uuid = strategy.generateUuid( null );
+						if ( previous != null ) {
+							assertThat( uuid ).isGreaterThan( previous );
+						}
+						generated.add( uuid );
+						previous = uuid;
+					}
+					values.addAll( generated );
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get( 30, TimeUnit.SECONDS );
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertThat( values ).hasSize( threads * valuesPerThread );
+	}
+
+	private static byte[] bytes(UUID uuid) {
+		return ByteBuffer.allocate( 16 )
+				.putLong( uuid.getMostSignificantBits() )
+				.putLong( uuid.getLeastSignificantBits() )
+				.array();
+	}
+}
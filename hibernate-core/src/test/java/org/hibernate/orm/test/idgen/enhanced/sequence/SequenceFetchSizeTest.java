@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.idgen.enhanced.sequence;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.id.enhanced.NoopOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@value AvailableSettings#SEQUENCE_FETCH_SIZE}
+ */
+@RequiresDialect(H2Dialect.class)
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.SEQUENCE_FETCH_SIZE, value = "10"))
+@DomainModel(annotatedClasses = SequenceFetchSizeTest.Item.class)
+@SessionFactory
+public class SequenceFetchSizeTest {
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.getSessionFactory().getSchemaManager().truncateMappedObjects();
+	}
+
+	@Test
+	public void testFetchSize(SessionFactoryScope scope) {
+		final SequenceStyleGenerator generator = (SequenceStyleGenerator) scope.getSessionFactory()
+				.getMappingMetamodel()
+				.getEntityDescriptor( Item.class )
+				.getGenerator();
+		assertThat( generator.getOptimizer() ).isInstanceOf( NoopOptimizer.class );
+
+		final Set<Long> ids = new HashSet<>();
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 15; i++ ) {
+				final Item item = new Item();
+				session.persist( item );
+				ids.add( item.id );
+			}
+		} );
+		scope.inStatelessTransaction( session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				final Item item = new Item();
+				session.insert( item );
+				ids.add( item.id );
+			}
+		} );
+
+		assertThat( ids ).hasSize( 25 );
+		assertThat( ids ).allMatch( id -> id >= 1 && id <= 30 );
+		assertThat( generator.getDatabaseStructure().getTimesAccessed() ).isEqualTo( 3 );
+	}
+
+	@jakarta.persistence.Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue(generator = "item_seq")
+		@SequenceGenerator(name = "item_seq", allocationSize = 1)
+		private Long id;
+	}
+}
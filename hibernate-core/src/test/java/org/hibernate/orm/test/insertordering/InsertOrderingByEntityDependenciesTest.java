@@ -0,0 +1,215 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.insertordering;
+
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.BatchSettings;
+
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BatchSettings#ORDER_INSERTS_BY_ENTITY_DEPENDENCIES}
+ */
+public class InsertOrderingByEntityDependenciesTest extends BaseInsertOrderingTest {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] {
+				Country.class,
+				Region.class,
+				City.class,
+				Category.class,
+				Department.class,
+				Employee.class
+		};
+	}
+
+	@Override
+	protected void applySettings(StandardServiceRegistryBuilder builer) {
+		super.applySettings( builer );
+		builer.applySetting( BatchSettings.ORDER_INSERTS_BY_ENTITY_DEPENDENCIES, "true" );
+	}
+
+	@Test
+	public void testBatching() {
+		sessionFactoryScope().inTransaction( session -> {
+			int id = 0;
+			for ( int i = 0; i < 2; i++ ) {
+				final Country country = new Country( ++id, "country " + i );
+				session.persist( country );
+				for ( int j = 0; j < 2; j++ ) {
+					final Region region = new Region( ++id, "region " + j, country );
+					session.persist( region );
+					for ( int k = 0; k < 2; k++ ) {
+						session.persist( new City( ++id, "city " + k, region ) );
+					}
+				}
+			}
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Country (name,id) values (?,?)", 2 ),
+				new Batch( "insert into Region (country_id,name,id) values (?,?,?)", 4 ),
+				new Batch( "insert into City (name,region_id,id) values (?,?,?)", 8 )
+		);
+		verifyPreparedStatementCount( 3 );
+	}
+
+	@Test
+	public void testSelfReference() {
+		sessionFactoryScope().inTransaction( session -> {
+			final Region region = new Region( 100, "region", null );
+			session.persist( region );
+			Category parent = null;
+			for ( int i = 0; i < 3; i++ ) {
+				final Category category = new Category( 100 + i, parent );
+				session.persist( category );
+				session.persist( new City( 100 + i, "city " + i, region ) );
+				parent = category;
+			}
+			clearBatches();
+		} );
+
+		verifyContainsBatches(
+				new Batch( "insert into Region (country_id,name,id) values (?,?,?)", 1 ),
+				new Batch( "insert into Category (parent_id,id) values (?,?)", 3 ),
+				new Batch( "insert into City (name,region_id,id) values (?,?,?)", 3 )
+		);
+		verifyPreparedStatementCount( 3 );
+
+		sessionFactoryScope().inTransaction( session -> {
+			final Category category = session.find( Category.class, 102 );
+			assertThat( category.parent.id ).isEqualTo( 101 );
+			assertThat( category.parent.parent.id ).isEqualTo( 100 );
+		} );
+	}
+
+	@Test
+	public void testCycle() {
+		sessionFactoryScope().inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				final Department department = new Department( 200 + i );
+				final Employee manager = new Employee( 200 + i, department );
+				department.manager = manager;
+				session.persist( department );
+				session.persist( manager );
+				session.persist( new Employee( 300 + i, department ) );
+			}
+		} );
+
+		sessionFactoryScope().inTransaction( session -> {
+			final Department department = session.find( Department.class, 201 );
+			assertThat( department.manager.id ).isEqualTo( 201 );
+			assertThat( session.find( Employee.class, 301 ).department ).isSameAs( department );
+		} );
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Region")
+	public static class Region {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Country country;
+
+		public Region() {
+		}
+
+		public Region(Integer id, String name, Country country) {
+			this.id = id;
+			this.name = name;
+			this.country = country;
+		}
+	}
+
+	@Entity(name = "City")
+	public static class City {
+		@Id
+		private Integer id;
+		private String name;
+		@ManyToOne
+		private Region region;
+
+		public City() {
+		}
+
+		public City(Integer id, String name, Region region) {
+			this.id = id;
+			this.name = name;
+			this.region = region;
+		}
+	}
+
+	@Entity(name = "Category")
+	public static class Category {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Category parent;
+
+		public Category() {
+		}
+
+		public Category(Integer id, Category parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+
+	@Entity(name = "Department")
+	public static class Department {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Employee manager;
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.jdbc;
+
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that sessions used from virtual threads do not pin their carrier threads,
+ * from opening the session, through preparing and executing the statements,
+ * to releasing the connection.
+ * <p>
+ * The connections are opened by a pool of its own, starting empty, the identifiers
+ * of the reviews are generated by an {@code increment} generator, and the queries
+ * are translated concurrently, so that the paths which used to block while holding
+ * a monitor are all taken by the virtual threads.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.CONNECTION_PROVIDER,
+				value = "org.hibernate.engine.jdbc.connections.internal.DriverManagerConnectionProviderImpl"),
+		@Setting(name = DriverManagerConnectionProviderImpl.INITIAL_SIZE, value = "0"),
+		@Setting(name = DriverManagerConnectionProviderImpl.MIN_SIZE, value = "0")
+})
+@DomainModel(annotatedClasses = { VirtualThreadPinningTest.Book.class, VirtualThreadPinningTest.Review.class })
+@SessionFactory
+public class VirtualThreadPinningTest {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	// less than the size of the connection pool
+	private static final int THREADS = 4;
+	private static final int BOOKS = 20;
+
+	/**
+	 * The Hibernate methods which hold a monitor in a {@code synchronized} block, where
+	 * they used to block. JFR only tells the methods declared {@code synchronized}.
+	 */
+	private static final Set<String> MONITOR_OWNERS = Set.of(
+			DriverManagerConnectionProviderImpl.PooledConnections.class.getName() + ".poll",
+			"org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan.withCacheableSqmInterpretation"
+	);
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Review" ).executeUpdate();
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLoadAndFlush(SessionFactoryScope scope) throws Exception {
+		// make sure the SessionFactory is not built from one of the virtual threads
+		scope.getSessionFactory();
+		final Path file = Files.createTempFile( "virtual-thread-pinning", ".jfr" );
+		try {
+			try ( Recording recording = new Recording() ) {
+				recording.enable( PINNED_EVENT ).withThreshold( Duration.ZERO ).withStackTrace();
+				recording.start();
+				runInVirtualThreads( scope );
+				recording.stop();
+				recording.dump( file );
+			}
+
+			final List<String> pinnedInHibernate = RecordingFile.readAllEvents( file ).stream()
+					.filter( event -> PINNED_EVENT.equals( event.getEventType().getName() ) )
+					.filter( VirtualThreadPinningTest::isPinnedByHibernate )
+					.map( RecordedEvent::toString )
+					.collect( Collectors.toList() );
+			assertThat( pinnedInHibernate ).isEmpty();
+		}
+		finally {
+			Files.deleteIfExists( file );
+		}
+	}
+
+	private static void runInVirtualThreads(SessionFactoryScope scope) throws Exception {
+		// tests are compiled for the baseline JDK, so the executor is obtained reflectively
+		final ExecutorService executor =
+				(ExecutorService) Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" ).invoke( null );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < THREADS; t++ ) {
+				final int firstId = t * BOOKS;
+				futures.add( executor.submit( () -> loadAndFlush( scope, firstId ) ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+			executor.awaitTermination( 1, TimeUnit.MINUTES );
+		}
+	}
+
+	private static void loadAndFlush(SessionFactoryScope scope, int firstId) {
+		scope.inTransaction( session -> {
+			for ( int id = firstId; id < firstId + BOOKS; id++ ) {
+				session.persist( new Book( id, "Book " + id ) );
+				session.persist( new Review( "Review of book " + id ) );
+			}
+		} );
+		scope.inTransaction( session -> {
+			for ( int id = firstId; id < firstId + BOOKS; id++ ) {
+				session.find( Book.class, id ).title += " (2nd edition)";
+			}
+		} );
+		scope.inTransaction( session -> {
+			final List<Book> books = session.createSelectionQuery(
+							"from Book where id >= :first and id < :last",
+							Book.class
+					)
+					.setParameter( "first", firstId )
+					.setParameter( "last", firstId + BOOKS )
+					.getResultList();
+			assertThat( books ).hasSize( BOOKS ).allMatch( book -> book.title.endsWith( " (2nd edition)" ) );
+		} );
+	}
+
+	/**
+	 * Whether a frame of the stack of the pinned thread is a Hibernate method owning
+	 * a monitor, even when the thread is parked further up, in the JDK or the driver.
+	 * A monitor owned by the JDK or the driver, for example the lock of the stream
+	 * the SQL is logged to, is not a problem of Hibernate.
+	 */
+	private static boolean isPinnedByHibernate(RecordedEvent event) {
+		if ( event.getStackTrace() == null ) {
+			return false;
+		}
+		for ( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			final RecordedMethod method = frame.getMethod();
+			final String className = method.getType().getName();
+			if ( className.startsWith( "org.hibernate." )
+					&& !className.startsWith( "org.hibernate.orm.test." )
+					&& !className.startsWith( "org.hibernate.testing." )
+					&& ( Modifier.isSynchronized( method.getModifiers() )
+							|| MONITOR_OWNERS.contains( className + '.' + method.getName() ) ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Entity(name = "Review")
+	public static class Review {
+		@Id
+		@GeneratedValue(generator = "increment")
+		@GenericGenerator(name = "increment", strategy = "increment")
+		private Long id;
+		private String text;
+
+		public Review() {
+		}
+
+		public Review(String text) {
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.pc;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Inheritance;
+import jakarta.persistence.InheritanceType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link AvailableSettings#IDENTIFIER_INDEXED_PERSISTENCE_CONTEXT}
+ */
+@ServiceRegistry(settings = @Setting(name = AvailableSettings.IDENTIFIER_INDEXED_PERSISTENCE_CONTEXT, value = "true"))
+@DomainModel(annotatedClasses = {
+		IdentifierIndexedPersistenceContextTest.LongEntity.class,
+		IdentifierIndexedPersistenceContextTest.Animal.class,
+		IdentifierIndexedPersistenceContextTest.Dog.class,
+		IdentifierIndexedPersistenceContextTest.StringEntity.class
+})
+@SessionFactory
+public class IdentifierIndexedPersistenceContextTest {
+
+	private static final int COUNT = 1000;
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < COUNT; i++ ) {
+				session.persist( new LongEntity( (long) i, "long " + i ) );
+				session.persist( i % 2 == 0 ? new Dog( i, "dog " + i ) : new Animal( i, "animal " + i ) );
+				session.persist( new StringEntity( "id-" + i, "string " + i ) );
+			}
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from LongEntity" ).executeUpdate();
+			session.createMutationQuery( "delete from Animal" ).executeUpdate();
+			session.createMutationQuery( "delete from StringEntity" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLoadFindAndRemove(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<LongEntity> longs = session.createSelectionQuery( "from LongEntity", LongEntity.class )
+					.getResultList();
+			final List<Animal> animals = session.createSelectionQuery( "from Animal", Animal.class )
+					.getResultList();
+			final List<StringEntity> strings = session.createSelectionQuery( "from StringEntity", StringEntity.class )
+					.getResultList();
+
+			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 3 * COUNT );
+			for ( LongEntity entity : longs ) {
+				assertThat( session.find( LongEntity.class, entity.id ) ).isSameAs( entity );
+			}
+			for ( Animal animal : animals ) {
+				assertThat( session.find( Animal.class, animal.id ) ).isSameAs( animal );
+				if ( animal instanceof Dog ) {
+					assertThat( session.find( Dog.class, animal.id ) ).isSameAs( animal );
+				}
+			}
+			for ( StringEntity entity : strings ) {
+				assertThat( session.find( StringEntity.class, entity.id ) ).isSameAs( entity );
+			}
+
+			// lookups by identifier, without an EntityKey
+			final Animal dog = session.find( Animal.class, 0 );
+			final EntityPersister dogPersister = session.getEntityPersister( "Dog", dog );
+			assertThat( persistenceContext.getEntity( 0, dogPersister ) ).isSameAs( dog );
+			assertThat( persistenceContext.containsEntity( 1, dogPersister ) ).isTrue();
+			assertThat( persistenceContext.containsEntity( COUNT, dogPersister ) ).isFalse();
+
+			// remove every third entity, the others must still be found afterwards
+			for ( int i = 0; i < COUNT; i += 3 ) {
+				session.remove( longs.get( i ) );
+				session.remove( animals.get( i ) );
+				session.remove( strings.get( i ) );
+			}
+			session.flush();
+			for ( int i = 0; i < COUNT; i++ ) {
+				final boolean removed = i % 3 == 0;
+				assertThat( session.contains( longs.get( i ) ) ).isNotEqualTo( removed );
+				assertThat( session.contains( animals.get( i ) ) ).isNotEqualTo( removed );
+				assertThat( session.contains( strings.get( i ) ) ).isNotEqualTo( removed );
+			}
+			assertThat( persistenceContext.getEntityHoldersByKey() ).hasSize( 3 * ( COUNT - ( COUNT + 2 ) / 3 ) );
+
+			session.clear();
+			assertThat( persistenceContext.getEntityHoldersByKey() ).isNull();
+			assertThat( session.find( LongEntity.class, 1L ).name ).isEqualTo( "long 1" );
+			assertThat( session.find( Animal.class, 2 ) ).isInstanceOf( Dog.class );
+			assertThat( session.find( StringEntity.class, "id-0" ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testReferenceAndIterate(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final LongEntity reference = session.getReference( LongEntity.class, 5L );
+			assertThat( session.find( LongEntity.class, 5L ) ).isSameAs( reference );
+
+			session.createSelectionQuery( "from Animal", Animal.class ).getResultList();
+			int managed = 0;
+			for ( var iterator = session.getPersistenceContextInternal().managedEntitiesIterator(); iterator.hasNext(); ) {
+				assertThat( iterator.next() ).isNotNull();
+				managed++;
+			}
+			assertThat( managed ).isEqualTo( COUNT + 1 );
+		} );
+	}
+
+	@Entity(name = "LongEntity")
+	public static class LongEntity {
+		@Id
+		private Long id;
+		private String name;
+
+		public LongEntity() {
+		}
+
+		public LongEntity(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Animal")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class Animal {
+		@Id
+		private int id;
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(int id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		public Dog() {
+		}
+
+		public Dog(int id, String name) {
+			super( id, name );
+		}
+	}
+
+	@Entity(name = "StringEntity")
+	public static class StringEntity {
+		@Id
+		private String id;
+		private String name;
+
+		public StringEntity() {
+		}
+
+		public StringEntity(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialect;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.hibernate.testing.orm.junit.SettingProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QuerySettings#IN_CLAUSE_ARRAY_PARAMETER} on a dialect which
+ * doesn't support arrays, and so still expands the parameter lists
+ */
+@RequiresDialect(H2Dialect.class)
+@ServiceRegistry(
+		settings = @Setting(name = QuerySettings.IN_CLAUSE_ARRAY_PARAMETER, value = "true"),
+		settingProviders = @SettingProvider(
+				settingName = AvailableSettings.DIALECT,
+				provider = InClauseArrayParameterNoArraySupportTest.DialectProvider.class
+		)
+)
+@DomainModel(annotatedClasses = InClauseArrayParameterNoArraySupportTest.Person.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class InClauseArrayParameterNoArraySupportTest {
+
+	public static class DialectProvider implements SettingProvider.Provider<String> {
+		@Override
+		public String getSetting() {
+			return NoArraysH2Dialect.class.getName();
+		}
+	}
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i < 10; i++ ) {
+				session.persist( new Person( i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testDifferentNumberOfValues(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		final QueryInterpretationCache interpretationCache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		interpretationCache.close();
+		assertThat( findIds( scope, List.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+		assertThat( findIds( scope, List.of( 4, 5 ) ) ).containsExactly( 4, 5 );
+		assertThat( findIds( scope, List.of( 6, 7, 8 ) ) ).containsExactly( 6, 7, 8 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 0, "\\?", 3 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 1, "\\?", 2 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 2, "\\?", 3 );
+		// one plan for each number of values
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 2 );
+	}
+
+	private static List<Integer> findIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromSession( session -> session.createSelectionQuery(
+						"select p.id from Person p where p.id in :ids order by p.id",
+						Integer.class
+				)
+				.setParameterList( "ids", ids )
+				.getResultList() );
+	}
+
+	public static class NoArraysH2Dialect extends H2Dialect {
+		@Override
+		public boolean supportsStandardArrays() {
+			return false;
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		public Person() {
+		}
+
+		public Person(Integer id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.query.spi.QueryInterpretationCache;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DialectFeatureChecks;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.RequiresDialectFeature;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.ParameterExpression;
+import jakarta.persistence.criteria.Root;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QuerySettings#IN_CLAUSE_ARRAY_PARAMETER}
+ */
+@ServiceRegistry(settings = @Setting(name = QuerySettings.IN_CLAUSE_ARRAY_PARAMETER, value = "true"))
+@DomainModel(annotatedClasses = InClauseArrayParameterTest.Person.class)
+@SessionFactory(useCollectingStatementInspector = true)
+@RequiresDialectFeature(feature = DialectFeatureChecks.SupportsStandardArrays.class)
+public class InClauseArrayParameterTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			for ( int i = 1; i < 10; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Person" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSameSqlForDifferentNumberOfValues(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		final QueryInterpretationCache interpretationCache =
+				scope.getSessionFactory().getQueryEngine().getInterpretationCache();
+		interpretationCache.close();
+		assertThat( findIds( scope, List.of( 1 ) ) ).containsExactly( 1 );
+		assertThat( findIds( scope, List.of( 1, 2, 3 ) ) ).containsExactly( 1, 2, 3 );
+		assertThat( findIds( scope, List.of( 2, 4, 6, 8, 42 ) ) ).containsExactly( 2, 4, 6, 8 );
+		assertThat( statementInspector.getSqlQueries() ).hasSize( 3 );
+		assertThat( statementInspector.getSqlQueries().stream().distinct() ).hasSize( 1 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 0, "\\?", 1 );
+		// the plan does not depend on the number of values
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testStringValues(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Integer> ids = session.createSelectionQuery(
+							"select p.id from Person p where p.name in :names order by p.id",
+							Integer.class
+					)
+					.setParameterList( "names", List.of( "Person 3", "Person 5", "Nobody" ) )
+					.getResultList();
+			assertThat( ids ).containsExactly( 3, 5 );
+		} );
+	}
+
+	@Test
+	public void testCriteria(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final CriteriaBuilder cb = session.getCriteriaBuilder();
+			final CriteriaQuery<Integer> query = cb.createQuery( Integer.class );
+			final Root<Person> root = query.from( Person.class );
+			@SuppressWarnings("unchecked")
+			final ParameterExpression<List<Integer>> ids = cb.parameter( (Class<List<Integer>>) (Class<?>) List.class );
+			query.select( root.get( "id" ) ).where( root.get( "id" ).in( ids ) ).orderBy( cb.asc( root.get( "id" ) ) );
+			assertThat( session.createQuery( query ).setParameter( ids, List.of( 7, 9 ) ).getResultList() )
+					.containsExactly( 7, 9 );
+		} );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 0, "\\?", 1 );
+	}
+
+	@Test
+	public void testNotInIsExpanded(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		scope.inTransaction( session -> {
+			final List<Integer> ids = session.createSelectionQuery(
+							"select p.id from Person p where p.id not in :ids order by p.id",
+							Integer.class
+					)
+					.setParameterList( "ids", List.of( 1, 2, 3, 4, 5, 6, 7 ) )
+					.getResultList();
+			assertThat( ids ).containsExactly( 8, 9 );
+		} );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 0, "\\?", 7 );
+	}
+
+	@Test
+	public void testNotInWithDifferentNumberOfValues(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+		statementInspector.clear();
+		final String hql = "select p.id from Person p where p.id not in :ids order by p.id";
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+								.setParameterList( "ids", List.of( 1, 2, 3, 4, 5, 6, 7 ) )
+								.getResultList() ).containsExactly( 8, 9 );
+			assertThat( session.createSelectionQuery( hql, Integer.class )
+								.setParameterList( "ids", List.of( 1, 9 ) )
+								.getResultList() ).containsExactly( 2, 3, 4, 5, 6, 7, 8 );
+		} );
+		// NOT IN is never rendered with an array, so each number of values has its own plan
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 0, "\\?", 7 );
+		statementInspector.assertNumberOfOccurrenceInQueryNoSpace( 1, "\\?", 2 );
+	}
+
+	private static List<Integer> findIds(SessionFactoryScope scope, List<Integer> ids) {
+		return scope.fromSession( session -> session.createSelectionQuery(
+						"select p.id from Person p where p.id in :ids order by p.id",
+						Integer.class
+				)
+				.setParameterList( "ids", ids )
+				.getResultList() );
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cfg.QuerySettings;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QuerySettings#QUERY_REUSE_ROW_BUFFER}
+ */
+@ServiceRegistry(settings = @Setting(name = QuerySettings.QUERY_REUSE_ROW_BUFFER, value = "true"))
+@DomainModel(annotatedClasses = ReuseRowBufferTest.Item.class)
+@SessionFactory
+public class ReuseRowBufferTest {
+
+	@BeforeAll
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new Item( 1L, "first", 10 ) );
+			session.persist( new Item( 2L, "second", 20 ) );
+			session.persist( new Item( 3L, "third", 30 ) );
+		} );
+	}
+
+	@AfterAll
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Item" ).executeUpdate() );
+	}
+
+	@Test
+	public void testSingleValuedResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			assertThat( session.createSelectionQuery( "select i.name from Item i order by i.id", String.class )
+								.getResultList() )
+					.containsExactly( "first", "second", "third" );
+			assertThat( session.createSelectionQuery( "from Item i order by i.id", Item.class )
+								.getResultList() )
+					.extracting( item -> item.quantity )
+					.containsExactly( 10, 20, 30 );
+		} );
+	}
+
+	@Test
+	public void testInstantiationResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<ItemSummary> summaries = session.createSelectionQuery(
+					"select i.name, i.quantity from Item i order by i.id",
+					ItemSummary.class
+			).getResultList();
+			assertThat( summaries ).extracting( summary -> summary.name )
+					.containsExactly( "first", "second", "third" );
+			assertThat( summaries ).extracting( summary -> summary.quantity )
+					.containsExactly( 10, 20, 30 );
+
+			final List<List> lists = session.createSelectionQuery(
+					"select i.name, i.quantity from Item i order by i.id",
+					List.class
+			).getResultList();
+			assertThat( lists ).containsExactly( List.of( "first", 10 ), List.of( "second", 20 ), List.of( "third", 30 ) );
+
+			final List<Map> maps = session.createSelectionQuery(
+					"select i.name as name, i.quantity as quantity from Item i order by i.id",
+					Map.class
+			).getResultList();
+			assertThat( maps ).extracting( map -> map.get( "name" ) )
+					.containsExactly( "first", "second", "third" );
+		} );
+	}
+
+	@Test
+	public void testRetainingResults(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final List<Object[]> rows = session.createSelectionQuery(
+					"select i.name, i.quantity from Item i order by i.id",
+					Object[].class
+			).getResultList();
+			assertThat( rows ).hasSize( 3 );
+			assertThat( rows.get( 0 ) ).containsExactly( "first", 10 );
+			assertThat( rows.get( 1 ) ).containsExactly( "second", 20 );
+			assertThat( rows.get( 2 ) ).containsExactly( "third", 30 );
+
+			final List<Tuple> tuples = session.createSelectionQuery(
+					"select i.name, i.quantity from Item i order by i.id",
+					Tuple.class
+			).getResultList();
+			assertThat( tuples ).extracting( tuple -> tuple.get( 0 ) )
+					.containsExactly( "first", "second", "third" );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+		private String name;
+		private int quantity;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name, int quantity) {
+			this.id = id;
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+
+	public static class ItemSummary {
+		private final String name;
+		private final int quantity;
+
+		public ItemSummary(String name, Integer quantity) {
+			this.name = name;
+			this.quantity = quantity;
+		}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.query;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.cfg.QuerySettings;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.graph.GraphSemantic;
+import org.hibernate.graph.RootGraph;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.query.spi.QueryParameterBindings;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslator;
+import org.hibernate.query.sqm.sql.StandardSqmTranslatorFactory;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlAstCreationContext;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that a cached query plan is executed without translating the query
+ * again, when the presence of a limit changes, when filters or an entity
+ * graph are applied, or when lists of values are bound to a parameter.
+ */
+@ServiceRegistry(settings = @Setting(
+		name = QuerySettings.SEMANTIC_QUERY_TRANSLATOR,
+		value = "org.hibernate.orm.test.query.TranslationCachingTest$CountingSqmTranslatorFactory"
+))
+@DomainModel(annotatedClasses = {
+		TranslationCachingTest.Book.class,
+		TranslationCachingTest.Author.class
+})
+@SessionFactory
+public class TranslationCachingTest {
+	private static final AtomicInteger translations = new AtomicInteger();
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			final Author author = new Author( 1, "Gavin" );
+			session.persist( author );
+			for ( int i = 0; i < 10; i++ ) {
+				session.persist( new Book( i, "Book " + i, i % 2 == 0 ? "en" : "de", author ) );
+			}
+		} );
+		scope.getSessionFactory().getQueryEngine().getInterpretationCache().close();
+		translations.set( 0 );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.createMutationQuery( "delete from Book" ).executeUpdate();
+			session.createMutationQuery( "delete from Author" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testLimitAndOffset(SessionFactoryScope scope) {
+		final String hql = "from Book order by id";
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.createSelectionQuery( hql, Book.class ).getResultList() )
+						.hasSize( 10 );
+				assertThat( session.createSelectionQuery( hql, Book.class ).setMaxResults( 3 ).getResultList() )
+						.extracting( book -> book.id ).containsExactly( 0, 1, 2 );
+				assertThat( session.createSelectionQuery( hql, Book.class ).setFirstResult( 8 ).getResultList() )
+						.extracting( book -> book.id ).containsExactly( 8, 9 );
+				assertThat( session.createSelectionQuery( hql, Book.class )
+									.setFirstResult( 2 + i )
+									.setMaxResults( 2 )
+									.getResultList() )
+						.extracting( book -> book.id ).containsExactly( 2 + i, 3 + i );
+			}
+		} );
+		assertThat( translations ).hasValueLessThanOrEqualTo( 4 );
+	}
+
+	@Test
+	public void testFilter(SessionFactoryScope scope) {
+		final String hql = "from Book order by id";
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.enableFilter( "language" ).setParameter( "language", "en" );
+				assertThat( session.createSelectionQuery( hql, Book.class ).getResultList() )
+						.extracting( book -> book.id ).containsExactly( 0, 2, 4, 6, 8 );
+				session.enableFilter( "language" ).setParameter( "language", "de" );
+				assertThat( session.createSelectionQuery( hql, Book.class ).getResultList() )
+						.extracting( book -> book.id ).containsExactly( 1, 3, 5, 7, 9 );
+				session.disableFilter( "language" );
+				assertThat( session.createSelectionQuery( hql, Book.class ).getResultList() )
+						.hasSize( 10 );
+			}
+		} );
+		// the value of a filter parameter is bound per execution
+		assertThat( translations ).hasValue( 2 );
+	}
+
+	@Test
+	public void testFilterParameterList(SessionFactoryScope scope) {
+		final String hql = "from Book order by id";
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				session.enableFilter( "ids" ).setParameterList( "ids", List.of( i, i + 2 ) );
+				assertThat( session.createSelectionQuery( hql, Book.class ).getResultList() )
+						.extracting( book -> book.id ).containsExactly( i, i + 2 );
+			}
+		} );
+		assertThat( translations ).hasValue( 1 );
+
+		// a parameter list of another size is rendered differently
+		scope.inTransaction( session -> {
+			session.enableFilter( "ids" ).setParameterList( "ids", List.of( 1, 3, 5 ) );
+			assertThat( session.createSelectionQuery( hql, Book.class ).getResultList() )
+					.extracting( book -> book.id ).containsExactly( 1, 3, 5 );
+		} );
+		assertThat( translations ).hasValue( 2 );
+	}
+
+	@Test
+	public void testMultiValuedParameter(SessionFactoryScope scope) {
+		final String hql = "from Book where id in :ids order by id";
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.createSelectionQuery( hql, Book.class )
+									.setParameterList( "ids", List.of( i, i + 2 ) )
+									.getResultList() )
+						.extracting( book -> book.id ).containsExactly( i, i + 2 );
+			}
+		} );
+		assertThat( translations ).hasValue( 1 );
+
+		// a list of another size is expanded to another number of JDBC parameters
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 3; i++ ) {
+				assertThat( session.createSelectionQuery( hql, Book.class )
+									.setParameterList( "ids", List.of( i, i + 2, i + 4 ) )
+									.getResultList() )
+						.extracting( book -> book.id ).containsExactly( i, i + 2, i + 4 );
+				assertThat( session.createSelectionQuery( hql, Book.class )
+									.setParameterList( "ids", List.of( i ) )
+									.getResultList() )
+						.extracting( book -> book.id ).containsExactly( i );
+			}
+		} );
+		assertThat( translations ).hasValue( 3 );
+	}
+
+	@Test
+	public void testEntityGraph(SessionFactoryScope scope) {
+		// an entity graph registered with the SessionFactory can no longer be modified,
+		// and so it may be part of the cache key
+		final RootGraph<Book> bookWithAuthor = scope.fromSession( session -> session.createEntityGraph( Book.class ) );
+		bookWithAuthor.addAttributeNodes( "author" );
+		scope.getSessionFactory().addNamedEntityGraph( "book-with-author", bookWithAuthor );
+
+		final String hql = "from Book order by id";
+		for ( int i = 0; i < 3; i++ ) {
+			scope.inTransaction( session -> {
+				@SuppressWarnings("unchecked")
+				final RootGraph<Book> graph = (RootGraph<Book>) session.getEntityGraph( "book-with-author" );
+				final List<Book> books = session.createSelectionQuery( hql, Book.class )
+						.setEntityGraph( graph, GraphSemantic.FETCH )
+						.getResultList();
+				assertThat( books ).hasSize( 10 );
+				assertThat( Hibernate.isInitialized( books.get( 0 ).author ) ).isTrue();
+			} );
+		}
+		assertThat( translations ).hasValue( 1 );
+	}
+
+	public static class CountingSqmTranslatorFactory extends StandardSqmTranslatorFactory {
+		@Override
+		public SqmTranslator<SelectStatement> createSelectTranslator(
+				SqmSelectStatement<?> sqmSelectStatement,
+				QueryOptions queryOptions,
+				DomainParameterXref domainParameterXref,
+				QueryParameterBindings domainParameterBindings,
+				LoadQueryInfluencers loadQueryInfluencers,
+				SqlAstCreationContext creationContext,
+				boolean deduplicateSelectionItems) {
+			translations.incrementAndGet();
+			return super.createSelectTranslator(
+					sqmSelectStatement,
+					queryOptions,
+					domainParameterXref,
+					domainParameterBindings,
+					loadQueryInfluencers,
+					creationContext,
+					deduplicateSelectionItems
+			);
+		}
+	}
+
+	@Entity(name = "Book")
+	@FilterDef(name = "language", parameters = @ParamDef(name = "language", type = String.class))
+	@Filter(name = "language", condition = "language = :language")
+	@FilterDef(name = "ids", parameters = @ParamDef(name = "ids", type = Integer.class))
+	@Filter(name = "ids", condition = "id in (:ids)")
+	public static class Book {
+		@Id
+		private Integer id;
+		private String title;
+		private String language;
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title, String language, Author author) {
+			this.id = id;
+			this.title = title;
+			this.language = language;
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Integer id;
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.querycache;
+
+import java.util.List;
+
+import org.hibernate.annotations.QueryCacheTag;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link QueryCacheTag}
+ */
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.USE_SECOND_LEVEL_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.USE_QUERY_CACHE, value = "true"),
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true")
+})
+@DomainModel(annotatedClasses = QueryCacheTagTest.PurchaseOrder.class)
+@SessionFactory
+public class QueryCacheTagTest {
+	private static final String EU = "EU";
+	private static final String US = "US";
+
+	@BeforeEach
+	public void createTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> {
+			session.persist( new PurchaseOrder( 1, EU, 10 ) );
+			session.persist( new PurchaseOrder( 2, EU, 20 ) );
+			session.persist( new PurchaseOrder( 3, US, 30 ) );
+		} );
+	}
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from PurchaseOrder" ).executeUpdate() );
+		scope.getSessionFactory().getCache().evictAllRegions();
+	}
+
+	@Test
+	public void testInsertOnlyInvalidatesQueriesWithTheSameTag(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( totalForRegion( scope, EU ) ).isEqualTo( 30L );
+		assertThat( totalForRegion( scope, US ) ).isEqualTo( 30L );
+		assertThat( total( scope ) ).isEqualTo( 60L );
+
+		scope.inTransaction( session -> session.persist( new PurchaseOrder( 4, US, 40 ) ) );
+		statistics.clear();
+
+		assertThat( totalForRegion( scope, EU ) ).isEqualTo( 30L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( totalForRegion( scope, US ) ).isEqualTo( 70L );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+		assertThat( total( scope ) ).isEqualTo( 100L );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testUpdateInvalidatesQueriesWithTheOldAndNewTag(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( totalForRegion( scope, EU ) ).isEqualTo( 30L );
+		assertThat( totalForRegion( scope, US ) ).isEqualTo( 30L );
+
+		scope.inTransaction( session -> session.find( PurchaseOrder.class, 1 ).region = US );
+		statistics.clear();
+
+		assertThat( totalForRegion( scope, EU ) ).isEqualTo( 20L );
+		assertThat( totalForRegion( scope, US ) ).isEqualTo( 40L );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testDeleteOnlyInvalidatesQueriesWithTheSameTag(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( totalForRegion( scope, EU ) ).isEqualTo( 30L );
+		assertThat( totalForRegion( scope, US ) ).isEqualTo( 30L );
+
+		scope.inTransaction( session -> session.remove( session.find( PurchaseOrder.class, 1 ) ) );
+		statistics.clear();
+
+		assertThat( totalForRegion( scope, US ) ).isEqualTo( 30L );
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+		assertThat( totalForRegion( scope, EU ) ).isEqualTo( 20L );
+		assertThat( statistics.getQueryCacheMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBulkUpdateInvalidatesAllQueries(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		assertThat( totalForRegion( scope, EU ) ).isEqualTo( 30L );
+		assertThat( totalForRegion( scope, US ) ).isEqualTo( 30L );
+
+		scope.inTransaction( session -> session.createMutationQuery( "update PurchaseOrder set amount = amount * 2" )
+				.executeUpdate() );
+		statistics.clear();
+
+		assertThat( totalForRegion( scope, EU ) ).isEqualTo( 60L );
+		assertThat( totalForRegion( scope, US ) ).isEqualTo( 60L );
+		assertThat( statistics.getQueryCacheHitCount() ).isZero();
+	}
+
+	@Test
+	public void testHint(SessionFactoryScope scope) {
+		final Statistics statistics = scope.getSessionFactory().getStatistics();
+		for ( int i = 0; i < 2; i++ ) {
+			scope.inTransaction( session -> {
+				final List<PurchaseOrder> orders = session
+						.createQuery( "from PurchaseOrder where region = :region", PurchaseOrder.class )
+						.setParameter( "region", EU )
+						.setHint( HibernateHints.HINT_CACHEABLE, true )
+						.setHint( HibernateHints.HINT_CACHE_TAG, EU )
+						.getResultList();
+				assertThat( orders ).hasSize( 2 );
+			} );
+			scope.inTransaction( session -> session.persist( new PurchaseOrder( 10, US, 1 ) ) );
+			scope.inTransaction( session -> session.remove( session.find( PurchaseOrder.class, 10 ) ) );
+		}
+		assertThat( statistics.getQueryCacheHitCount() ).isEqualTo( 1 );
+	}
+
+	private static Long totalForRegion(SessionFactoryScope scope, String region) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select sum(amount) from PurchaseOrder where region = :region", Long.class )
+				.setParameter( "region", region )
+				.setCacheable( true )
+				.setCacheTag( region )
+				.getSingleResult() );
+	}
+
+	private static Long total(SessionFactoryScope scope) {
+		return scope.fromTransaction( session -> session
+				.createSelectionQuery( "select sum(amount) from PurchaseOrder", Long.class )
+				.setCacheable( true )
+				.getSingleResult() );
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Table(name = "purchase_orders")
+	public static class PurchaseOrder {
+		@Id
+		private Integer id;
+		@QueryCacheTag
+		private String region;
+		private int amount;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Integer id, String region, int amount) {
+			this.id = id;
+			this.region = region;
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stat.internal;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryInterpretationCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.Setting;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Statistics#getQueryPlanCacheEvictionCount()}
+ */
+@DomainModel(annotatedClasses = QueryPlanCacheEvictionStatisticsTest.Employee.class)
+@ServiceRegistry(settings = {
+		@Setting(name = AvailableSettings.GENERATE_STATISTICS, value = "true"),
+		@Setting(name = AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, value = "5")
+})
+@SessionFactory
+public class QueryPlanCacheEvictionStatisticsTest {
+
+	@Test
+	public void testEvictions(SessionFactoryScope scope) {
+		final SessionFactoryImplementor sessionFactory = scope.getSessionFactory();
+		final Statistics statistics = sessionFactory.getStatistics();
+		final QueryInterpretationCache interpretationCache = sessionFactory.getQueryEngine()
+				.getInterpretationCache();
+		interpretationCache.close();
+		statistics.clear();
+
+		scope.inTransaction( session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				session.createSelectionQuery( "from Employee where id = " + i, Employee.class ).getResultList();
+			}
+		} );
+
+		assertThat( interpretationCache.getNumberOfCachedHqlInterpretations() ).isEqualTo( 5 );
+		assertThat( interpretationCache.getNumberOfCachedQueryPlans() ).isLessThanOrEqualTo( 5 );
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isGreaterThanOrEqualTo( 15 );
+
+		statistics.clear();
+		assertThat( statistics.getQueryPlanCacheEvictionCount() ).isEqualTo( 0 );
+	}
+
+	@Entity(name = "Employee")
+	public static class Employee {
+		@Id
+		private Long id;
+		private String name;
+	}
+}
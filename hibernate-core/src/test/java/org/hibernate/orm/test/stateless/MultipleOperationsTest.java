@@ -0,0 +1,131 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.stateless;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.HibernateException;
+
+import org.hibernate.testing.jdbc.SQLStatementInspector;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for the {@code *Multiple()} operations of {@link org.hibernate.StatelessSession}
+ */
+@DomainModel(annotatedClasses = MultipleOperationsTest.Record.class)
+@SessionFactory(useCollectingStatementInspector = true)
+public class MultipleOperationsTest {
+
+	private static final int COUNT = 10;
+
+	@AfterEach
+	public void dropTestData(SessionFactoryScope scope) {
+		scope.inTransaction( session -> session.createMutationQuery( "delete from Record" ).executeUpdate() );
+	}
+
+	@Test
+	public void testMultipleOperations(SessionFactoryScope scope) {
+		final SQLStatementInspector statementInspector = scope.getCollectingStatementInspector();
+
+		final List<Record> records = new ArrayList<>();
+		for ( long i = 0; i < COUNT; i++ ) {
+			records.add( new Record( i, "hello " + i ) );
+		}
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.insertMultiple( records ) );
+		// the insert is prepared once, and executed as a batch
+		statementInspector.assertExecutedCount( 1 );
+
+		final List<Long> ids = List.of( 3L, 100L, 1L, 7L );
+		scope.inStatelessTransaction( session -> {
+			statementInspector.clear();
+			final List<Record> found = session.getMultiple( Record.class, ids );
+			statementInspector.assertExecutedCount( 1 );
+			assertThat( found ).hasSize( 4 );
+			assertThat( found.get( 0 ).message ).isEqualTo( "hello 3" );
+			assertThat( found.get( 1 ) ).isNull();
+			assertThat( found.get( 2 ).message ).isEqualTo( "hello 1" );
+			assertThat( found.get( 3 ).message ).isEqualTo( "hello 7" );
+		} );
+
+		for ( Record record : records ) {
+			record.message = "goodbye " + record.id;
+		}
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.updateMultiple( records ) );
+		statementInspector.assertExecutedCount( 1 );
+
+		final List<Record> upserted = List.of(
+				new Record( 1L, "upserted 1" ),
+				new Record( 2L, "upserted 2" ),
+				new Record( 100L, "upserted 100" )
+		);
+		scope.inStatelessTransaction( session -> upserted.forEach( session::upsert ) );
+
+		statementInspector.clear();
+		scope.inStatelessTransaction( session -> session.deleteMultiple( records.subList( 5, COUNT ) ) );
+		statementInspector.assertExecutedCount( 1 );
+
+		scope.inStatelessTransaction( session -> {
+			final List<Record> remaining = session.createSelectionQuery( "from Record order by id", Record.class )
+					.getResultList();
+			assertThat( remaining ).extracting( record -> record.message ).containsExactly(
+					"goodbye 0",
+					"upserted 1",
+					"upserted 2",
+					"goodbye 3",
+					"goodbye 4",
+					"upserted 100"
+			);
+		} );
+	}
+
+	@Test
+	public void testFailedOperationDiscardsBatch(SessionFactoryScope scope) {
+		final List<Object> entities = List.of(
+				new Record( 1L, "hello 1" ),
+				new Record( 2L, "hello 2" ),
+				"not an entity"
+		);
+		scope.inStatelessTransaction( session -> {
+			final Integer jdbcBatchSize = session.getJdbcBatchSize();
+			assertThatThrownBy( () -> session.insertMultiple( entities ) ).isInstanceOf( HibernateException.class );
+			assertThat( session.getJdbcBatchSize() ).isEqualTo( jdbcBatchSize );
+			session.insert( new Record( 3L, "hello 3" ) );
+		} );
+
+		scope.inStatelessTransaction( session -> assertThat(
+				session.createSelectionQuery( "from Record", Record.class ).getResultList()
+		).extracting( record -> record.id ).containsExactly( 3L ) );
+	}
+
+	@Entity(name = "Record")
+	public static class Record {
+		@Id
+		private Long id;
+		private String message;
+
+		public Record() {
+		}
+
+		public Record(Long id, String message) {
+			this.id = id;
+			this.message = message;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.orm.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundedConcurrentCache}
+ */
+public class BoundedConcurrentCacheTest {
+
+	@Test
+	public void testGetAndPut() {
+		final BoundedConcurrentCache<String, Integer> cache = new BoundedConcurrentCache<>( 10 );
+		assertThat( cache.get( "one" ) ).isNull();
+		cache.put( "one", 1 );
+		assertThat( cache.get( "one" ) ).isEqualTo( 1 );
+		cache.put( "one", 2 );
+		assertThat( cache.get( "one" ) ).isEqualTo( 2 );
+		assertThat( cache.computeIfAbsent( "one", key -> 3 ) ).isEqualTo( 2 );
+		assertThat( cache.computeIfAbsent( "two", key -> 3 ) ).isEqualTo( 3 );
+		assertThat( cache.size() ).isEqualTo( 2 );
+
+		cache.clear();
+		assertThat( cache.size() ).isEqualTo( 0 );
+		assertThat( cache.get( "one" ) ).isNull();
+		cache.put( "one", 1 );
+		assertThat( cache.get( "one" ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testComputeIfAbsentReturningNull() {
+		final BoundedConcurrentCache<String, Integer> cache = new BoundedConcurrentCache<>( 10 );
+		assertThat( cache.computeIfAbsent( "one", key -> null ) ).isNull();
+		assertThat( cache.size() ).isEqualTo( 0 );
+		assertThat( cache.computeIfAbsent( "one", key -> 1 ) ).isEqualTo( 1 );
+		assertThat( cache.get( "one" ) ).isEqualTo( 1 );
+		assertThat( cache.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testBounded() {
+		final AtomicInteger evictions = new AtomicInteger();
+		final BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>(
+				100,
+				evictions::incrementAndGet
+		);
+		for ( int i = 0; i < 1000; i++ ) {
+			cache.put( i, i );
+			assertThat( cache.size() ).isLessThanOrEqualTo( 100 );
+		}
+		assertThat( cache.size() ).isEqualTo( 100 );
+		assertThat( cache.getEvictionCount() ).isEqualTo( 900 );
+		assertThat( evictions ).hasValue( 900 );
+	}
+
+	@Test
+	public void testRemove() {
+		final BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 100 );
+		for ( int i = 0; i < 100; i++ ) {
+			cache.put( i, i );
+		}
+		cache.cleanUp();
+		for ( int i = 0; i < 100; i += 2 ) {
+			cache.remove( i );
+		}
+		assertThat( cache.size() ).isEqualTo( 50 );
+		assertThat( cache.get( 0 ) ).isNull();
+		assertThat( cache.get( 1 ) ).isEqualTo( 1 );
+
+		// removed entries no longer count against the maximum size
+		for ( int i = 100; i < 150; i++ ) {
+			cache.put( i, i );
+		}
+		cache.cleanUp();
+		assertThat( cache.size() ).isEqualTo( 100 );
+		assertThat( cache.getEvictionCount() ).isZero();
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 100 );
+		for ( int i = 0; i < 50; i++ ) {
+			cache.put( i, i );
+		}
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 50; i++ ) {
+				assertThat( cache.get( i ) ).isEqualTo( i );
+			}
+			cache.cleanUp();
+		}
+
+		// a scan of entries used only once
+		for ( int i = 1000; i < 11000; i++ ) {
+			cache.put( i, i );
+		}
+
+		int retained = 0;
+		for ( int i = 0; i < 50; i++ ) {
+			if ( cache.get( i ) != null ) {
+				retained++;
+			}
+		}
+		// the frequently used entries are retained, apart from those
+		// in the admission window whose frequency decayed during the scan
+		assertThat( retained ).isGreaterThanOrEqualTo( 45 );
+		assertThat( cache.size() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void testConcurrentAccess() throws Exception {
+		final BoundedConcurrentCache<Integer, Integer> cache = new BoundedConcurrentCache<>( 64 );
+		final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int t = 0; t < 8; t++ ) {
+				futures.add( executor.submit( () -> {
+					final ThreadLocalRandom random = ThreadLocalRandom.current();
+					for ( int i = 0; i < 20_000; i++ ) {
+						final int key = random.nextInt( 256 );
+						final Integer value = cache.computeIfAbsent( key, k -> k * 2 );
+						assertThat( value ).isEqualTo( key * 2 );
+						final Integer cached = cache.get( key );
+						if ( cached != null ) {
+							assertThat( cached ).isEqualTo( key * 2 );
+						}
+					}
+				} ) );
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		cache.cleanUp();
+		assertThat( cache.size() ).isLessThanOrEqualTo( 64 );
+	}
+}
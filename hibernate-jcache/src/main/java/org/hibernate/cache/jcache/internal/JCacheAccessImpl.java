@@ -6,6 +6,9 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
 import javax.cache.Cache;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
@@ -43,6 +46,21 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public Map<Object, Object> getFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( new HashSet<>( keys ) );
+	}
+
+	@Override
+	public void putIntoCache(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( entries );
+	}
+
+	@Override
+	public void putFromLoad(Map<?, ?> entries, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( entries );
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
@@ -338,6 +338,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsOrderedGeneratedValuesForValuesListInsert implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsOrderedGeneratedValuesForValuesListInsert();
+		}
+	}
+
 	public static class SupportsFormat implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			try {
@@ -679,6 +685,12 @@ abstract public class DialectFeatureChecks {
 		}
 	}
 
+	public static class SupportsStandardArrays implements DialectFeatureCheck {
+		public boolean apply(Dialect dialect) {
+			return dialect.supportsStandardArrays();
+		}
+	}
+
 	public static class SupportsUpsertOrMerge implements DialectFeatureCheck {
 		public boolean apply(Dialect dialect) {
 			return !( dialect instanceof DerbyDialect );